@@ -0,0 +1,296 @@
+/*
+ * AtomicRomanNumeral.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * A Roman numeral in standard form that may be updated atomically, such as
+ * a counter handing out sequential identifiers to many threads.
+ * <p>
+ * Like {@code AtomicInteger}, every update is a lock-free compare-and-set
+ * of an {@code int} value, retried if another thread got there first. Unlike
+ * {@code AtomicInteger}, an update whose result isn't representable by a
+ * Roman numeral in standard form throws an {@code ArithmeticException}, as
+ * {@link RomanNumeral#addExact(RomanNumeral, RomanNumeral)} does, and
+ * leaves the value unchanged.
+ * <p>
+ * Numerals are returned from the cache of {@link RomanNumeral#of(int)},
+ * which only locks to create each numeral the first time. Call
+ * {@link RomanNumeral#preload()} first to never lock at all.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ * @see     java.util.concurrent.atomic.AtomicInteger
+ */
+public final class AtomicRomanNumeral {
+    private static final AtomicIntegerFieldUpdater<AtomicRomanNumeral> VALUE
+            = AtomicIntegerFieldUpdater.newUpdater(AtomicRomanNumeral.class,
+                                                   "value");
+    
+    private volatile int value;
+    
+    /**
+     * Constructs a newly allocated {@code AtomicRomanNumeral} with the
+     * value {@link RomanNumeral#MIN_VALUE}.
+     */
+    public AtomicRomanNumeral() {
+        this.value = RomanNumeral.MIN_VALUE;
+    }
+    
+    /**
+     * Constructs a newly allocated {@code AtomicRomanNumeral} with the
+     * specified initial numeral.
+     *
+     * @param   initialNumeral   the initial numeral.
+     */
+    public AtomicRomanNumeral(RomanNumeral initialNumeral) {
+        this.value = initialNumeral.value;
+    }
+    
+    /**
+     * Returns the current numeral.
+     *
+     * @return  the current numeral.
+     */
+    public RomanNumeral get() {
+        return RomanNumeral.of(value);
+    }
+    
+    /**
+     * Returns the value of the current numeral.
+     *
+     * @return  the value of the current numeral.
+     */
+    public int intValue() {
+        return value;
+    }
+    
+    /**
+     * Sets the current numeral to the specified numeral.
+     *
+     * @param   newNumeral   the new numeral.
+     */
+    public void set(RomanNumeral newNumeral) {
+        value = newNumeral.value;
+    }
+    
+    /**
+     * Sets the current numeral to the specified numeral, and returns the
+     * previous numeral.
+     *
+     * @param   newNumeral   the new numeral.
+     * @return  the previous numeral.
+     */
+    public RomanNumeral getAndSet(RomanNumeral newNumeral) {
+        return RomanNumeral.of(VALUE.getAndSet(this, newNumeral.value));
+    }
+    
+    /**
+     * Sets the current numeral to the specified updated numeral if it has
+     * the same value as the specified expected numeral.
+     *
+     * @param   expect   the expected numeral.
+     * @param   update   the new numeral.
+     * @return  {@code true} if successful; {@code false} if the current
+     *          numeral wasn't equal to {@code expect}.
+     */
+    public boolean compareAndSet(RomanNumeral expect, RomanNumeral update) {
+        return VALUE.compareAndSet(this, expect.value, update.value);
+    }
+    
+    /**
+     * Increments the current numeral by one, and returns the updated
+     * numeral.
+     *
+     * @return  the updated numeral.
+     * @throws  ArithmeticException    if the current value is
+     *                                 {@link RomanNumeral#MAX_VALUE}.
+     */
+    public RomanNumeral incrementAndGet() {
+        return RomanNumeral.of(add(1, true));
+    }
+    
+    /**
+     * Increments the current numeral by one, and returns the previous
+     * numeral.
+     *
+     * @return  the previous numeral.
+     * @throws  ArithmeticException    if the current value is
+     *                                 {@link RomanNumeral#MAX_VALUE}.
+     */
+    public RomanNumeral getAndIncrement() {
+        return RomanNumeral.of(add(1, false));
+    }
+    
+    /**
+     * Decrements the current numeral by one, and returns the updated
+     * numeral.
+     *
+     * @return  the updated numeral.
+     * @throws  ArithmeticException    if the current value is
+     *                                 {@link RomanNumeral#MIN_VALUE}.
+     */
+    public RomanNumeral decrementAndGet() {
+        return RomanNumeral.of(add(-1, true));
+    }
+    
+    /**
+     * Decrements the current numeral by one, and returns the previous
+     * numeral.
+     *
+     * @return  the previous numeral.
+     * @throws  ArithmeticException    if the current value is
+     *                                 {@link RomanNumeral#MIN_VALUE}.
+     */
+    public RomanNumeral getAndDecrement() {
+        return RomanNumeral.of(add(-1, false));
+    }
+    
+    /**
+     * Adds the specified {@code int} to the value of the current numeral,
+     * and returns the updated numeral.
+     *
+     * @param   delta   the value to add.
+     * @return  the updated numeral.
+     * @throws  ArithmeticException    if the result is not representable by
+     *                                 a Roman numeral in standard form.
+     */
+    public RomanNumeral addAndGet(int delta) {
+        return RomanNumeral.of(add(delta, true));
+    }
+    
+    /**
+     * Adds the specified {@code int} to the value of the current numeral,
+     * and returns the previous numeral.
+     *
+     * @param   delta   the value to add.
+     * @return  the previous numeral.
+     * @throws  ArithmeticException    if the result is not representable by
+     *                                 a Roman numeral in standard form.
+     */
+    public RomanNumeral getAndAdd(int delta) {
+        return RomanNumeral.of(add(delta, false));
+    }
+    
+    /**
+     * Updates the current numeral with the results of applying the
+     * specified function to it, and returns the previous numeral. The
+     * function may be applied more than once if threads contend, so it
+     * should be free of side effects.
+     *
+     * @param   updateFunction   the function to apply, such as
+     *                           {@code n -> RomanNumeral.addExact(n, n)}.
+     * @return  the previous numeral.
+     * @throws  ArithmeticException    if the function throws it.
+     */
+    public RomanNumeral getAndUpdate(
+            UnaryOperator<RomanNumeral> updateFunction) {
+        return RomanNumeral.of(update(updateFunction, false));
+    }
+    
+    /**
+     * Updates the current numeral with the results of applying the
+     * specified function to it, and returns the updated numeral. The
+     * function may be applied more than once if threads contend, so it
+     * should be free of side effects.
+     *
+     * @param   updateFunction   the function to apply.
+     * @return  the updated numeral.
+     * @throws  ArithmeticException    if the function throws it.
+     */
+    public RomanNumeral updateAndGet(
+            UnaryOperator<RomanNumeral> updateFunction) {
+        return RomanNumeral.of(update(updateFunction, true));
+    }
+    
+    /**
+     * Updates the current numeral with the results of applying the
+     * specified function to it and the specified numeral, and returns the
+     * previous numeral. The function may be applied more than once if
+     * threads contend, so it should be free of side effects.
+     *
+     * @param   x                     the second argument of the function.
+     * @param   accumulatorFunction   the function to apply, such as
+     *                                {@code RomanNumeral::addExact}.
+     * @return  the previous numeral.
+     * @throws  ArithmeticException    if the function throws it.
+     */
+    public RomanNumeral getAndAccumulate(
+            RomanNumeral x, BinaryOperator<RomanNumeral> accumulatorFunction) {
+        Objects.requireNonNull(x);
+        return RomanNumeral.of(update(n -> accumulatorFunction.apply(n, x),
+                                      false));
+    }
+    
+    /**
+     * Updates the current numeral with the results of applying the
+     * specified function to it and the specified numeral, and returns the
+     * updated numeral. The function may be applied more than once if
+     * threads contend, so it should be free of side effects.
+     *
+     * @param   x                     the second argument of the function.
+     * @param   accumulatorFunction   the function to apply.
+     * @return  the updated numeral.
+     * @throws  ArithmeticException    if the function throws it.
+     */
+    public RomanNumeral accumulateAndGet(
+            RomanNumeral x, BinaryOperator<RomanNumeral> accumulatorFunction) {
+        Objects.requireNonNull(x);
+        return RomanNumeral.of(update(n -> accumulatorFunction.apply(n, x),
+                                      true));
+    }
+    
+    /**
+     * Returns the symbols of the current numeral.
+     *
+     * @return  the symbols of the current numeral.
+     */
+    @Override
+    public String toString() {
+        return RomanNumeral.toString(value);
+    }
+    
+    /**
+     * Adds {@code delta} to {@link #value} if the result is valid, and
+     * returns the updated value if {@code updated}, or the previous value
+     * otherwise.
+     */
+    private int add(int delta, boolean updated) {
+        int prev;
+        int next;
+        do {
+            prev = value;
+            // a sum that overflows an int is negative, so never valid
+            next = prev + delta;
+            if (!RomanNumeral.isValid(next)) {
+                throw new ArithmeticException("RomanNumeral overflow");
+            }
+        } while (!VALUE.compareAndSet(this, prev, next));
+        return updated ? next : prev;
+    }
+    
+    /**
+     * Sets {@link #value} to the value of {@code updateFunction} applied to
+     * the current numeral, and returns the updated value if
+     * {@code updated}, or the previous value otherwise.
+     */
+    private int update(UnaryOperator<RomanNumeral> updateFunction,
+                       boolean updated) {
+        int prev;
+        int next;
+        do {
+            prev = value;
+            next = updateFunction.apply(RomanNumeral.of(prev)).value;
+        } while (!VALUE.compareAndSet(this, prev, next));
+        return updated ? next : prev;
+    }
+}
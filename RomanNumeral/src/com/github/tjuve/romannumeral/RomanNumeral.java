@@ -6,10 +6,25 @@
 
 package com.github.tjuve.romannumeral;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * A Roman numeral in 
@@ -142,6 +157,143 @@ public final class RomanNumeral implements Serializable,
         }
     }
     
+    /**
+     * The styles the symbols of a Roman numeral in standard form can be
+     * written in, such as {@code XIV} or {@code xiv}.
+     * <p>
+     * The Unicode Number Forms styles write each symbol as its own letterlike
+     * character, from U+2160 to U+217F, so symbols in every style are
+     * {@link RomanNumeral#encodedLength(int)} chars long. The precomposed
+     * numerals, such as U+2163 for {@code IV}, are never used.
+     * 
+     * @see     RomanNumeral#toString(int, Style)
+     */
+    public enum Style {
+        UPPERCASE("IVXLCDM"),
+        LOWERCASE("ivxlcdm"),
+        NUMBER_FORMS("\u2160\u2164\u2169\u216C\u216D\u216E\u216F"),
+        NUMBER_FORMS_LOWERCASE("\u2170\u2174\u2179\u217C\u217D\u217E\u217F");
+        
+        /**
+         * The char of each symbol in this style, at the index of the ASCII
+         * symbol (eg. {@code 'v'} at index {@code 'V'} in {@code LOWERCASE}.)
+         */
+        private final char[] forms = new char[128];
+        /**
+         * Cache to store the symbols of each unique Roman numeral in standard
+         * form in this style, at the index of its value.
+         * 
+         * @implNote Elements are read and written without locking, which is
+         * safe because {@code String} is immutable, and at worst two threads
+         * create equal {@code String} objects for the same value.
+         */
+        private final String[] strings = new String[MAX_VALUE + 1];
+        
+        /**
+         * Constructs an enum constant to write each {@link Symbol} as the
+         * char at its ordinal in the given {@code String}.
+         *
+         * @param   symbols   the chars of the symbols in this style.
+         */
+        Style(String symbols) {
+            for (Symbol symbol : Symbol.values()) {
+                forms[symbol.name().charAt(0)]
+                        = symbols.charAt(symbol.ordinal());
+            }
+        }
+    }
+    
+    /**
+     * Holds the lexicographic order of the {@code symbols} of each unique
+     * Roman numeral in standard form (eg. {@code "C"}, {@code "CC"},
+     * {@code "CCC"}, {@code "CCCI"}, ...).
+     * <p>
+     * Loaded on first use, so the tables are only built if something sorts by
+     * symbols.
+     */
+    private static final class LexicographicOrder {
+        /**
+         * Maps from each value to the lexicographic rank of its symbols.
+         * 
+         * @implNote The element at index {@code value} is the rank; index 0
+         * is unused because there is no representation for 0.
+         */
+        private static final short[] ranks
+                = new short[NUM_UNIQUE_NUMERALS + MIN_VALUE];
+        /**
+         * Maps from each lexicographic rank to the value with that rank.
+         */
+        private static final short[] values = new short[NUM_UNIQUE_NUMERALS];
+        
+        static {
+            Integer[] order = new Integer[NUM_UNIQUE_NUMERALS];
+            String[] symbols = new String[NUM_UNIQUE_NUMERALS + MIN_VALUE];
+            for (int value = MIN_VALUE; value <= MAX_VALUE; value++) {
+                order[value - MIN_VALUE] = value;
+                symbols[value] = RomanNumeral.toString(value);
+            }
+            
+            // Sorted once, every later comparison is between two ints
+            Arrays.sort(order, (x, y) -> symbols[x].compareTo(symbols[y]));
+            
+            for (int rank = 0; rank < NUM_UNIQUE_NUMERALS; rank++) {
+                int value = order[rank];
+                ranks[value] = (short) rank;
+                values[rank] = (short) value;
+            }
+        }
+    }
+    
+    /**
+     * The serialized form of a {@code RomanNumeral}.
+     * <p>
+     * Only the {@code value} field is written, as 2 bytes. When read, it 
+     * resolves to the cached {@code RomanNumeral} with that value, so
+     * deserialization never creates another instance of the same numeral.
+     */
+    private static final class SerializationProxy implements Externalizable {
+        /**
+         * Serialization version.
+         */
+        private static final long serialVersionUID = 1L;
+        
+        /**
+         * The value of the serialized {@code RomanNumeral}.
+         */
+        private short value;
+        
+        /**
+         * Constructs an empty proxy to read into.
+         * 
+         * @implNote Must be public as required by {@code Externalizable}
+         */
+        public SerializationProxy() {
+        }
+        
+        /**
+         * Constructs a proxy for the specified {@code RomanNumeral}.
+         *
+         * @param   numeral   the {@code RomanNumeral} to be serialized.
+         */
+        private SerializationProxy(RomanNumeral numeral) {
+            this.value = (short) numeral.value;
+        }
+        
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeShort(value);
+        }
+        
+        @Override
+        public void readExternal(ObjectInput in) throws IOException {
+            value = in.readShort();
+        }
+        
+        private Object readResolve() throws ObjectStreamException {
+            return ofSerialized(value);
+        }
+    }
+    
     /**
      * A constant holding the maximum value a {@code RomanNumeral} can 
      * represent, 3999.
@@ -155,6 +307,19 @@ public final class RomanNumeral implements Serializable,
      */
     public static final int MIN_VALUE = Symbol.I.value;
     
+    /**
+     * A {@code Comparator} that orders {@code RomanNumeral} objects by their
+     * {@code symbols} field, as {@code String.compareTo} would (eg.
+     * {@code C}, {@code CC}, {@code CCC}, {@code CCCI}.)
+     * 
+     * @implNote Compares precomputed lexicographic ranks instead of the
+     *           symbols themselves.
+     * @see     #lexicographicRank(int)
+     */
+    public static final Comparator<RomanNumeral> SYMBOLS_ORDER
+            = (x, y) -> LexicographicOrder.ranks[x.value]
+                        - LexicographicOrder.ranks[y.value];
+    
     /**
      * A constant holding the number of unique Roman numerals in standard form,
      *  3999.
@@ -166,71 +331,80 @@ public final class RomanNumeral implements Serializable,
      * The index of a {@code RomanNumeral} is equal to it's {@code value}
      * field (eg. {@code VI} goes at index {@code 6}.)
      * 
-     * @implNote Must manually ensure RomanNumerals are properly indexed
+     * @implNote Must manually ensure RomanNumerals are properly indexed.
+     * Elements are read without locking, which is safe because every field
+     * of {@code RomanNumeral} is final, and only written by
+     * {@link #cache(RomanNumeral)}.
      */
     private static final RomanNumeral[] numeralCache
             = new RomanNumeral[NUM_UNIQUE_NUMERALS + MIN_VALUE];
-    /**
-     * Cache to store each unique {@code RomanNumeral}'s {@code value} field.
-     * <p>
-     * Maps from each unique {@code RomanNumeral}'s {@code symbols} field
-     * to it's {@code value} field (eg. {@code "VI"} maps to {@code 6}.)
-     * 
-     * 
-     * @implNote Must manually ensure to associate each {@code value} with
-     *           the specified correct {@code symbols}
-     * @implNote {@link #NUM_UNIQUE_NUMERALS} can be stored
-     *           without needing to resize.
-     */
-    private static final Map<String, Integer> valueCache
-            = new HashMap<String, Integer>(NUM_UNIQUE_NUMERALS / 3 * 4 + 1);
     /**
      * A constant holding the maximum length of a Roman numeral, 15 (from
      * "MMMDCCCLXXXVIII".length())
      */
-    private static final int MAX_SYMBOLS_LENGTH = 15;
+    static final int MAX_SYMBOLS_LENGTH = 15;
     /**
-     * A constant holding the maximum length of a Roman numeral, 15 (from
-     * "MMMDCCCLXXXVIII".length())
-     */ 
-    /**
-     * All possible symbols for representing the thousandths place of an
-     * {@code int} (up to 3).
-     * 
-     * @implNote The element at index {@code i} is the representation of 
-     * {@code i * 1000}; An empty {@code String} is at index 0 because there
-     * is no representation for 0.
+     * A constant holding the maximum number of {@code RomanNumeral} objects
+     * {@link #writeNumerals(DataOutput, RomanNumeral[])} and
+     * {@link #readNumerals(DataInput)} buffer at a time, 8192.
      */
-    private static final String[] thousands = {"", "M", "MM", "MMM"};
+    private static final int NUMERALS_CHUNK_LENGTH = 8_192;
     /**
-     * All possible symbols for representing the hundredths place of an
-     * {@code int}.
+     * The symbols of each unique Roman numeral in standard form, in
+     * increasing order of value, as ASCII bytes without separators.
+     * <p>
+     * A {@code String} is only created from these when a
+     * {@code RomanNumeral} or {@link #toString(int)} needs one.
      * 
-     * @implNote The element at index {@code i} is the representation of 
-     * {@code i * 100}; An empty {@code String} is at index 0 because there
-     * is no representation for 0.
+     * @implNote The symbols of the Roman numeral with value {@code i} start
+     * at index {@code symbolsOffsets[i]} and end before index
+     * {@code symbolsOffsets[i + 1]}.
      */
-    private static final String[] hundreds =
-            {"", "C", "CC", "CCC", "CD", "D", "DC", "DCC", "DCCC", "CM"}; 
+    private static final byte[] packedSymbols
+            = RomanNumeralTables.SYMBOLS.getBytes(StandardCharsets.US_ASCII);
     /**
-     * All possible symbols for representing the tens place of an {@code int}.
+     * The index in {@link #packedSymbols} of the symbols of each unique Roman
+     * numeral in standard form.
      * 
-     * @implNote The element at index {@code i} is the representation of 
-     * {@code i * 10}; An empty {@code String} is at index 0 because there
-     * is no representation for 0.
+     * @implNote The element at index {@code i} is the start of the symbols of
+     * the Roman numeral with value {@code i}, and the end of the symbols of
+     * the Roman numeral with value {@code i - 1}.
      */
-    private static final String[] tens = 
-            {"", "X", "XX", "XXX", "XL", "L", "LX", "LXX", "LXXX", "XC"};
+    private static final short[] symbolsOffsets
+            = new short[NUM_UNIQUE_NUMERALS + MIN_VALUE + 1];
     /**
-     * All possible symbols for representing the ones place of an
-     * {@code int}.
+     * Index to find the value of each unique Roman numeral in standard form
+     * by its symbols (eg. {@code "VI"} finds {@code 6}.)
+     * <p>
+     * An open addressing hash table, probed linearly from the
+     * {@code String.hashCode()} of the symbols, so looking up a
+     * {@code String} reuses the hash code it caches.
      * 
-     * @implNote The element at index {@code i} is the representation of 
-     * {@code i}; An empty {@code String} is at index 0 because there
-     * is no representation for 0.
+     * @implNote Each element is a value, or 0 for an empty slot because there
+     * is no representation for 0. The length is a power of 2 at least twice
+     * {@link #NUM_UNIQUE_NUMERALS}, so probes stay short.
      */
-    private static final String[] ones = 
-            {"", "I", "II", "III", "IV", "V", "VI", "VII", "VIII", "IX"};
+    private static final short[] symbolsIndex = new short[8_192];
+    static {
+        String lengths = RomanNumeralTables.LENGTHS;
+        for (int value = MIN_VALUE; value <= MAX_VALUE; value++) {
+            int offset = symbolsOffsets[value];
+            int end = offset
+                      + Character.digit(lengths.charAt(value - MIN_VALUE), 16);
+            symbolsOffsets[value + 1] = (short) end;
+            
+            int hash = 0;
+            for (int i = offset; i < end; i++) {
+                // same as String.hashCode()
+                hash = 31 * hash + packedSymbols[i];
+            }
+            int slot = indexSlot(hash);
+            while (symbolsIndex[slot] != 0) {
+                slot = (slot + 1) & (symbolsIndex.length - 1);
+            }
+            symbolsIndex[slot] = (short) value;
+        }
+    }
     /**
      * Serialization version.
      * 
@@ -238,11 +412,6 @@ public final class RomanNumeral implements Serializable,
      */
     private static final long serialVersionUID = 1991808113664446373L;
     
-    /**
-     * Used to Efficiently build {@code String} objects
-     */
-    private static StringBuilder strBuilder;
-    
     /**
      * The symbols of the {@code RomanNumeral}.
      */
@@ -271,8 +440,6 @@ public final class RomanNumeral implements Serializable,
     private RomanNumeral(int value) {
         this.symbols = toString(value);
         this.value = value;
-        
-        cache(this);
     }
     
     /**
@@ -304,14 +471,13 @@ public final class RomanNumeral implements Serializable,
             throw new NumberFormatException(forNullInput());
         }
         int length = symbols.length();
-        if (length == 0 || length > 15) {
+        if (length == 0 || length > MAX_SYMBOLS_LENGTH) {
             throw new NumberFormatException(forInput(symbols));
         }
         this.symbols = symbols;
         
-        Integer numeralValue = valueCache.get(symbols);
-        if (numeralValue == null) {
-            numeralValue = 0;
+        int numeralValue = indexOf(symbols);
+        if (numeralValue == 0) {
             int prevSymbolValue = RomanNumeral.MIN_VALUE - 1; // primed
             int numConsecutiveSame = 1;
             int minSymbolValue = RomanNumeral.MIN_VALUE - 1; // primed
@@ -358,8 +524,6 @@ public final class RomanNumeral implements Serializable,
             }
         } 
         this.value = numeralValue;
-        
-        cache(this);
     }
     
     /**
@@ -381,7 +545,7 @@ public final class RomanNumeral implements Serializable,
         
         RomanNumeral numeral = numeralCache[value];
         if (numeral == null) {
-            numeral = new RomanNumeral(value);
+            numeral = cache(new RomanNumeral(value));
         }
         return numeral;
     }
@@ -400,13 +564,17 @@ public final class RomanNumeral implements Serializable,
      * @see     #isValid(String)
      */
     public static RomanNumeral parse(String symbols) {
-        Integer value = valueCache.get(symbols);
+        int value = 0;
+        if (symbols != null) {
+            value = indexOf(symbols);
+        }
         
         RomanNumeral numeral;
-        if (value == null) {
-            numeral = new RomanNumeral(symbols); // throws NumberFormatException
+        if (value == 0) {
+            // throws NumberFormatException
+            numeral = cache(new RomanNumeral(symbols));
         } else {
-            numeral = numeralCache[value];
+            numeral = of(value);
         }
         return numeral;
     }
@@ -434,18 +602,10 @@ public final class RomanNumeral implements Serializable,
             return numeral.symbols;
         }
         
-        if (strBuilder == null) {
-            strBuilder = new StringBuilder(MAX_SYMBOLS_LENGTH);
-        } else {
-            strBuilder.delete(0, MAX_SYMBOLS_LENGTH);
-        }
-        
-        strBuilder.append(thousands[value / 1000]);
-        strBuilder.append(hundreds[value / 100 % 10]);
-        strBuilder.append(tens[value / 10 % 10]);
-        strBuilder.append(ones[value % 10]);
-        
-        return strBuilder.toString();
+        int offset = symbolsOffsets[value];
+        return new String(packedSymbols, offset,
+                          symbolsOffsets[value + 1] - offset,
+                          StandardCharsets.US_ASCII);
     }
     
     /**
@@ -495,6 +655,691 @@ public final class RomanNumeral implements Serializable,
         return true;
     }
     
+    /**
+     * Returns a sequential or parallel, like the specified stream,
+     * {@code IntStream} of the values of the Roman numerals in standard form
+     * specified by the symbols of the specified stream, in order.
+     * <p>
+     * The symbols are converted in batches, without boxing the values.
+     * Closing the returned stream closes the specified stream.
+     *
+     * @param   symbols   the stream of symbols of Roman numerals in standard
+     *                    form.
+     * @return  an {@code IntStream} of the values of the Roman numerals.
+     * @throws  NumberFormatException    when the stream is traversed, if an
+     *                                   element does not contain a parsable
+     *                                   Roman numeral in standard form. The
+     *                                   values of the elements before it are
+     *                                   passed on first.
+     * @see     #valueOf(String)
+     */
+    public static IntStream parseAll(Stream<? extends CharSequence> symbols) {
+        return RomanNumeralStreams.parseAll(symbols, null);
+    }
+    
+    /**
+     * Returns a sequential or parallel, like the specified stream,
+     * {@code IntStream} of the values of the Roman numerals in standard form
+     * specified by the symbols of the specified stream, in order, skipping
+     * the elements that don't contain a parsable Roman numeral in standard
+     * form.
+     * <p>
+     * The skipped elements are passed to the specified action, which can
+     * collect them, such as {@code invalid::add}, or ignore them, such as
+     * {@code symbols -> { }}. An element is passed to it only when the
+     * stream reaches it, so a short-circuiting operation, such as
+     * {@code limit(3)}, leaves out the elements after those it took. For a
+     * parallel stream, the action may be called concurrently from several
+     * threads.
+     * <p>
+     * The symbols are converted in batches, without boxing the values.
+     * Closing the returned stream closes the specified stream.
+     *
+     * @param   symbols          the stream of symbols of Roman numerals in
+     *                           standard form.
+     * @param   invalidSymbols   the action performed on each skipped
+     *                           element.
+     * @return  an {@code IntStream} of the values of the Roman numerals.
+     * @see     #valueOf(String)
+     */
+    public static IntStream parseAll(
+            Stream<? extends CharSequence> symbols,
+            Consumer<? super CharSequence> invalidSymbols) {
+        return RomanNumeralStreams.parseAll(
+                symbols, Objects.requireNonNull(invalidSymbols));
+    }
+    
+    /**
+     * Returns a sequential or parallel, like the specified stream,
+     * {@code Stream} of the {@code String} representations of the Roman
+     * numerals in standard form with the values of the specified stream, in
+     * order.
+     * <p>
+     * The values are converted in batches. Closing the returned stream closes
+     * the specified stream.
+     *
+     * @param   values   the stream of values of Roman numerals in standard
+     *                   form.
+     * @return  a {@code Stream} of the symbols of the Roman numerals.
+     * @throws  IllegalArgumentException    when the stream is traversed, if
+     *                                      an element is not representable
+     *                                      by a Roman numeral in standard
+     *                                      form. The symbols of the elements
+     *                                      before it are passed on first.
+     * @see     #toString(int)
+     */
+    public static Stream<String> toStrings(IntStream values) {
+        return RomanNumeralStreams.toStrings(values, null);
+    }
+    
+    /**
+     * Returns a sequential or parallel, like the specified stream,
+     * {@code Stream} of the {@code String} representations of the Roman
+     * numerals in standard form with the values of the specified stream, in
+     * order, skipping the values that aren't representable by a Roman
+     * numeral in standard form.
+     * <p>
+     * The skipped values are passed to the specified action only when the
+     * stream reaches them, so a short-circuiting operation, such as
+     * {@code limit(3)}, leaves out the values after those it took. For a
+     * parallel stream, the action may be called concurrently from several
+     * threads.
+     * <p>
+     * The values are converted in batches. Closing the returned stream closes
+     * the specified stream.
+     *
+     * @param   values          the stream of values of Roman numerals in
+     *                          standard form.
+     * @param   invalidValues   the action performed on each skipped value.
+     * @return  a {@code Stream} of the symbols of the Roman numerals.
+     * @see     #toString(int)
+     */
+    public static Stream<String> toStrings(IntStream values,
+                                           IntConsumer invalidValues) {
+        return RomanNumeralStreams.toStrings(
+                values, Objects.requireNonNull(invalidValues));
+    }
+    
+    /**
+     * Returns the number of symbols of the Roman numeral in standard form
+     * with the specified {@code int} value, which is the length of
+     * {@code toString(value)}, without creating a {@code String}.
+     *
+     * @param   value   the value of the Roman numeral in standard form.
+     * @return  the number of symbols of the Roman numeral in standard form
+     *          with the specified value.
+     * @throws  IllegalArgumentException    if the {@code int} is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form.
+     * @see     #isValid(int)
+     */
+    public static int encodedLength(int value) {
+        if (!isValid(value)) {
+            throw new IllegalArgumentException(forInput(value));
+        }
+        
+        return symbolsOffsets[value + 1] - symbolsOffsets[value];
+    }
+    
+    /**
+     * Returns the total number of symbols of the Roman numerals in standard
+     * form with the specified range of values.
+     *
+     * @param   values   the values of the Roman numerals in standard form.
+     * @param   from     the index of the first value.
+     * @param   to       the index after the last value.
+     * @return  the sum of {@code encodedLength(values[i])} for each index
+     *          from {@code from} to {@code to}.
+     * @throws  IllegalArgumentException    if any of the values is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form.
+     * @throws  IndexOutOfBoundsException   if {@code from} is negative,
+     *                                      {@code to} is greater than
+     *                                      {@code values.length}, or
+     *                                      {@code from} is greater than
+     *                                      {@code to}.
+     * @see     #encodedLength(int)
+     */
+    public static long encodedLength(int[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        
+        long length = 0;
+        for (int i = from; i < to; i++) {
+            length += encodedLength(values[i]);
+        }
+        return length;
+    }
+    
+    /**
+     * Returns the index at which the symbols of each Roman numeral in
+     * standard form with the specified range of values would start, were
+     * they written one after another starting at index 0.
+     * <p>
+     * The symbols of {@code values[from + i]} start at the element at index
+     * {@code i}, and end before the element at index {@code i + 1}, so the
+     * last element is the total length. Writers can use these to fill
+     * separate parts of one destination, such as in parallel, without first
+     * creating any {@code String}.
+     *
+     * @param   values   the values of the Roman numerals in standard form.
+     * @param   from     the index of the first value.
+     * @param   to       the index after the last value.
+     * @return  an array of {@code to - from + 1} indexes.
+     * @throws  IllegalArgumentException    if any of the values is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form.
+     * @throws  IndexOutOfBoundsException   if {@code from} is negative,
+     *                                      {@code to} is greater than
+     *                                      {@code values.length}, or
+     *                                      {@code from} is greater than
+     *                                      {@code to}.
+     * @throws  ArithmeticException    if the total length overflows an
+     *                                 {@code int}.
+     * @see     #getSymbols(int, byte[], int)
+     * @see     #getSymbols(int, char[], int)
+     */
+    public static int[] encodedOffsets(int[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        
+        int[] offsets = new int[to - from + 1];
+        for (int i = from; i < to; i++) {
+            offsets[i - from + 1] = Math.addExact(offsets[i - from],
+                                                  encodedLength(values[i]));
+        }
+        return offsets;
+    }
+    
+    /**
+     * Checks that the range from index {@code from} to index {@code to} is
+     * within an array of the specified length.
+     */
+    private static void checkRange(int length, int from, int to) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException("For input range: " + from
+                                                + " to " + to);
+        }
+    }
+    
+    /**
+     * Copies the symbols of the Roman numeral in standard form with the
+     * specified {@code int} value into the specified array, as ASCII bytes.
+     *
+     * @param   value    the value of the Roman numeral in standard form.
+     * @param   dst      the array to copy the symbols into.
+     * @param   offset   the index in {@code dst} to copy the first symbol to.
+     * @return  the number of bytes copied, equal to
+     *          {@code encodedLength(value)}.
+     * @throws  IllegalArgumentException    if the {@code int} is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form.
+     * @throws  IndexOutOfBoundsException   if {@code dst} is too small.
+     */
+    public static int getSymbols(int value, byte[] dst, int offset) {
+        int length = encodedLength(value);
+        if (offset < 0 || offset > dst.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "For input offset: " + offset);
+        }
+        
+        System.arraycopy(packedSymbols, symbolsOffsets[value], dst, offset,
+                         length);
+        return length;
+    }
+    
+    /**
+     * Copies the symbols of the Roman numeral in standard form with the
+     * specified {@code int} value into the specified array.
+     *
+     * @param   value    the value of the Roman numeral in standard form.
+     * @param   dst      the array to copy the symbols into.
+     * @param   offset   the index in {@code dst} to copy the first symbol to.
+     * @return  the number of chars copied, equal to
+     *          {@code encodedLength(value)}.
+     * @throws  IllegalArgumentException    if the {@code int} is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form.
+     * @throws  IndexOutOfBoundsException   if {@code dst} is too small.
+     */
+    public static int getSymbols(int value, char[] dst, int offset) {
+        int length = encodedLength(value);
+        if (offset < 0 || offset > dst.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "For input offset: " + offset);
+        }
+        
+        int start = symbolsOffsets[value];
+        for (int i = 0; i < length; i++) {
+            dst[offset + i] = (char) packedSymbols[start + i];
+        }
+        return length;
+    }
+    
+    /**
+     * Returns a {@code String} representation of the Roman numeral in standard
+     * form with the specified {@code int} value, in the specified style.
+     * <p>
+     * The {@code String} of each value in each style is created once and
+     * cached, so labelling the same values again allocates nothing.
+     *
+     * @param   value   the value of the Roman numeral in standard form to be
+     *                  represented by the returned {@code String}.
+     * @param   style   the style to write the symbols in.
+     * @return  a {@code String} representing the Roman numeral in standard
+     *          form with the specified value, in the specified style.
+     * @throws  IllegalArgumentException    if the {@code int} is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form.
+     * @see     #toString(int)
+     */
+    public static String toString(int value, Style style) {
+        if (style == Style.UPPERCASE) {
+            return toString(value);
+        }
+        int length = encodedLength(value);
+        
+        String symbols = style.strings[value];
+        if (symbols == null) {
+            char[] chars = new char[length];
+            copySymbols(symbolsOffsets[value], symbolsOffsets[value + 1],
+                        style, chars, 0);
+            symbols = new String(chars);
+            style.strings[value] = symbols;
+        }
+        return symbols;
+    }
+    
+    /**
+     * Copies the symbols of the Roman numeral in standard form with the
+     * specified {@code int} value into the specified array, in the specified
+     * style.
+     *
+     * @param   value    the value of the Roman numeral in standard form.
+     * @param   style    the style to write the symbols in.
+     * @param   dst      the array to copy the symbols into.
+     * @param   offset   the index in {@code dst} to copy the first symbol to.
+     * @return  the number of chars copied, equal to
+     *          {@code encodedLength(value)}.
+     * @throws  IllegalArgumentException    if the {@code int} is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form.
+     * @throws  IndexOutOfBoundsException   if {@code dst} is too small.
+     */
+    public static int getSymbols(int value, Style style, char[] dst,
+                                 int offset) {
+        int length = encodedLength(value);
+        copySymbols(symbolsOffsets[value], symbolsOffsets[value + 1], style,
+                    dst, offset);
+        return length;
+    }
+    
+    /**
+     * Copies the symbols of the Roman numerals in standard form with each
+     * value from {@code from} to {@code to}, one after another without
+     * separators, into the specified array, in the specified style.
+     * <p>
+     * Sequential numerals are stored next to each other, so this is one copy
+     * however many labels are written. The symbols of value {@code from + i}
+     * end before index {@code ends[i]} of {@code dst}, and start at the end
+     * of the previous value, or at {@code offset} for {@code from}.
+     *
+     * @param   from     the first value, inclusive.
+     * @param   to       the last value, exclusive.
+     * @param   style    the style to write the symbols in.
+     * @param   dst      the array to copy the symbols into.
+     * @param   offset   the index in {@code dst} to copy the first symbol to.
+     * @param   ends     the array to store the end of each value's symbols
+     *                   in, from index 0.
+     * @return  the number of chars copied.
+     * @throws  IllegalArgumentException    if {@code from > to}, or a value
+     *                                      from {@code from} to {@code to}
+     *                                      is not representable by a Roman
+     *                                      numeral in standard form.
+     * @throws  IndexOutOfBoundsException   if {@code dst} or {@code ends} is
+     *                                      too small, in which case nothing
+     *                                      is copied.
+     */
+    public static int getSymbols(int from, int to, Style style, char[] dst,
+                                 int offset, int[] ends) {
+        if (from > to) {
+            throw new IllegalArgumentException(from + " > " + to);
+        } else if (from == to) {
+            return 0;
+        } else if (!isValid(from)) {
+            throw new IllegalArgumentException(forInput(from));
+        } else if (!isValid(to - 1)) {
+            throw new IllegalArgumentException(forInput(to - 1));
+        } else if (ends.length < to - from) {
+            throw new IndexOutOfBoundsException(
+                    "For input ends.length: " + ends.length);
+        }
+        
+        int start = symbolsOffsets[from];
+        int length = copySymbols(start, symbolsOffsets[to], style, dst,
+                                 offset);
+        for (int value = from; value < to; value++) {
+            ends[value - from] = offset + symbolsOffsets[value + 1] - start;
+        }
+        return length;
+    }
+    
+    /**
+     * Copies the symbols in {@link #packedSymbols} from index {@code start}
+     * to index {@code end} into the specified array, in the specified style,
+     * and returns the number of chars copied.
+     */
+    private static int copySymbols(int start, int end, Style style,
+                                   char[] dst, int offset) {
+        int length = end - start;
+        if (offset < 0 || offset > dst.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "For input offset: " + offset);
+        }
+        
+        char[] forms = style.forms;
+        for (int i = 0; i < length; i++) {
+            dst[offset + i] = forms[packedSymbols[start + i]];
+        }
+        return length;
+    }
+    
+    /**
+     * Appends the symbols of the Roman numeral in standard form with the
+     * specified valid {@code int} value to the specified buffer, straight
+     * from {@link #packedSymbols}, while holding its lock so they are
+     * appended together.
+     */
+    static void appendSymbols(int value, StringBuffer dst) {
+        int start = symbolsOffsets[value];
+        int end = symbolsOffsets[value + 1];
+        synchronized (dst) {
+            for (int i = start; i < end; i++) {
+                dst.append((char) packedSymbols[i]);
+            }
+        }
+    }
+    
+    /**
+     * Creates and caches the {@code RomanNumeral} for every value a
+     * {@code RomanNumeral} can represent, so that no later call to
+     * {@link #of(int)}, {@link #parse(String)} or {@link #toString(int)} has
+     * to.
+     * <p>
+     * Call during start up to move that work out of the first requests for
+     * each numeral. Only the packed symbols of all numerals together are a
+     * {@code String} constant, which a class data sharing (AppCDS) archive
+     * can hold already interned. The symbols of each numeral are a new
+     * {@code String} decoded from the bytes packed from it, so every run
+     * creates them again, whether by calling this method or on demand.
+     */
+    public static void preload() {
+        for (int value = MIN_VALUE; value <= MAX_VALUE; value++) {
+            of(value);
+        }
+    }
+    
+    /**
+     * Returns the lexicographic rank of the symbols of the Roman numeral in
+     * standard form with the specified {@code int} value. The numeral whose
+     * symbols come first when compared as {@code String} objects has rank 0,
+     * and the numeral whose symbols come last has rank 3998.
+     *
+     * @param   value   the value of the Roman numeral in standard form.
+     * @return  the lexicographic rank of the symbols of the Roman numeral in
+     *          standard form with the specified value.
+     * @throws  IllegalArgumentException    if the {@code int} is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form.
+     * @see     #SYMBOLS_ORDER
+     */
+    public static int lexicographicRank(int value) {
+        if (!isValid(value)) {
+            throw new IllegalArgumentException(forInput(value));
+        }
+        
+        return LexicographicOrder.ranks[value];
+    }
+    
+    /**
+     * Returns the {@code RomanNumeral} whose symbols have the specified
+     * lexicographic rank.
+     *
+     * @param   rank   the lexicographic rank, from 0 to 3998.
+     * @return  the {@code RomanNumeral} whose symbols have the specified
+     *          lexicographic rank.
+     * @throws  IllegalArgumentException    if the rank is negative or not
+     *                                      less than the number of Roman
+     *                                      numerals in standard form.
+     * @see     #lexicographicRank(int)
+     */
+    public static RomanNumeral ofLexicographicRank(int rank) {
+        if (rank < 0 || rank >= NUM_UNIQUE_NUMERALS) {
+            throw new IllegalArgumentException("For input rank: " + rank);
+        }
+        
+        return of(LexicographicOrder.values[rank]);
+    }
+    
+    /**
+     * Sorts the specified array of {@code RomanNumeral} objects by their
+     * {@code symbols} field, as {@link #SYMBOLS_ORDER} would.
+     *
+     * @param   numerals   the array to be sorted.
+     * @throws  NullPointerException    if the array or any of its elements is
+     *                                  {@code null}.
+     */
+    public static void sortBySymbols(RomanNumeral[] numerals) {
+        int[] ranks = new int[numerals.length];
+        for (int i = 0; i < numerals.length; i++) {
+            ranks[i] = LexicographicOrder.ranks[numerals[i].value];
+        }
+        
+        Arrays.sort(ranks);
+        
+        for (int i = 0; i < numerals.length; i++) {
+            numerals[i] = of(LexicographicOrder.values[ranks[i]]);
+        }
+    }
+    
+    /**
+     * Sorts the specified array of values by the symbols of the Roman
+     * numerals in standard form they represent (eg. {@code 100}, 
+     * {@code 200}, {@code 300}, {@code 301}.)
+     *
+     * @param   values   the array to be sorted.
+     * @throws  IllegalArgumentException    if any element of the array is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form; the array is left
+     *                                      unchanged.
+     */
+    public static void sortBySymbols(int[] values) {
+        checkValues(values);
+        
+        for (int i = 0; i < values.length; i++) {
+            values[i] = LexicographicOrder.ranks[values[i]];
+        }
+        
+        Arrays.sort(values);
+        
+        for (int i = 0; i < values.length; i++) {
+            values[i] = LexicographicOrder.values[values[i]];
+        }
+    }
+    
+    /**
+     * Sorts the specified array of {@code RomanNumeral} objects into
+     * ascending order of value, as {@link #compareTo(RomanNumeral)} would.
+     * <p>
+     * A counting sort, in linear time, because there are only
+     * {@link #MAX_VALUE} values to sort by.
+     *
+     * @param   numerals   the array to be sorted.
+     * @throws  NullPointerException    if the array or any of its elements is
+     *                                  {@code null}; the array is left
+     *                                  unchanged.
+     * @see     #parallelSort(RomanNumeral[])
+     */
+    public static void sort(RomanNumeral[] numerals) {
+        RomanNumeralSort.sort(numerals, false);
+    }
+    
+    /**
+     * Sorts the specified array of {@code RomanNumeral} objects into
+     * ascending order of value, counting parts of at least 8192 elements
+     * each in parallel in the common pool.
+     *
+     * @param   numerals   the array to be sorted.
+     * @throws  NullPointerException    if the array or any of its elements is
+     *                                  {@code null}; the array is left
+     *                                  unchanged.
+     * @see     #sort(RomanNumeral[])
+     */
+    public static void parallelSort(RomanNumeral[] numerals) {
+        RomanNumeralSort.sort(numerals, true);
+    }
+    
+    /**
+     * Sorts the specified array of values of Roman numerals in standard
+     * form into ascending order, with a counting sort in linear time.
+     *
+     * @param   values   the array to be sorted.
+     * @throws  IllegalArgumentException    if any element of the array is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form; the array is left
+     *                                      unchanged.
+     * @see     #parallelSort(int[])
+     */
+    public static void sort(int[] values) {
+        checkValues(values);
+        RomanNumeralSort.sort(values, false);
+    }
+    
+    /**
+     * Sorts the specified array of values of Roman numerals in standard
+     * form into ascending order, counting parts of at least 8192 elements
+     * each in parallel in the common pool.
+     *
+     * @param   values   the array to be sorted.
+     * @throws  IllegalArgumentException    if any element of the array is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form; the array is left
+     *                                      unchanged.
+     * @see     #sort(int[])
+     */
+    public static void parallelSort(int[] values) {
+        checkValues(values);
+        RomanNumeralSort.sort(values, true);
+    }
+    
+    /**
+     * Sorts the specified array of symbols of Roman numerals in standard
+     * form into ascending order of value (eg. {@code "IX"}, {@code "X"},
+     * {@code "XI"}.) Each element is parsed once, then placed with a
+     * counting sort in linear time. The sort is stable: equal symbols are
+     * left in the same order.
+     *
+     * @param   symbols   the array to be sorted.
+     * @throws  NumberFormatException    if any element of the array is not
+     *                                   the symbols of a Roman numeral in
+     *                                   standard form; the array is left
+     *                                   unchanged.
+     * @see     #parallelSortByValue(String[])
+     */
+    public static void sortByValue(String[] symbols) {
+        RomanNumeralSort.sortByValue(symbols, false);
+    }
+    
+    /**
+     * Sorts the specified array of symbols of Roman numerals in standard
+     * form into ascending order of value, stably, counting and placing
+     * parts of at least 8192 elements each in parallel in the common pool.
+     *
+     * @param   symbols   the array to be sorted.
+     * @throws  NumberFormatException    if any element of the array is not
+     *                                   the symbols of a Roman numeral in
+     *                                   standard form; the array is left
+     *                                   unchanged.
+     * @see     #sortByValue(String[])
+     */
+    public static void parallelSortByValue(String[] symbols) {
+        RomanNumeralSort.sortByValue(symbols, true);
+    }
+    
+    /**
+     * Writes the specified array of {@code RomanNumeral} objects to the
+     * specified output, using the same 2 bytes per {@code RomanNumeral} as
+     * its serialized form.
+     * <p>
+     * Much faster than writing the array as an {@code Object}, because no
+     * class descriptors or back references are written.
+     *
+     * @param   out        the output to write to.
+     * @param   numerals   the array to be written.
+     * @throws  IOException   if an I/O error occurs.
+     * @throws  NullPointerException    if any element of the array is
+     *                                  {@code null}.
+     * @see     #readNumerals(DataInput)
+     */
+    public static void writeNumerals(DataOutput out, RomanNumeral[] numerals)
+            throws IOException {
+        byte[] bytes = new byte[2 * Math.min(numerals.length,
+                                             NUMERALS_CHUNK_LENGTH)];
+        out.writeInt(numerals.length);
+        for (int start = 0; start < numerals.length;
+                start += NUMERALS_CHUNK_LENGTH) {
+            int end = Math.min(numerals.length,
+                               start + NUMERALS_CHUNK_LENGTH);
+            for (int i = start; i < end; i++) {
+                int value = numerals[i].value;
+                bytes[2 * (i - start)] = (byte) (value >>> 8);
+                bytes[2 * (i - start) + 1] = (byte) value;
+            }
+            out.write(bytes, 0, 2 * (end - start));
+        }
+    }
+    
+    /**
+     * Reads an array of {@code RomanNumeral} objects written by
+     * {@link #writeNumerals(DataOutput, RomanNumeral[])}. Each element is the
+     * cached {@code RomanNumeral} with the value that was written.
+     * <p>
+     * The input is read in chunks, and the array grows with the elements
+     * actually read, so a corrupt or malicious length can't make this method
+     * allocate much more memory than the input holds.
+     *
+     * @param   in   the input to read from.
+     * @return  the array of {@code RomanNumeral} objects that was written.
+     * @throws  InvalidObjectException   if the input contains a length or value
+     *                                   that could not have been written.
+     * @throws  IOException   if an I/O error occurs.
+     */
+    public static RomanNumeral[] readNumerals(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new InvalidObjectException("For input length: " + length);
+        }
+        
+        byte[] bytes = new byte[2 * Math.min(length, NUMERALS_CHUNK_LENGTH)];
+        RomanNumeral[] numerals
+                = new RomanNumeral[Math.min(length, NUMERALS_CHUNK_LENGTH)];
+        for (int start = 0; start < length; start += NUMERALS_CHUNK_LENGTH) {
+            int end = Math.min(length, start + NUMERALS_CHUNK_LENGTH);
+            in.readFully(bytes, 0, 2 * (end - start));
+            
+            if (end > numerals.length) {
+                // at most doubles, so never more than twice what was read
+                numerals = Arrays.copyOf(numerals,
+                                         (int) Math.min(length,
+                                                        2L * numerals.length));
+            }
+            for (int i = start; i < end; i++) {
+                numerals[i] = ofSerialized(
+                        (bytes[2 * (i - start)] & 0xFF) << 8
+                        | bytes[2 * (i - start) + 1] & 0xFF);
+            }
+        }
+        return numerals;
+    }
+    
     public static RomanNumeral addExact(RomanNumeral x, RomanNumeral y) {
         return ofArithmeticResult(x.value + y.value);
     }
@@ -547,11 +1392,130 @@ public final class RomanNumeral implements Serializable,
         return min;
     }
     
-    private static void cache(RomanNumeral numeral) {
-        if (numeralCache[numeral.value] == null) {
-            valueCache.put(numeral.symbols, numeral.value);
-            numeralCache[numeral.value] = numeral;
+    /**
+     * Caches the specified {@code RomanNumeral}, unless another thread has
+     * already cached one with the same value.
+     *
+     * @return  the cached {@code RomanNumeral} with the same value as the
+     *          specified one.
+     * 
+     * @implNote Must not be called from a constructor, since other threads
+     * could then see the {@code RomanNumeral} before its fields are set.
+     */
+    private static RomanNumeral cache(RomanNumeral numeral) {
+        synchronized (numeralCache) {
+            RomanNumeral cached = numeralCache[numeral.value];
+            if (cached == null) {
+                cached = numeral;
+                numeralCache[numeral.value] = cached;
+            }
+            return cached;
+        }
+    }
+    
+    /**
+     * Returns the value of the Roman numeral in standard form with the
+     * specified symbols, or 0 if they aren't the symbols of a Roman numeral
+     * in standard form.
+     */
+    static int indexOf(CharSequence symbols) {
+        return indexOf(symbols, 0, symbols.length());
+    }
+    
+    /**
+     * Returns the value of the Roman numeral in standard form with the
+     * symbols in the specified range of the specified {@code CharSequence},
+     * or 0 if they aren't the symbols of a Roman numeral in standard form.
+     *
+     * @param   symbols   the {@code CharSequence} to read the symbols from.
+     * @param   from      the index of the first symbol.
+     * @param   to        the index after the last symbol.
+     * @return  the value of the Roman numeral, or 0 if it isn't valid.
+     */
+    static int indexOf(CharSequence symbols, int from, int to) {
+        int length = to - from;
+        if (length <= 0 || length > MAX_SYMBOLS_LENGTH) {
+            return 0;
+        }
+        
+        int hash;
+        if (symbols instanceof String && from == 0
+                && to == symbols.length()) {
+            hash = symbols.hashCode();
+        } else {
+            hash = 0; // same as String.hashCode()
+            for (int i = from; i < to; i++) {
+                hash = 31 * hash + symbols.charAt(i);
+            }
+        }
+        
+        int slot = indexSlot(hash);
+        int value;
+        while ((value = symbolsIndex[slot]) != 0) {
+            int offset = symbolsOffsets[value];
+            if (symbolsOffsets[value + 1] - offset == length) {
+                int i = 0;
+                while (i < length
+                        && packedSymbols[offset + i]
+                           == symbols.charAt(from + i)) {
+                    i++;
+                }
+                if (i == length) {
+                    return value;
+                }
+            }
+            
+            slot = (slot + 1) & (symbolsIndex.length - 1);
         }
+        return 0;
+    }
+
+    /**
+     * Returns the value of the Roman numeral in standard form with the
+     * ASCII symbols in the specified range of the specified buffer, or 0 if
+     * they aren't the symbols of a Roman numeral in standard form.
+     * <p>
+     * Reads the buffer in place, without changing its position or limit.
+     *
+     * @param   src    the buffer to read the symbols from.
+     * @param   from   the index of the first symbol.
+     * @param   to     the index after the last symbol.
+     * @return  the value of the Roman numeral, or 0 if it isn't valid.
+     */
+    static int indexOf(ByteBuffer src, int from, int to) {
+        int length = to - from;
+        if (length <= 0 || length > MAX_SYMBOLS_LENGTH) {
+            return 0;
+        }
+
+        int hash = 0; // same as String.hashCode()
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + (src.get(i) & 0xFF);
+        }
+
+        int slot = indexSlot(hash);
+        int value;
+        while ((value = symbolsIndex[slot]) != 0) {
+            int offset = symbolsOffsets[value];
+            if (symbolsOffsets[value + 1] - offset == length) {
+                int i = 0;
+                while (i < length
+                        && packedSymbols[offset + i] == src.get(from + i)) {
+                    i++;
+                }
+                if (i == length) {
+                    return value;
+                }
+            }
+
+            slot = (slot + 1) & (symbolsIndex.length - 1);
+        }
+        return 0;
+    }
+
+    private static int indexSlot(int hash) {
+        // spread high bits down, like HashMap
+        return (hash ^ hash >>> 16) & (symbolsIndex.length - 1);
     }
      
     private static String forNullInput() {
@@ -562,10 +1526,32 @@ public final class RomanNumeral implements Serializable,
         return "For input String: \"" + symbols + "\"";
     }
     
+    /**
+     * Throws an {@code IllegalArgumentException} for the first element of
+     * the specified array that is not representable by a Roman numeral in
+     * standard form, if any.
+     */
+    private static void checkValues(int[] values) {
+        for (int value : values) {
+            if (!isValid(value)) {
+                throw new IllegalArgumentException(forInput(value));
+            }
+        }
+    }
+    
     private static String forInput(int value) {
         return "For input int: " + value;
     }
     
+    private static RomanNumeral ofSerialized(int value)
+            throws InvalidObjectException {
+        if (isValid(value)) {
+            return of(value);
+        } else {
+            throw new InvalidObjectException(forInput(value));
+        }
+    }
+    
     private static RomanNumeral ofArithmeticResult(int result) {
         if (isValid(result)) {
             return of(result);
@@ -574,6 +1560,18 @@ public final class RomanNumeral implements Serializable,
         }
     }
     
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+    
+    /*
+     * Only called for streams written before SerializationProxy was added,
+     * which contain both fields
+     */
+    private Object readResolve() throws ObjectStreamException {
+        return ofSerialized(value);
+    }
+    
     public int compareTo(RomanNumeral anotherRomanNumeral) {
         return value - anotherRomanNumeral.value;
     }
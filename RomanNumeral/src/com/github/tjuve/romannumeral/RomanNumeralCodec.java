@@ -0,0 +1,436 @@
+/*
+ * RomanNumeralCodec.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+/**
+ * A binary codec for columns of Roman numeral values.
+ * <p>
+ * Every value a {@code RomanNumeral} can represent fits in 12 bits, so a
+ * column of values can be bit-packed into 1.5 bytes per value, instead of the
+ * average of about 9.5 bytes per value needed to store the symbols as lines of
+ * text. Columns that consist of runs of values with a constant difference,
+ * such as page numbering ({@code I}, {@code II}, {@code III}, ...) or
+ * repeated values, are instead encoded as runs, which take a few bytes per run
+ * regardless of its length, and sorted columns with varying differences,
+ * such as the sorted values of a histogram, as the differences between
+ * consecutive values, which mostly take one byte each.
+ * <p>
+ * Values are encoded in blocks. Each block starts with one byte naming its
+ * encoding, followed by the number of values in the block and the encoded
+ * values:
+ * <p>
+ * <table>
+ *   <tbody>
+ *     <tr>
+ *       <th>Encoding</th>
+ *       <th>Values</th>
+ *     </tr>
+ *     <tr>
+ *       <td>Packed</td>
+ *       <td>12 bits per value, big-endian, padded to a whole byte</td>
+ *     </tr>
+ *     <tr>
+ *       <td>Runs</td>
+ *       <td>For each run, its first value (2 bytes), the difference between
+ *           consecutive values (2 bytes) and its length</td>
+ *     </tr>
+ *     <tr>
+ *       <td>Deltas</td>
+ *       <td>For values in ascending order, the first value (2 bytes), then
+ *           the difference between each value and the one before it</td>
+ *     </tr>
+ *   </tbody>
+ * </table>
+ * <p>
+ * The encoding needing the fewest bytes is chosen for each block. Counts,
+ * lengths and the differences of the deltas encoding are written as
+ * unsigned variable-length integers, 7 bits per byte.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ * @see     RomanNumeralColumnFile
+ */
+public final class RomanNumeralCodec {
+    /**
+     * A constant holding the number of bits used to pack each value, 12
+     * (from {@code Integer.SIZE - Integer.numberOfLeadingZeros(3999)})
+     */
+    public static final int BITS_PER_VALUE = 12;
+    
+    /**
+     * Identifies a block of bit-packed values.
+     */
+    private static final byte PACKED = 0;
+    /**
+     * Identifies a block of runs of values with a constant difference.
+     */
+    private static final byte RUNS = 1;
+    /**
+     * Identifies a block of values in ascending order, as the differences
+     * between consecutive values.
+     */
+    private static final byte DELTAS = 2;
+    /**
+     * A constant holding the maximum length of an {@code int} written as an
+     * unsigned variable-length integer, 5.
+     */
+    private static final int MAX_VARINT_LENGTH = 5;
+    /**
+     * A constant holding the length of a run, excluding its length, 4.
+     */
+    private static final int RUN_HEADER_LENGTH = 4;
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralCodec() {
+    }
+    
+    /**
+     * Returns the number of bytes needed to bit-pack the specified number of
+     * values.
+     *
+     * @param   count   the number of values.
+     * @return  the number of bytes needed to bit-pack the values.
+     */
+    public static int packedLength(int count) {
+        return (int) (((long) count * BITS_PER_VALUE + Byte.SIZE - 1)
+                      / Byte.SIZE);
+    }
+    
+    /**
+     * Returns the maximum number of bytes {@link #encode} can write for the
+     * specified number of values.
+     *
+     * @param   count   the number of values.
+     * @return  the maximum number of bytes needed to encode the values.
+     */
+    public static int maxEncodedLength(int count) {
+        return 1 + MAX_VARINT_LENGTH + packedLength(count);
+    }
+    
+    /**
+     * Bit-packs the specified range of values into the specified array, 12
+     * bits per value.
+     *
+     * @param   values   the values to be packed.
+     * @param   from     the index of the first value to be packed.
+     * @param   to       the index after the last value to be packed.
+     * @param   dst      the array to write the packed values to.
+     * @param   offset   the index in {@code dst} to start writing at.
+     * @return  the number of bytes written, equal to
+     *          {@code packedLength(to - from)}.
+     * @throws  IllegalArgumentException    if any of the values is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form.
+     * @throws  ArrayIndexOutOfBoundsException   if {@code dst} is too small.
+     */
+    public static int pack(int[] values, int from, int to, byte[] dst,
+                           int offset) {
+        checkValues(values, from, to);
+        
+        int position = offset;
+        int i = from;
+        for (; i + 1 < to; i += 2) {
+            // 2 values per 3 bytes
+            int first = values[i];
+            int second = values[i + 1];
+            dst[position++] = (byte) (first >>> 4);
+            dst[position++] = (byte) (first << 4 | second >>> 8);
+            dst[position++] = (byte) second;
+        }
+        if (i < to) {
+            int last = values[i];
+            dst[position++] = (byte) (last >>> 4);
+            dst[position++] = (byte) (last << 4);
+        }
+        return position - offset;
+    }
+    
+    /**
+     * Unpacks values bit-packed by {@link #pack} into the specified range of
+     * the specified array.
+     *
+     * @param   src      the array to read the packed values from.
+     * @param   offset   the index in {@code src} to start reading at.
+     * @param   dst      the array to write the values to.
+     * @param   from     the index in {@code dst} of the first value.
+     * @param   to       the index in {@code dst} after the last value.
+     * @throws  IllegalArgumentException    if any of the unpacked values is
+     *                                      not representable by a Roman numeral
+     *                                      in standard form.
+     * @throws  ArrayIndexOutOfBoundsException   if {@code src} is too small.
+     */
+    public static void unpack(byte[] src, int offset, int[] dst, int from,
+                              int to) {
+        int position = offset;
+        int i = from;
+        for (; i + 1 < to; i += 2) {
+            int first = src[position++] & 0xFF;
+            int middle = src[position++] & 0xFF;
+            int last = src[position++] & 0xFF;
+            dst[i] = first << 4 | middle >>> 4;
+            dst[i + 1] = (middle & 0x0F) << 8 | last;
+        }
+        if (i < to) {
+            dst[i] = (src[position] & 0xFF) << 4
+                     | (src[position + 1] & 0xFF) >>> 4;
+        }
+        
+        checkValues(dst, from, to);
+    }
+    
+    /**
+     * Encodes the specified range of values as a block, using whichever
+     * encoding needs fewer bytes.
+     *
+     * @param   values   the values to be encoded.
+     * @param   from     the index of the first value to be encoded.
+     * @param   to       the index after the last value to be encoded.
+     * @param   dst      the array to write the block to.
+     * @param   offset   the index in {@code dst} to start writing at.
+     * @return  the number of bytes written, at most
+     *          {@code maxEncodedLength(to - from)}.
+     * @throws  IllegalArgumentException    if any of the values is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form.
+     * @throws  ArrayIndexOutOfBoundsException   if {@code dst} is too small.
+     * @see     #decode(byte[], int, int[], int)
+     */
+    public static int encode(int[] values, int from, int to, byte[] dst,
+                             int offset) {
+        checkValues(values, from, to);
+        
+        int count = to - from;
+        int position = offset + 1;
+        position = writeVarint(count, dst, position);
+        
+        int numRuns = 0;
+        long runsLength = 0;
+        for (int i = from; i < to; i = endOfRun(values, i, to)) {
+            numRuns++;
+            runsLength += RUN_HEADER_LENGTH
+                          + varintLength(endOfRun(values, i, to) - i);
+        }
+        runsLength += varintLength(numRuns);
+        
+        long deltasLength = count > 0 ? 2 : Long.MAX_VALUE;
+        for (int i = from + 1; i < to && deltasLength != Long.MAX_VALUE;
+                i++) {
+            int delta = values[i] - values[i - 1];
+            deltasLength = delta >= 0 ? deltasLength + varintLength(delta)
+                                      : Long.MAX_VALUE;
+        }
+        
+        int packedLength = packedLength(count);
+        if (runsLength < packedLength && runsLength <= deltasLength) {
+            dst[offset] = RUNS;
+            position = writeVarint(numRuns, dst, position);
+            for (int i = from; i < to;) {
+                int end = endOfRun(values, i, to);
+                int delta = end - i > 1 ? values[i + 1] - values[i] : 0;
+                
+                dst[position++] = (byte) (values[i] >>> 8);
+                dst[position++] = (byte) values[i];
+                dst[position++] = (byte) (delta >>> 8);
+                dst[position++] = (byte) delta;
+                position = writeVarint(end - i, dst, position);
+                
+                i = end;
+            }
+        } else if (deltasLength < packedLength) {
+            dst[offset] = DELTAS;
+            dst[position++] = (byte) (values[from] >>> 8);
+            dst[position++] = (byte) values[from];
+            for (int i = from + 1; i < to; i++) {
+                position = writeVarint(values[i] - values[i - 1], dst,
+                                       position);
+            }
+        } else {
+            dst[offset] = PACKED;
+            position += pack(values, from, to, dst, position);
+        }
+        return position - offset;
+    }
+    
+    /**
+     * Returns the number of values in the block encoded at the specified
+     * index of the specified array.
+     *
+     * @param   src      the array to read the block from.
+     * @param   offset   the index in {@code src} the block starts at.
+     * @return  the number of values in the block.
+     * @throws  IllegalArgumentException    if the block is corrupt.
+     */
+    public static int decodedCount(byte[] src, int offset) {
+        return readVarint(src, offset + 1);
+    }
+    
+    /**
+     * Decodes the block encoded at the specified index of the specified array
+     * into the specified array.
+     *
+     * @param   src         the array to read the block from.
+     * @param   offset      the index in {@code src} the block starts at.
+     * @param   dst         the array to write the values to.
+     * @param   dstOffset   the index in {@code dst} to write the first
+     *                      value at.
+     * @return  the number of values written.
+     * @throws  IllegalArgumentException    if the block is corrupt.
+     * @throws  ArrayIndexOutOfBoundsException   if {@code dst} is too small
+     *                                           (see
+     *                                           {@link #decodedCount}.)
+     * @see     #encode(int[], int, int, byte[], int)
+     */
+    public static int decode(byte[] src, int offset, int[] dst,
+                             int dstOffset) {
+        int count = readVarint(src, offset + 1);
+        int position = offset + 1 + varintLength(count);
+        if (count > dst.length - dstOffset) {
+            throw new ArrayIndexOutOfBoundsException(
+                    "For input count: " + count);
+        }
+        int end = dstOffset + count;
+        
+        switch (src[offset]) {
+            case PACKED:
+                checkAvailable(src, position, packedLength(count));
+                unpack(src, position, dst, dstOffset, end);
+                break;
+            case RUNS:
+                int numRuns = readVarint(src, position);
+                position += varintLength(numRuns);
+                
+                int i = dstOffset;
+                for (int run = 0; run < numRuns; run++) {
+                    checkAvailable(src, position, RUN_HEADER_LENGTH);
+                    int value = (src[position] & 0xFF) << 8
+                                | src[position + 1] & 0xFF;
+                    int delta = (short) ((src[position + 2] & 0xFF) << 8
+                                         | src[position + 3] & 0xFF);
+                    int length = readVarint(src, position + RUN_HEADER_LENGTH);
+                    position += RUN_HEADER_LENGTH + varintLength(length);
+                    
+                    long last = value + (long) delta * (length - 1);
+                    if (length > end - i
+                            || !RomanNumeral.isValid(value)
+                            || last < RomanNumeral.MIN_VALUE
+                            || last > RomanNumeral.MAX_VALUE) {
+                        throw new IllegalArgumentException(forCorruptBlock());
+                    }
+                    
+                    for (int j = 0; j < length; j++) {
+                        dst[i++] = value;
+                        value += delta;
+                    }
+                }
+                
+                if (i != end) {
+                    throw new IllegalArgumentException(forCorruptBlock());
+                }
+                break;
+            case DELTAS:
+                if (count == 0) {
+                    throw new IllegalArgumentException(forCorruptBlock());
+                }
+                checkAvailable(src, position, 2);
+                int value = (src[position] & 0xFF) << 8
+                            | src[position + 1] & 0xFF;
+                position += 2;
+                for (int j = dstOffset; j < end; j++) {
+                    if (j > dstOffset) {
+                        int delta = readVarint(src, position);
+                        position += varintLength(delta);
+                        value += delta;
+                    }
+                    if (!RomanNumeral.isValid(value)) {
+                        throw new IllegalArgumentException(forCorruptBlock());
+                    }
+                    dst[j] = value;
+                }
+                break;
+            default:
+                throw new IllegalArgumentException(forCorruptBlock());
+        }
+        return count;
+    }
+    
+    /**
+     * Returns the index after the last value of the run starting at the
+     * specified index. A run is a sequence of values with a constant
+     * difference between consecutive values.
+     */
+    private static int endOfRun(int[] values, int start, int to) {
+        int end = start + 1;
+        if (end < to) {
+            int delta = values[end] - values[start];
+            end++;
+            while (end < to && values[end] - values[end - 1] == delta) {
+                end++;
+            }
+        }
+        return end;
+    }
+    
+    private static void checkValues(int[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!RomanNumeral.isValid(values[i])) {
+                throw new IllegalArgumentException(
+                        "For input int: " + values[i]);
+            }
+        }
+    }
+    
+    private static int varintLength(int n) {
+        int length = 1;
+        while ((n >>>= 7) != 0) {
+            length++;
+        }
+        return length;
+    }
+    
+    private static int writeVarint(int n, byte[] dst, int offset) {
+        int position = offset;
+        while ((n & ~0x7F) != 0) {
+            dst[position++] = (byte) (n & 0x7F | 0x80);
+            n >>>= 7;
+        }
+        dst[position++] = (byte) n;
+        return position;
+    }
+    
+    private static int readVarint(byte[] src, int offset) {
+        int n = 0;
+        for (int i = 0; i < MAX_VARINT_LENGTH; i++) {
+            checkAvailable(src, offset + i, 1);
+            byte b = src[offset + i];
+            n |= (b & 0x7F) << (7 * i);
+            if (b >= 0) {
+                if (n < 0) {
+                    throw new IllegalArgumentException(forCorruptBlock());
+                }
+                return n;
+            }
+        }
+        throw new IllegalArgumentException(forCorruptBlock());
+    }
+    
+    /**
+     * Checks that the specified array holds the specified number of bytes
+     * from the specified index, so a truncated block is reported as corrupt.
+     */
+    private static void checkAvailable(byte[] src, int offset, int length) {
+        if (length > src.length - offset) {
+            throw new IllegalArgumentException(forCorruptBlock());
+        }
+    }
+    
+    private static String forCorruptBlock() {
+        return "Corrupt block";
+    }
+}
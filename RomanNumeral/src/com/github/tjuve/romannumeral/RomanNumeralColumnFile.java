@@ -0,0 +1,615 @@
+/*
+ * RomanNumeralColumnFile.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A file format for storing a column of Roman numeral values, one block of
+ * values encoded by {@link RomanNumeralCodec} after another, followed by an
+ * index of where each block starts.
+ * <p>
+ * A file consists of (from start to end):
+ * <ol>
+ *   <li>A header holding a magic number and the number of values per block,
+ *       4 bytes each.</li>
+ *   <li>The blocks. Every block holds the same number of values, except the
+ *       last, which may hold fewer.</li>
+ *   <li>The index, holding the position of each block, 8 bytes each.</li>
+ *   <li>A footer holding the position of the index and the number of
+ *       values, 8 bytes each, and the magic number again, 4 bytes.</li>
+ * </ol>
+ * <p>
+ * Because every block but the last holds the same number of values, the
+ * block holding any value can be found without reading any other block, so
+ * the values can be read in any order. They can also be streamed, read in
+ * order a batch at a time, as each whole block wanted is decoded straight
+ * into the array read into.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+public final class RomanNumeralColumnFile {
+    /**
+     * A constant holding the default number of values per block, 4096.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 4_096;
+    /**
+     * A constant holding the maximum number of values per block, 1048576.
+     */
+    public static final int MAX_BLOCK_SIZE = 1 << 20;
+    
+    /**
+     * Identifies a column file ({@code "RNC1"} in ASCII.)
+     */
+    private static final int MAGIC = 0x524E4331;
+    /**
+     * A constant holding the length of the header, 8.
+     */
+    private static final int HEADER_LENGTH = 2 * Integer.BYTES;
+    /**
+     * A constant holding the length of the footer, 20.
+     */
+    private static final int FOOTER_LENGTH = 2 * Long.BYTES + Integer.BYTES;
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralColumnFile() {
+    }
+    
+    /**
+     * Writes a column file, one value at a time or in bulk.
+     * <p>
+     * Values are buffered until a block is full, so the file is incomplete
+     * until the {@code Writer} is closed. A {@code Writer} is not safe for use
+     * by multiple threads.
+     */
+    public static final class Writer implements Closeable {
+        private final FileChannel channel;
+        private final int[] block;
+        private final byte[] encoded;
+        private int blockLength;
+        private long[] blockPositions = new long[16];
+        private int numBlocks;
+        private long count;
+        private long position;
+        private boolean closed;
+        
+        /**
+         * Creates a file, or truncates an existing file, to write a column
+         * with the default number of values per block.
+         *
+         * @param   path   the path of the file.
+         * @throws  IOException   if an I/O error occurs.
+         */
+        public Writer(Path path) throws IOException {
+            this(path, DEFAULT_BLOCK_SIZE);
+        }
+        
+        /**
+         * Creates a file, or truncates an existing file, to write a column
+         * with the specified number of values per block.
+         * <p>
+         * Smaller blocks make reading single values cheaper, larger blocks
+         * make the file smaller.
+         *
+         * @param   path        the path of the file.
+         * @param   blockSize   the number of values per block.
+         * @throws  IllegalArgumentException    if {@code blockSize} is not
+         *                                      from 1 to
+         *                                      {@link #MAX_BLOCK_SIZE}.
+         * @throws  IOException   if an I/O error occurs.
+         */
+        public Writer(Path path, int blockSize) throws IOException {
+            if (blockSize <= 0 || blockSize > MAX_BLOCK_SIZE) {
+                throw new IllegalArgumentException(
+                        "For input blockSize: " + blockSize);
+            }
+            
+            this.block = new int[blockSize];
+            this.encoded = new byte[Math.max(
+                    RomanNumeralCodec.maxEncodedLength(blockSize),
+                    FOOTER_LENGTH)];
+            this.channel = FileChannel.open(
+                    path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            
+            ByteBuffer header = ByteBuffer.wrap(encoded, 0, HEADER_LENGTH);
+            header.putInt(MAGIC).putInt(blockSize).flip();
+            try {
+                writeFully(header);
+            } catch (IOException ioEx) {
+                channel.close();
+                throw ioEx;
+            }
+        }
+        
+        /**
+         * Writes the specified value.
+         *
+         * @param   value   the value to be written.
+         * @throws  IllegalArgumentException    if the {@code int} is not
+         *                                      representable by a Roman numeral
+         *                                      in standard form.
+         * @throws  IOException   if an I/O error occurs.
+         */
+        public void write(int value) throws IOException {
+            if (!RomanNumeral.isValid(value)) {
+                throw new IllegalArgumentException("For input int: " + value);
+            }
+            
+            block[blockLength++] = value;
+            if (blockLength == block.length) {
+                flushBlock();
+            }
+        }
+        
+        /**
+         * Writes the value of the specified {@code RomanNumeral}.
+         *
+         * @param   numeral   the {@code RomanNumeral} to be written.
+         * @throws  IOException   if an I/O error occurs.
+         */
+        public void write(RomanNumeral numeral) throws IOException {
+            write(numeral.value);
+        }
+        
+        /**
+         * Writes the specified range of values.
+         *
+         * @param   values   the values to be written.
+         * @param   from     the index of the first value to be written.
+         * @param   to       the index after the last value to be written.
+         * @throws  IllegalArgumentException    if any of the values is not
+         *                                      representable by a Roman numeral
+         *                                      in standard form; the values
+         *                                      before it are written.
+         * @throws  IOException   if an I/O error occurs.
+         */
+        public void write(int[] values, int from, int to) throws IOException {
+            int i = from;
+            while (i < to) {
+                int length = Math.min(to - i, block.length - blockLength);
+                for (int j = i; j < i + length; j++) {
+                    if (!RomanNumeral.isValid(values[j])) {
+                        // keep the values before it
+                        System.arraycopy(values, i, block, blockLength, j - i);
+                        blockLength += j - i;
+                        throw new IllegalArgumentException(
+                                "For input int: " + values[j]);
+                    }
+                }
+                System.arraycopy(values, i, block, blockLength, length);
+                blockLength += length;
+                i += length;
+                
+                if (blockLength == block.length) {
+                    flushBlock();
+                }
+            }
+        }
+        
+        /**
+         * Writes any buffered values, then the index and footer, and closes
+         * the file.
+         *
+         * @throws  IOException   if an I/O error occurs.
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            
+            try {
+                if (blockLength > 0) {
+                    flushBlock();
+                }
+                
+                long indexPosition = position;
+                ByteBuffer index = ByteBuffer.allocate(
+                        numBlocks * Long.BYTES + FOOTER_LENGTH);
+                for (int i = 0; i < numBlocks; i++) {
+                    index.putLong(blockPositions[i]);
+                }
+                index.putLong(indexPosition).putLong(count).putInt(MAGIC);
+                index.flip();
+                writeFully(index);
+            } finally {
+                channel.close();
+            }
+        }
+        
+        private void flushBlock() throws IOException {
+            if (numBlocks == blockPositions.length) {
+                blockPositions = Arrays.copyOf(blockPositions,
+                                               2 * numBlocks);
+            }
+            blockPositions[numBlocks++] = position;
+            
+            int length = RomanNumeralCodec.encode(block, 0, blockLength,
+                                                  encoded, 0);
+            writeFully(ByteBuffer.wrap(encoded, 0, length));
+            
+            count += blockLength;
+            blockLength = 0;
+        }
+        
+        private void writeFully(ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer);
+            }
+        }
+    }
+    
+    /**
+     * Reads a column file written by a {@link Writer}, in any order, or in
+     * order from a position that advances with each sequential read.
+     * <p>
+     * The most recently read block is kept decoded, so reading values near
+     * each other only decodes their block once. A {@code Reader} is not safe
+     * for use by multiple threads.
+     */
+    public static final class Reader implements Closeable {
+        private final FileChannel channel;
+        private final int blockSize;
+        private final long[] blockPositions;
+        private final long count;
+        private final int[] block;
+        private int decodedBlock = -1;
+        private byte[] encoded = new byte[0];
+        /**
+         * The index in the column of the next value read sequentially.
+         */
+        private long position;
+        
+        /**
+         * Opens the specified column file.
+         *
+         * @param   path   the path of the file.
+         * @throws  IOException   if an I/O error occurs, or the file is not
+         *                        a complete column file.
+         */
+        public Reader(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                long fileLength = channel.size();
+                if (fileLength < HEADER_LENGTH + FOOTER_LENGTH) {
+                    throw new IOException(forCorruptFile(path));
+                }
+                
+                ByteBuffer header = readFully(0, HEADER_LENGTH);
+                ByteBuffer footer = readFully(fileLength - FOOTER_LENGTH,
+                                              FOOTER_LENGTH);
+                int magic = header.getInt();
+                this.blockSize = header.getInt();
+                long indexPosition = footer.getLong();
+                this.count = footer.getLong();
+                if (magic != MAGIC || footer.getInt() != MAGIC
+                        || blockSize <= 0 || blockSize > MAX_BLOCK_SIZE
+                        || count < 0
+                        || indexPosition < HEADER_LENGTH) {
+                    throw new IOException(forCorruptFile(path));
+                }
+                
+                long numBlocks = (count + blockSize - 1) / blockSize;
+                if (indexPosition + numBlocks * Long.BYTES + FOOTER_LENGTH
+                        != fileLength) {
+                    throw new IOException(forCorruptFile(path));
+                }
+                
+                ByteBuffer index = readFully(
+                        indexPosition, Math.toIntExact(numBlocks * Long.BYTES));
+                this.blockPositions = new long[(int) numBlocks + 1];
+                for (int i = 0; i < numBlocks; i++) {
+                    blockPositions[i] = index.getLong();
+                }
+                blockPositions[(int) numBlocks] = indexPosition;
+                for (int i = 0; i < numBlocks; i++) {
+                    if (blockPositions[i] >= blockPositions[i + 1]) {
+                        throw new IOException(forCorruptFile(path));
+                    }
+                }
+                
+                this.block = new int[blockSize];
+            } catch (IOException | RuntimeException | Error ex) {
+                channel.close();
+                throw ex;
+            }
+        }
+        
+        /**
+         * Returns the number of values in the column.
+         *
+         * @return  the number of values in the column.
+         */
+        public long size() {
+            return count;
+        }
+        
+        /**
+         * Returns the index in the column of the next value read
+         * sequentially, initially 0.
+         *
+         * @return  the index of the next value read sequentially.
+         */
+        public long position() {
+            return position;
+        }
+        
+        /**
+         * Sets the index in the column of the next value read sequentially.
+         *
+         * @param   newPosition   the index of the next value read
+         *                        sequentially, at most {@link #size()}.
+         * @throws  IndexOutOfBoundsException   if {@code newPosition} is
+         *                                      negative or greater than
+         *                                      {@link #size()}.
+         */
+        public void position(long newPosition) {
+            checkRange(newPosition, 0);
+            position = newPosition;
+        }
+        
+        /**
+         * Returns the value at the specified index of the column.
+         *
+         * @param   index   the index of the value.
+         * @return  the value at the specified index.
+         * @throws  IndexOutOfBoundsException   if the index is negative or not
+         *                                      less than {@link #size()}.
+         * @throws  IOException   if an I/O error occurs, or the file is
+         *                        corrupt.
+         */
+        public int get(long index) throws IOException {
+            checkRange(index, 1);
+            
+            decodeBlock((int) (index / blockSize));
+            return block[(int) (index % blockSize)];
+        }
+        
+        /**
+         * Reads the specified number of values, starting at the specified
+         * index of the column, into the specified array.
+         *
+         * @param   from     the index in the column of the first value.
+         * @param   dst      the array to write the values to.
+         * @param   offset   the index in {@code dst} to write the first value
+         *                   at.
+         * @param   length   the number of values to read.
+         * @throws  IndexOutOfBoundsException   if the column, or {@code dst},
+         *                                      doesn't contain the range.
+         * @throws  IOException   if an I/O error occurs, or the file is
+         *                        corrupt.
+         */
+        public void read(long from, int[] dst, int offset, int length)
+                throws IOException {
+            checkRange(from, length);
+            if (offset < 0 || offset > dst.length - length) {
+                throw new IndexOutOfBoundsException(
+                        "For input offset: " + offset);
+            }
+            
+            long index = from;
+            int i = offset;
+            int end = offset + length;
+            while (i < end) {
+                int blockIndex = (int) (index / blockSize);
+                int start = (int) (index % blockSize);
+                int blockCount = (int) Math.min(blockSize,
+                        count - (long) blockIndex * blockSize);
+                int n = Math.min(blockCount - start, end - i);
+                
+                if (start == 0 && n == blockCount
+                        && blockIndex != decodedBlock) {
+                    // whole block wanted, decode straight into dst
+                    decode(blockIndex, dst, i);
+                } else {
+                    decodeBlock(blockIndex);
+                    System.arraycopy(block, start, dst, i, n);
+                }
+                
+                i += n;
+                index += n;
+            }
+        }
+        
+        /**
+         * Reads the specified number of values, starting at the specified
+         * index of the column, into the specified array as the cached
+         * {@code RomanNumeral} with each value.
+         *
+         * @param   from     the index in the column of the first value.
+         * @param   dst      the array to write the {@code RomanNumeral}
+         *                   objects to.
+         * @param   offset   the index in {@code dst} to write the first
+         *                   {@code RomanNumeral} at.
+         * @param   length   the number of values to read.
+         * @throws  IndexOutOfBoundsException   if the column, or {@code dst},
+         *                                      doesn't contain the range.
+         * @throws  IOException   if an I/O error occurs, or the file is
+         *                        corrupt.
+         */
+        public void read(long from, RomanNumeral[] dst, int offset,
+                         int length) throws IOException {
+            checkRange(from, length);
+            if (offset < 0 || offset > dst.length - length) {
+                throw new IndexOutOfBoundsException(
+                        "For input offset: " + offset);
+            }
+            
+            long index = from;
+            int i = offset;
+            int end = offset + length;
+            while (i < end) {
+                int blockIndex = (int) (index / blockSize);
+                int start = (int) (index % blockSize);
+                int blockCount = (int) Math.min(blockSize,
+                        count - (long) blockIndex * blockSize);
+                int n = Math.min(blockCount - start, end - i);
+                
+                decodeBlock(blockIndex);
+                for (int j = 0; j < n; j++) {
+                    dst[i + j] = RomanNumeral.of(block[start + j]);
+                }
+                
+                i += n;
+                index += n;
+            }
+        }
+        
+        /**
+         * Reads up to the specified number of values, from the position of
+         * this reader, into the specified array, and advances the position
+         * past them.
+         *
+         * @param   dst      the array to write the values to.
+         * @param   offset   the index in {@code dst} to write the first value
+         *                   at.
+         * @param   length   the most values to read.
+         * @return  the number of values read, or -1 if the position is at
+         *          the end of the column.
+         * @throws  IndexOutOfBoundsException   if {@code dst} doesn't contain
+         *                                      the range.
+         * @throws  IOException   if an I/O error occurs, or the file is
+         *                        corrupt.
+         */
+        public int read(int[] dst, int offset, int length) throws IOException {
+            int n = sequentialLength(dst.length, offset, length);
+            if (n > 0) {
+                read(position, dst, offset, n);
+                position += n;
+            }
+            return n;
+        }
+        
+        /**
+         * Reads up to the specified number of values, from the position of
+         * this reader, into the specified array as the cached
+         * {@code RomanNumeral} with each value, and advances the position
+         * past them.
+         *
+         * @param   dst      the array to write the {@code RomanNumeral}
+         *                   objects to.
+         * @param   offset   the index in {@code dst} to write the first
+         *                   {@code RomanNumeral} at.
+         * @param   length   the most values to read.
+         * @return  the number of values read, or -1 if the position is at
+         *          the end of the column.
+         * @throws  IndexOutOfBoundsException   if {@code dst} doesn't contain
+         *                                      the range.
+         * @throws  IOException   if an I/O error occurs, or the file is
+         *                        corrupt.
+         */
+        public int read(RomanNumeral[] dst, int offset, int length)
+                throws IOException {
+            int n = sequentialLength(dst.length, offset, length);
+            if (n > 0) {
+                read(position, dst, offset, n);
+                position += n;
+            }
+            return n;
+        }
+        
+        /**
+         * Closes the file.
+         *
+         * @throws  IOException   if an I/O error occurs.
+         */
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+        
+        private void decodeBlock(int blockIndex) throws IOException {
+            if (blockIndex != decodedBlock) {
+                decodedBlock = -1;
+                decode(blockIndex, block, 0);
+                decodedBlock = blockIndex;
+            }
+        }
+        
+        private void decode(int blockIndex, int[] dst, int offset)
+                throws IOException {
+            long position = blockPositions[blockIndex];
+            int length = (int) (blockPositions[blockIndex + 1] - position);
+            if (encoded.length < length) {
+                encoded = new byte[length];
+            }
+            
+            ByteBuffer buffer = ByteBuffer.wrap(encoded, 0, length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new EOFException();
+                }
+            }
+            
+            int expectedCount = (int) Math.min(blockSize,
+                    count - (long) blockIndex * blockSize);
+            try {
+                if (RomanNumeralCodec.decodedCount(encoded, 0)
+                        != expectedCount) {
+                    throw new IOException("Corrupt block " + blockIndex);
+                }
+                RomanNumeralCodec.decode(encoded, 0, dst, offset);
+            } catch (IllegalArgumentException
+                     | ArrayIndexOutOfBoundsException ex) {
+                throw new IOException("Corrupt block " + blockIndex, ex);
+            }
+        }
+        
+        /**
+         * Returns the number of values a sequential read of the specified
+         * range of an array of the specified length reads, or -1 at the end
+         * of the column.
+         */
+        private int sequentialLength(int dstLength, int offset, int length) {
+            if (offset < 0 || length < 0 || offset > dstLength - length) {
+                throw new IndexOutOfBoundsException("For input range: "
+                        + offset + " to " + (offset + length));
+            }
+            if (length == 0) {
+                return 0;
+            }
+            return position == count
+                   ? -1 : (int) Math.min(length, count - position);
+        }
+        
+        private void checkRange(long from, int length) {
+            if (from < 0 || length < 0 || from > count - length) {
+                throw new IndexOutOfBoundsException("For input range: "
+                        + from + " to " + (from + length));
+            }
+        }
+        
+        private ByteBuffer readFully(long position, int length)
+                throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new EOFException();
+                }
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+    
+    private static String forCorruptFile(Path path) {
+        return "Not a complete column file: " + path;
+    }
+}
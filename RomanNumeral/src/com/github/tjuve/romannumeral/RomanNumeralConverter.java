@@ -0,0 +1,435 @@
+/*
+ * RomanNumeralConverter.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.github.tjuve.romannumeral.RomanNumeralLines.Direction;
+
+/**
+ * Converts lines between Roman numerals in standard form and their values,
+ * from files or standard input to standard output.
+ * <p>
+ * <pre>
+ * java com.github.tjuve.romannumeral.RomanNumeralConverter [options] [file...]
+ *
+ *   -n, --to-numerals   only convert values to numerals
+ *   -v, --to-values     only convert numerals to values
+ *   -j, --threads N     convert files with N threads (default: all cores)
+ *   -h, --help          print this help
+ * </pre>
+ * <p>
+ * By default, a line of decimal digits is converted to a numeral and any
+ * other line is converted to a value. Files are converted in order, as if
+ * concatenated; {@code -} or no files reads standard input. A line that can't
+ * be converted is output as an empty line, so the output has as many lines
+ * as the input, and the exit status is 1. The exit status is 2 for usage
+ * and I/O errors.
+ * <p>
+ * Input is read and output is written in large chunks through channels,
+ * without decoding characters. Files are split into chunks at line
+ * boundaries and the chunks are converted in parallel into memory, then
+ * written straight to standard output in order, so each byte is read and
+ * written once.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+public final class RomanNumeralConverter {
+    /**
+     * A constant holding the size of the buffers lines are read into.
+     */
+    static final int READ_BUFFER_SIZE = 1 << 20;
+    /**
+     * A constant holding the size of the buffers converted lines are
+     * written from.
+     */
+    static final int WRITE_BUFFER_SIZE = 1 << 20;
+    /**
+     * A constant holding the size of the chunks files are split into, to be
+     * converted in parallel. A converted chunk is held in memory until it is
+     * written, and is at most about three times as large.
+     */
+    static final long CHUNK_SIZE = 4L << 20;
+    
+    private static final int EXIT_OK = 0;
+    private static final int EXIT_INVALID_LINES = 1;
+    private static final int EXIT_ERROR = 2;
+    private static final String USAGE
+            = "Usage: java " + RomanNumeralConverter.class.getName()
+              + " [options] [file...]\n"
+              + "  -n, --to-numerals   only convert values to numerals\n"
+              + "  -v, --to-values     only convert numerals to values\n"
+              + "  -j, --threads N     convert files with N threads\n"
+              + "  -h, --help          print this help\n";
+    
+    /**
+     * A range of lines of a file.
+     */
+    private static final class Chunk {
+        private final Path file;
+        private final long start;
+        private final long end;
+        
+        private Chunk(Path file, long start, long end) {
+            this.file = file;
+            this.start = start;
+            this.end = end;
+        }
+    }
+    
+    /**
+     * The converted lines of a {@code Chunk}, as a channel that copies what
+     * is written to it into buffers.
+     */
+    private static final class Converted implements WritableByteChannel {
+        private final List<ByteBuffer> buffers = new ArrayList<ByteBuffer>();
+        private long numInvalidLines;
+        
+        @Override
+        public int write(ByteBuffer src) {
+            ByteBuffer buffer = ByteBuffer.allocate(src.remaining());
+            buffer.put(src).flip();
+            buffers.add(buffer);
+            return buffer.limit();
+        }
+        
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+        
+        @Override
+        public void close() {
+        }
+    }
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralConverter() {
+    }
+    
+    /**
+     * Converts the files given as arguments, or standard input, to standard
+     * output, then exits with the status described above.
+     *
+     * @param   args   the options and files.
+     */
+    public static void main(String[] args) {
+        int status;
+        try (FileChannel stdin = new FileInputStream(FileDescriptor.in)
+                     .getChannel();
+             FileChannel stdout = new FileOutputStream(FileDescriptor.out)
+                     .getChannel()) {
+            status = run(args, stdin, stdout, System.err);
+        } catch (IOException ioEx) {
+            System.err.println(RomanNumeralConverter.class.getSimpleName()
+                               + ": " + ioEx);
+            status = EXIT_ERROR;
+        }
+        System.exit(status);
+    }
+    
+    /**
+     * Converts as {@link #main} does, with the specified standard streams.
+     *
+     * @param   args     the options and files.
+     * @param   stdin    the standard input.
+     * @param   stdout   the standard output.
+     * @param   stderr   the standard error.
+     * @return  the exit status.
+     * @throws  IOException   if an I/O error occurs.
+     */
+    static int run(String[] args, ReadableByteChannel stdin,
+                   WritableByteChannel stdout, PrintStream stderr)
+            throws IOException {
+        Direction direction = Direction.AUTO;
+        int numThreads = Runtime.getRuntime().availableProcessors();
+        List<String> names = new ArrayList<String>();
+        
+        boolean options = true;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!options || arg.equals("-") || !arg.startsWith("-")) {
+                names.add(arg);
+            } else if (arg.equals("--")) {
+                options = false;
+            } else if (arg.equals("-n") || arg.equals("--to-numerals")) {
+                direction = Direction.TO_SYMBOLS;
+            } else if (arg.equals("-v") || arg.equals("--to-values")) {
+                direction = Direction.TO_VALUES;
+            } else if ((arg.equals("-j") || arg.equals("--threads"))
+                       && i + 1 < args.length) {
+                try {
+                    numThreads = Integer.parseInt(args[++i]);
+                } catch (NumberFormatException numberFormatEx) {
+                    numThreads = 0;
+                }
+                if (numThreads < 1) {
+                    stderr.print(USAGE);
+                    return EXIT_ERROR;
+                }
+            } else if (arg.equals("-h") || arg.equals("--help")) {
+                stderr.print(USAGE);
+                return EXIT_OK;
+            } else {
+                stderr.print(USAGE);
+                return EXIT_ERROR;
+            }
+        }
+        if (names.isEmpty()) {
+            names.add("-");
+        }
+        
+        long numInvalidLines = 0;
+        ExecutorService executor = numThreads > 1
+                                   ? Executors.newFixedThreadPool(numThreads)
+                                   : null;
+        try {
+            for (String name : names) {
+                if (name.equals("-")) {
+                    numInvalidLines += convert(stdin, Long.MAX_VALUE, stdout,
+                                               direction);
+                } else if (executor == null) {
+                    try (FileChannel in = FileChannel.open(Paths.get(name))) {
+                        numInvalidLines += convert(in, Long.MAX_VALUE, stdout,
+                                                   direction);
+                    }
+                } else {
+                    numInvalidLines += convert(Paths.get(name), stdout,
+                                               direction, executor,
+                                               2 * numThreads, CHUNK_SIZE);
+                }
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+        
+        if (numInvalidLines > 0) {
+            stderr.println(RomanNumeralConverter.class.getSimpleName() + ": "
+                           + numInvalidLines + " invalid lines");
+            return EXIT_INVALID_LINES;
+        }
+        return EXIT_OK;
+    }
+    
+    /**
+     * Converts lines from the specified channel to the specified channel.
+     *
+     * @param   in          the channel to read lines from.
+     * @param   length      the number of bytes to read, or
+     *                      {@code Long.MAX_VALUE} to read to the end.
+     * @param   out         the channel to write converted lines to.
+     * @param   direction   which lines are converted.
+     * @return  the number of lines that couldn't be converted.
+     * @throws  IOException   if an I/O error occurs.
+     */
+    static long convert(ReadableByteChannel in, long length,
+                        WritableByteChannel out, Direction direction)
+            throws IOException {
+        ByteBuffer src = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        ByteBuffer dst = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        long numInvalidLines = 0;
+        long remaining = length;
+        boolean discarding = false;
+        
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            if (remaining < src.remaining()) {
+                src.limit(src.position() + (int) remaining);
+            }
+            int n = in.read(src);
+            if (n < 0 || (remaining -= Math.max(n, 0)) == 0) {
+                endOfInput = true;
+            }
+            src.limit(src.capacity());
+            
+            src.flip();
+            int lineStart = 0;
+            int end = src.limit();
+            for (int i = 0; i <= end; i++) {
+                // a line without a terminator ends the input, including one
+                // that is being discarded
+                if (i == end
+                        && !(endOfInput && (lineStart < end || discarding))) {
+                    break;
+                }
+                if (i < end && src.get(i) != '\n') {
+                    continue;
+                }
+                
+                if (dst.remaining() < RomanNumeralLines.MAX_CONVERTED_LENGTH) {
+                    writeFully(dst, out);
+                }
+                if (discarding
+                        || !RomanNumeralLines.convert(src, lineStart, i,
+                                                      direction, dst)) {
+                    discarding = false;
+                    dst.put((byte) '\n');
+                    numInvalidLines++;
+                }
+                lineStart = i + 1;
+            }
+            
+            src.position(Math.min(lineStart, end));
+            src.compact();
+            if (!src.hasRemaining()) {
+                // the line is longer than any valid line
+                discarding = true;
+                src.clear();
+            }
+        }
+        writeFully(dst, out);
+        return numInvalidLines;
+    }
+    
+    /**
+     * Converts lines from the specified file to the specified channel, by
+     * converting chunks of it in parallel.
+     *
+     * @param   file          the file to read lines from.
+     * @param   out           the channel to write converted lines to.
+     * @param   direction     which lines are converted.
+     * @param   executor      the executor to convert chunks with.
+     * @param   maxInFlight   the maximum number of chunks converted but not
+     *                        yet written, which bounds the memory used.
+     * @param   chunkSize     the approximate size of the chunks.
+     * @return  the number of lines that couldn't be converted.
+     * @throws  IOException   if an I/O error occurs.
+     */
+    static long convert(Path file, WritableByteChannel out,
+                        Direction direction, ExecutorService executor,
+                        int maxInFlight, long chunkSize)
+            throws IOException {
+        Deque<Chunk> chunks = new ArrayDeque<Chunk>(split(file, chunkSize));
+        Deque<Future<Converted>> inFlight = new ArrayDeque<Future<Converted>>();
+        long numInvalidLines = 0;
+        
+        try {
+            while (!chunks.isEmpty() || !inFlight.isEmpty()) {
+                while (!chunks.isEmpty() && inFlight.size() < maxInFlight) {
+                    Chunk chunk = chunks.poll();
+                    inFlight.add(executor.submit(
+                            () -> convert(chunk, direction)));
+                }
+                
+                Converted converted = get(inFlight.poll());
+                for (ByteBuffer buffer : converted.buffers) {
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                }
+                numInvalidLines += converted.numInvalidLines;
+            }
+        } finally {
+            for (Future<Converted> future : inFlight) {
+                future.cancel(true);
+            }
+        }
+        return numInvalidLines;
+    }
+    
+    /**
+     * Converts the specified chunk into memory.
+     */
+    private static Converted convert(Chunk chunk, Direction direction)
+            throws IOException {
+        Converted converted = new Converted();
+        try (FileChannel in = FileChannel.open(chunk.file)) {
+            in.position(chunk.start);
+            converted.numInvalidLines = convert(in, chunk.end - chunk.start,
+                                                converted, direction);
+        }
+        return converted;
+    }
+    
+    /**
+     * Splits the specified file into chunks of about the specified size that
+     * end at the end of a line.
+     */
+    private static List<Chunk> split(Path file, long chunkSize)
+            throws IOException {
+        List<Chunk> chunks = new ArrayList<Chunk>();
+        try (FileChannel in = FileChannel.open(file)) {
+            long size = in.size();
+            ByteBuffer buffer = ByteBuffer.allocate(8_192);
+            
+            long start = 0;
+            while (start < size) {
+                long end = Math.min(start + chunkSize, size);
+                while (end < size) {
+                    buffer.clear();
+                    int n = in.read(buffer, end);
+                    int newline = -1;
+                    for (int i = 0; i < n && newline < 0; i++) {
+                        if (buffer.get(i) == '\n') {
+                            newline = i;
+                        }
+                    }
+                    if (newline >= 0) {
+                        end += newline + 1;
+                        break;
+                    }
+                    end = n > 0 ? Math.min(end + n, size) : size;
+                }
+                
+                chunks.add(new Chunk(file, start, end));
+                start = end;
+            }
+        }
+        return chunks;
+    }
+    
+    private static void writeFully(ByteBuffer src, WritableByteChannel out)
+            throws IOException {
+        src.flip();
+        while (src.hasRemaining()) {
+            out.write(src);
+        }
+        src.clear();
+    }
+    
+    private static Converted get(Future<Converted> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException interruptedEx) {
+            Thread.currentThread().interrupt();
+            throw new IOException(interruptedEx);
+        } catch (ExecutionException executionEx) {
+            Throwable cause = executionEx.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * RomanNumeralCounter.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A mutable Roman numeral in standard form, for numbering things one after
+ * another, such as pages, sections or lines.
+ * <p>
+ * A {@code RomanNumeralCounter} keeps the symbols of its current numeral in
+ * a buffer as its thousands, hundreds, tens and ones, and, like an odometer,
+ * {@link #increment()} and {@link #decrement()} rewrite only the groups
+ * whose digit changed, usually just the ones. The symbols are read without
+ * copying through the {@code CharSequence} methods, such as
+ * {@code StringBuilder.append(counter)}, or written as ASCII bytes with
+ * {@link #writeTo(OutputStream)}:
+ * <blockquote><pre>
+ * RomanNumeralCounter page = new RomanNumeralCounter();
+ * for (...) {
+ *     out.append("Page ").append(page).append('\n');
+ *     page.increment();
+ * }
+ * </pre></blockquote>
+ * <p>
+ * A {@code RomanNumeralCounter} is not safe for use by multiple threads
+ * without external synchronization.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ * @see     RomanNumeral#toString(int)
+ */
+public final class RomanNumeralCounter implements CharSequence {
+    /**
+     * The number of digit groups of a Roman numeral in standard form:
+     * thousands, hundreds, tens and ones.
+     */
+    private static final int NUM_GROUPS = 4;
+    /**
+     * The value of a digit in each group, thousands first.
+     */
+    private static final int[] SCALES = {1_000, 100, 10, 1};
+    /**
+     * The symbols of each digit in each group, at index
+     * {@code group * 10 + digit} (eg. {@code "XL"} for the digit 4 in the
+     * tens group, 2). Digits the group can't hold are {@code null}.
+     */
+    private static final byte[][] groupSymbols = new byte[NUM_GROUPS * 10][];
+    static {
+        for (int group = 0; group < NUM_GROUPS; group++) {
+            int scale = SCALES[group];
+            groupSymbols[group * 10] = new byte[0];
+            for (int digit = 1; digit < 10; digit++) {
+                if (RomanNumeral.isValid(digit * scale)) {
+                    byte[] symbols = new byte[RomanNumeral.encodedLength(
+                            digit * scale)];
+                    RomanNumeral.getSymbols(digit * scale, symbols, 0);
+                    groupSymbols[group * 10 + digit] = symbols;
+                }
+            }
+        }
+    }
+    
+    /**
+     * The symbols of the current numeral, as ASCII bytes, from index 0 to
+     * {@link #length}.
+     */
+    private final byte[] symbols = new byte[RomanNumeral.MAX_SYMBOLS_LENGTH];
+    /**
+     * The index in {@link #symbols} each group starts at, thousands first.
+     */
+    private final int[] starts = new int[NUM_GROUPS];
+    private int value;
+    /**
+     * The ones digit of {@link #value}, and the index its symbols start at,
+     * copied out of the arrays so the common increment reads only fields.
+     */
+    private int ones;
+    private int onesStart;
+    private int length;
+    
+    /**
+     * Constructs a newly allocated {@code RomanNumeralCounter} at
+     * {@link RomanNumeral#MIN_VALUE}.
+     */
+    public RomanNumeralCounter() {
+        this(RomanNumeral.MIN_VALUE);
+    }
+    
+    /**
+     * Constructs a newly allocated {@code RomanNumeralCounter} at the
+     * specified {@code int} value.
+     *
+     * @param   value   the value of the Roman numeral in standard form to
+     *                  start at.
+     * @throws  IllegalArgumentException    if the {@code int} is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form.
+     */
+    public RomanNumeralCounter(int value) {
+        setValue(value);
+    }
+    
+    /**
+     * Returns the value of the current Roman numeral.
+     *
+     * @return  the value of the current Roman numeral.
+     */
+    public int getValue() {
+        return value;
+    }
+    
+    /**
+     * Sets the current Roman numeral to the one with the specified
+     * {@code int} value, rewriting all of its symbols.
+     *
+     * @param   value   the value of the Roman numeral in standard form.
+     * @throws  IllegalArgumentException    if the {@code int} is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form.
+     */
+    public void setValue(int value) {
+        if (!RomanNumeral.isValid(value)) {
+            throw new IllegalArgumentException("For input int: " + value);
+        }
+        
+        this.value = value;
+        rewrite(0);
+    }
+    
+    /**
+     * Increments the current Roman numeral by one, rewriting the symbols of
+     * the groups whose digit changed.
+     *
+     * @throws  ArithmeticException    if the current value is
+     *                                 {@link RomanNumeral#MAX_VALUE}.
+     */
+    public void increment() {
+        if (value == RomanNumeral.MAX_VALUE) {
+            throw new ArithmeticException("RomanNumeral overflow");
+        }
+        
+        value++;
+        if (ones != 9) {
+            rewriteOnes(ones + 1);
+        } else {
+            rewrite(changedGroup(value));
+        }
+    }
+    
+    /**
+     * Decrements the current Roman numeral by one, rewriting the symbols of
+     * the groups whose digit changed.
+     *
+     * @throws  ArithmeticException    if the current value is
+     *                                 {@link RomanNumeral#MIN_VALUE}.
+     */
+    public void decrement() {
+        if (value == RomanNumeral.MIN_VALUE) {
+            throw new ArithmeticException("RomanNumeral overflow");
+        }
+        
+        value--;
+        if (ones != 0) {
+            rewriteOnes(ones - 1);
+        } else {
+            rewrite(changedGroup(value + 1));
+        }
+    }
+    
+    /**
+     * Returns the current Roman numeral.
+     *
+     * @return  the {@code RomanNumeral} with the current value.
+     */
+    public RomanNumeral toNumeral() {
+        return RomanNumeral.of(value);
+    }
+    
+    /**
+     * Returns the number of symbols of the current Roman numeral.
+     *
+     * @return  the number of symbols of the current Roman numeral.
+     */
+    @Override
+    public int length() {
+        return length;
+    }
+    
+    /**
+     * Returns the symbol at the specified index of the current Roman
+     * numeral.
+     *
+     * @param   index   the index of the symbol.
+     * @return  the symbol at the specified index.
+     * @throws  IndexOutOfBoundsException   if {@code index} is negative or
+     *                                      not less than {@code length()}.
+     */
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("For input index: " + index);
+        }
+        return (char) symbols[index];
+    }
+    
+    /**
+     * Returns a {@code String} of the specified symbols of the current Roman
+     * numeral.
+     *
+     * @param   start   the index of the first symbol, inclusive.
+     * @param   end     the index of the last symbol, exclusive.
+     * @return  the symbols from {@code start} to {@code end}.
+     * @throws  IndexOutOfBoundsException   if {@code start} or {@code end}
+     *                                      is out of range, or
+     *                                      {@code start > end}.
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+    
+    /**
+     * Copies the symbols of the current Roman numeral into the specified
+     * array, as ASCII bytes.
+     *
+     * @param   dst      the array to copy the symbols into.
+     * @param   offset   the index in {@code dst} to copy the first symbol to.
+     * @return  the number of bytes copied, equal to {@code length()}.
+     * @throws  IndexOutOfBoundsException   if {@code dst} is too small.
+     */
+    public int getSymbols(byte[] dst, int offset) {
+        System.arraycopy(symbols, 0, dst, offset, length);
+        return length;
+    }
+    
+    /**
+     * Writes the symbols of the current Roman numeral to the specified
+     * stream, as ASCII bytes, straight from the buffer.
+     *
+     * @param   out   the stream to write the symbols to.
+     * @throws  IOException    if an I/O error occurs.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(symbols, 0, length);
+    }
+    
+    /**
+     * Returns a read-only view of the symbols of the current Roman numeral,
+     * as ASCII bytes. The view shares the buffer, so it is only valid until
+     * the counter next changes.
+     *
+     * @return  a read-only {@code ByteBuffer} of the current symbols.
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(symbols, 0, length).slice()
+                         .asReadOnlyBuffer();
+    }
+    
+    /**
+     * Returns a {@code String} of the symbols of the current Roman numeral.
+     *
+     * @return  the symbols of the current Roman numeral.
+     */
+    @Override
+    public String toString() {
+        return RomanNumeral.toString(value);
+    }
+    
+    /**
+     * Returns the highest group whose digit changes between
+     * {@code value - 1} and {@code value}, which is the lowest group whose
+     * digit isn't 0 in {@code value}, above the ones.
+     */
+    private static int changedGroup(int value) {
+        if (value % 100 != 0) {
+            return NUM_GROUPS - 2;
+        } else if (value % 1_000 != 0) {
+            return NUM_GROUPS - 3;
+        } else {
+            return NUM_GROUPS - 4;
+        }
+    }
+    
+    /**
+     * Rewrites the symbols of the specified group and every lower group from
+     * the digits of {@link #value}.
+     */
+    private void rewrite(int group) {
+        int end = starts[group];
+        for (int scale = SCALES[group]; scale > 1; scale /= 10) {
+            starts[group] = end;
+            end += copy(groupSymbols[group * 10 + value / scale % 10], end);
+            group++;
+        }
+        starts[group] = end;
+        onesStart = end;
+        rewriteOnes(value % 10);
+    }
+    
+    /**
+     * Rewrites the symbols of the ones group to those of the specified
+     * digit.
+     */
+    private void rewriteOnes(int digit) {
+        ones = digit;
+        length = onesStart + copy(
+                groupSymbols[(NUM_GROUPS - 1) * 10 + digit], onesStart);
+    }
+    
+    /**
+     * Copies the specified symbols into {@link #symbols} at the specified
+     * index, and returns the number of symbols copied.
+     */
+    private int copy(byte[] src, int start) {
+        // at most 4 symbols, too few for System.arraycopy to pay off
+        for (int i = 0; i < src.length; i++) {
+            symbols[start + i] = src[i];
+        }
+        return src.length;
+    }
+}
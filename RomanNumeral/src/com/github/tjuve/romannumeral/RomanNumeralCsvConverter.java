@@ -0,0 +1,680 @@
+/*
+ * RomanNumeralCsvConverter.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Converts columns of CSV files between Roman numerals in standard form and
+ * their values, streaming.
+ * <p>
+ * Records are separated by {@code "\n"}, {@code "\r\n"} or {@code "\r"},
+ * and fields by {@code ','}. A field may be quoted with {@code '"'}, in which
+ * case it may contain separators, and {@code '"'} as {@code "\"\""}; a
+ * {@code '"'} in a field that doesn't start with one is part of its contents.
+ * Everything but the
+ * cells of the converted columns is copied unchanged, including quotes and
+ * line separators. Converted cells are written unquoted.
+ * <p>
+ * A cell is converted from symbols to a value as by
+ * {@link RomanNumeral#valueOf(String)}, or from a value to symbols as by
+ * {@link RomanNumeral#toString(int)}. A cell that can't be converted is
+ * copied unchanged and reported to the {@link InvalidCellHandler}, instead of
+ * stopping the conversion.
+ * <p>
+ * Only one record at a time is held in memory, and only the cells of the
+ * converted columns; a cell of a converted column longer than
+ * {@link #MAX_CELL_LENGTH} is invalid and copied through as it is read.
+ * Instances of this class are immutable and may be shared between threads.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+public final class RomanNumeralCsvConverter {
+    /**
+     * A constant holding the maximum length of a cell of a converted column
+     * held in memory, 256.
+     */
+    public static final int MAX_CELL_LENGTH = 256;
+    
+    /**
+     * A constant holding the size of the chunks files are split into, to be
+     * converted in parallel.
+     */
+    static final long CHUNK_SIZE = 16L << 20;
+    
+    private static final int BUFFER_SIZE = 65_536;
+    
+    /**
+     * How cells are converted.
+     */
+    public enum Conversion {
+        /**
+         * From symbols to values, as by {@link RomanNumeral#valueOf(String)}.
+         */
+        TO_VALUES,
+        /**
+         * From values to symbols, as by {@link RomanNumeral#toString(int)}.
+         */
+        TO_NUMERALS
+    }
+    
+    /**
+     * Receives the cells that can't be converted.
+     */
+    @FunctionalInterface
+    public interface InvalidCellHandler {
+        /**
+         * Called for each cell that can't be converted. When converting in
+         * parallel, this is called from several threads at once, and not
+         * necessarily in the order of the records.
+         *
+         * @param   record   the number of the record, starting from 1
+         *                   (including a header).
+         * @param   column   the index of the column, starting from 0.
+         * @param   cell     the contents of the cell, unquoted, truncated
+         *                   to {@link #MAX_CELL_LENGTH}.
+         * @param   cause    why the cell can't be converted.
+         */
+        void invalidCell(long record, int column, String cell,
+                         IllegalArgumentException cause);
+    }
+    
+    private final boolean[] converted;
+    private final Conversion conversion;
+    private final boolean header;
+    private final InvalidCellHandler invalidCellHandler;
+    
+    /**
+     * Constructs a converter for the specified columns.
+     *
+     * @param   columns              the indexes of the columns to convert,
+     *                               starting from 0.
+     * @param   conversion           how cells are converted.
+     * @param   header               whether the first record is a header,
+     *                               which is copied unchanged.
+     * @param   invalidCellHandler   receives the cells that can't be
+     *                               converted.
+     * @throws  IllegalArgumentException    if any of the indexes is
+     *                                      negative.
+     */
+    public RomanNumeralCsvConverter(int[] columns, Conversion conversion,
+                                    boolean header,
+                                    InvalidCellHandler invalidCellHandler) {
+        int maxColumn = -1;
+        for (int column : columns) {
+            if (column < 0) {
+                throw new IllegalArgumentException(
+                        "For input column: " + column);
+            }
+            maxColumn = Math.max(maxColumn, column);
+        }
+        
+        this.converted = new boolean[maxColumn + 1];
+        for (int column : columns) {
+            converted[column] = true;
+        }
+        this.conversion = conversion;
+        this.header = header;
+        this.invalidCellHandler = invalidCellHandler;
+    }
+    
+    /**
+     * Converts the CSV read from the specified reader, writing it to the
+     * specified writer. Neither is closed.
+     *
+     * @param   in    the reader to read the CSV from.
+     * @param   out   the writer to write the converted CSV to.
+     * @return  the number of records.
+     * @throws  IOException   if an I/O error occurs.
+     */
+    public long convert(Reader in, Writer out) throws IOException {
+        return new Transformer(out, 1, header).transform(in);
+    }
+    
+    /**
+     * Converts the CSV in the specified file into the specified file, by
+     * splitting it into chunks of records and converting the chunks in
+     * parallel.
+     *
+     * @param   in           the file to read the CSV from.
+     * @param   out          the file to write the converted CSV to, which is
+     *                       replaced if it exists.
+     * @param   charset      the charset of both files, which must encode
+     *                       {@code '\n'}, {@code '\r'}, {@code ','} and
+     *                       {@code '"'} as in ASCII, and never as part of
+     *                       another character (eg. UTF-8).
+     * @param   numThreads   the number of threads to convert with.
+     * @return  the number of records.
+     * @throws  IOException   if an I/O error occurs.
+     */
+    public long convert(Path in, Path out, Charset charset, int numThreads)
+            throws IOException {
+        return convert(in, out, charset, numThreads, CHUNK_SIZE);
+    }
+    
+    /**
+     * Converts as {@link #convert(Path, Path, Charset, int)} does, with the
+     * specified approximate chunk size.
+     */
+    long convert(Path in, Path out, Charset charset, int numThreads,
+                 long chunkSize) throws IOException {
+        Deque<Chunk> chunks = new ArrayDeque<Chunk>(split(in, chunkSize));
+        Deque<Future<Path>> inFlight = new ArrayDeque<Future<Path>>();
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        
+        long numRecords = 0;
+        try (FileChannel outChannel = FileChannel.open(
+                out, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (!chunks.isEmpty() || !inFlight.isEmpty()) {
+                while (!chunks.isEmpty() && inFlight.size() < 2 * numThreads) {
+                    Chunk chunk = chunks.poll();
+                    numRecords += chunk.numRecords;
+                    inFlight.add(executor.submit(
+                            () -> convert(in, chunk, charset)));
+                }
+                
+                Path converted = get(inFlight.poll());
+                try (FileChannel convertedChannel
+                        = FileChannel.open(converted)) {
+                    long size = convertedChannel.size();
+                    for (long position = 0; position < size;) {
+                        position += convertedChannel.transferTo(
+                                position, size - position, outChannel);
+                    }
+                } finally {
+                    Files.deleteIfExists(converted);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            for (Future<Path> future : inFlight) {
+                try {
+                    Files.deleteIfExists(get(future));
+                } catch (IOException | RuntimeException ex) {
+                    // already failed or cancelled
+                }
+            }
+        }
+        return numRecords;
+    }
+    
+    /**
+     * Converts the specified chunk of the specified file into a new
+     * temporary file.
+     */
+    private Path convert(Path in, Chunk chunk, Charset charset)
+            throws IOException {
+        Path converted = Files.createTempFile(getClass().getSimpleName(),
+                                              null);
+        try (FileChannel inChannel = FileChannel.open(in);
+             Writer out = new BufferedWriter(
+                     new OutputStreamWriter(
+                             Files.newOutputStream(converted), charset),
+                     BUFFER_SIZE)) {
+            Reader reader = new InputStreamReader(
+                    new ChunkInputStream(inChannel, chunk.start, chunk.end),
+                    charset);
+            new Transformer(out, chunk.firstRecord, header && chunk.start == 0)
+                    .transform(reader);
+            return converted;
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(converted);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Splits the specified file into chunks of whole records of about the
+     * specified size.
+     */
+    private static List<Chunk> split(Path file, long chunkSize)
+            throws IOException {
+        Splitter splitter = new Splitter(chunkSize);
+        try (FileChannel in = FileChannel.open(file)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            long position = 0;
+            int n;
+            while ((n = in.read(buffer)) >= 0) {
+                for (int i = 0; i < n; i++) {
+                    splitter.accept(buffer.get(i), position + i);
+                }
+                position += n;
+                buffer.clear();
+            }
+            return splitter.finish(position);
+        }
+    }
+    
+    private static Path get(Future<Path> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException interruptedEx) {
+            Thread.currentThread().interrupt();
+            throw new IOException(interruptedEx);
+        } catch (ExecutionException executionEx) {
+            Throwable cause = executionEx.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+    
+    /**
+     * A range of whole records of a file.
+     */
+    private static final class Chunk {
+        private final long start;
+        private final long end;
+        /**
+         * The number of the first record in the chunk, starting from 1.
+         */
+        private final long firstRecord;
+        private final long numRecords;
+        
+        private Chunk(long start, long end, long firstRecord,
+                      long numRecords) {
+            this.start = start;
+            this.end = end;
+            this.firstRecord = firstRecord;
+            this.numRecords = numRecords;
+        }
+    }
+    
+    /**
+     * Finds the ends of records in the bytes of a file, with the states of
+     * {@code Transformer}, so the chunks end exactly where it ends records.
+     */
+    private static final class Splitter {
+        private final long chunkSize;
+        private final List<Chunk> chunks = new ArrayList<Chunk>();
+        private int state = Transformer.FIELD_START;
+        private long start;
+        private long firstRecord = 1;
+        private long numRecords;
+        /**
+         * The position after the end of the last record.
+         */
+        private long recordEnd;
+        
+        private Splitter(long chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+        
+        /**
+         * Accepts the byte at the specified position, as
+         * {@code Transformer.accept} accepts a character.
+         */
+        private void accept(byte b, long position) {
+            if (state == Transformer.CARRIAGE_RETURN) {
+                if (b == '\n') {
+                    endRecord(position + 1);
+                    return;
+                }
+                // the carriage return was a record separator on its own
+                endRecord(position);
+            } else if (state == Transformer.QUOTE) {
+                if (b == '"') {
+                    // escaped quote
+                    state = Transformer.QUOTED;
+                    return;
+                }
+                state = Transformer.UNQUOTED;
+            }
+            
+            if (state == Transformer.QUOTED) {
+                if (b == '"') {
+                    state = Transformer.QUOTE;
+                }
+            } else if (state == Transformer.FIELD_START && b == '"') {
+                state = Transformer.QUOTED;
+            } else if (b == ',') {
+                state = Transformer.FIELD_START;
+            } else if (b == '\n') {
+                endRecord(position + 1);
+            } else if (b == '\r') {
+                state = Transformer.CARRIAGE_RETURN;
+            } else {
+                state = Transformer.UNQUOTED;
+            }
+        }
+        
+        private void endRecord(long end) {
+            state = Transformer.FIELD_START;
+            numRecords++;
+            recordEnd = end;
+            if (end - start >= chunkSize) {
+                chunks.add(new Chunk(start, end, firstRecord, numRecords));
+                start = end;
+                firstRecord += numRecords;
+                numRecords = 0;
+            }
+        }
+        
+        /**
+         * Ends the last record, if any, at the specified size of the file,
+         * and returns the chunks.
+         */
+        private List<Chunk> finish(long size) {
+            if (recordEnd < size) {
+                numRecords++;
+            }
+            if (start < size) {
+                chunks.add(new Chunk(start, size, firstRecord, numRecords));
+            }
+            return chunks;
+        }
+    }
+    
+    /**
+     * Reads a range of a file, without changing the position of its
+     * channel.
+     */
+    private static final class ChunkInputStream extends InputStream {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private long position;
+        private final long end;
+        
+        private ChunkInputStream(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.position = start;
+            this.end = end;
+            buffer.limit(0);
+        }
+        
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return buffer.get() & 0xFF;
+        }
+        
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+        
+        private boolean fill() throws IOException {
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+            if (position >= end) {
+                return false;
+            }
+            
+            buffer.clear();
+            if (end - position < buffer.capacity()) {
+                buffer.limit((int) (end - position));
+            }
+            int n = channel.read(buffer, position);
+            buffer.flip();
+            if (n <= 0) {
+                return false;
+            }
+            position += n;
+            return true;
+        }
+    }
+    
+    /**
+     * Converts one stream of records.
+     */
+    private final class Transformer {
+        private static final int FIELD_START = 0;
+        private static final int UNQUOTED = 1;
+        private static final int QUOTED = 2;
+        /**
+         * After a {@code '"'} inside quotes, which either ends the quotes or
+         * escapes another {@code '"'}.
+         */
+        private static final int QUOTE = 3;
+        /**
+         * After an unquoted {@code '\r'}, which ends the record if followed
+         * by {@code '\n'}.
+         */
+        private static final int CARRIAGE_RETURN = 4;
+        
+        private final Writer out;
+        private int state = FIELD_START;
+        /**
+         * The number of the current record, starting from 1.
+         */
+        private long record;
+        private int column;
+        private boolean skipping;
+        /**
+         * Whether the current record has any characters yet.
+         */
+        private boolean started;
+        
+        /**
+         * Whether the current cell is of a converted column.
+         */
+        private boolean converting;
+        /**
+         * Whether the current cell is longer than {@code MAX_CELL_LENGTH},
+         * and is being copied through.
+         */
+        private boolean overflowed;
+        /**
+         * The current cell as read, including quotes.
+         */
+        private final StringBuilder raw = new StringBuilder();
+        /**
+         * The contents of the current cell, unquoted.
+         */
+        private final StringBuilder cell = new StringBuilder();
+        
+        private Transformer(Writer out, long firstRecord, boolean header) {
+            this.out = out;
+            this.record = firstRecord;
+            this.skipping = header;
+            startField();
+        }
+        
+        /**
+         * Converts every record from the specified reader.
+         *
+         * @return  the number of records.
+         */
+        private long transform(Reader in) throws IOException {
+            long firstRecord = record;
+            char[] buffer = new char[BUFFER_SIZE];
+            int n;
+            while ((n = in.read(buffer)) >= 0) {
+                for (int i = 0; i < n; i++) {
+                    accept(buffer[i]);
+                }
+            }
+            
+            if (state == CARRIAGE_RETURN) {
+                endRecord();
+            } else if (started) {
+                endField();
+                endRecord();
+            }
+            out.flush();
+            return record - firstRecord;
+        }
+        
+        private void accept(char c) throws IOException {
+            started = true;
+            if (state == CARRIAGE_RETURN) {
+                if (c == '\n') {
+                    out.write(c);
+                    endRecord();
+                    return;
+                }
+                // the carriage return was a record separator on its own
+                endRecord();
+                started = true;
+            } else if (state == QUOTE) {
+                if (c == '"') {
+                    // escaped quote
+                    append(c, true);
+                    state = QUOTED;
+                    return;
+                }
+                state = UNQUOTED;
+            }
+            
+            switch (state) {
+                case FIELD_START:
+                    if (c == '"') {
+                        append(c, false);
+                        state = QUOTED;
+                    } else {
+                        state = UNQUOTED;
+                        acceptUnquoted(c);
+                    }
+                    break;
+                case UNQUOTED:
+                    acceptUnquoted(c);
+                    break;
+                case QUOTED:
+                    if (c == '"') {
+                        append(c, false);
+                        state = QUOTE;
+                    } else {
+                        append(c, true);
+                    }
+                    break;
+                default:
+                    throw new AssertionError(state);
+            }
+        }
+        
+        private void acceptUnquoted(char c) throws IOException {
+            if (c == ',') {
+                endField();
+                out.write(c);
+                column++;
+                startField();
+                state = FIELD_START;
+            } else if (c == '\n') {
+                endField();
+                out.write(c);
+                endRecord();
+            } else if (c == '\r') {
+                endField();
+                out.write(c);
+                state = CARRIAGE_RETURN;
+            } else {
+                append(c, true);
+            }
+        }
+        
+        /**
+         * Appends a character of the current cell, which is part of its
+         * contents if {@code content}, or else only of its quoting.
+         */
+        private void append(char c, boolean content) throws IOException {
+            if (!converting || overflowed) {
+                out.write(c);
+                return;
+            }
+            
+            raw.append(c);
+            if (content) {
+                cell.append(c);
+            }
+            if (raw.length() > MAX_CELL_LENGTH) {
+                overflowed = true;
+                out.append(raw);
+            }
+        }
+        
+        private void startField() {
+            converting = !skipping && column < converted.length
+                         && converted[column];
+            overflowed = false;
+            raw.setLength(0);
+            cell.setLength(0);
+        }
+        
+        private void endField() throws IOException {
+            if (!converting) {
+                return;
+            }
+            String contents = cell.toString();
+            if (overflowed) {
+                invalidCellHandler.invalidCell(
+                        record, column,
+                        contents.substring(0, Math.min(contents.length(),
+                                                       MAX_CELL_LENGTH)),
+                        new IllegalArgumentException("Cell too long"));
+                return;
+            }
+            
+            try {
+                switch (conversion) {
+                    case TO_VALUES:
+                        out.write(Integer.toString(
+                                RomanNumeral.valueOf(contents)));
+                        break;
+                    case TO_NUMERALS:
+                        out.write(RomanNumeral.toString(
+                                Integer.parseInt(contents)));
+                        break;
+                    default:
+                        throw new AssertionError(conversion);
+                }
+            } catch (IllegalArgumentException illegalArgumentEx) {
+                invalidCellHandler.invalidCell(record, column, contents,
+                                               illegalArgumentEx);
+                out.append(raw);
+            }
+            // so a record separator after it doesn't convert it again
+            converting = false;
+        }
+        
+        private void endRecord() {
+            record++;
+            column = 0;
+            skipping = false;
+            started = false;
+            state = FIELD_START;
+            startField();
+        }
+    }
+}
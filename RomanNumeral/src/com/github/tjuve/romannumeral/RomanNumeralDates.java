@@ -0,0 +1,125 @@
+/*
+ * RomanNumeralDates.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalField;
+import java.time.temporal.ValueRange;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Formatters that print and parse the fields of dates as Roman numerals in
+ * standard form, such as {@code XVI.X.MMXXVI} for 16 October 2026.
+ * <p>
+ * Each field is added to a {@code DateTimeFormatterBuilder} as text, mapped
+ * from every value of the field a Roman numeral in standard form can
+ * represent to its symbols, so printing appends a {@code String} precomputed
+ * when the formatter was built, and parsing matches the longest symbols. Like
+ * every {@code DateTimeFormatter}, the formatters are immutable and can be
+ * shared by any number of threads:
+ * <blockquote><pre>
+ * DateTimeFormatter formatter = RomanNumeralDates.appendRomanNumeral(
+ *         new DateTimeFormatterBuilder().appendLiteral("Anno "),
+ *         ChronoField.YEAR_OF_ERA).toFormatter();
+ * formatter.format(LocalDate.of(2026, 10, 16)); // "Anno MMXXVI"
+ * </pre></blockquote>
+ * <p>
+ * A value a Roman numeral in standard form can't represent, such as the year
+ * 4000, or the hour 0, is printed in decimal digits instead, and parsed from
+ * them only when parsing is lenient, as by
+ * {@link DateTimeFormatterBuilder#appendText(TemporalField, Map)}.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ * @see     RomanNumeral#toString(int)
+ */
+public final class RomanNumeralDates {
+    /**
+     * A formatter of the year, such as {@code MMXXVI}.
+     */
+    public static final DateTimeFormatter YEAR = appendRomanNumeral(
+            new DateTimeFormatterBuilder(), ChronoField.YEAR)
+            .toFormatter(Locale.ROOT)
+            .withResolverStyle(ResolverStyle.STRICT)
+            .withChronology(IsoChronology.INSTANCE);
+    /**
+     * A formatter of the day of month, month of year and year, separated by
+     * {@code '.'}, such as {@code XVI.X.MMXXVI}. Dates that don't exist,
+     * such as {@code XXX.II.MMXXVI}, aren't parsed.
+     */
+    public static final DateTimeFormatter DAY_MONTH_YEAR;
+    static {
+        DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+        appendRomanNumeral(builder, ChronoField.DAY_OF_MONTH);
+        builder.appendLiteral('.');
+        appendRomanNumeral(builder, ChronoField.MONTH_OF_YEAR);
+        builder.appendLiteral('.');
+        appendRomanNumeral(builder, ChronoField.YEAR);
+        DAY_MONTH_YEAR = builder.toFormatter(Locale.ROOT)
+                                .withResolverStyle(ResolverStyle.STRICT)
+                                .withChronology(IsoChronology.INSTANCE);
+    }
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralDates() {
+    }
+    
+    /**
+     * Appends the specified field, printed and parsed as a Roman numeral in
+     * standard form, to the specified builder.
+     * <p>
+     * The field is appended with
+     * {@link DateTimeFormatterBuilder#appendText(TemporalField, Map)}, which
+     * has costs that grow with the range of the field. Printing looks the
+     * value up in a map keyed by {@code Long}, boxing values above 127, such
+     * as most years. Parsing tries the symbols of every value in turn,
+     * longest first, so parsing a year compares the text with up to 3999
+     * symbols. To parse many numerals on their own, such as a column of
+     * years, {@link RomanNumeral#valueOf(String)} is much faster.
+     *
+     * @param   builder   the builder to append the field to.
+     * @param   field     the field to append.
+     * @return  {@code builder}.
+     * @throws  IllegalArgumentException    if no value of {@code field} is
+     *                                      representable by a Roman numeral
+     *                                      in standard form.
+     */
+    public static DateTimeFormatterBuilder appendRomanNumeral(
+            DateTimeFormatterBuilder builder, TemporalField field) {
+        return builder.appendText(field, symbolsOf(field));
+    }
+    
+    /**
+     * Returns a map from each value of the specified field that a Roman
+     * numeral in standard form can represent to its symbols.
+     */
+    private static Map<Long, String> symbolsOf(TemporalField field) {
+        ValueRange range = field.range();
+        long min = Math.max(range.getMinimum(), RomanNumeral.MIN_VALUE);
+        long max = Math.min(range.getMaximum(), RomanNumeral.MAX_VALUE);
+        if (min > max) {
+            throw new IllegalArgumentException(
+                    "For input TemporalField: " + field);
+        }
+        
+        int size = (int) (max - min + 1);
+        Map<Long, String> symbols = new HashMap<Long, String>(size * 4 / 3 + 1);
+        for (long value = min; value <= max; value++) {
+            symbols.put(value, RomanNumeral.toString((int) value));
+        }
+        return symbols;
+    }
+}
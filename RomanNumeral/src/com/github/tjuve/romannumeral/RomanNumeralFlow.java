@@ -0,0 +1,623 @@
+/*
+ * RomanNumeralFlow.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Reactive processors that convert streams of Roman numerals in standard form
+ * and their values, with backpressure.
+ * <p>
+ * The interfaces of this class have the same methods, and the same contracts,
+ * as the interfaces of {@code java.util.concurrent.Flow}, which isn't
+ * available on the Java 8 platform this class supports. On Java 9 and
+ * later, {@code com.github.tjuve.romannumeral.flow.RomanNumeralFlowAdapters},
+ * in the {@code RomanNumeral9} project, adapts them to and from the
+ * {@code Flow} interfaces, so the processors can be linked with any
+ * {@code Flow.Publisher} and {@code Flow.Subscriber}.
+ * <p>
+ * Items that can't be converted don't terminate the stream. They are
+ * delivered, together with the exception that converting them threw, to the
+ * subscriber of the processor's {@link ConversionProcessor#invalidItems()
+ * invalid items}, or dropped if there is none.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+public final class RomanNumeralFlow {
+    /**
+     * A constant holding the default number of items requested from the
+     * upstream publisher at a time, 256.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    
+    /**
+     * A producer of items received by subscribers.
+     *
+     * @param   <T>   the type of the published items.
+     */
+    @FunctionalInterface
+    public interface Publisher<T> {
+        /**
+         * Adds the specified subscriber.
+         *
+         * @param   subscriber   the subscriber.
+         * @throws  NullPointerException   if {@code subscriber} is
+         *                                 {@code null}.
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+    
+    /**
+     * A receiver of items.
+     *
+     * @param   <T>   the type of the received items.
+     */
+    public interface Subscriber<T> {
+        /**
+         * Called before any other method, with the subscription the
+         * subscriber requests items through.
+         *
+         * @param   subscription   the new subscription.
+         */
+        void onSubscribe(Subscription subscription);
+        
+        /**
+         * Called with the next requested item.
+         *
+         * @param   item   the item.
+         */
+        void onNext(T item);
+        
+        /**
+         * Called when the subscription has terminated with an error. No
+         * other method is called after it.
+         *
+         * @param   throwable   the error.
+         */
+        void onError(Throwable throwable);
+        
+        /**
+         * Called when the subscription has completed. No other method is
+         * called after it.
+         */
+        void onComplete();
+    }
+    
+    /**
+     * Links a publisher and a subscriber.
+     */
+    public interface Subscription {
+        /**
+         * Adds the specified number of items to the unfulfilled demand of
+         * this subscription.
+         *
+         * @param   n   the number of items, which should be positive.
+         */
+        void request(long n);
+        
+        /**
+         * Stops the subscriber from receiving more items.
+         */
+        void cancel();
+    }
+    
+    /**
+     * A component that is both a subscriber and a publisher.
+     *
+     * @param   <T>   the type of the received items.
+     * @param   <R>   the type of the published items.
+     */
+    public interface Processor<T, R> extends Subscriber<T>, Publisher<R> {
+    }
+    
+    /**
+     * An item that couldn't be converted.
+     *
+     * @param   <T>   the type of the item.
+     */
+    public static final class InvalidItem<T> {
+        private final T item;
+        private final IllegalArgumentException cause;
+        
+        private InvalidItem(T item, IllegalArgumentException cause) {
+            this.item = item;
+            this.cause = cause;
+        }
+        
+        /**
+         * Returns the item that couldn't be converted.
+         *
+         * @return  the item.
+         */
+        public T getItem() {
+            return item;
+        }
+        
+        /**
+         * Returns the exception converting the item threw.
+         *
+         * @return  the exception.
+         */
+        public IllegalArgumentException getCause() {
+            return cause;
+        }
+        
+        @Override
+        public String toString() {
+            return cause.getMessage();
+        }
+    }
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralFlow() {
+    }
+    
+    /**
+     * Returns a new processor converting symbols to their values, as by
+     * {@link RomanNumeral#valueOf(String)}, that delivers items with the
+     * {@link ForkJoinPool#commonPool() common pool} and requests
+     * {@link #DEFAULT_BATCH_SIZE} items at a time.
+     *
+     * @return  a new processor converting symbols to their values.
+     */
+    public static ConversionProcessor<String, Integer> toValues() {
+        return toValues(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+    
+    /**
+     * Returns a new processor converting symbols to their values, as by
+     * {@link RomanNumeral#valueOf(String)}.
+     *
+     * @param   executor    the executor delivering items to subscribers.
+     * @param   batchSize   the number of items requested from the upstream
+     *                      publisher at a time.
+     * @return  a new processor converting symbols to their values.
+     * @throws  IllegalArgumentException    if {@code batchSize} is not
+     *                                      positive.
+     */
+    public static ConversionProcessor<String, Integer> toValues(
+            Executor executor, int batchSize) {
+        return new ConversionProcessor<String, Integer>(
+                RomanNumeral::valueOf, executor, batchSize);
+    }
+    
+    /**
+     * Returns a new processor converting ASCII symbols, from the position to
+     * the limit of each buffer, to their values, that delivers items with
+     * the {@link ForkJoinPool#commonPool() common pool} and requests
+     * {@link #DEFAULT_BATCH_SIZE} items at a time.
+     * <p>
+     * The buffers are read in place, without changing their position or
+     * limit.
+     *
+     * @return  a new processor converting ASCII symbols to their values.
+     */
+    public static ConversionProcessor<ByteBuffer, Integer> bytesToValues() {
+        return bytesToValues(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+    
+    /**
+     * Returns a new processor converting ASCII symbols, from the position to
+     * the limit of each buffer, to their values.
+     * <p>
+     * The buffers are read in place, without changing their position or
+     * limit.
+     *
+     * @param   executor    the executor delivering items to subscribers.
+     * @param   batchSize   the number of items requested from the upstream
+     *                      publisher at a time.
+     * @return  a new processor converting ASCII symbols to their values.
+     * @throws  IllegalArgumentException    if {@code batchSize} is not
+     *                                      positive.
+     */
+    public static ConversionProcessor<ByteBuffer, Integer> bytesToValues(
+            Executor executor, int batchSize) {
+        return new ConversionProcessor<ByteBuffer, Integer>(
+                RomanNumeralFlow::valueOf, executor, batchSize);
+    }
+    
+    /**
+     * Returns a new processor converting values to their symbols, as by
+     * {@link RomanNumeral#toString(int)}, that delivers items with the
+     * {@link ForkJoinPool#commonPool() common pool} and requests
+     * {@link #DEFAULT_BATCH_SIZE} items at a time.
+     *
+     * @return  a new processor converting values to their symbols.
+     */
+    public static ConversionProcessor<Integer, String> toSymbols() {
+        return toSymbols(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+    
+    /**
+     * Returns a new processor converting values to their symbols, as by
+     * {@link RomanNumeral#toString(int)}.
+     *
+     * @param   executor    the executor delivering items to subscribers.
+     * @param   batchSize   the number of items requested from the upstream
+     *                      publisher at a time.
+     * @return  a new processor converting values to their symbols.
+     * @throws  IllegalArgumentException    if {@code batchSize} is not
+     *                                      positive.
+     */
+    public static ConversionProcessor<Integer, String> toSymbols(
+            Executor executor, int batchSize) {
+        return new ConversionProcessor<Integer, String>(
+                RomanNumeral::toString, executor, batchSize);
+    }
+    
+    private static Integer valueOf(ByteBuffer symbols) {
+        int value = RomanNumeral.indexOf(symbols, symbols.position(),
+                                         symbols.limit());
+        if (value == 0) {
+            // throws NumberFormatException
+            byte[] bytes = new byte[symbols.remaining()];
+            symbols.duplicate().get(bytes);
+            return RomanNumeral.valueOf(
+                    new String(bytes, StandardCharsets.US_ASCII));
+        }
+        return value;
+    }
+    
+    /**
+     * A processor that converts each item it receives, and publishes the
+     * converted items in order to one subscriber, and the items that can't
+     * be converted to one subscriber of its {@link #invalidItems() invalid
+     * items}.
+     * <p>
+     * Items are requested from the upstream publisher in batches, while the
+     * subscriber has unfulfilled demand, and converted and delivered by
+     * tasks run on the processor's executor, never on the thread of the
+     * publisher or the subscriber. At most one task runs at a time.
+     * <p>
+     * Invalid items don't consume demand. At most the batch size of invalid
+     * items waiting for demand of their subscriber are held; while that many
+     * are held, no more items are converted.
+     * <p>
+     * An error from the upstream publisher, or a non-positive request, is
+     * delivered to both subscribers immediately; completion is delivered
+     * after all received items have been delivered.
+     *
+     * @param   <T>   the type of the received items.
+     * @param   <R>   the type of the converted items.
+     */
+    public static final class ConversionProcessor<T, R>
+            implements Processor<T, R> {
+        private final Function<? super T, ? extends R> conversion;
+        private final Executor executor;
+        private final int batchSize;
+        
+        private final Queue<T> received = new ConcurrentLinkedQueue<T>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicLong invalidDemand = new AtomicLong();
+        
+        private volatile Subscription upstream;
+        private volatile Subscriber<? super R> downstream;
+        private volatile Subscriber<? super InvalidItem<T>> invalidDownstream;
+        private volatile boolean done;
+        private volatile Throwable error;
+        private volatile boolean cancelled;
+        private volatile boolean invalidCancelled;
+        
+        // only accessed by the delivering task
+        private final Queue<InvalidItem<T>> invalid
+                = new ArrayDeque<InvalidItem<T>>();
+        private boolean started;
+        private boolean invalidStarted;
+        private boolean terminated;
+        private boolean invalidTerminated;
+        private long requested;
+        private long consumed;
+        
+        private ConversionProcessor(
+                Function<? super T, ? extends R> conversion,
+                Executor executor, int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException(
+                        "For input int: " + batchSize);
+            }
+            this.conversion = conversion;
+            this.executor = Objects.requireNonNull(executor);
+            this.batchSize = batchSize;
+        }
+        
+        /**
+         * Returns the publisher of the items this processor couldn't
+         * convert. It accepts one subscriber; items received before it is
+         * subscribed are dropped.
+         *
+         * @return  the publisher of the invalid items.
+         */
+        public Publisher<InvalidItem<T>> invalidItems() {
+            return subscriber -> {
+                Objects.requireNonNull(subscriber);
+                synchronized (this) {
+                    if (invalidDownstream == null) {
+                        invalidDownstream = subscriber;
+                        subscriber = null;
+                    }
+                }
+                if (subscriber != null) {
+                    reject(subscriber);
+                } else {
+                    signal();
+                }
+            };
+        }
+        
+        /**
+         * {@inheritDoc}
+         * <p>
+         * A processor accepts one subscriber; any other is immediately
+         * completed with an {@code IllegalStateException}.
+         */
+        @Override
+        public void subscribe(Subscriber<? super R> subscriber) {
+            Objects.requireNonNull(subscriber);
+            synchronized (this) {
+                if (downstream == null) {
+                    downstream = subscriber;
+                    subscriber = null;
+                }
+            }
+            if (subscriber != null) {
+                reject(subscriber);
+            } else {
+                signal();
+            }
+        }
+        
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            Objects.requireNonNull(subscription);
+            boolean accepted = false;
+            synchronized (this) {
+                if (upstream == null && !cancelled) {
+                    upstream = subscription;
+                    accepted = true;
+                }
+            }
+            if (accepted) {
+                signal();
+            } else {
+                subscription.cancel();
+            }
+        }
+        
+        @Override
+        public void onNext(T item) {
+            received.offer(Objects.requireNonNull(item));
+            signal();
+        }
+        
+        @Override
+        public void onError(Throwable throwable) {
+            error = Objects.requireNonNull(throwable);
+            done = true;
+            signal();
+        }
+        
+        @Override
+        public void onComplete() {
+            done = true;
+            signal();
+        }
+        
+        private static void reject(Subscriber<?> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+                
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException(
+                    "Already subscribed"));
+        }
+        
+        private void request(AtomicLong demand, long n) {
+            if (n <= 0) {
+                cancelUpstream();
+                error = new IllegalArgumentException("For input long: " + n);
+                done = true;
+            } else {
+                long current;
+                long next;
+                do {
+                    current = demand.get();
+                    next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (!demand.compareAndSet(current, next));
+            }
+            signal();
+        }
+        
+        private void cancelUpstream() {
+            Subscription subscription;
+            synchronized (this) {
+                cancelled = true;
+                subscription = upstream;
+            }
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+        
+        /**
+         * Schedules the delivering task, unless it's running, in which case
+         * it runs once more.
+         */
+        private void signal() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this::deliver);
+            }
+        }
+        
+        private void deliver() {
+            int missed = 1;
+            do {
+                try {
+                    deliverOnce();
+                } catch (RuntimeException e) {
+                    // a subscriber threw, which it must not
+                    cancelUpstream();
+                    received.clear();
+                    invalid.clear();
+                    terminated = true;
+                    invalidTerminated = true;
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+        
+        private void deliverOnce() {
+            Subscriber<? super R> subscriber = downstream;
+            if (subscriber != null && !started) {
+                started = true;
+                subscriber.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(long n) {
+                        ConversionProcessor.this.request(demand, n);
+                    }
+                    
+                    @Override
+                    public void cancel() {
+                        cancelUpstream();
+                        signal();
+                    }
+                });
+            }
+            Subscriber<? super InvalidItem<T>> invalidSubscriber
+                    = invalidDownstream;
+            if (invalidSubscriber != null && !invalidStarted) {
+                invalidStarted = true;
+                invalidSubscriber.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(long n) {
+                        ConversionProcessor.this.request(invalidDemand, n);
+                    }
+                    
+                    @Override
+                    public void cancel() {
+                        invalidCancelled = true;
+                        signal();
+                    }
+                });
+            }
+            
+            if (cancelled && error == null) {
+                received.clear();
+                invalid.clear();
+                if (invalidStarted && !invalidTerminated) {
+                    invalidTerminated = true;
+                    invalidSubscriber.onComplete();
+                }
+                return;
+            }
+            
+            Throwable e = error;
+            if (e != null) {
+                received.clear();
+                invalid.clear();
+                if (started && !terminated) {
+                    terminated = true;
+                    subscriber.onError(e);
+                }
+                if (invalidStarted && !invalidTerminated) {
+                    invalidTerminated = true;
+                    invalidSubscriber.onError(e);
+                }
+                return;
+            }
+            
+            deliverInvalid(invalidSubscriber);
+            if (started) {
+                while (demand.get() > 0 && invalid.size() < batchSize
+                        && !cancelled) {
+                    T item = received.poll();
+                    if (item == null) {
+                        break;
+                    }
+                    consumed++;
+                    
+                    R result;
+                    try {
+                        result = conversion.apply(item);
+                    } catch (IllegalArgumentException cause) {
+                        if (invalidStarted && !invalidCancelled) {
+                            invalid.offer(new InvalidItem<T>(item, cause));
+                            deliverInvalid(invalidSubscriber);
+                        }
+                        continue;
+                    }
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    subscriber.onNext(result);
+                }
+            }
+            
+            if (done && received.isEmpty()) {
+                if (started && !terminated) {
+                    terminated = true;
+                    subscriber.onComplete();
+                }
+                if (invalidStarted && !invalidTerminated && invalid.isEmpty()) {
+                    invalidTerminated = true;
+                    invalidSubscriber.onComplete();
+                }
+            } else {
+                requestUpstream();
+            }
+        }
+        
+        private void deliverInvalid(
+                Subscriber<? super InvalidItem<T>> invalidSubscriber) {
+            if (invalidCancelled) {
+                invalid.clear();
+                return;
+            }
+            while (invalidDemand.get() > 0 && !invalid.isEmpty()) {
+                if (invalidDemand.get() != Long.MAX_VALUE) {
+                    invalidDemand.decrementAndGet();
+                }
+                invalidSubscriber.onNext(invalid.poll());
+            }
+        }
+        
+        /**
+         * Requests another batch from the upstream publisher if the
+         * subscriber has unfulfilled demand, and at most half a batch is
+         * requested but not yet delivered.
+         */
+        private void requestUpstream() {
+            Subscription subscription = upstream;
+            long outstanding = requested - consumed;
+            if (subscription != null && demand.get() > 0
+                    && outstanding <= batchSize / 2) {
+                long n = batchSize - outstanding;
+                requested += n;
+                subscription.request(n);
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * RomanNumeralFormat.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.io.ObjectStreamException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.FieldPosition;
+import java.text.Format;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+
+/**
+ * A {@code Format} for Roman numerals in standard form, such as in a
+ * {@code MessageFormat}.
+ * <p>
+ * {@code RomanNumeralFormat} formats a {@code RomanNumeral}, or a
+ * {@code Number} with an integral value that a Roman numeral in standard form
+ * can represent, as its symbols, and parses symbols to a
+ * {@code RomanNumeral}:
+ * <blockquote><pre>
+ * MessageFormat format = new MessageFormat("Chapter {0}");
+ * format.setFormatByArgumentIndex(0, RomanNumeralFormat.getInstance());
+ * format.format(new Object[] {14}); // "Chapter XIV"
+ * </pre></blockquote>
+ * <p>
+ * Unlike most formats, a {@code RomanNumeralFormat} is immutable, so a single
+ * instance can be shared by any number of threads. Symbols are appended
+ * straight from the precomputed tables of {@code RomanNumeral}, and parsed in
+ * place, without creating any {@code String}.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ * @see     RomanNumeral
+ */
+public final class RomanNumeralFormat extends Format {
+    private static final long serialVersionUID = 1L;
+    
+    /**
+     * The only instance, since every instance behaves the same.
+     */
+    private static final RomanNumeralFormat INSTANCE
+            = new RomanNumeralFormat();
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralFormat() {
+    }
+    
+    /**
+     * Returns a {@code RomanNumeralFormat}.
+     *
+     * @return  a {@code RomanNumeralFormat}, which can be shared.
+     */
+    public static RomanNumeralFormat getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Formats a {@code RomanNumeral}, or a {@code Number} with an integral
+     * value, and appends its symbols to the specified buffer.
+     * <p>
+     * If the field of {@code pos} is {@link NumberFormat#INTEGER_FIELD}, or
+     * its field attribute is {@link NumberFormat.Field#INTEGER}, its begin
+     * and end indexes are set to those of the symbols.
+     *
+     * @param   obj          the {@code RomanNumeral} or {@code Number} to
+     *                       format.
+     * @param   toAppendTo   the buffer to append the symbols to.
+     * @param   pos          identifies a field, or nothing.
+     * @return  {@code toAppendTo}.
+     * @throws  IllegalArgumentException    if {@code obj} is neither a
+     *                                      {@code RomanNumeral} nor a
+     *                                      {@code Number}, or its value is
+     *                                      not representable by a Roman
+     *                                      numeral in standard form.
+     * @throws  NullPointerException        if {@code toAppendTo} or
+     *                                      {@code pos} is {@code null}.
+     */
+    @Override
+    public StringBuffer format(Object obj, StringBuffer toAppendTo,
+                               FieldPosition pos) {
+        int value = valueOf(obj);
+        int begin = toAppendTo.length();
+        RomanNumeral.appendSymbols(value, toAppendTo);
+        
+        if (pos.getField() == NumberFormat.INTEGER_FIELD
+                || pos.getFieldAttribute() == NumberFormat.Field.INTEGER) {
+            pos.setBeginIndex(begin);
+            pos.setEndIndex(begin + RomanNumeral.encodedLength(value));
+        }
+        return toAppendTo;
+    }
+    
+    /**
+     * Parses the longest Roman numeral in standard form that starts at the
+     * index of {@code pos} in the specified {@code String}.
+     * <p>
+     * On success, the index of {@code pos} is set to the index after the
+     * last symbol parsed. For example, parsing {@code "MCMXCIX."} parses
+     * {@code MCMXCIX}, and parsing {@code "IIII"} parses {@code III}. On
+     * failure, the index of {@code pos} isn't changed, its error index is
+     * set to it, and {@code null} is returned.
+     *
+     * @param   source   the {@code String} to parse.
+     * @param   pos      the index to start parsing at.
+     * @return  the {@code RomanNumeral} parsed, or {@code null} if there is
+     *          none at the index of {@code pos}.
+     * @throws  NullPointerException    if {@code source} or {@code pos} is
+     *                                  {@code null}.
+     */
+    @Override
+    public RomanNumeral parseObject(String source, ParsePosition pos) {
+        int from = pos.getIndex();
+        int to = Math.min(source.length(),
+                          from + RomanNumeral.MAX_SYMBOLS_LENGTH);
+        for (; to > from; to--) {
+            int value = RomanNumeral.indexOf(source, from, to);
+            if (value != 0) {
+                pos.setIndex(to);
+                return RomanNumeral.of(value);
+            }
+        }
+        
+        pos.setErrorIndex(from);
+        return null;
+    }
+    
+    /**
+     * Returns {@code true} if, and only if, the specified object is a
+     * {@code RomanNumeralFormat}, since they all behave the same.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof RomanNumeralFormat;
+    }
+    
+    @Override
+    public int hashCode() {
+        return RomanNumeralFormat.class.hashCode();
+    }
+    
+    private static int valueOf(Object obj) {
+        if (obj instanceof RomanNumeral) {
+            return ((RomanNumeral) obj).value;
+        }
+        if (!(obj instanceof Number)) {
+            throw new IllegalArgumentException(
+                    "Cannot format given Object as a RomanNumeral");
+        }
+        
+        Number number = (Number) obj;
+        long value = number.longValue();
+        boolean exact;
+        if (number instanceof BigInteger) {
+            exact = ((BigInteger) number).bitLength() < Long.SIZE;
+        } else if (number instanceof BigDecimal) {
+            exact = ((BigDecimal) number).compareTo(BigDecimal.valueOf(value))
+                    == 0;
+        } else {
+            exact = value == number.doubleValue();
+        }
+        if (!exact || value < RomanNumeral.MIN_VALUE
+                || value > RomanNumeral.MAX_VALUE) {
+            throw new IllegalArgumentException("For input Number: " + number);
+        }
+        return (int) value;
+    }
+    
+    private Object readResolve() throws ObjectStreamException {
+        return INSTANCE;
+    }
+}
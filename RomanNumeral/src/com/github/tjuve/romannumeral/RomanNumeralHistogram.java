@@ -0,0 +1,358 @@
+/*
+ * RomanNumeralHistogram.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A count of the occurrences of each Roman numeral in standard form, that
+ * many threads can add to at once.
+ * <p>
+ * The counts are striped: each thread adds to the counters of one of
+ * several stripes, picked by a per-thread probe, and reads sum every stripe.
+ * Like {@code LongAdder}, a thread that finds its counter contended moves
+ * to another stripe, so threads spread over the stripes however their IDs
+ * fall. The stripes are apart by more than a cache line, so threads adding
+ * to different stripes never write to the same cache line, and adding
+ * scales with the number of threads up to the number of stripes.
+ * <p>
+ * Every add is one atomic update, so reads see each add either entirely or
+ * not at all. Adds that complete before a read starts are always seen,
+ * while adds concurrent with it may or may not be. {@link #count(int)},
+ * {@link #counts()} and the methods built on them read the counters one at
+ * a time, without stopping adds, so while adds are concurrent with them
+ * they are estimates. {@link #snapshot()} returns the counts at one instant
+ * instead, at a cost to the caller rather than to adds.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+public final class RomanNumeralHistogram {
+    /**
+     * A constant holding the default number of stripes, the number of
+     * processors rounded up to a power of 2, and at most 64.
+     */
+    public static final int DEFAULT_NUM_STRIPES = Math.min(64, Integer
+            .highestOneBit(2 * Runtime.getRuntime().availableProcessors() - 1));
+    /**
+     * The number of unused counters before and after each stripe, so that
+     * counters of different stripes are at least 128 bytes apart, the size
+     * of two cache lines, which some processors fetch together.
+     */
+    private static final int PADDING = 16;
+    /**
+     * The distance between the counters of a value in adjacent stripes.
+     */
+    private static final int STRIDE = RomanNumeral.MAX_VALUE + 1 + PADDING;
+    /**
+     * The bit set in a counter that a snapshot has frozen, the sign bit,
+     * which a count never reaches.
+     */
+    private static final long FROZEN = Long.MIN_VALUE;
+    /**
+     * The difference between the first probes of consecutive threads, the
+     * same as {@code ThreadLocalRandom}'s, so that they spread evenly.
+     */
+    private static final int PROBE_INCREMENT = 0x9E3779B9;
+    
+    private static final AtomicInteger nextProbe = new AtomicInteger();
+    /**
+     * The probe of each thread, a nonzero hash that picks its stripe in
+     * every histogram, and is rehashed when its counter is contended.
+     */
+    private static final ThreadLocal<int[]> probe
+            = ThreadLocal.withInitial(() -> {
+                  int threadProbe = nextProbe.addAndGet(PROBE_INCREMENT);
+                  return new int[] {threadProbe == 0 ? 1 : threadProbe};
+              });
+    
+    /**
+     * The count of each value in each stripe, at index
+     * {@code PADDING + stripe * STRIDE + value}.
+     */
+    private final AtomicLongArray counts;
+    private final int stripeMask;
+    /**
+     * Held while taking a snapshot, so that snapshots are taken one at a
+     * time.
+     */
+    private final Object snapshotLock = new Object();
+    /**
+     * Whether a snapshot is freezing the counters.
+     */
+    private volatile boolean freezing;
+    
+    /**
+     * Constructs a newly allocated {@code RomanNumeralHistogram}, with
+     * {@link #DEFAULT_NUM_STRIPES} stripes, and every count 0.
+     */
+    public RomanNumeralHistogram() {
+        this(DEFAULT_NUM_STRIPES);
+    }
+    
+    /**
+     * Constructs a newly allocated {@code RomanNumeralHistogram}, with at
+     * least the specified number of stripes, and every count 0.
+     *
+     * @param   numStripes   the least number of stripes, rounded up to a
+     *                       power of 2.
+     * @throws  IllegalArgumentException    if {@code numStripes} is not
+     *                                      from 1 to 1024.
+     */
+    public RomanNumeralHistogram(int numStripes) {
+        if (numStripes < 1 || numStripes > 1_024) {
+            throw new IllegalArgumentException(
+                    "For input numStripes: " + numStripes);
+        }
+        
+        int stripes = Integer.highestOneBit(2 * numStripes - 1);
+        counts = new AtomicLongArray(PADDING + stripes * STRIDE);
+        stripeMask = stripes - 1;
+    }
+    
+    /**
+     * Adds one occurrence of the specified numeral.
+     *
+     * @param   numeral   the numeral that occurred.
+     */
+    public void add(RomanNumeral numeral) {
+        add(numeral.value, 1);
+    }
+    
+    /**
+     * Adds one occurrence of the Roman numeral in standard form with the
+     * specified symbols.
+     *
+     * @param   symbols   the symbols of the numeral that occurred.
+     * @throws  NumberFormatException    if the {@code CharSequence} does not
+     *                                   contain the symbols of a Roman
+     *                                   numeral in standard form.
+     */
+    public void add(CharSequence symbols) {
+        if (symbols == null) {
+            throw new NumberFormatException("null");
+        }
+        int value = RomanNumeral.indexOf(symbols);
+        if (value == 0) {
+            throw new NumberFormatException(
+                    "For input String: \"" + symbols + "\"");
+        }
+        
+        add(value, 1);
+    }
+    
+    /**
+     * Adds every occurrence counted by the specified histogram to this one.
+     * The occurrences are read as by {@link #counts()}, so occurrences added
+     * to {@code other} concurrently may be added in part.
+     *
+     * @param   other   the histogram to add the occurrences of.
+     */
+    public void merge(RomanNumeralHistogram other) {
+        long[] otherCounts = other.counts();
+        for (int value = RomanNumeral.MIN_VALUE;
+                value <= RomanNumeral.MAX_VALUE; value++) {
+            if (otherCounts[value] != 0) {
+                add(value, otherCounts[value]);
+            }
+        }
+    }
+    
+    /**
+     * Returns the number of occurrences of the Roman numeral in standard
+     * form with the specified {@code int} value.
+     *
+     * @param   value   the value of the Roman numeral in standard form.
+     * @return  the number of occurrences of the numeral.
+     * @throws  IllegalArgumentException    if the {@code int} is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form.
+     */
+    public long count(int value) {
+        if (!RomanNumeral.isValid(value)) {
+            throw new IllegalArgumentException("For input int: " + value);
+        }
+        
+        long count = 0;
+        for (int i = PADDING + value; i < counts.length(); i += STRIDE) {
+            count += counts.get(i) & ~FROZEN;
+        }
+        return count;
+    }
+    
+    /**
+     * Returns the number of occurrences of each Roman numeral in standard
+     * form, at the index of its value. The element at index 0 is always 0.
+     * <p>
+     * This is not an atomic snapshot: the counters are read one at a time
+     * while adds continue, so if adds are concurrent with this call, an add
+     * may be counted while one that completed before it isn't, and the counts
+     * may never all have been the actual counts at once. Each count is at
+     * least the actual count when this call starts, and at most the actual
+     * count when it returns. Without concurrent adds, the counts are exact.
+     * For counts that are all true at once, use {@link #snapshot()}.
+     *
+     * @return  an array of {@code RomanNumeral.MAX_VALUE + 1} counts.
+     */
+    public long[] counts() {
+        long[] estimates = new long[RomanNumeral.MAX_VALUE + 1];
+        for (int stripe = PADDING; stripe < counts.length();
+                stripe += STRIDE) {
+            for (int value = RomanNumeral.MIN_VALUE;
+                    value <= RomanNumeral.MAX_VALUE; value++) {
+                estimates[value] += counts.get(stripe + value) & ~FROZEN;
+            }
+        }
+        return estimates;
+    }
+    
+    /**
+     * Returns the number of occurrences of each Roman numeral in standard
+     * form at one instant during this call, at the index of its value. The
+     * element at index 0 is always 0.
+     * <p>
+     * This is an atomic snapshot: if it counts an add, it also counts every
+     * add that completed before that add started, whatever the numerals and
+     * threads. It sets a frozen bit on every counter of every stripe in
+     * turn, reading the count as it does, and then clears the bits again.
+     * An add to a counter that is already frozen isn't counted, and waits
+     * until every counter is frozen before it returns, so it completes after
+     * the instant of the snapshot. Other adds don't wait, so the cost is
+     * this call's: two atomic updates per counter, and adds delayed by at
+     * most the time it takes to freeze the counters. Snapshots of one
+     * histogram are taken one at a time.
+     *
+     * @return  an array of {@code RomanNumeral.MAX_VALUE + 1} counts.
+     */
+    public long[] snapshot() {
+        long[] snapshot = new long[RomanNumeral.MAX_VALUE + 1];
+        synchronized (snapshotLock) {
+            freezing = true;
+            for (int stripe = PADDING; stripe < counts.length();
+                    stripe += STRIDE) {
+                for (int value = RomanNumeral.MIN_VALUE;
+                        value <= RomanNumeral.MAX_VALUE; value++) {
+                    snapshot[value] += counts.getAndAdd(stripe + value,
+                                                        FROZEN);
+                }
+            }
+            freezing = false;
+            
+            for (int stripe = PADDING; stripe < counts.length();
+                    stripe += STRIDE) {
+                for (int value = RomanNumeral.MIN_VALUE;
+                        value <= RomanNumeral.MAX_VALUE; value++) {
+                    counts.getAndAdd(stripe + value, FROZEN);
+                }
+            }
+        }
+        return snapshot;
+    }
+    
+    /**
+     * Returns the number of occurrences of every Roman numeral. The counts
+     * are read as by {@link #counts()}, so this is an estimate if adds are
+     * concurrent with this call, from the total when it starts to the total
+     * when it returns.
+     *
+     * @return  the sum of the counts of every Roman numeral.
+     */
+    public long total() {
+        long total = 0;
+        for (long count : counts()) {
+            total += count;
+        }
+        return total;
+    }
+    
+    /**
+     * Returns the numerals that occurred most, in decreasing order of
+     * occurrences, and increasing order of value when they occurred as many
+     * times. Numerals that never occurred are left out, so fewer than
+     * {@code k} numerals may be returned. The counts are read as by
+     * {@link #counts()}, so if adds are concurrent with this call, the
+     * numerals are ranked by estimates.
+     *
+     * @param   k   the most numerals to return.
+     * @return  at most {@code k} numerals that occurred most.
+     * @throws  IllegalArgumentException    if {@code k} is negative.
+     */
+    public RomanNumeral[] topK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("For input k: " + k);
+        }
+        
+        long[] estimates = counts();
+        // the head is the value that occurred least of the top k so far
+        PriorityQueue<Integer> top = new PriorityQueue<Integer>(
+                Math.max(1, Math.min(k, RomanNumeral.MAX_VALUE)),
+                (a, b) -> estimates[a] != estimates[b]
+                          ? Long.compare(estimates[a], estimates[b])
+                          : Integer.compare(b, a));
+        for (int value = RomanNumeral.MIN_VALUE;
+                k > 0 && value <= RomanNumeral.MAX_VALUE; value++) {
+            if (estimates[value] == 0) {
+                continue;
+            } else if (top.size() < k) {
+                top.add(value);
+            } else if (estimates[value] > estimates[top.peek()]) {
+                top.poll();
+                top.add(value);
+            }
+        }
+        
+        RomanNumeral[] numerals = new RomanNumeral[top.size()];
+        for (int i = numerals.length - 1; i >= 0; i--) {
+            numerals[i] = RomanNumeral.of(top.poll());
+        }
+        return numerals;
+    }
+    
+    /**
+     * Adds the specified number of occurrences of the specified value to its
+     * counter in the stripe of the current thread.
+     */
+    private void add(int value, long n) {
+        int[] threadProbe = probe.get();
+        int i = index(threadProbe[0], value);
+        long count = counts.get(i);
+        if (!counts.compareAndSet(i, count, count + n)) {
+            // contended, so move this thread to another stripe
+            threadProbe[0] = advanceProbe(threadProbe[0]);
+            count = counts.getAndAdd(index(threadProbe[0], value), n);
+        }
+        
+        if ((count & FROZEN) != 0) {
+            // not in the snapshot, so complete after it
+            while (freezing) {
+                Thread.yield();
+            }
+        }
+    }
+    
+    /**
+     * Returns the index in {@link #counts} of the counter of the specified
+     * value in the stripe of the specified probe.
+     */
+    private int index(int threadProbe, int value) {
+        return PADDING + (threadProbe & stripeMask) * STRIDE + value;
+    }
+    
+    /**
+     * Returns the next probe after the specified one, by a xorshift, like
+     * {@code LongAdder}'s.
+     */
+    private static int advanceProbe(int threadProbe) {
+        threadProbe ^= threadProbe << 13;
+        threadProbe ^= threadProbe >>> 17;
+        threadProbe ^= threadProbe << 5;
+        return threadProbe;
+    }
+}
@@ -0,0 +1,426 @@
+/*
+ * RomanNumeralLineServer.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+
+import com.github.tjuve.romannumeral.RomanNumeralLines.Direction;
+
+/**
+ * A non-blocking TCP server that converts between Roman numerals in standard
+ * form and their values, one per line.
+ * <p>
+ * Each line a client sends is answered with one line, in order:
+ * <p>
+ * <table>
+ *   <tbody>
+ *     <tr>
+ *       <th>Request</th>
+ *       <th>Response</th>
+ *     </tr>
+ *     <tr>
+ *       <td>A value, in decimal ({@code 14})</td>
+ *       <td>Its symbols ({@code XIV})</td>
+ *     </tr>
+ *     <tr>
+ *       <td>Symbols ({@code XIV})</td>
+ *       <td>Their value, in decimal ({@code 14})</td>
+ *     </tr>
+ *     <tr>
+ *       <td>Anything else</td>
+ *       <td>{@code ERR}</td>
+ *     </tr>
+ *   </tbody>
+ * </table>
+ * <p>
+ * Lines are ASCII and end with {@code "\n"} or {@code "\r\n"}. Clients may
+ * pipeline any number of requests without waiting for responses. All
+ * connections are served by one thread: requests are decoded in place from
+ * each connection's read buffer, and responses are collected into a few
+ * buffers and written with one gathering write. A connection isn't read from
+ * while its responses can't be written, so a client that doesn't read its
+ * responses only slows itself.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+public final class RomanNumeralLineServer implements AutoCloseable {
+    /**
+     * A constant holding the port {@link #main} listens on when none is
+     * specified, 7070.
+     */
+    public static final int DEFAULT_PORT = 7_070;
+    
+    private static final int READ_BUFFER_SIZE = 16_384;
+    private static final int WRITE_BUFFER_SIZE = 16_384;
+    /**
+     * A constant holding the maximum number of write buffers per connection.
+     */
+    private static final int MAX_WRITE_BUFFERS = 8;
+    private static final byte[] ERROR = {'E', 'R', 'R', '\n'};
+    
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final Thread thread;
+    private volatile boolean closed;
+    
+    private RomanNumeralLineServer(ServerSocketChannel serverChannel,
+                                   Selector selector) {
+        this.serverChannel = serverChannel;
+        this.selector = selector;
+        this.thread = new Thread(this::run, getClass().getSimpleName());
+    }
+    
+    /**
+     * Starts a server listening on the specified address.
+     *
+     * @param   address   the address to listen on, with port 0 for any free
+     *                    port.
+     * @return  the started server.
+     * @throws  IOException   if the server can't bind to the address.
+     */
+    public static RomanNumeralLineServer start(InetSocketAddress address)
+            throws IOException {
+        ServerSocketChannel serverChannel = ServerSocketChannel.open();
+        Selector selector = null;
+        try {
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            selector = Selector.open();
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException ioEx) {
+            serverChannel.close();
+            if (selector != null) {
+                selector.close();
+            }
+            throw ioEx;
+        }
+        
+        RomanNumeralLineServer server
+                = new RomanNumeralLineServer(serverChannel, selector);
+        server.thread.start();
+        return server;
+    }
+    
+    /**
+     * Starts a server listening on the port given as the first argument, or
+     * {@link #DEFAULT_PORT} if omitted.
+     *
+     * @param   args   the port.
+     * @throws  IOException   if the server can't bind to the port.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        start(new InetSocketAddress(port));
+    }
+    
+    /**
+     * Returns the address this server is listening on.
+     *
+     * @return  the address this server is listening on.
+     * @throws  IOException   if the server has been closed.
+     */
+    public InetSocketAddress getAddress() throws IOException {
+        return (InetSocketAddress) serverChannel.getLocalAddress();
+    }
+    
+    /**
+     * Stops this server and closes all connections, waiting for the server
+     * thread to finish.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        selector.wakeup();
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join();
+            } catch (InterruptedException interruptedEx) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    private void run() {
+        try {
+            while (!closed) {
+                selector.select();
+                
+                Iterator<SelectionKey> keys
+                        = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Connection connection = (Connection) key.attachment();
+                        try {
+                            connection.ready();
+                        } catch (IOException ioEx) {
+                            // eg. connection reset by the client
+                            connection.close();
+                        }
+                    }
+                }
+            }
+        } catch (IOException ioEx) {
+            throw new UncheckedIOException(ioEx);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                closeQuietly(key);
+            }
+            closeQuietly(selector);
+        }
+    }
+    
+    /**
+     * Accepts a pending connection, if any. A connection that fails to be
+     * accepted or set up, eg. because the process is out of file
+     * descriptors or the client already reset it, is closed and dropped,
+     * and the server keeps serving the others.
+     */
+    private void accept() {
+        SocketChannel channel;
+        try {
+            channel = serverChannel.accept();
+        } catch (IOException ioEx) {
+            return;
+        }
+        if (channel == null) {
+            return;
+        }
+        
+        try {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            SelectionKey key = channel.register(selector,
+                                                SelectionKey.OP_READ);
+            key.attach(new Connection(channel, key));
+        } catch (IOException ioEx) {
+            closeQuietly(channel);
+        }
+    }
+    
+    private static void closeQuietly(SelectionKey key) {
+        key.cancel();
+        closeQuietly(key.channel());
+    }
+    
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception ex) {
+            // nothing left to do with it
+        }
+    }
+    
+    /**
+     * The state of one client connection.
+     */
+    private static final class Connection {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        /**
+         * Bytes read but not yet answered, in write mode.
+         */
+        private final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        /**
+         * Responses not yet written, in write mode, in order. Only the first
+         * {@code numPending} buffers hold responses; the rest are spare.
+         */
+        private final ByteBuffer[] out = new ByteBuffer[MAX_WRITE_BUFFERS];
+        private int numPending;
+        /**
+         * The index in {@code in} to look for the end of a line from.
+         */
+        private int scanned;
+        /**
+         * Whether the rest of the current line is being discarded because
+         * it doesn't fit in the read buffer.
+         */
+        private boolean discarding;
+        /**
+         * Whether answering stopped because there was no room for more
+         * responses.
+         */
+        private boolean blocked;
+        /**
+         * Whether the client has shut down its output.
+         */
+        private boolean endOfInput;
+        
+        private Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+        
+        /**
+         * Reads and writes as much as possible without blocking.
+         */
+        private void ready() throws IOException {
+            if (key.isWritable()) {
+                flush();
+            }
+            if (key.isReadable()) {
+                int n = channel.read(in);
+                if (n < 0) {
+                    endOfInput = true;
+                }
+            }
+            
+            do {
+                blocked = !answer();
+                flush();
+            } while (blocked && pendingBytes() == 0);
+            
+            if (endOfInput && !blocked && pendingBytes() == 0) {
+                close();
+                return;
+            }
+            
+            int ops = 0;
+            if (!blocked && !endOfInput) {
+                ops |= SelectionKey.OP_READ;
+            }
+            if (pendingBytes() > 0) {
+                ops |= SelectionKey.OP_WRITE;
+            }
+            key.interestOps(ops);
+        }
+        
+        /**
+         * Answers every complete line in the read buffer, and the last line
+         * if the client has shut down its output.
+         *
+         * @return  {@code false} if there wasn't room to answer every line.
+         */
+        private boolean answer() {
+            in.flip();
+            int lineStart = in.position();
+            boolean answeredAll = true;
+            for (int i = scanned; i < in.limit(); i++) {
+                if (in.get(i) == '\n') {
+                    if (!reserve()) {
+                        answeredAll = false;
+                        break;
+                    }
+                    answerLine(lineStart, i);
+                    lineStart = i + 1;
+                }
+            }
+            
+            if (answeredAll && endOfInput && lineStart < in.limit()) {
+                if (reserve()) {
+                    answerLine(lineStart, in.limit());
+                    lineStart = in.limit();
+                } else {
+                    answeredAll = false;
+                }
+            }
+            
+            in.position(lineStart);
+            in.compact();
+            scanned = answeredAll ? in.position() : 0;
+            if (answeredAll && !in.hasRemaining()) {
+                // the line is longer than any valid request
+                discarding = true;
+                in.clear();
+                scanned = 0;
+            }
+            return answeredAll;
+        }
+        
+        /**
+         * Writes the response to the line in the specified range of the read
+         * buffer, excluding the line terminator.
+         */
+        private void answerLine(int from, int to) {
+            ByteBuffer response = out[numPending - 1];
+            if (discarding) {
+                discarding = false;
+                response.put(ERROR);
+            } else if (!RomanNumeralLines.convert(
+                    in, from, to, Direction.AUTO, response)) {
+                response.put(ERROR);
+            }
+        }
+        
+        /**
+         * Makes sure the last pending write buffer has room for a response.
+         *
+         * @return  {@code false} if every write buffer is full.
+         */
+        private boolean reserve() {
+            if (numPending > 0 && out[numPending - 1].remaining()
+                                  >= RomanNumeralLines.MAX_CONVERTED_LENGTH) {
+                return true;
+            }
+            if (numPending == out.length) {
+                return false;
+            }
+            
+            if (out[numPending] == null) {
+                out[numPending] = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+            }
+            numPending++;
+            return true;
+        }
+        
+        /**
+         * Writes as many pending responses as possible with one gathering
+         * write, then moves the write buffers that were emptied after the
+         * ones still pending.
+         */
+        private void flush() throws IOException {
+            if (numPending == 0) {
+                return;
+            }
+            
+            for (int i = 0; i < numPending; i++) {
+                out[i].flip();
+            }
+            channel.write(out, 0, numPending);
+            
+            int numKept = 0;
+            for (int i = 0; i < numPending; i++) {
+                ByteBuffer buffer = out[i];
+                if (buffer.hasRemaining()) {
+                    buffer.compact();
+                    out[i] = out[numKept];
+                    out[numKept++] = buffer;
+                } else {
+                    buffer.clear();
+                }
+            }
+            numPending = numKept;
+        }
+        
+        private int pendingBytes() {
+            int n = 0;
+            for (int i = 0; i < numPending; i++) {
+                n += out[i].position();
+            }
+            return n;
+        }
+        
+        private void close() {
+            closeQuietly(key);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * RomanNumeralLines.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts lines of ASCII text between Roman numerals in standard form and
+ * their values, in place in byte buffers.
+ * <p>
+ * A line of decimal digits is a value, and is converted to its symbols; any
+ * other line is converted from symbols to their value.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ * @see     RomanNumeralLineServer
+ * @see     RomanNumeralConverter
+ * @see     RomanNumeralSwar
+ */
+final class RomanNumeralLines {
+    /**
+     * A constant holding the maximum length of a converted line, including
+     * its terminator, 16 (from {@code "MMMDCCCLXXXVIII\n".length()})
+     */
+    static final int MAX_CONVERTED_LENGTH = 16;
+    
+    /**
+     * A constant holding the maximum number of digits of a value, 4 (from
+     * {@code "3999".length()})
+     */
+    private static final int MAX_DIGITS = 4;
+    
+    /**
+     * Which lines are converted.
+     */
+    enum Direction {
+        /**
+         * Values are converted to symbols, and symbols to values.
+         */
+        AUTO,
+        /**
+         * Only values are converted, to symbols.
+         */
+        TO_SYMBOLS,
+        /**
+         * Only symbols are converted, to values.
+         */
+        TO_VALUES
+    }
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralLines() {
+    }
+    
+    /**
+     * Converts the line in the specified range of the specified buffer, and
+     * puts the result, followed by {@code '\n'}, into the specified buffer.
+     * <p>
+     * Doesn't change the position or limit of {@code src}.
+     *
+     * @param   src         the buffer to read the line from.
+     * @param   from        the index of the first byte of the line.
+     * @param   to          the index of the line terminator, or the end of
+     *                      the line if it has none. A {@code '\r'} before it
+     *                      is ignored.
+     * @param   direction   which lines are converted.
+     * @param   dst         the buffer to put the converted line into, which
+     *                      must have an accessible array and at least
+     *                      {@link #MAX_CONVERTED_LENGTH} bytes remaining.
+     * @return  {@code false} if the line can't be converted, in which case
+     *          nothing is put into {@code dst}.
+     */
+    static boolean convert(ByteBuffer src, int from, int to,
+                           Direction direction, ByteBuffer dst) {
+        if (to > from && src.get(to - 1) == '\r') {
+            to--;
+        }
+        
+        boolean digits = from < to && isDigit(src.get(from));
+        if (digits && direction != Direction.TO_VALUES) {
+            int value = parseDecimal(src, from, to);
+            if (!RomanNumeral.isValid(value)) {
+                return false;
+            }
+            
+            int position = dst.position();
+            position += RomanNumeral.getSymbols(
+                    value, dst.array(), dst.arrayOffset() + position);
+            dst.position(position);
+        } else if (!digits && direction != Direction.TO_SYMBOLS) {
+            int value;
+            if (src.hasArray()) {
+                int offset = src.arrayOffset();
+                value = RomanNumeralSwar.indexOf(src.array(), offset + from,
+                                                 offset + to);
+            } else {
+                value = RomanNumeral.indexOf(src, from, to);
+            }
+            if (value == 0) {
+                return false;
+            }
+            
+            putDecimal(value, dst);
+        } else {
+            return false;
+        }
+        dst.put((byte) '\n');
+        return true;
+    }
+    
+    /**
+     * Returns the decimal value in the specified range of the specified
+     * buffer, or 0 if it isn't a value of at most 4 digits.
+     */
+    private static int parseDecimal(ByteBuffer src, int from, int to) {
+        if (to - from > MAX_DIGITS) {
+            return 0;
+        }
+        
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            byte b = src.get(i);
+            if (!isDigit(b)) {
+                return 0;
+            }
+            value = 10 * value + (b - '0');
+        }
+        return value;
+    }
+    
+    private static void putDecimal(int value, ByteBuffer dst) {
+        int divisor = 1;
+        while (divisor * 10 <= value) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            dst.put((byte) ('0' + value / divisor % 10));
+        }
+    }
+    
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
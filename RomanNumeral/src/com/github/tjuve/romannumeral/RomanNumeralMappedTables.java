@@ -0,0 +1,366 @@
+/*
+ * RomanNumeralMappedTables.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * The tables of the symbols of every Roman numeral in standard form, and of
+ * the value of every symbols, read in place from a memory-mapped file.
+ * <p>
+ * The tables of {@code RomanNumeral} are built on the heap of every JVM
+ * that uses it. {@code RomanNumeralMappedTables} reads the same tables from
+ * a prebuilt, read-only file, which every JVM on a host maps, so they share
+ * one physical copy through the page cache, and the tables are neither on
+ * the heap nor scanned by the garbage collector. Only writing the file uses
+ * {@code RomanNumeral}; mapping and reading it don't initialize it, so its
+ * tables are never built in a JVM that only reads mapped ones:
+ * <blockquote><pre>
+ * RomanNumeralMappedTables tables = RomanNumeralMappedTables.map(
+ *         Paths.get("/var/cache/roman-numerals.tables"));
+ * tables.toString(14);     // "XIV"
+ * tables.valueOf("XIV");   // 14
+ * </pre></blockquote>
+ * <p>
+ * The file is written by {@link #write(Path)}, or by running this class:
+ * <pre>
+ * java com.github.tjuve.romannumeral.RomanNumeralMappedTables file
+ * </pre>
+ * <p>
+ * A {@code RomanNumeralMappedTables} is immutable, so it can be shared by
+ * any number of threads.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ * @see     RomanNumeral
+ */
+public final class RomanNumeralMappedTables {
+    /**
+     * A constant holding the first 4 bytes of a tables file, {@code "RNT1"}.
+     */
+    private static final int MAGIC = 0x524E5431;
+    /**
+     * A constant holding the minimum value of a Roman numeral in standard
+     * form, 1. {@code RomanNumeral.MIN_VALUE} isn't a compile-time constant,
+     * so reading it would initialize {@code RomanNumeral}.
+     */
+    private static final int MIN_VALUE = 1;
+    /**
+     * A constant holding the length of the header of a tables file, 24:
+     * the magic, the maximum value, the length of the index, the length of
+     * the symbols, and a CRC-32 of the rest of the file, as big-endian
+     * {@code int}s, then 4 reserved bytes.
+     */
+    private static final int HEADER_LENGTH = 24;
+    /**
+     * A constant holding the length of the index, 8192, a power of 2 at
+     * least twice the number of values, so probes stay short.
+     */
+    private static final int INDEX_LENGTH = 8_192;
+    
+    /**
+     * The tables file mapped into memory.
+     *
+     * @implNote The header is followed by the offset of the symbols of each
+     * value from 0 to {@code MAX_VALUE + 1} and the index, as big-endian
+     * {@code short}s, then the symbols of every value, in increasing order
+     * of value, as ASCII bytes. The index is an open addressing hash table
+     * of values probed linearly from the {@code String.hashCode()} of their
+     * symbols, with 0 for an empty slot.
+     */
+    private final ByteBuffer tables;
+    /**
+     * The maximum value in the tables, from the header of the file.
+     */
+    private final int maxValue;
+    private final int indexStart;
+    private final int symbolsStart;
+    
+    private RomanNumeralMappedTables(ByteBuffer tables, int maxValue) {
+        this.tables = tables;
+        this.maxValue = maxValue;
+        indexStart = HEADER_LENGTH + 2 * (maxValue + 2);
+        symbolsStart = indexStart + 2 * INDEX_LENGTH;
+    }
+    
+    /**
+     * Writes a tables file to the specified path, for every JVM on the host
+     * to {@link #map(Path) map}.
+     *
+     * @param   args   the path of the tables file.
+     * @throws  IOException   if an I/O error occurs.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: java "
+                               + RomanNumeralMappedTables.class.getName()
+                               + " file");
+            System.exit(2);
+        }
+        write(Paths.get(args[0]));
+    }
+    
+    /**
+     * Writes a tables file to the specified path, replacing any file there.
+     * <p>
+     * The file is written to a temporary file in the same directory, which
+     * is then moved to the specified path in one step, so a process mapping
+     * the path at the same time never sees a partly written file.
+     *
+     * @param   file   the path of the tables file.
+     * @throws  IOException   if an I/O error occurs.
+     */
+    public static void write(Path file) throws IOException {
+        int maxValue = RomanNumeral.MAX_VALUE;
+        int symbolsLength = 0;
+        for (int value = RomanNumeral.MIN_VALUE; value <= maxValue; value++) {
+            symbolsLength += RomanNumeral.encodedLength(value);
+        }
+        ByteBuffer tables = ByteBuffer.allocate(
+                HEADER_LENGTH + 2 * (maxValue + 2) + 2 * INDEX_LENGTH
+                + symbolsLength);
+        RomanNumeralMappedTables writer
+                = new RomanNumeralMappedTables(tables, maxValue);
+        
+        byte[] symbols = new byte[RomanNumeral.MAX_SYMBOLS_LENGTH];
+        int offset = 0;
+        for (int value = RomanNumeral.MIN_VALUE; value <= maxValue; value++) {
+            int length = RomanNumeral.getSymbols(value, symbols, 0);
+            tables.putShort(HEADER_LENGTH + 2 * value, (short) offset);
+            for (int i = 0; i < length; i++) {
+                tables.put(writer.symbolsStart + offset + i, symbols[i]);
+            }
+            offset += length;
+            
+            int slot = indexSlot(hash(symbols, length));
+            while (tables.getShort(writer.indexStart + 2 * slot) != 0) {
+                slot = (slot + 1) & (INDEX_LENGTH - 1);
+            }
+            tables.putShort(writer.indexStart + 2 * slot, (short) value);
+        }
+        tables.putShort(HEADER_LENGTH + 2 * (maxValue + 1), (short) offset);
+        
+        tables.putInt(0, MAGIC);
+        tables.putInt(4, maxValue);
+        tables.putInt(8, INDEX_LENGTH);
+        tables.putInt(12, symbolsLength);
+        tables.putInt(16, checksum(tables));
+        
+        Path directory = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory,
+                                         file.getFileName().toString(), null);
+        try {
+            Files.write(temp, tables.array());
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+    
+    /**
+     * Maps the tables file at the specified path into memory, read-only.
+     * <p>
+     * The header and checksum of the file are checked, and the maximum value
+     * is read from the header. The mapping stays valid, and the file must
+     * not be changed in place, until the {@code RomanNumeralMappedTables} is
+     * garbage collected.
+     *
+     * @param   file   the path of a file written by {@link #write(Path)}.
+     * @return  the tables in the file.
+     * @throws  IOException   if an I/O error occurs, or the file isn't a
+     *                        valid tables file.
+     */
+    public static RomanNumeralMappedTables map(Path file) throws IOException {
+        MappedByteBuffer tables;
+        try (FileChannel channel = FileChannel.open(file,
+                                                    StandardOpenOption.READ)) {
+            tables = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                                 channel.size());
+        }
+        
+        // every value, and every offset of symbols, fits in a short, and
+        // the index has an empty slot
+        if (tables.capacity() < HEADER_LENGTH
+                || tables.getInt(0) != MAGIC
+                || tables.getInt(4) < MIN_VALUE
+                || tables.getInt(4) >= INDEX_LENGTH
+                || tables.getInt(8) != INDEX_LENGTH
+                || tables.getInt(12) < 0
+                || tables.getInt(12) > Short.MAX_VALUE
+                || tables.capacity() != HEADER_LENGTH
+                                        + 2 * (tables.getInt(4) + 2)
+                                        + 2 * INDEX_LENGTH
+                                        + tables.getInt(12)
+                || tables.getInt(16) != checksum(tables)) {
+            throw new IOException("Not a valid tables file: " + file);
+        }
+        return new RomanNumeralMappedTables(tables, tables.getInt(4));
+    }
+    
+    /**
+     * Returns a {@code String} representation of the Roman numeral in
+     * standard form with the specified {@code int} value.
+     *
+     * @param   value   the value of the Roman numeral in standard form.
+     * @return  a {@code String} representing the Roman numeral in standard
+     *          form with the specified value.
+     * @throws  IllegalArgumentException    if the {@code int} is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form.
+     * @see     RomanNumeral#toString(int)
+     */
+    public String toString(int value) {
+        byte[] symbols = new byte[RomanNumeral.MAX_SYMBOLS_LENGTH];
+        int length = getSymbols(value, symbols, 0);
+        return new String(symbols, 0, length, StandardCharsets.US_ASCII);
+    }
+    
+    /**
+     * Copies the symbols of the Roman numeral in standard form with the
+     * specified {@code int} value into the specified array, as ASCII bytes.
+     *
+     * @param   value    the value of the Roman numeral in standard form.
+     * @param   dst      the array to copy the symbols into.
+     * @param   offset   the index in {@code dst} to copy the first symbol to.
+     * @return  the number of bytes copied.
+     * @throws  IllegalArgumentException    if the {@code int} is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form.
+     * @throws  IndexOutOfBoundsException   if {@code dst} is too small.
+     * @see     RomanNumeral#getSymbols(int, byte[], int)
+     */
+    public int getSymbols(int value, byte[] dst, int offset) {
+        if (value < MIN_VALUE || value > maxValue) {
+            throw new IllegalArgumentException("For input int: " + value);
+        }
+        
+        int start = symbolsOffset(value);
+        int length = symbolsOffset(value + 1) - start;
+        if (offset < 0 || offset > dst.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "For input offset: " + offset);
+        }
+        for (int i = 0; i < length; i++) {
+            dst[offset + i] = tables.get(symbolsStart + start + i);
+        }
+        return length;
+    }
+    
+    /**
+     * Returns an {@code int} with the value of the Roman numeral in standard
+     * form specified by the symbols.
+     *
+     * @param      symbols   the symbols of the Roman numeral in standard
+     *                       form.
+     * @return     an {@code int} with the value of the Roman numeral in
+     *             standard form specified by the symbols.
+     * @exception  NumberFormatException    if the symbols are not a
+     *                                      parsable Roman numeral in
+     *                                      standard form.
+     * @see     RomanNumeral#valueOf(String)
+     */
+    public int valueOf(CharSequence symbols) {
+        int value = symbols == null ? 0 : indexOf(symbols);
+        if (value == 0) {
+            throw new NumberFormatException(
+                    symbols == null ? "null"
+                                    : "For input String: \"" + symbols
+                                      + "\"");
+        }
+        return value;
+    }
+    
+    /**
+     * Returns {@code true} if, and only if, the specified symbols represent
+     * a Roman numeral in standard form.
+     *
+     * @param   symbols   the symbols to check.
+     * @return  {@code true} if the specified symbols represent a Roman
+     *          numeral in standard form, otherwise {@code false}.
+     * @see     RomanNumeral#isValid(String)
+     */
+    public boolean isValid(CharSequence symbols) {
+        return symbols != null && indexOf(symbols) != 0;
+    }
+    
+    /**
+     * Returns the value of the Roman numeral in standard form with the
+     * specified symbols, or 0 if they aren't valid.
+     */
+    private int indexOf(CharSequence symbols) {
+        int length = symbols.length();
+        if (length == 0 || length > RomanNumeral.MAX_SYMBOLS_LENGTH) {
+            return 0;
+        }
+        
+        int hash = 0; // same as String.hashCode()
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + symbols.charAt(i);
+        }
+        
+        int slot = indexSlot(hash);
+        int value;
+        while ((value = tables.getShort(indexStart + 2 * slot)) != 0) {
+            int start = symbolsOffset(value);
+            if (symbolsOffset(value + 1) - start == length) {
+                int i = 0;
+                while (i < length
+                        && tables.get(symbolsStart + start + i)
+                           == symbols.charAt(i)) {
+                    i++;
+                }
+                if (i == length) {
+                    return value;
+                }
+            }
+            
+            slot = (slot + 1) & (INDEX_LENGTH - 1);
+        }
+        return 0;
+    }
+    
+    private int symbolsOffset(int value) {
+        return tables.getShort(HEADER_LENGTH + 2 * value);
+    }
+    
+    private static int hash(byte[] symbols, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            // same as String.hashCode()
+            hash = 31 * hash + symbols[i];
+        }
+        return hash;
+    }
+    
+    private static int indexSlot(int hash) {
+        // spread high bits down, like HashMap
+        return (hash ^ hash >>> 16) & (INDEX_LENGTH - 1);
+    }
+    
+    /**
+     * Returns the CRC-32 of the specified tables after the header.
+     */
+    private static int checksum(ByteBuffer tables) {
+        ByteBuffer body = tables.duplicate();
+        body.position(HEADER_LENGTH);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+}
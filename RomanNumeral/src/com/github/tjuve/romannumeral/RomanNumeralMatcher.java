@@ -0,0 +1,349 @@
+/*
+ * RomanNumeralMatcher.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.util.Arrays;
+
+import com.github.tjuve.romannumeral.RomanNumeral.Symbol;
+
+/**
+ * Approximate matching of misread symbols (eg. OCR output) to the Roman
+ * numerals in standard form they most likely were.
+ * <p>
+ * The distance from some symbols to a numeral is the least total cost of
+ * the edits that turn them into the numeral's symbols. Inserting, deleting
+ * or replacing a character, such as a dropped or duplicated stroke, costs
+ * {@link #EDIT_COST}, except for replacing a character with the symbol it
+ * is commonly misread for, such as {@code l}, {@code 1} or {@code |} for
+ * {@code I}, {@code 0} or {@code O} for {@code D}, or a lowercase symbol
+ * for its uppercase symbol, which costs {@link #CONFUSION_COST}.
+ * <p>
+ * The numerals are indexed by a BK-tree, in which each child is a different
+ * distance from its parent. Only characters that are not symbols are
+ * misread for symbols, so the distances satisfy the triangle inequality,
+ * and a numeral in the subtree of a child can only be within
+ * {@code maxDistance} of the symbols if the distance of the symbols to the
+ * parent is within {@code maxDistance} of the distance of the child to the
+ * parent. Each lookup skips the subtrees of the other children, and only
+ * measures the distance to a small part of the numerals.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+public final class RomanNumeralMatcher {
+    /**
+     * A constant holding the cost of inserting, deleting or replacing a
+     * character, 2.
+     */
+    public static final int EDIT_COST = 2;
+    /**
+     * A constant holding the cost of replacing a character with the symbol
+     * it is commonly misread for, 1.
+     */
+    public static final int CONFUSION_COST = 1;
+    
+    /**
+     * A match of some symbols to a Roman numeral in standard form.
+     */
+    public static final class Match {
+        private final RomanNumeral numeral;
+        private final int distance;
+        
+        private Match(RomanNumeral numeral, int distance) {
+            this.numeral = numeral;
+            this.distance = distance;
+        }
+        
+        /**
+         * Returns the matched numeral.
+         *
+         * @return  the matched numeral.
+         */
+        public RomanNumeral getNumeral() {
+            return numeral;
+        }
+        
+        /**
+         * Returns the distance of the symbols to the matched numeral.
+         *
+         * @return  the least total cost of the edits from the symbols to the
+         *          symbols of the matched numeral.
+         */
+        public int getDistance() {
+            return distance;
+        }
+        
+        /**
+         * Returns the symbols of the matched numeral and the distance to
+         * them, such as {@code "XIV (1)"}.
+         */
+        @Override
+        public String toString() {
+            return numeral + " (" + distance + ")";
+        }
+    }
+    
+    private static final int NUM_SYMBOLS = Symbol.values().length;
+    /**
+     * The characters commonly misread for each symbol, by the ordinal of the
+     * symbol. None of them are symbols.
+     */
+    private static final String[] CONFUSIONS = {
+        "il1|!", "vuU", "x", "l", "c(", "dO0o", "m"
+    };
+    /**
+     * The cost of replacing each ASCII character with each symbol, at index
+     * {@code c * NUM_SYMBOLS + symbol.ordinal()}.
+     */
+    private static final byte[] replaceCosts = new byte[128 * NUM_SYMBOLS];
+    static {
+        Arrays.fill(replaceCosts, (byte) EDIT_COST);
+        for (Symbol symbol : Symbol.values()) {
+            String confusions = CONFUSIONS[symbol.ordinal()];
+            for (int i = 0; i < confusions.length(); i++) {
+                replaceCosts[confusions.charAt(i) * NUM_SYMBOLS
+                             + symbol.ordinal()] = CONFUSION_COST;
+            }
+            replaceCosts[symbol.name().charAt(0) * NUM_SYMBOLS
+                         + symbol.ordinal()] = 0;
+        }
+    }
+    
+    /**
+     * The ordinals of the symbols of each value.
+     */
+    private static final byte[][] ordinals
+            = new byte[RomanNumeral.MAX_VALUE + 1][];
+    /**
+     * The value of each node of the BK-tree, the root being node 0.
+     */
+    private static final short[] nodeValues = new short[RomanNumeral.MAX_VALUE];
+    /**
+     * The first child and next sibling of each node, or -1 if there is none,
+     * and the distance of each node to its parent.
+     */
+    private static final short[] firstChildren
+            = new short[RomanNumeral.MAX_VALUE];
+    private static final short[] nextSiblings
+            = new short[RomanNumeral.MAX_VALUE];
+    private static final byte[] parentDistances
+            = new byte[RomanNumeral.MAX_VALUE];
+    static {
+        for (int value = RomanNumeral.MIN_VALUE;
+                value <= RomanNumeral.MAX_VALUE; value++) {
+            String symbols = RomanNumeral.toString(value);
+            ordinals[value] = new byte[symbols.length()];
+            for (int i = 0; i < symbols.length(); i++) {
+                ordinals[value][i]
+                        = (byte) Symbol.valueOf(symbols.charAt(i)).ordinal();
+            }
+        }
+        
+        Arrays.fill(firstChildren, (short) -1);
+        Arrays.fill(nextSiblings, (short) -1);
+        nodeValues[0] = (short) RomanNumeral.MIN_VALUE;
+        for (int node = 1; node < nodeValues.length; node++) {
+            int value = RomanNumeral.MIN_VALUE + node;
+            nodeValues[node] = (short) value;
+            int parent = 0;
+            while (true) {
+                int distance = EDIT_COST * levenshtein(
+                        ordinals[nodeValues[parent]], ordinals[value]);
+                int child = firstChildren[parent];
+                while (child >= 0 && parentDistances[child] != distance) {
+                    child = nextSiblings[child];
+                }
+                if (child < 0) {
+                    parentDistances[node] = (byte) distance;
+                    nextSiblings[node] = firstChildren[parent];
+                    firstChildren[parent] = (short) node;
+                    break;
+                }
+                parent = child;
+            }
+        }
+    }
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralMatcher() {
+    }
+    
+    /**
+     * Returns the Roman numerals in standard form within the specified
+     * distance of the specified symbols, in increasing order of distance,
+     * and increasing order of value at the same distance.
+     *
+     * @param   symbols       the symbols to match, which may contain any
+     *                        characters.
+     * @param   maxDistance   the greatest distance of the numerals to
+     *                        return.
+     * @return  the matches within {@code maxDistance} of {@code symbols},
+     *          closest first.
+     * @throws  IllegalArgumentException    if {@code maxDistance} is
+     *                                      negative.
+     */
+    public static Match[] match(CharSequence symbols, int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException(
+                    "For input maxDistance: " + maxDistance);
+        }
+        
+        Query query = new Query(symbols);
+        // each match is packed as its distance, then its value, to sort
+        long[] found = new long[16];
+        int numFound = 0;
+        short[] stack = new short[nodeValues.length];
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            int value = nodeValues[node];
+            int distance = query.distance(ordinals[value]);
+            if (distance <= maxDistance) {
+                if (numFound == found.length) {
+                    found = Arrays.copyOf(found, 2 * numFound);
+                }
+                found[numFound++] = (long) distance << 16 | value;
+            }
+            
+            for (int child = firstChildren[node]; child >= 0;
+                    child = nextSiblings[child]) {
+                if (Math.abs(distance - parentDistances[child])
+                        <= maxDistance) {
+                    stack[top++] = (short) child;
+                }
+            }
+        }
+        
+        Arrays.sort(found, 0, numFound);
+        Match[] matches = new Match[numFound];
+        for (int i = 0; i < numFound; i++) {
+            matches[i] = new Match(RomanNumeral.of((int) found[i] & 0xFFFF),
+                                   (int) (found[i] >>> 16));
+        }
+        return matches;
+    }
+    
+    /**
+     * Returns the closest Roman numeral in standard form within the
+     * specified distance of the specified symbols, the least one if several
+     * are as close.
+     *
+     * @param   symbols       the symbols to match, which may contain any
+     *                        characters.
+     * @param   maxDistance   the greatest distance of the numeral to
+     *                        return.
+     * @return  the closest numeral within {@code maxDistance} of
+     *          {@code symbols}, or {@code null} if there is none.
+     * @throws  IllegalArgumentException    if {@code maxDistance} is
+     *                                      negative.
+     */
+    public static RomanNumeral closest(CharSequence symbols,
+                                       int maxDistance) {
+        Match[] matches = match(symbols, maxDistance);
+        return matches.length == 0 ? null : matches[0].getNumeral();
+    }
+    
+    /**
+     * Returns the distance of the specified symbols to the Roman numeral in
+     * standard form with the specified {@code int} value.
+     *
+     * @param   symbols   the symbols to measure from, which may contain any
+     *                    characters.
+     * @param   value     the value of the Roman numeral in standard form.
+     * @return  the least total cost of the edits from {@code symbols} to the
+     *          symbols of the numeral.
+     * @throws  IllegalArgumentException    if the {@code int} is not
+     *                                      representable by a Roman numeral in
+     *                                      standard form.
+     */
+    public static int distance(CharSequence symbols, int value) {
+        if (!RomanNumeral.isValid(value)) {
+            throw new IllegalArgumentException("For input int: " + value);
+        }
+        
+        return new Query(symbols).distance(ordinals[value]);
+    }
+    
+    /**
+     * Returns the least number of edits between the specified symbols.
+     */
+    private static int levenshtein(byte[] a, byte[] b) {
+        int[] row = new int[b.length + 1];
+        for (int j = 0; j <= b.length; j++) {
+            row[j] = j;
+        }
+        for (int i = 0; i < a.length; i++) {
+            int diagonal = row[0];
+            row[0] = i + 1;
+            for (int j = 0; j < b.length; j++) {
+                int above = row[j + 1];
+                row[j + 1] = Math.min(Math.min(above, row[j]) + 1,
+                                      diagonal + (a[i] == b[j] ? 0 : 1));
+                diagonal = above;
+            }
+        }
+        return row[b.length];
+    }
+    
+    /**
+     * The costs of editing the characters of some symbols being matched.
+     */
+    private static final class Query {
+        /**
+         * The cost of replacing each character with each symbol, at index
+         * {@code i * NUM_SYMBOLS + symbol.ordinal()}.
+         */
+        private final byte[] replaceCosts;
+        /**
+         * The row of the distances being computed, one for each prefix of
+         * the symbols of a numeral.
+         */
+        private final int[] row = new int[RomanNumeral.MAX_SYMBOLS_LENGTH + 1];
+        
+        Query(CharSequence symbols) {
+            replaceCosts = new byte[symbols.length() * NUM_SYMBOLS];
+            for (int i = 0; i < symbols.length(); i++) {
+                char c = symbols.charAt(i);
+                if (c < 128) {
+                    System.arraycopy(RomanNumeralMatcher.replaceCosts,
+                                     c * NUM_SYMBOLS, replaceCosts,
+                                     i * NUM_SYMBOLS, NUM_SYMBOLS);
+                } else {
+                    Arrays.fill(replaceCosts, i * NUM_SYMBOLS,
+                                (i + 1) * NUM_SYMBOLS, (byte) EDIT_COST);
+                }
+            }
+        }
+        
+        /**
+         * Returns the distance of the symbols to the numeral with the
+         * specified symbol ordinals.
+         */
+        int distance(byte[] ordinals) {
+            for (int j = 0; j <= ordinals.length; j++) {
+                row[j] = j * EDIT_COST;
+            }
+            for (int costs = 0; costs < replaceCosts.length;
+                    costs += NUM_SYMBOLS) {
+                int diagonal = row[0];
+                row[0] += EDIT_COST;
+                for (int j = 0; j < ordinals.length; j++) {
+                    int above = row[j + 1];
+                    row[j + 1] = Math.min(
+                            Math.min(above, row[j]) + EDIT_COST,
+                            diagonal + replaceCosts[costs + ordinals[j]]);
+                    diagonal = above;
+                }
+            }
+            return row[ordinals.length];
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * RomanNumeralPrefixIndex.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.util.function.IntConsumer;
+
+import com.github.tjuve.romannumeral.RomanNumeral.Symbol;
+
+/**
+ * A prefix index of the symbols of every Roman numeral in standard form,
+ * for completing numerals as they are typed (eg. {@code "MC"} completes to
+ * {@code MC}, {@code MCC}, {@code MCCC}, ..., {@code MCM}, ...).
+ * <p>
+ * The index is a trie with a node for each prefix. Every prefix of a Roman
+ * numeral in standard form is itself a Roman numeral in standard form, so
+ * there is exactly one node for each value, plus one for the empty prefix.
+ * The completions of a prefix are next to each other in lexicographic
+ * order, so each node only stores where they start in that order, how many
+ * there are, and the least and greatest of their values. Every lookup
+ * follows one child for each symbol of the prefix, in time proportional to
+ * its length, without allocating.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ * @see     RomanNumeral#lexicographicRank(int)
+ */
+public final class RomanNumeralPrefixIndex {
+    /**
+     * The number of nodes, one for the empty prefix, at index 0, and one
+     * for each value, at the index of the value.
+     */
+    private static final int NUM_NODES = RomanNumeral.MAX_VALUE + 1;
+    private static final int NUM_SYMBOLS = Symbol.values().length;
+    /**
+     * The child of each node for each symbol, at index
+     * {@code node * NUM_SYMBOLS + symbol.ordinal()}, or 0 if no numeral
+     * continues with that symbol.
+     */
+    private static final short[] children
+            = new short[NUM_NODES * NUM_SYMBOLS];
+    /**
+     * The lexicographic rank of the first completion of each node, which is
+     * the node's own numeral, since a prefix comes before what extends it,
+     * or 0 for the empty prefix.
+     */
+    private static final short[] firstRanks = new short[NUM_NODES];
+    /**
+     * The number of completions of each node.
+     */
+    private static final short[] counts = new short[NUM_NODES];
+    /**
+     * The least and greatest values of the completions of each node.
+     */
+    private static final short[] minValues = new short[NUM_NODES];
+    private static final short[] maxValues = new short[NUM_NODES];
+    /**
+     * The value of the numeral of each lexicographic rank.
+     */
+    private static final short[] rankedValues
+            = new short[RomanNumeral.MAX_VALUE];
+    static {
+        int[] parents = new int[NUM_NODES];
+        for (int value = RomanNumeral.MIN_VALUE;
+                value <= RomanNumeral.MAX_VALUE; value++) {
+            String symbols = RomanNumeral.toString(value);
+            int length = symbols.length();
+            int parent = length == 1 ? 0 : RomanNumeral.indexOf(
+                    symbols.subSequence(0, length - 1));
+            parents[value] = parent;
+            children[parent * NUM_SYMBOLS
+                     + Symbol.valueOf(symbols.charAt(length - 1)).ordinal()]
+                    = (short) value;
+            
+            int rank = RomanNumeral.lexicographicRank(value);
+            firstRanks[value] = (short) rank;
+            rankedValues[rank] = (short) value;
+        }
+        
+        // a node's completions are its own numeral and its descendants'
+        for (int node = 0; node < NUM_NODES; node++) {
+            minValues[node] = Short.MAX_VALUE;
+        }
+        for (int value = RomanNumeral.MIN_VALUE;
+                value <= RomanNumeral.MAX_VALUE; value++) {
+            for (int node = value; ; node = parents[node]) {
+                counts[node]++;
+                minValues[node] = (short) Math.min(minValues[node], value);
+                maxValues[node] = (short) Math.max(maxValues[node], value);
+                if (node == 0) {
+                    break;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralPrefixIndex() {
+    }
+    
+    /**
+     * Returns {@code true} if the specified symbols are a prefix of the
+     * symbols of a Roman numeral in standard form, including the empty
+     * prefix and the whole symbols.
+     *
+     * @param   prefix   the symbols typed so far.
+     * @return  {@code true} if some Roman numeral in standard form starts
+     *          with {@code prefix}; {@code false} otherwise.
+     */
+    public static boolean isPrefix(CharSequence prefix) {
+        return nodeOf(prefix) >= 0;
+    }
+    
+    /**
+     * Returns the number of Roman numerals in standard form whose symbols
+     * start with the specified prefix.
+     *
+     * @param   prefix   the symbols typed so far.
+     * @return  the number of completions of {@code prefix}, or 0 if there
+     *          are none.
+     */
+    public static int countCompletions(CharSequence prefix) {
+        int node = nodeOf(prefix);
+        return node < 0 ? 0 : counts[node];
+    }
+    
+    /**
+     * Returns the least value of the Roman numerals in standard form whose
+     * symbols start with the specified prefix.
+     *
+     * @param   prefix   the symbols typed so far.
+     * @return  the least value of the completions of {@code prefix}, or 0
+     *          if there are none.
+     */
+    public static int minCompletion(CharSequence prefix) {
+        int node = nodeOf(prefix);
+        return node < 0 ? 0 : minValues[node];
+    }
+    
+    /**
+     * Returns the greatest value of the Roman numerals in standard form
+     * whose symbols start with the specified prefix.
+     *
+     * @param   prefix   the symbols typed so far.
+     * @return  the greatest value of the completions of {@code prefix}, or
+     *          0 if there are none.
+     */
+    public static int maxCompletion(CharSequence prefix) {
+        int node = nodeOf(prefix);
+        return node < 0 ? 0 : maxValues[node];
+    }
+    
+    /**
+     * Returns the lexicographic rank of the first Roman numeral in standard
+     * form whose symbols start with the specified prefix. The completions
+     * have the {@link #countCompletions(CharSequence)} ranks from this one.
+     *
+     * @param   prefix   the symbols typed so far.
+     * @return  the lexicographic rank of the first completion of
+     *          {@code prefix}, or -1 if there are none.
+     * @see     RomanNumeral#ofLexicographicRank(int)
+     */
+    public static int firstCompletionRank(CharSequence prefix) {
+        int node = nodeOf(prefix);
+        return node < 0 ? -1 : firstRanks[node];
+    }
+    
+    /**
+     * Performs the specified action on the value of each Roman numeral in
+     * standard form whose symbols start with the specified prefix, in
+     * lexicographic order of their symbols.
+     *
+     * @param   prefix   the symbols typed so far.
+     * @param   action   the action to perform on each value.
+     */
+    public static void forEachCompletion(CharSequence prefix,
+                                         IntConsumer action) {
+        int node = nodeOf(prefix);
+        if (node < 0) {
+            return;
+        }
+        
+        for (int rank = firstRanks[node], end = rank + counts[node];
+                rank < end; rank++) {
+            action.accept(rankedValues[rank]);
+        }
+    }
+    
+    /**
+     * Returns the node of the specified prefix, or -1 if no numeral starts
+     * with it.
+     */
+    private static int nodeOf(CharSequence prefix) {
+        int node = 0;
+        for (int i = 0, length = prefix.length(); i < length; i++) {
+            Symbol symbol = Symbol.valueOf(prefix.charAt(i));
+            if (symbol == null) {
+                return -1;
+            }
+            node = children[node * NUM_SYMBOLS + symbol.ordinal()];
+            if (node == 0) {
+                return -1;
+            }
+        }
+        return node;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * RomanNumeralSort.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Counting sorts of Roman numerals in standard form by value.
+ * <p>
+ * There are only {@link RomanNumeral#MAX_VALUE} values, so each sort counts
+ * how many elements have each value, and then puts each element straight
+ * into place, in linear time and without comparing elements. Parallel
+ * sorts count separate chunks of the array at once, then place them at
+ * once. Counting takes a pass over arrays of {@code MAX_VALUE} counts
+ * whatever the length, so short arrays are sorted by comparing elements
+ * instead.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ * @see     RomanNumeral#sort(RomanNumeral[])
+ * @see     RomanNumeral#sortByValue(String[])
+ */
+final class RomanNumeralSort {
+    /**
+     * A constant holding the least number of elements in each chunk of a
+     * parallel sort, 8192, so that shorter arrays are sorted sequentially.
+     */
+    static final int MIN_PARALLEL_CHUNK = 1 << 13;
+    /**
+     * A constant holding the greatest number of elements sorted by
+     * comparing elements, 256, below which a pass over the counts takes
+     * longer than the comparisons.
+     */
+    static final int MAX_COMPARISON_SORT = 256;
+    
+    /**
+     * Places the elements with one value in a range of the array being
+     * sorted.
+     */
+    @FunctionalInterface
+    private interface RangeFiller {
+        void fill(int from, int to, int value);
+    }
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralSort() {
+    }
+    
+    /**
+     * Sorts the specified valid values into ascending order.
+     */
+    static void sort(int[] values, boolean parallel) {
+        if (values.length <= MAX_COMPARISON_SORT) {
+            Arrays.sort(values);
+            return;
+        }
+        fill(values, parallel,
+             (from, to, value) -> Arrays.fill(values, from, to, value));
+    }
+    
+    /**
+     * Sorts the specified numerals into ascending order of value.
+     */
+    static void sort(RomanNumeral[] numerals, boolean parallel) {
+        if (numerals.length <= MAX_COMPARISON_SORT) {
+            // reject null elements before any is moved
+            for (RomanNumeral numeral : numerals) {
+                Objects.requireNonNull(numeral);
+            }
+            // insertion sort
+            for (int i = 1; i < numerals.length; i++) {
+                RomanNumeral numeral = numerals[i];
+                int j = i;
+                for (; j > 0 && numerals[j - 1].value > numeral.value; j--) {
+                    numerals[j] = numerals[j - 1];
+                }
+                numerals[j] = numeral;
+            }
+            return;
+        }
+        
+        int[] values = new int[numerals.length];
+        for (int i = 0; i < numerals.length; i++) {
+            values[i] = numerals[i].value;
+        }
+        fill(values, parallel,
+             (from, to, value) -> Arrays.fill(numerals, from, to,
+                                              RomanNumeral.of(value)));
+    }
+    
+    /**
+     * Sorts the specified symbols into ascending order of the values of the
+     * Roman numerals they represent, keeping equal symbols in their order.
+     */
+    static void sortByValue(String[] symbols, boolean parallel) {
+        int[] values = new int[symbols.length];
+        for (int i = 0; i < symbols.length; i++) {
+            if (symbols[i] == null) {
+                throw new NumberFormatException("null");
+            }
+            values[i] = RomanNumeral.indexOf(symbols[i]);
+            if (values[i] == 0) {
+                throw new NumberFormatException(
+                        "For input String: \"" + symbols[i] + "\"");
+            }
+        }
+        
+        if (symbols.length <= MAX_COMPARISON_SORT) {
+            // insertion sort, which is stable
+            for (int i = 1; i < symbols.length; i++) {
+                String symbol = symbols[i];
+                int value = values[i];
+                int j = i;
+                for (; j > 0 && values[j - 1] > value; j--) {
+                    symbols[j] = symbols[j - 1];
+                    values[j] = values[j - 1];
+                }
+                symbols[j] = symbol;
+                values[j] = value;
+            }
+            return;
+        }
+        
+        int numChunks = numChunks(values.length, parallel);
+        int[][] offsets = chunkCounts(values, numChunks);
+        int next = 0;
+        for (int value = RomanNumeral.MIN_VALUE;
+                value <= RomanNumeral.MAX_VALUE; value++) {
+            for (int[] chunkOffsets : offsets) {
+                int count = chunkOffsets[value];
+                chunkOffsets[value] = next;
+                next += count;
+            }
+        }
+        
+        String[] sorted = new String[symbols.length];
+        forEachChunk(numChunks, chunk -> {
+            int[] chunkOffsets = offsets[chunk];
+            for (int i = chunkStart(values.length, numChunks, chunk),
+                    end = chunkStart(values.length, numChunks, chunk + 1);
+                    i < end; i++) {
+                sorted[chunkOffsets[values[i]]++] = symbols[i];
+            }
+        });
+        System.arraycopy(sorted, 0, symbols, 0, sorted.length);
+    }
+    
+    /**
+     * Counts the specified valid values, then fills the range of the sorted
+     * array of each value with the specified filler.
+     */
+    private static void fill(int[] values, boolean parallel,
+                             RangeFiller filler) {
+        int numChunks = numChunks(values.length, parallel);
+        int[][] chunkCounts = chunkCounts(values, numChunks);
+        int[] starts = new int[RomanNumeral.MAX_VALUE + 2];
+        for (int value = RomanNumeral.MIN_VALUE;
+                value <= RomanNumeral.MAX_VALUE; value++) {
+            int count = 0;
+            for (int[] counts : chunkCounts) {
+                count += counts[value];
+            }
+            starts[value + 1] = starts[value] + count;
+        }
+        
+        IntStream range = IntStream.rangeClosed(RomanNumeral.MIN_VALUE,
+                                                RomanNumeral.MAX_VALUE);
+        (numChunks > 1 ? range.parallel() : range).forEach(value -> {
+            if (starts[value] != starts[value + 1]) {
+                filler.fill(starts[value], starts[value + 1], value);
+            }
+        });
+    }
+    
+    /**
+     * Returns the number of times each value occurs in each chunk of the
+     * specified values, at index {@code [chunk][value]}.
+     */
+    private static int[][] chunkCounts(int[] values, int numChunks) {
+        int[][] chunkCounts = new int[numChunks][RomanNumeral.MAX_VALUE + 1];
+        forEachChunk(numChunks, chunk -> {
+            int[] counts = chunkCounts[chunk];
+            for (int i = chunkStart(values.length, numChunks, chunk),
+                    end = chunkStart(values.length, numChunks, chunk + 1);
+                    i < end; i++) {
+                counts[values[i]]++;
+            }
+        });
+        return chunkCounts;
+    }
+    
+    /**
+     * Returns the number of chunks to sort an array of the specified length
+     * in: 1, unless sorting in parallel, in which case enough to keep every
+     * thread of the common pool busy, with at least
+     * {@link #MIN_PARALLEL_CHUNK} elements each.
+     */
+    private static int numChunks(int length, boolean parallel) {
+        if (!parallel) {
+            return 1;
+        }
+        return Math.max(1, Math.min(
+                length / MIN_PARALLEL_CHUNK,
+                4 * ForkJoinPool.getCommonPoolParallelism()));
+    }
+    
+    private static int chunkStart(int length, int numChunks, int chunk) {
+        return (int) ((long) length * chunk / numChunks);
+    }
+    
+    private static void forEachChunk(int numChunks, IntConsumer action) {
+        if (numChunks == 1) {
+            action.accept(0);
+        } else {
+            IntStream.range(0, numChunks).parallel().forEach(action);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * RomanNumeralStreams.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Spliterators that convert streams of Roman numerals in standard form and
+ * their values in batches.
+ * <p>
+ * Elements are taken from the source stream a batch at a time, and each batch
+ * is converted in one loop before its elements are passed on, so that the
+ * conversion isn't interleaved with the rest of the pipeline, and values
+ * aren't boxed. Invalid elements are reported, or thrown, only when the
+ * stream reaches them, in order with the valid ones, so a short-circuiting
+ * pipeline never reports elements it didn't reach.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ * @see     RomanNumeral#parseAll(Stream, Consumer)
+ * @see     RomanNumeral#toStrings(IntStream, IntConsumer)
+ */
+final class RomanNumeralStreams {
+    /**
+     * A constant holding the number of elements converted at a time, 1024.
+     */
+    static final int BATCH_SIZE = 1024;
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralStreams() {
+    }
+    
+    /**
+     * Returns a stream of the values of the specified symbols.
+     *
+     * @param   symbols          the symbols.
+     * @param   invalidSymbols   accepts the symbols that aren't those of a
+     *                           Roman numeral in standard form, which are
+     *                           skipped, or {@code null} to throw a
+     *                           {@code NumberFormatException} instead.
+     * @return  a stream of the values.
+     */
+    static IntStream parseAll(Stream<? extends CharSequence> symbols,
+                              Consumer<? super CharSequence> invalidSymbols) {
+        return StreamSupport.intStream(
+                new SymbolsSpliterator(symbols.spliterator(), invalidSymbols),
+                symbols.isParallel())
+                .onClose(symbols::close);
+    }
+    
+    /**
+     * Returns a stream of the symbols of the specified values.
+     *
+     * @param   values          the values.
+     * @param   invalidValues   accepts the values that aren't representable
+     *                          by a Roman numeral in standard form, which are
+     *                          skipped, or {@code null} to throw an
+     *                          {@code IllegalArgumentException} instead.
+     * @return  a stream of the symbols.
+     */
+    static Stream<String> toStrings(IntStream values,
+                                    IntConsumer invalidValues) {
+        return StreamSupport.stream(
+                new ValuesSpliterator(values.spliterator(), invalidValues),
+                values.isParallel())
+                .onClose(values::close);
+    }
+    
+    /**
+     * Converts symbols to their values a batch at a time.
+     */
+    private static final class SymbolsSpliterator
+            implements Spliterator.OfInt, Consumer<CharSequence> {
+        private final Spliterator<? extends CharSequence> source;
+        private final Consumer<? super CharSequence> invalidSymbols;
+        private final CharSequence[] batch = new CharSequence[BATCH_SIZE];
+        /**
+         * The value of each element of the batch, or 0 if it is invalid.
+         */
+        private final int[] values = new int[BATCH_SIZE];
+        private int batchLength;
+        private int index;
+        
+        private SymbolsSpliterator(
+                Spliterator<? extends CharSequence> source,
+                Consumer<? super CharSequence> invalidSymbols) {
+            this.source = source;
+            this.invalidSymbols = invalidSymbols;
+        }
+        
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            do {
+                if (index == batchLength && !fill()) {
+                    return false;
+                }
+            } while (!next(action));
+            return true;
+        }
+        
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            do {
+                while (index < batchLength) {
+                    next(action);
+                }
+            } while (fill());
+        }
+        
+        /**
+         * Passes on the next element of the batch, or, if it is invalid,
+         * passes it to {@code invalidSymbols}, only now that the stream has
+         * reached it.
+         *
+         * @return  {@code false} if the element is invalid.
+         * @throws  NumberFormatException    if the element is invalid, and
+         *                                   there is no
+         *                                   {@code invalidSymbols}. The
+         *                                   element isn't consumed, so it
+         *                                   throws again.
+         */
+        private boolean next(IntConsumer action) {
+            CharSequence symbols = batch[index];
+            if (values[index] == 0 && invalidSymbols == null) {
+                // throws NumberFormatException
+                RomanNumeral.valueOf(symbols == null ? null
+                                                     : symbols.toString());
+                throw new AssertionError(symbols);
+            }
+            
+            batch[index] = null;
+            int value = values[index++];
+            if (value == 0) {
+                invalidSymbols.accept(symbols);
+                return false;
+            }
+            action.accept(value);
+            return true;
+        }
+        
+        /**
+         * Takes the next batch from the source and converts it.
+         *
+         * @return  {@code false} if the source has no more elements.
+         */
+        private boolean fill() {
+            batchLength = 0;
+            index = 0;
+            while (batchLength < BATCH_SIZE && source.tryAdvance(this)) {
+            }
+            
+            for (int i = 0; i < batchLength; i++) {
+                values[i] = batch[i] == null
+                            ? 0 : RomanNumeral.indexOf(batch[i]);
+            }
+            return batchLength > 0;
+        }
+        
+        /**
+         * Adds an element taken from the source to the batch.
+         */
+        @Override
+        public void accept(CharSequence symbols) {
+            batch[batchLength++] = symbols;
+        }
+        
+        @Override
+        public Spliterator.OfInt trySplit() {
+            if (index < batchLength) {
+                return null;
+            }
+            Spliterator<? extends CharSequence> prefix = source.trySplit();
+            return prefix == null
+                   ? null : new SymbolsSpliterator(prefix, invalidSymbols);
+        }
+        
+        @Override
+        public long estimateSize() {
+            long size = source.estimateSize() + (batchLength - index);
+            return size < 0 ? Long.MAX_VALUE : size;
+        }
+        
+        @Override
+        public int characteristics() {
+            // not SIZED, since elements may be skipped, or throw
+            return source.characteristics() & ORDERED | NONNULL;
+        }
+    }
+    
+    /**
+     * Converts values to their symbols a batch at a time.
+     */
+    private static final class ValuesSpliterator
+            implements Spliterator<String>, IntConsumer {
+        private final Spliterator.OfInt source;
+        private final IntConsumer invalidValues;
+        private final int[] batch = new int[BATCH_SIZE];
+        /**
+         * The symbols of each element of the batch, or {@code null} if it is
+         * invalid.
+         */
+        private final String[] symbols = new String[BATCH_SIZE];
+        private int batchLength;
+        private int index;
+        
+        private ValuesSpliterator(Spliterator.OfInt source,
+                                  IntConsumer invalidValues) {
+            this.source = source;
+            this.invalidValues = invalidValues;
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            do {
+                if (index == batchLength && !fill()) {
+                    return false;
+                }
+            } while (!next(action));
+            return true;
+        }
+        
+        @Override
+        public void forEachRemaining(Consumer<? super String> action) {
+            do {
+                while (index < batchLength) {
+                    next(action);
+                }
+            } while (fill());
+        }
+        
+        /**
+         * Passes on the next element of the batch, or, if it is invalid,
+         * passes it to {@code invalidValues}, only now that the stream has
+         * reached it.
+         *
+         * @return  {@code false} if the element is invalid.
+         * @throws  IllegalArgumentException    if the element is invalid,
+         *                                      and there is no
+         *                                      {@code invalidValues}. The
+         *                                      element isn't consumed, so
+         *                                      it throws again.
+         */
+        private boolean next(Consumer<? super String> action) {
+            String next = symbols[index];
+            if (next == null && invalidValues == null) {
+                // throws IllegalArgumentException
+                RomanNumeral.toString(batch[index]);
+                throw new AssertionError(batch[index]);
+            }
+            
+            symbols[index] = null;
+            int value = batch[index++];
+            if (next == null) {
+                invalidValues.accept(value);
+                return false;
+            }
+            action.accept(next);
+            return true;
+        }
+        
+        /**
+         * Takes the next batch from the source and converts it.
+         *
+         * @return  {@code false} if the source has no more elements.
+         */
+        private boolean fill() {
+            batchLength = 0;
+            index = 0;
+            while (batchLength < BATCH_SIZE && source.tryAdvance(this)) {
+            }
+            
+            for (int i = 0; i < batchLength; i++) {
+                symbols[i] = RomanNumeral.isValid(batch[i])
+                             ? RomanNumeral.toString(batch[i]) : null;
+            }
+            return batchLength > 0;
+        }
+        
+        /**
+         * Adds an element taken from the source to the batch.
+         */
+        @Override
+        public void accept(int value) {
+            batch[batchLength++] = value;
+        }
+        
+        @Override
+        public Spliterator<String> trySplit() {
+            if (index < batchLength) {
+                return null;
+            }
+            Spliterator.OfInt prefix = source.trySplit();
+            return prefix == null
+                   ? null : new ValuesSpliterator(prefix, invalidValues);
+        }
+        
+        @Override
+        public long estimateSize() {
+            long size = source.estimateSize() + (batchLength - index);
+            return size < 0 ? Long.MAX_VALUE : size;
+        }
+        
+        @Override
+        public int characteristics() {
+            // not SIZED, since elements may be skipped, or throw
+            return source.characteristics() & ORDERED | NONNULL;
+        }
+    }
+}
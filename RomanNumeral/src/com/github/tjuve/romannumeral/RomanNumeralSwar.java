@@ -0,0 +1,184 @@
+/*
+ * RomanNumeralSwar.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+/**
+ * Parses the ASCII symbols of Roman numerals in standard form from bytes,
+ * eight bytes at a time (SIMD within a register.)
+ * <p>
+ * The symbols of a Roman numeral in standard form are at most
+ * {@link RomanNumeral#MAX_SYMBOLS_LENGTH} bytes, so they fit in two
+ * {@code long}s. The value is computed from the number of each symbol, and
+ * the number of each subtractive pair, which are counted for all bytes at
+ * once with bit tricks. The symbols are then valid if, and only if, they are
+ * the symbols of the Roman numeral in standard form with that value, which is
+ * checked by comparing the two {@code long}s, without a branch per byte.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ * @see     RomanNumeral#indexOf(java.nio.ByteBuffer, int, int)
+ */
+final class RomanNumeralSwar {
+    /**
+     * A constant holding a {@code long} with every byte 0x01.
+     */
+    private static final long ONES = 0x0101010101010101L;
+    /**
+     * A constant holding a {@code long} with every byte 0x7F.
+     */
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+    /**
+     * A constant holding a {@code long} with every byte 0x80.
+     */
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    
+    /**
+     * The symbols of each unique Roman numeral in standard form, as two
+     * little-endian {@code long}s padded with zero bytes.
+     *
+     * @implNote The first 8 bytes of the symbols of the Roman numeral with
+     * value {@code i} are at index {@code 2 * i}, and the rest at index
+     * {@code 2 * i + 1}.
+     */
+    private static final long[] canonicalSymbols
+            = new long[2 * (RomanNumeral.MAX_VALUE + 1)];
+    static {
+        byte[] symbols = new byte[2 * Long.BYTES];
+        for (int value = RomanNumeral.MIN_VALUE;
+                value <= RomanNumeral.MAX_VALUE; value++) {
+            int length = RomanNumeral.getSymbols(value, symbols, 0);
+            canonicalSymbols[2 * value] = load(symbols, 0,
+                                               Math.min(length, Long.BYTES));
+            canonicalSymbols[2 * value + 1]
+                    = load(symbols, Long.BYTES,
+                           Math.max(length - Long.BYTES, 0));
+        }
+    }
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralSwar() {
+    }
+    
+    /**
+     * Returns the value of the Roman numeral in standard form with the
+     * ASCII symbols in the specified range of the specified array, or 0 if
+     * they aren't the symbols of a Roman numeral in standard form.
+     *
+     * @param   src    the array to read the symbols from.
+     * @param   from   the index of the first symbol.
+     * @param   to     the index after the last symbol.
+     * @return  the value of the Roman numeral, or 0 if it isn't valid.
+     * @throws  IndexOutOfBoundsException   if the range is out of the bounds
+     *                                      of {@code src}.
+     */
+    static int indexOf(byte[] src, int from, int to) {
+        int length = to - from;
+        if (length <= 0 || length > RomanNumeral.MAX_SYMBOLS_LENGTH) {
+            return 0;
+        }
+        
+        int lowLength = Math.min(length, Long.BYTES);
+        long low = load(src, from, lowLength);
+        long high = load(src, from + lowLength, length - lowLength);
+        
+        // 0x80 in each byte equal to the symbol, and 0 in every other byte
+        long lowI = matches(low, 'I');
+        long highI = matches(high, 'I');
+        long lowV = matches(low, 'V');
+        long highV = matches(high, 'V');
+        long lowX = matches(low, 'X');
+        long highX = matches(high, 'X');
+        long lowL = matches(low, 'L');
+        long highL = matches(high, 'L');
+        long lowC = matches(low, 'C');
+        long highC = matches(high, 'C');
+        long lowD = matches(low, 'D');
+        long highD = matches(high, 'D');
+        long lowM = matches(low, 'M');
+        long highM = matches(high, 'M');
+        
+        int value = count(lowI, highI)
+                    + 5 * count(lowV, highV)
+                    + 10 * count(lowX, highX)
+                    + 50 * count(lowL, highL)
+                    + 100 * count(lowC, highC)
+                    + 500 * count(lowD, highD)
+                    + 1000 * count(lowM, highM);
+        // IV, IX, XL, XC, CD and CM add the larger symbol less the smaller
+        value -= 2 * countBefore(lowI, highI, lowV | lowX, highV | highX);
+        value -= 20 * countBefore(lowX, highX, lowL | lowC, highL | highC);
+        value -= 200 * countBefore(lowC, highC, lowD | lowM, highD | highM);
+        
+        if (value < RomanNumeral.MIN_VALUE || value > RomanNumeral.MAX_VALUE
+                || RomanNumeral.encodedLength(value) != length
+                || ((canonicalSymbols[2 * value] ^ low)
+                    | (canonicalSymbols[2 * value + 1] ^ high)) != 0) {
+            return 0;
+        }
+        return value;
+    }
+    
+    /**
+     * Returns the specified number, at most 8, of bytes of the specified
+     * array, starting at the specified index, as a little-endian
+     * {@code long} padded with zero bytes.
+     * <p>
+     * Reads 8 bytes whenever the array has them, even past the specified
+     * number, and masks off the extra bytes, so most loads don't branch on
+     * the length.
+     */
+    private static long load(byte[] src, int offset, int length) {
+        if (length > 0 && offset <= src.length - Long.BYTES) {
+            long bytes = (src[offset] & 0xFFL)
+                         | (src[offset + 1] & 0xFFL) << 8
+                         | (src[offset + 2] & 0xFFL) << 16
+                         | (src[offset + 3] & 0xFFL) << 24
+                         | (src[offset + 4] & 0xFFL) << 32
+                         | (src[offset + 5] & 0xFFL) << 40
+                         | (src[offset + 6] & 0xFFL) << 48
+                         | (src[offset + 7] & 0xFFL) << 56;
+            return length == Long.BYTES
+                   ? bytes : bytes & (1L << (length << 3)) - 1;
+        }
+        
+        long bytes = 0;
+        for (int i = length - 1; i >= 0; i--) {
+            bytes = bytes << 8 | (src[offset + i] & 0xFFL);
+        }
+        return bytes;
+    }
+    
+    /**
+     * Returns a {@code long} with 0x80 in each byte of the specified
+     * {@code long} equal to the specified byte, and 0 in every other byte.
+     */
+    private static long matches(long bytes, char symbol) {
+        long diff = bytes ^ (symbol * ONES);
+        // the high bit of each byte is set if, and only if, it isn't 0
+        long nonZero = ((diff & LOW_BITS) + LOW_BITS) | diff;
+        return ~nonZero & HIGH_BITS;
+    }
+    
+    private static int count(long low, long high) {
+        return Long.bitCount(low) + Long.bitCount(high);
+    }
+    
+    /**
+     * Returns the number of bytes matched by {@code low} and {@code high}
+     * that are followed by a byte matched by {@code nextLow} and
+     * {@code nextHigh}.
+     */
+    private static int countBefore(long low, long high, long nextLow,
+                                   long nextHigh) {
+        long followedLow = low & (nextLow >>> 8 | nextHigh << 56);
+        long followedHigh = high & nextHigh >>> 8;
+        return count(followedLow, followedHigh);
+    }
+}
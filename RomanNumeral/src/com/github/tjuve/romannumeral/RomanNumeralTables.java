@@ -0,0 +1,567 @@
+/*
+ * RomanNumeralTables.java
+ *
+ * No copyright
+ *
+ * Generated by RomanNumeralTablesGenerator, do not edit.
+ */
+
+package com.github.tjuve.romannumeral;
+
+/**
+ * The symbols of every Roman numeral in standard form, as {@code String}
+ * constants, so they are loaded from the constant pool instead of being
+ * built at run time.
+ *
+ * @see RomanNumeralTablesGenerator
+ */
+final class RomanNumeralTables {
+    /**
+     * The symbols of every Roman numeral in standard form, in increasing
+     * order of value, without separators.
+     */
+    static final String SYMBOLS = ""
+            + "IIIIIIIVVVIVIIVIIIIXXXIXIIXIIIXIVXVXVIXVIIXVIIIXIXXXXXIXXIIXXIII"
+            + "XXIVXXVXXVIXXVIIXXVIIIXXIXXXXXXXIXXXIIXXXIIIXXXIVXXXVXXXVIXXXVII"
+            + "XXXVIIIXXXIXXLXLIXLIIXLIIIXLIVXLVXLVIXLVIIXLVIIIXLIXLLILIILIIILI"
+            + "VLVLVILVIILVIIILIXLXLXILXIILXIIILXIVLXVLXVILXVIILXVIIILXIXLXXLXX"
+            + "ILXXIILXXIIILXXIVLXXVLXXVILXXVIILXXVIIILXXIXLXXXLXXXILXXXIILXXXI"
+            + "IILXXXIVLXXXVLXXXVILXXXVIILXXXVIIILXXXIXXCXCIXCIIXCIIIXCIVXCVXCV"
+            + "IXCVIIXCVIIIXCIXCCICIICIIICIVCVCVICVIICVIIICIXCXCXICXIICXIIICXIV"
+            + "CXVCXVICXVIICXVIIICXIXCXXCXXICXXIICXXIIICXXIVCXXVCXXVICXXVIICXXV"
+            + "IIICXXIXCXXXCXXXICXXXIICXXXIIICXXXIVCXXXVCXXXVICXXXVIICXXXVIIICX"
+            + "XXIXCXLCXLICXLIICXLIIICXLIVCXLVCXLVICXLVIICXLVIIICXLIXCLCLICLIIC"
+            + "LIIICLIVCLVCLVICLVIICLVIIICLIXCLXCLXICLXIICLXIIICLXIVCLXVCLXVICL"
+            + "XVIICLXVIIICLXIXCLXXCLXXICLXXIICLXXIIICLXXIVCLXXVCLXXVICLXXVIICL"
+            + "XXVIIICLXXIXCLXXXCLXXXICLXXXIICLXXXIIICLXXXIVCLXXXVCLXXXVICLXXXV"
+            + "IICLXXXVIIICLXXXIXCXCCXCICXCIICXCIIICXCIVCXCVCXCVICXCVIICXCVIIIC"
+            + "XCIXCCCCICCIICCIIICCIVCCVCCVICCVIICCVIIICCIXCCXCCXICCXIICCXIIICC"
+            + "XIVCCXVCCXVICCXVIICCXVIIICCXIXCCXXCCXXICCXXIICCXXIIICCXXIVCCXXVC"
+            + "CXXVICCXXVIICCXXVIIICCXXIXCCXXXCCXXXICCXXXIICCXXXIIICCXXXIVCCXXX"
+            + "VCCXXXVICCXXXVIICCXXXVIIICCXXXIXCCXLCCXLICCXLIICCXLIIICCXLIVCCXL"
+            + "VCCXLVICCXLVIICCXLVIIICCXLIXCCLCCLICCLIICCLIIICCLIVCCLVCCLVICCLV"
+            + "IICCLVIIICCLIXCCLXCCLXICCLXIICCLXIIICCLXIVCCLXVCCLXVICCLXVIICCLX"
+            + "VIIICCLXIXCCLXXCCLXXICCLXXIICCLXXIIICCLXXIVCCLXXVCCLXXVICCLXXVII"
+            + "CCLXXVIIICCLXXIXCCLXXXCCLXXXICCLXXXIICCLXXXIIICCLXXXIVCCLXXXVCCL"
+            + "XXXVICCLXXXVIICCLXXXVIIICCLXXXIXCCXCCCXCICCXCIICCXCIIICCXCIVCCXC"
+            + "VCCXCVICCXCVIICCXCVIIICCXCIXCCCCCCICCCIICCCIIICCCIVCCCVCCCVICCCV"
+            + "IICCCVIIICCCIXCCCXCCCXICCCXIICCCXIIICCCXIVCCCXVCCCXVICCCXVIICCCX"
+            + "VIIICCCXIXCCCXXCCCXXICCCXXIICCCXXIIICCCXXIVCCCXXVCCCXXVICCCXXVII"
+            + "CCCXXVIIICCCXXIXCCCXXXCCCXXXICCCXXXIICCCXXXIIICCCXXXIVCCCXXXVCCC"
+            + "XXXVICCCXXXVIICCCXXXVIIICCCXXXIXCCCXLCCCXLICCCXLIICCCXLIIICCCXLI"
+            + "VCCCXLVCCCXLVICCCXLVIICCCXLVIIICCCXLIXCCCLCCCLICCCLIICCCLIIICCCL"
+            + "IVCCCLVCCCLVICCCLVIICCCLVIIICCCLIXCCCLXCCCLXICCCLXIICCCLXIIICCCL"
+            + "XIVCCCLXVCCCLXVICCCLXVIICCCLXVIIICCCLXIXCCCLXXCCCLXXICCCLXXIICCC"
+            + "LXXIIICCCLXXIVCCCLXXVCCCLXXVICCCLXXVIICCCLXXVIIICCCLXXIXCCCLXXXC"
+            + "CCLXXXICCCLXXXIICCCLXXXIIICCCLXXXIVCCCLXXXVCCCLXXXVICCCLXXXVIICC"
+            + "CLXXXVIIICCCLXXXIXCCCXCCCCXCICCCXCIICCCXCIIICCCXCIVCCCXCVCCCXCVI"
+            + "CCCXCVIICCCXCVIIICCCXCIXCDCDICDIICDIIICDIVCDVCDVICDVIICDVIIICDIX"
+            + "CDXCDXICDXIICDXIIICDXIVCDXVCDXVICDXVIICDXVIIICDXIXCDXXCDXXICDXXI"
+            + "ICDXXIIICDXXIVCDXXVCDXXVICDXXVIICDXXVIIICDXXIXCDXXXCDXXXICDXXXII"
+            + "CDXXXIIICDXXXIVCDXXXVCDXXXVICDXXXVIICDXXXVIIICDXXXIXCDXLCDXLICDX"
+            + "LIICDXLIIICDXLIVCDXLVCDXLVICDXLVIICDXLVIIICDXLIXCDLCDLICDLIICDLI"
+            + "IICDLIVCDLVCDLVICDLVIICDLVIIICDLIXCDLXCDLXICDLXIICDLXIIICDLXIVCD"
+            + "LXVCDLXVICDLXVIICDLXVIIICDLXIXCDLXXCDLXXICDLXXIICDLXXIIICDLXXIVC"
+            + "DLXXVCDLXXVICDLXXVIICDLXXVIIICDLXXIXCDLXXXCDLXXXICDLXXXIICDLXXXI"
+            + "IICDLXXXIVCDLXXXVCDLXXXVICDLXXXVIICDLXXXVIIICDLXXXIXCDXCCDXCICDX"
+            + "CIICDXCIIICDXCIVCDXCVCDXCVICDXCVIICDXCVIIICDXCIXDDIDIIDIIIDIVDVD"
+            + "VIDVIIDVIIIDIXDXDXIDXIIDXIIIDXIVDXVDXVIDXVIIDXVIIIDXIXDXXDXXIDXX"
+            + "IIDXXIIIDXXIVDXXVDXXVIDXXVIIDXXVIIIDXXIXDXXXDXXXIDXXXIIDXXXIIIDX"
+            + "XXIVDXXXVDXXXVIDXXXVIIDXXXVIIIDXXXIXDXLDXLIDXLIIDXLIIIDXLIVDXLVD"
+            + "XLVIDXLVIIDXLVIIIDXLIXDLDLIDLIIDLIIIDLIVDLVDLVIDLVIIDLVIIIDLIXDL"
+            + "XDLXIDLXIIDLXIIIDLXIVDLXVDLXVIDLXVIIDLXVIIIDLXIXDLXXDLXXIDLXXIID"
+            + "LXXIIIDLXXIVDLXXVDLXXVIDLXXVIIDLXXVIIIDLXXIXDLXXXDLXXXIDLXXXIIDL"
+            + "XXXIIIDLXXXIVDLXXXVDLXXXVIDLXXXVIIDLXXXVIIIDLXXXIXDXCDXCIDXCIIDX"
+            + "CIIIDXCIVDXCVDXCVIDXCVIIDXCVIIIDXCIXDCDCIDCIIDCIIIDCIVDCVDCVIDCV"
+            + "IIDCVIIIDCIXDCXDCXIDCXIIDCXIIIDCXIVDCXVDCXVIDCXVIIDCXVIIIDCXIXDC"
+            + "XXDCXXIDCXXIIDCXXIIIDCXXIVDCXXVDCXXVIDCXXVIIDCXXVIIIDCXXIXDCXXXD"
+            + "CXXXIDCXXXIIDCXXXIIIDCXXXIVDCXXXVDCXXXVIDCXXXVIIDCXXXVIIIDCXXXIX"
+            + "DCXLDCXLIDCXLIIDCXLIIIDCXLIVDCXLVDCXLVIDCXLVIIDCXLVIIIDCXLIXDCLD"
+            + "CLIDCLIIDCLIIIDCLIVDCLVDCLVIDCLVIIDCLVIIIDCLIXDCLXDCLXIDCLXIIDCL"
+            + "XIIIDCLXIVDCLXVDCLXVIDCLXVIIDCLXVIIIDCLXIXDCLXXDCLXXIDCLXXIIDCLX"
+            + "XIIIDCLXXIVDCLXXVDCLXXVIDCLXXVIIDCLXXVIIIDCLXXIXDCLXXXDCLXXXIDCL"
+            + "XXXIIDCLXXXIIIDCLXXXIVDCLXXXVDCLXXXVIDCLXXXVIIDCLXXXVIIIDCLXXXIX"
+            + "DCXCDCXCIDCXCIIDCXCIIIDCXCIVDCXCVDCXCVIDCXCVIIDCXCVIIIDCXCIXDCCD"
+            + "CCIDCCIIDCCIIIDCCIVDCCVDCCVIDCCVIIDCCVIIIDCCIXDCCXDCCXIDCCXIIDCC"
+            + "XIIIDCCXIVDCCXVDCCXVIDCCXVIIDCCXVIIIDCCXIXDCCXXDCCXXIDCCXXIIDCCX"
+            + "XIIIDCCXXIVDCCXXVDCCXXVIDCCXXVIIDCCXXVIIIDCCXXIXDCCXXXDCCXXXIDCC"
+            + "XXXIIDCCXXXIIIDCCXXXIVDCCXXXVDCCXXXVIDCCXXXVIIDCCXXXVIIIDCCXXXIX"
+            + "DCCXLDCCXLIDCCXLIIDCCXLIIIDCCXLIVDCCXLVDCCXLVIDCCXLVIIDCCXLVIIID"
+            + "CCXLIXDCCLDCCLIDCCLIIDCCLIIIDCCLIVDCCLVDCCLVIDCCLVIIDCCLVIIIDCCL"
+            + "IXDCCLXDCCLXIDCCLXIIDCCLXIIIDCCLXIVDCCLXVDCCLXVIDCCLXVIIDCCLXVII"
+            + "IDCCLXIXDCCLXXDCCLXXIDCCLXXIIDCCLXXIIIDCCLXXIVDCCLXXVDCCLXXVIDCC"
+            + "LXXVIIDCCLXXVIIIDCCLXXIXDCCLXXXDCCLXXXIDCCLXXXIIDCCLXXXIIIDCCLXX"
+            + "XIVDCCLXXXVDCCLXXXVIDCCLXXXVIIDCCLXXXVIIIDCCLXXXIXDCCXCDCCXCIDCC"
+            + "XCIIDCCXCIIIDCCXCIVDCCXCVDCCXCVIDCCXCVIIDCCXCVIIIDCCXCIXDCCCDCCC"
+            + "IDCCCIIDCCCIIIDCCCIVDCCCVDCCCVIDCCCVIIDCCCVIIIDCCCIXDCCCXDCCCXID"
+            + "CCCXIIDCCCXIIIDCCCXIVDCCCXVDCCCXVIDCCCXVIIDCCCXVIIIDCCCXIXDCCCXX"
+            + "DCCCXXIDCCCXXIIDCCCXXIIIDCCCXXIVDCCCXXVDCCCXXVIDCCCXXVIIDCCCXXVI"
+            + "IIDCCCXXIXDCCCXXXDCCCXXXIDCCCXXXIIDCCCXXXIIIDCCCXXXIVDCCCXXXVDCC"
+            + "CXXXVIDCCCXXXVIIDCCCXXXVIIIDCCCXXXIXDCCCXLDCCCXLIDCCCXLIIDCCCXLI"
+            + "IIDCCCXLIVDCCCXLVDCCCXLVIDCCCXLVIIDCCCXLVIIIDCCCXLIXDCCCLDCCCLID"
+            + "CCCLIIDCCCLIIIDCCCLIVDCCCLVDCCCLVIDCCCLVIIDCCCLVIIIDCCCLIXDCCCLX"
+            + "DCCCLXIDCCCLXIIDCCCLXIIIDCCCLXIVDCCCLXVDCCCLXVIDCCCLXVIIDCCCLXVI"
+            + "IIDCCCLXIXDCCCLXXDCCCLXXIDCCCLXXIIDCCCLXXIIIDCCCLXXIVDCCCLXXVDCC"
+            + "CLXXVIDCCCLXXVIIDCCCLXXVIIIDCCCLXXIXDCCCLXXXDCCCLXXXIDCCCLXXXIID"
+            + "CCCLXXXIIIDCCCLXXXIVDCCCLXXXVDCCCLXXXVIDCCCLXXXVIIDCCCLXXXVIIIDC"
+            + "CCLXXXIXDCCCXCDCCCXCIDCCCXCIIDCCCXCIIIDCCCXCIVDCCCXCVDCCCXCVIDCC"
+            + "CXCVIIDCCCXCVIIIDCCCXCIXCMCMICMIICMIIICMIVCMVCMVICMVIICMVIIICMIX"
+            + "CMXCMXICMXIICMXIIICMXIVCMXVCMXVICMXVIICMXVIIICMXIXCMXXCMXXICMXXI"
+            + "ICMXXIIICMXXIVCMXXVCMXXVICMXXVIICMXXVIIICMXXIXCMXXXCMXXXICMXXXII"
+            + "CMXXXIIICMXXXIVCMXXXVCMXXXVICMXXXVIICMXXXVIIICMXXXIXCMXLCMXLICMX"
+            + "LIICMXLIIICMXLIVCMXLVCMXLVICMXLVIICMXLVIIICMXLIXCMLCMLICMLIICMLI"
+            + "IICMLIVCMLVCMLVICMLVIICMLVIIICMLIXCMLXCMLXICMLXIICMLXIIICMLXIVCM"
+            + "LXVCMLXVICMLXVIICMLXVIIICMLXIXCMLXXCMLXXICMLXXIICMLXXIIICMLXXIVC"
+            + "MLXXVCMLXXVICMLXXVIICMLXXVIIICMLXXIXCMLXXXCMLXXXICMLXXXIICMLXXXI"
+            + "IICMLXXXIVCMLXXXVCMLXXXVICMLXXXVIICMLXXXVIIICMLXXXIXCMXCCMXCICMX"
+            + "CIICMXCIIICMXCIVCMXCVCMXCVICMXCVIICMXCVIIICMXCIXMMIMIIMIIIMIVMVM"
+            + "VIMVIIMVIIIMIXMXMXIMXIIMXIIIMXIVMXVMXVIMXVIIMXVIIIMXIXMXXMXXIMXX"
+            + "IIMXXIIIMXXIVMXXVMXXVIMXXVIIMXXVIIIMXXIXMXXXMXXXIMXXXIIMXXXIIIMX"
+            + "XXIVMXXXVMXXXVIMXXXVIIMXXXVIIIMXXXIXMXLMXLIMXLIIMXLIIIMXLIVMXLVM"
+            + "XLVIMXLVIIMXLVIIIMXLIXMLMLIMLIIMLIIIMLIVMLVMLVIMLVIIMLVIIIMLIXML"
+            + "XMLXIMLXIIMLXIIIMLXIVMLXVMLXVIMLXVIIMLXVIIIMLXIXMLXXMLXXIMLXXIIM"
+            + "LXXIIIMLXXIVMLXXVMLXXVIMLXXVIIMLXXVIIIMLXXIXMLXXXMLXXXIMLXXXIIML"
+            + "XXXIIIMLXXXIVMLXXXVMLXXXVIMLXXXVIIMLXXXVIIIMLXXXIXMXCMXCIMXCIIMX"
+            + "CIIIMXCIVMXCVMXCVIMXCVIIMXCVIIIMXCIXMCMCIMCIIMCIIIMCIVMCVMCVIMCV"
+            + "IIMCVIIIMCIXMCXMCXIMCXIIMCXIIIMCXIVMCXVMCXVIMCXVIIMCXVIIIMCXIXMC"
+            + "XXMCXXIMCXXIIMCXXIIIMCXXIVMCXXVMCXXVIMCXXVIIMCXXVIIIMCXXIXMCXXXM"
+            + "CXXXIMCXXXIIMCXXXIIIMCXXXIVMCXXXVMCXXXVIMCXXXVIIMCXXXVIIIMCXXXIX"
+            + "MCXLMCXLIMCXLIIMCXLIIIMCXLIVMCXLVMCXLVIMCXLVIIMCXLVIIIMCXLIXMCLM"
+            + "CLIMCLIIMCLIIIMCLIVMCLVMCLVIMCLVIIMCLVIIIMCLIXMCLXMCLXIMCLXIIMCL"
+            + "XIIIMCLXIVMCLXVMCLXVIMCLXVIIMCLXVIIIMCLXIXMCLXXMCLXXIMCLXXIIMCLX"
+            + "XIIIMCLXXIVMCLXXVMCLXXVIMCLXXVIIMCLXXVIIIMCLXXIXMCLXXXMCLXXXIMCL"
+            + "XXXIIMCLXXXIIIMCLXXXIVMCLXXXVMCLXXXVIMCLXXXVIIMCLXXXVIIIMCLXXXIX"
+            + "MCXCMCXCIMCXCIIMCXCIIIMCXCIVMCXCVMCXCVIMCXCVIIMCXCVIIIMCXCIXMCCM"
+            + "CCIMCCIIMCCIIIMCCIVMCCVMCCVIMCCVIIMCCVIIIMCCIXMCCXMCCXIMCCXIIMCC"
+            + "XIIIMCCXIVMCCXVMCCXVIMCCXVIIMCCXVIIIMCCXIXMCCXXMCCXXIMCCXXIIMCCX"
+            + "XIIIMCCXXIVMCCXXVMCCXXVIMCCXXVIIMCCXXVIIIMCCXXIXMCCXXXMCCXXXIMCC"
+            + "XXXIIMCCXXXIIIMCCXXXIVMCCXXXVMCCXXXVIMCCXXXVIIMCCXXXVIIIMCCXXXIX"
+            + "MCCXLMCCXLIMCCXLIIMCCXLIIIMCCXLIVMCCXLVMCCXLVIMCCXLVIIMCCXLVIIIM"
+            + "CCXLIXMCCLMCCLIMCCLIIMCCLIIIMCCLIVMCCLVMCCLVIMCCLVIIMCCLVIIIMCCL"
+            + "IXMCCLXMCCLXIMCCLXIIMCCLXIIIMCCLXIVMCCLXVMCCLXVIMCCLXVIIMCCLXVII"
+            + "IMCCLXIXMCCLXXMCCLXXIMCCLXXIIMCCLXXIIIMCCLXXIVMCCLXXVMCCLXXVIMCC"
+            + "LXXVIIMCCLXXVIIIMCCLXXIXMCCLXXXMCCLXXXIMCCLXXXIIMCCLXXXIIIMCCLXX"
+            + "XIVMCCLXXXVMCCLXXXVIMCCLXXXVIIMCCLXXXVIIIMCCLXXXIXMCCXCMCCXCIMCC"
+            + "XCIIMCCXCIIIMCCXCIVMCCXCVMCCXCVIMCCXCVIIMCCXCVIIIMCCXCIXMCCCMCCC"
+            + "IMCCCIIMCCCIIIMCCCIVMCCCVMCCCVIMCCCVIIMCCCVIIIMCCCIXMCCCXMCCCXIM"
+            + "CCCXIIMCCCXIIIMCCCXIVMCCCXVMCCCXVIMCCCXVIIMCCCXVIIIMCCCXIXMCCCXX"
+            + "MCCCXXIMCCCXXIIMCCCXXIIIMCCCXXIVMCCCXXVMCCCXXVIMCCCXXVIIMCCCXXVI"
+            + "IIMCCCXXIXMCCCXXXMCCCXXXIMCCCXXXIIMCCCXXXIIIMCCCXXXIVMCCCXXXVMCC"
+            + "CXXXVIMCCCXXXVIIMCCCXXXVIIIMCCCXXXIXMCCCXLMCCCXLIMCCCXLIIMCCCXLI"
+            + "IIMCCCXLIVMCCCXLVMCCCXLVIMCCCXLVIIMCCCXLVIIIMCCCXLIXMCCCLMCCCLIM"
+            + "CCCLIIMCCCLIIIMCCCLIVMCCCLVMCCCLVIMCCCLVIIMCCCLVIIIMCCCLIXMCCCLX"
+            + "MCCCLXIMCCCLXIIMCCCLXIIIMCCCLXIVMCCCLXVMCCCLXVIMCCCLXVIIMCCCLXVI"
+            + "IIMCCCLXIXMCCCLXXMCCCLXXIMCCCLXXIIMCCCLXXIIIMCCCLXXIVMCCCLXXVMCC"
+            + "CLXXVIMCCCLXXVIIMCCCLXXVIIIMCCCLXXIXMCCCLXXXMCCCLXXXIMCCCLXXXIIM"
+            + "CCCLXXXIIIMCCCLXXXIVMCCCLXXXVMCCCLXXXVIMCCCLXXXVIIMCCCLXXXVIIIMC"
+            + "CCLXXXIXMCCCXCMCCCXCIMCCCXCIIMCCCXCIIIMCCCXCIVMCCCXCVMCCCXCVIMCC"
+            + "CXCVIIMCCCXCVIIIMCCCXCIXMCDMCDIMCDIIMCDIIIMCDIVMCDVMCDVIMCDVIIMC"
+            + "DVIIIMCDIXMCDXMCDXIMCDXIIMCDXIIIMCDXIVMCDXVMCDXVIMCDXVIIMCDXVIII"
+            + "MCDXIXMCDXXMCDXXIMCDXXIIMCDXXIIIMCDXXIVMCDXXVMCDXXVIMCDXXVIIMCDX"
+            + "XVIIIMCDXXIXMCDXXXMCDXXXIMCDXXXIIMCDXXXIIIMCDXXXIVMCDXXXVMCDXXXV"
+            + "IMCDXXXVIIMCDXXXVIIIMCDXXXIXMCDXLMCDXLIMCDXLIIMCDXLIIIMCDXLIVMCD"
+            + "XLVMCDXLVIMCDXLVIIMCDXLVIIIMCDXLIXMCDLMCDLIMCDLIIMCDLIIIMCDLIVMC"
+            + "DLVMCDLVIMCDLVIIMCDLVIIIMCDLIXMCDLXMCDLXIMCDLXIIMCDLXIIIMCDLXIVM"
+            + "CDLXVMCDLXVIMCDLXVIIMCDLXVIIIMCDLXIXMCDLXXMCDLXXIMCDLXXIIMCDLXXI"
+            + "IIMCDLXXIVMCDLXXVMCDLXXVIMCDLXXVIIMCDLXXVIIIMCDLXXIXMCDLXXXMCDLX"
+            + "XXIMCDLXXXIIMCDLXXXIIIMCDLXXXIVMCDLXXXVMCDLXXXVIMCDLXXXVIIMCDLXX"
+            + "XVIIIMCDLXXXIXMCDXCMCDXCIMCDXCIIMCDXCIIIMCDXCIVMCDXCVMCDXCVIMCDX"
+            + "CVIIMCDXCVIIIMCDXCIXMDMDIMDIIMDIIIMDIVMDVMDVIMDVIIMDVIIIMDIXMDXM"
+            + "DXIMDXIIMDXIIIMDXIVMDXVMDXVIMDXVIIMDXVIIIMDXIXMDXXMDXXIMDXXIIMDX"
+            + "XIIIMDXXIVMDXXVMDXXVIMDXXVIIMDXXVIIIMDXXIXMDXXXMDXXXIMDXXXIIMDXX"
+            + "XIIIMDXXXIVMDXXXVMDXXXVIMDXXXVIIMDXXXVIIIMDXXXIXMDXLMDXLIMDXLIIM"
+            + "DXLIIIMDXLIVMDXLVMDXLVIMDXLVIIMDXLVIIIMDXLIXMDLMDLIMDLIIMDLIIIMD"
+            + "LIVMDLVMDLVIMDLVIIMDLVIIIMDLIXMDLXMDLXIMDLXIIMDLXIIIMDLXIVMDLXVM"
+            + "DLXVIMDLXVIIMDLXVIIIMDLXIXMDLXXMDLXXIMDLXXIIMDLXXIIIMDLXXIVMDLXX"
+            + "VMDLXXVIMDLXXVIIMDLXXVIIIMDLXXIXMDLXXXMDLXXXIMDLXXXIIMDLXXXIIIMD"
+            + "LXXXIVMDLXXXVMDLXXXVIMDLXXXVIIMDLXXXVIIIMDLXXXIXMDXCMDXCIMDXCIIM"
+            + "DXCIIIMDXCIVMDXCVMDXCVIMDXCVIIMDXCVIIIMDXCIXMDCMDCIMDCIIMDCIIIMD"
+            + "CIVMDCVMDCVIMDCVIIMDCVIIIMDCIXMDCXMDCXIMDCXIIMDCXIIIMDCXIVMDCXVM"
+            + "DCXVIMDCXVIIMDCXVIIIMDCXIXMDCXXMDCXXIMDCXXIIMDCXXIIIMDCXXIVMDCXX"
+            + "VMDCXXVIMDCXXVIIMDCXXVIIIMDCXXIXMDCXXXMDCXXXIMDCXXXIIMDCXXXIIIMD"
+            + "CXXXIVMDCXXXVMDCXXXVIMDCXXXVIIMDCXXXVIIIMDCXXXIXMDCXLMDCXLIMDCXL"
+            + "IIMDCXLIIIMDCXLIVMDCXLVMDCXLVIMDCXLVIIMDCXLVIIIMDCXLIXMDCLMDCLIM"
+            + "DCLIIMDCLIIIMDCLIVMDCLVMDCLVIMDCLVIIMDCLVIIIMDCLIXMDCLXMDCLXIMDC"
+            + "LXIIMDCLXIIIMDCLXIVMDCLXVMDCLXVIMDCLXVIIMDCLXVIIIMDCLXIXMDCLXXMD"
+            + "CLXXIMDCLXXIIMDCLXXIIIMDCLXXIVMDCLXXVMDCLXXVIMDCLXXVIIMDCLXXVIII"
+            + "MDCLXXIXMDCLXXXMDCLXXXIMDCLXXXIIMDCLXXXIIIMDCLXXXIVMDCLXXXVMDCLX"
+            + "XXVIMDCLXXXVIIMDCLXXXVIIIMDCLXXXIXMDCXCMDCXCIMDCXCIIMDCXCIIIMDCX"
+            + "CIVMDCXCVMDCXCVIMDCXCVIIMDCXCVIIIMDCXCIXMDCCMDCCIMDCCIIMDCCIIIMD"
+            + "CCIVMDCCVMDCCVIMDCCVIIMDCCVIIIMDCCIXMDCCXMDCCXIMDCCXIIMDCCXIIIMD"
+            + "CCXIVMDCCXVMDCCXVIMDCCXVIIMDCCXVIIIMDCCXIXMDCCXXMDCCXXIMDCCXXIIM"
+            + "DCCXXIIIMDCCXXIVMDCCXXVMDCCXXVIMDCCXXVIIMDCCXXVIIIMDCCXXIXMDCCXX"
+            + "XMDCCXXXIMDCCXXXIIMDCCXXXIIIMDCCXXXIVMDCCXXXVMDCCXXXVIMDCCXXXVII"
+            + "MDCCXXXVIIIMDCCXXXIXMDCCXLMDCCXLIMDCCXLIIMDCCXLIIIMDCCXLIVMDCCXL"
+            + "VMDCCXLVIMDCCXLVIIMDCCXLVIIIMDCCXLIXMDCCLMDCCLIMDCCLIIMDCCLIIIMD"
+            + "CCLIVMDCCLVMDCCLVIMDCCLVIIMDCCLVIIIMDCCLIXMDCCLXMDCCLXIMDCCLXIIM"
+            + "DCCLXIIIMDCCLXIVMDCCLXVMDCCLXVIMDCCLXVIIMDCCLXVIIIMDCCLXIXMDCCLX"
+            + "XMDCCLXXIMDCCLXXIIMDCCLXXIIIMDCCLXXIVMDCCLXXVMDCCLXXVIMDCCLXXVII"
+            + "MDCCLXXVIIIMDCCLXXIXMDCCLXXXMDCCLXXXIMDCCLXXXIIMDCCLXXXIIIMDCCLX"
+            + "XXIVMDCCLXXXVMDCCLXXXVIMDCCLXXXVIIMDCCLXXXVIIIMDCCLXXXIXMDCCXCMD"
+            + "CCXCIMDCCXCIIMDCCXCIIIMDCCXCIVMDCCXCVMDCCXCVIMDCCXCVIIMDCCXCVIII"
+            + "MDCCXCIXMDCCCMDCCCIMDCCCIIMDCCCIIIMDCCCIVMDCCCVMDCCCVIMDCCCVIIMD"
+            + "CCCVIIIMDCCCIXMDCCCXMDCCCXIMDCCCXIIMDCCCXIIIMDCCCXIVMDCCCXVMDCCC"
+            + "XVIMDCCCXVIIMDCCCXVIIIMDCCCXIXMDCCCXXMDCCCXXIMDCCCXXIIMDCCCXXIII"
+            + "MDCCCXXIVMDCCCXXVMDCCCXXVIMDCCCXXVIIMDCCCXXVIIIMDCCCXXIXMDCCCXXX"
+            + "MDCCCXXXIMDCCCXXXIIMDCCCXXXIIIMDCCCXXXIVMDCCCXXXVMDCCCXXXVIMDCCC"
+            + "XXXVIIMDCCCXXXVIIIMDCCCXXXIXMDCCCXLMDCCCXLIMDCCCXLIIMDCCCXLIIIMD"
+            + "CCCXLIVMDCCCXLVMDCCCXLVIMDCCCXLVIIMDCCCXLVIIIMDCCCXLIXMDCCCLMDCC"
+            + "CLIMDCCCLIIMDCCCLIIIMDCCCLIVMDCCCLVMDCCCLVIMDCCCLVIIMDCCCLVIIIMD"
+            + "CCCLIXMDCCCLXMDCCCLXIMDCCCLXIIMDCCCLXIIIMDCCCLXIVMDCCCLXVMDCCCLX"
+            + "VIMDCCCLXVIIMDCCCLXVIIIMDCCCLXIXMDCCCLXXMDCCCLXXIMDCCCLXXIIMDCCC"
+            + "LXXIIIMDCCCLXXIVMDCCCLXXVMDCCCLXXVIMDCCCLXXVIIMDCCCLXXVIIIMDCCCL"
+            + "XXIXMDCCCLXXXMDCCCLXXXIMDCCCLXXXIIMDCCCLXXXIIIMDCCCLXXXIVMDCCCLX"
+            + "XXVMDCCCLXXXVIMDCCCLXXXVIIMDCCCLXXXVIIIMDCCCLXXXIXMDCCCXCMDCCCXC"
+            + "IMDCCCXCIIMDCCCXCIIIMDCCCXCIVMDCCCXCVMDCCCXCVIMDCCCXCVIIMDCCCXCV"
+            + "IIIMDCCCXCIXMCMMCMIMCMIIMCMIIIMCMIVMCMVMCMVIMCMVIIMCMVIIIMCMIXMC"
+            + "MXMCMXIMCMXIIMCMXIIIMCMXIVMCMXVMCMXVIMCMXVIIMCMXVIIIMCMXIXMCMXXM"
+            + "CMXXIMCMXXIIMCMXXIIIMCMXXIVMCMXXVMCMXXVIMCMXXVIIMCMXXVIIIMCMXXIX"
+            + "MCMXXXMCMXXXIMCMXXXIIMCMXXXIIIMCMXXXIVMCMXXXVMCMXXXVIMCMXXXVIIMC"
+            + "MXXXVIIIMCMXXXIXMCMXLMCMXLIMCMXLIIMCMXLIIIMCMXLIVMCMXLVMCMXLVIMC"
+            + "MXLVIIMCMXLVIIIMCMXLIXMCMLMCMLIMCMLIIMCMLIIIMCMLIVMCMLVMCMLVIMCM"
+            + "LVIIMCMLVIIIMCMLIXMCMLXMCMLXIMCMLXIIMCMLXIIIMCMLXIVMCMLXVMCMLXVI"
+            + "MCMLXVIIMCMLXVIIIMCMLXIXMCMLXXMCMLXXIMCMLXXIIMCMLXXIIIMCMLXXIVMC"
+            + "MLXXVMCMLXXVIMCMLXXVIIMCMLXXVIIIMCMLXXIXMCMLXXXMCMLXXXIMCMLXXXII"
+            + "MCMLXXXIIIMCMLXXXIVMCMLXXXVMCMLXXXVIMCMLXXXVIIMCMLXXXVIIIMCMLXXX"
+            + "IXMCMXCMCMXCIMCMXCIIMCMXCIIIMCMXCIVMCMXCVMCMXCVIMCMXCVIIMCMXCVII"
+            + "IMCMXCIXMMMMIMMIIMMIIIMMIVMMVMMVIMMVIIMMVIIIMMIXMMXMMXIMMXIIMMXI"
+            + "IIMMXIVMMXVMMXVIMMXVIIMMXVIIIMMXIXMMXXMMXXIMMXXIIMMXXIIIMMXXIVMM"
+            + "XXVMMXXVIMMXXVIIMMXXVIIIMMXXIXMMXXXMMXXXIMMXXXIIMMXXXIIIMMXXXIVM"
+            + "MXXXVMMXXXVIMMXXXVIIMMXXXVIIIMMXXXIXMMXLMMXLIMMXLIIMMXLIIIMMXLIV"
+            + "MMXLVMMXLVIMMXLVIIMMXLVIIIMMXLIXMMLMMLIMMLIIMMLIIIMMLIVMMLVMMLVI"
+            + "MMLVIIMMLVIIIMMLIXMMLXMMLXIMMLXIIMMLXIIIMMLXIVMMLXVMMLXVIMMLXVII"
+            + "MMLXVIIIMMLXIXMMLXXMMLXXIMMLXXIIMMLXXIIIMMLXXIVMMLXXVMMLXXVIMMLX"
+            + "XVIIMMLXXVIIIMMLXXIXMMLXXXMMLXXXIMMLXXXIIMMLXXXIIIMMLXXXIVMMLXXX"
+            + "VMMLXXXVIMMLXXXVIIMMLXXXVIIIMMLXXXIXMMXCMMXCIMMXCIIMMXCIIIMMXCIV"
+            + "MMXCVMMXCVIMMXCVIIMMXCVIIIMMXCIXMMCMMCIMMCIIMMCIIIMMCIVMMCVMMCVI"
+            + "MMCVIIMMCVIIIMMCIXMMCXMMCXIMMCXIIMMCXIIIMMCXIVMMCXVMMCXVIMMCXVII"
+            + "MMCXVIIIMMCXIXMMCXXMMCXXIMMCXXIIMMCXXIIIMMCXXIVMMCXXVMMCXXVIMMCX"
+            + "XVIIMMCXXVIIIMMCXXIXMMCXXXMMCXXXIMMCXXXIIMMCXXXIIIMMCXXXIVMMCXXX"
+            + "VMMCXXXVIMMCXXXVIIMMCXXXVIIIMMCXXXIXMMCXLMMCXLIMMCXLIIMMCXLIIIMM"
+            + "CXLIVMMCXLVMMCXLVIMMCXLVIIMMCXLVIIIMMCXLIXMMCLMMCLIMMCLIIMMCLIII"
+            + "MMCLIVMMCLVMMCLVIMMCLVIIMMCLVIIIMMCLIXMMCLXMMCLXIMMCLXIIMMCLXIII"
+            + "MMCLXIVMMCLXVMMCLXVIMMCLXVIIMMCLXVIIIMMCLXIXMMCLXXMMCLXXIMMCLXXI"
+            + "IMMCLXXIIIMMCLXXIVMMCLXXVMMCLXXVIMMCLXXVIIMMCLXXVIIIMMCLXXIXMMCL"
+            + "XXXMMCLXXXIMMCLXXXIIMMCLXXXIIIMMCLXXXIVMMCLXXXVMMCLXXXVIMMCLXXXV"
+            + "IIMMCLXXXVIIIMMCLXXXIXMMCXCMMCXCIMMCXCIIMMCXCIIIMMCXCIVMMCXCVMMC"
+            + "XCVIMMCXCVIIMMCXCVIIIMMCXCIXMMCCMMCCIMMCCIIMMCCIIIMMCCIVMMCCVMMC"
+            + "CVIMMCCVIIMMCCVIIIMMCCIXMMCCXMMCCXIMMCCXIIMMCCXIIIMMCCXIVMMCCXVM"
+            + "MCCXVIMMCCXVIIMMCCXVIIIMMCCXIXMMCCXXMMCCXXIMMCCXXIIMMCCXXIIIMMCC"
+            + "XXIVMMCCXXVMMCCXXVIMMCCXXVIIMMCCXXVIIIMMCCXXIXMMCCXXXMMCCXXXIMMC"
+            + "CXXXIIMMCCXXXIIIMMCCXXXIVMMCCXXXVMMCCXXXVIMMCCXXXVIIMMCCXXXVIIIM"
+            + "MCCXXXIXMMCCXLMMCCXLIMMCCXLIIMMCCXLIIIMMCCXLIVMMCCXLVMMCCXLVIMMC"
+            + "CXLVIIMMCCXLVIIIMMCCXLIXMMCCLMMCCLIMMCCLIIMMCCLIIIMMCCLIVMMCCLVM"
+            + "MCCLVIMMCCLVIIMMCCLVIIIMMCCLIXMMCCLXMMCCLXIMMCCLXIIMMCCLXIIIMMCC"
+            + "LXIVMMCCLXVMMCCLXVIMMCCLXVIIMMCCLXVIIIMMCCLXIXMMCCLXXMMCCLXXIMMC"
+            + "CLXXIIMMCCLXXIIIMMCCLXXIVMMCCLXXVMMCCLXXVIMMCCLXXVIIMMCCLXXVIIIM"
+            + "MCCLXXIXMMCCLXXXMMCCLXXXIMMCCLXXXIIMMCCLXXXIIIMMCCLXXXIVMMCCLXXX"
+            + "VMMCCLXXXVIMMCCLXXXVIIMMCCLXXXVIIIMMCCLXXXIXMMCCXCMMCCXCIMMCCXCI"
+            + "IMMCCXCIIIMMCCXCIVMMCCXCVMMCCXCVIMMCCXCVIIMMCCXCVIIIMMCCXCIXMMCC"
+            + "CMMCCCIMMCCCIIMMCCCIIIMMCCCIVMMCCCVMMCCCVIMMCCCVIIMMCCCVIIIMMCCC"
+            + "IXMMCCCXMMCCCXIMMCCCXIIMMCCCXIIIMMCCCXIVMMCCCXVMMCCCXVIMMCCCXVII"
+            + "MMCCCXVIIIMMCCCXIXMMCCCXXMMCCCXXIMMCCCXXIIMMCCCXXIIIMMCCCXXIVMMC"
+            + "CCXXVMMCCCXXVIMMCCCXXVIIMMCCCXXVIIIMMCCCXXIXMMCCCXXXMMCCCXXXIMMC"
+            + "CCXXXIIMMCCCXXXIIIMMCCCXXXIVMMCCCXXXVMMCCCXXXVIMMCCCXXXVIIMMCCCX"
+            + "XXVIIIMMCCCXXXIXMMCCCXLMMCCCXLIMMCCCXLIIMMCCCXLIIIMMCCCXLIVMMCCC"
+            + "XLVMMCCCXLVIMMCCCXLVIIMMCCCXLVIIIMMCCCXLIXMMCCCLMMCCCLIMMCCCLIIM"
+            + "MCCCLIIIMMCCCLIVMMCCCLVMMCCCLVIMMCCCLVIIMMCCCLVIIIMMCCCLIXMMCCCL"
+            + "XMMCCCLXIMMCCCLXIIMMCCCLXIIIMMCCCLXIVMMCCCLXVMMCCCLXVIMMCCCLXVII"
+            + "MMCCCLXVIIIMMCCCLXIXMMCCCLXXMMCCCLXXIMMCCCLXXIIMMCCCLXXIIIMMCCCL"
+            + "XXIVMMCCCLXXVMMCCCLXXVIMMCCCLXXVIIMMCCCLXXVIIIMMCCCLXXIXMMCCCLXX"
+            + "XMMCCCLXXXIMMCCCLXXXIIMMCCCLXXXIIIMMCCCLXXXIVMMCCCLXXXVMMCCCLXXX"
+            + "VIMMCCCLXXXVIIMMCCCLXXXVIIIMMCCCLXXXIXMMCCCXCMMCCCXCIMMCCCXCIIMM"
+            + "CCCXCIIIMMCCCXCIVMMCCCXCVMMCCCXCVIMMCCCXCVIIMMCCCXCVIIIMMCCCXCIX"
+            + "MMCDMMCDIMMCDIIMMCDIIIMMCDIVMMCDVMMCDVIMMCDVIIMMCDVIIIMMCDIXMMCD"
+            + "XMMCDXIMMCDXIIMMCDXIIIMMCDXIVMMCDXVMMCDXVIMMCDXVIIMMCDXVIIIMMCDX"
+            + "IXMMCDXXMMCDXXIMMCDXXIIMMCDXXIIIMMCDXXIVMMCDXXVMMCDXXVIMMCDXXVII"
+            + "MMCDXXVIIIMMCDXXIXMMCDXXXMMCDXXXIMMCDXXXIIMMCDXXXIIIMMCDXXXIVMMC"
+            + "DXXXVMMCDXXXVIMMCDXXXVIIMMCDXXXVIIIMMCDXXXIXMMCDXLMMCDXLIMMCDXLI"
+            + "IMMCDXLIIIMMCDXLIVMMCDXLVMMCDXLVIMMCDXLVIIMMCDXLVIIIMMCDXLIXMMCD"
+            + "LMMCDLIMMCDLIIMMCDLIIIMMCDLIVMMCDLVMMCDLVIMMCDLVIIMMCDLVIIIMMCDL"
+            + "IXMMCDLXMMCDLXIMMCDLXIIMMCDLXIIIMMCDLXIVMMCDLXVMMCDLXVIMMCDLXVII"
+            + "MMCDLXVIIIMMCDLXIXMMCDLXXMMCDLXXIMMCDLXXIIMMCDLXXIIIMMCDLXXIVMMC"
+            + "DLXXVMMCDLXXVIMMCDLXXVIIMMCDLXXVIIIMMCDLXXIXMMCDLXXXMMCDLXXXIMMC"
+            + "DLXXXIIMMCDLXXXIIIMMCDLXXXIVMMCDLXXXVMMCDLXXXVIMMCDLXXXVIIMMCDLX"
+            + "XXVIIIMMCDLXXXIXMMCDXCMMCDXCIMMCDXCIIMMCDXCIIIMMCDXCIVMMCDXCVMMC"
+            + "DXCVIMMCDXCVIIMMCDXCVIIIMMCDXCIXMMDMMDIMMDIIMMDIIIMMDIVMMDVMMDVI"
+            + "MMDVIIMMDVIIIMMDIXMMDXMMDXIMMDXIIMMDXIIIMMDXIVMMDXVMMDXVIMMDXVII"
+            + "MMDXVIIIMMDXIXMMDXXMMDXXIMMDXXIIMMDXXIIIMMDXXIVMMDXXVMMDXXVIMMDX"
+            + "XVIIMMDXXVIIIMMDXXIXMMDXXXMMDXXXIMMDXXXIIMMDXXXIIIMMDXXXIVMMDXXX"
+            + "VMMDXXXVIMMDXXXVIIMMDXXXVIIIMMDXXXIXMMDXLMMDXLIMMDXLIIMMDXLIIIMM"
+            + "DXLIVMMDXLVMMDXLVIMMDXLVIIMMDXLVIIIMMDXLIXMMDLMMDLIMMDLIIMMDLIII"
+            + "MMDLIVMMDLVMMDLVIMMDLVIIMMDLVIIIMMDLIXMMDLXMMDLXIMMDLXIIMMDLXIII"
+            + "MMDLXIVMMDLXVMMDLXVIMMDLXVIIMMDLXVIIIMMDLXIXMMDLXXMMDLXXIMMDLXXI"
+            + "IMMDLXXIIIMMDLXXIVMMDLXXVMMDLXXVIMMDLXXVIIMMDLXXVIIIMMDLXXIXMMDL"
+            + "XXXMMDLXXXIMMDLXXXIIMMDLXXXIIIMMDLXXXIVMMDLXXXVMMDLXXXVIMMDLXXXV"
+            + "IIMMDLXXXVIIIMMDLXXXIXMMDXCMMDXCIMMDXCIIMMDXCIIIMMDXCIVMMDXCVMMD"
+            + "XCVIMMDXCVIIMMDXCVIIIMMDXCIXMMDCMMDCIMMDCIIMMDCIIIMMDCIVMMDCVMMD"
+            + "CVIMMDCVIIMMDCVIIIMMDCIXMMDCXMMDCXIMMDCXIIMMDCXIIIMMDCXIVMMDCXVM"
+            + "MDCXVIMMDCXVIIMMDCXVIIIMMDCXIXMMDCXXMMDCXXIMMDCXXIIMMDCXXIIIMMDC"
+            + "XXIVMMDCXXVMMDCXXVIMMDCXXVIIMMDCXXVIIIMMDCXXIXMMDCXXXMMDCXXXIMMD"
+            + "CXXXIIMMDCXXXIIIMMDCXXXIVMMDCXXXVMMDCXXXVIMMDCXXXVIIMMDCXXXVIIIM"
+            + "MDCXXXIXMMDCXLMMDCXLIMMDCXLIIMMDCXLIIIMMDCXLIVMMDCXLVMMDCXLVIMMD"
+            + "CXLVIIMMDCXLVIIIMMDCXLIXMMDCLMMDCLIMMDCLIIMMDCLIIIMMDCLIVMMDCLVM"
+            + "MDCLVIMMDCLVIIMMDCLVIIIMMDCLIXMMDCLXMMDCLXIMMDCLXIIMMDCLXIIIMMDC"
+            + "LXIVMMDCLXVMMDCLXVIMMDCLXVIIMMDCLXVIIIMMDCLXIXMMDCLXXMMDCLXXIMMD"
+            + "CLXXIIMMDCLXXIIIMMDCLXXIVMMDCLXXVMMDCLXXVIMMDCLXXVIIMMDCLXXVIIIM"
+            + "MDCLXXIXMMDCLXXXMMDCLXXXIMMDCLXXXIIMMDCLXXXIIIMMDCLXXXIVMMDCLXXX"
+            + "VMMDCLXXXVIMMDCLXXXVIIMMDCLXXXVIIIMMDCLXXXIXMMDCXCMMDCXCIMMDCXCI"
+            + "IMMDCXCIIIMMDCXCIVMMDCXCVMMDCXCVIMMDCXCVIIMMDCXCVIIIMMDCXCIXMMDC"
+            + "CMMDCCIMMDCCIIMMDCCIIIMMDCCIVMMDCCVMMDCCVIMMDCCVIIMMDCCVIIIMMDCC"
+            + "IXMMDCCXMMDCCXIMMDCCXIIMMDCCXIIIMMDCCXIVMMDCCXVMMDCCXVIMMDCCXVII"
+            + "MMDCCXVIIIMMDCCXIXMMDCCXXMMDCCXXIMMDCCXXIIMMDCCXXIIIMMDCCXXIVMMD"
+            + "CCXXVMMDCCXXVIMMDCCXXVIIMMDCCXXVIIIMMDCCXXIXMMDCCXXXMMDCCXXXIMMD"
+            + "CCXXXIIMMDCCXXXIIIMMDCCXXXIVMMDCCXXXVMMDCCXXXVIMMDCCXXXVIIMMDCCX"
+            + "XXVIIIMMDCCXXXIXMMDCCXLMMDCCXLIMMDCCXLIIMMDCCXLIIIMMDCCXLIVMMDCC"
+            + "XLVMMDCCXLVIMMDCCXLVIIMMDCCXLVIIIMMDCCXLIXMMDCCLMMDCCLIMMDCCLIIM"
+            + "MDCCLIIIMMDCCLIVMMDCCLVMMDCCLVIMMDCCLVIIMMDCCLVIIIMMDCCLIXMMDCCL"
+            + "XMMDCCLXIMMDCCLXIIMMDCCLXIIIMMDCCLXIVMMDCCLXVMMDCCLXVIMMDCCLXVII"
+            + "MMDCCLXVIIIMMDCCLXIXMMDCCLXXMMDCCLXXIMMDCCLXXIIMMDCCLXXIIIMMDCCL"
+            + "XXIVMMDCCLXXVMMDCCLXXVIMMDCCLXXVIIMMDCCLXXVIIIMMDCCLXXIXMMDCCLXX"
+            + "XMMDCCLXXXIMMDCCLXXXIIMMDCCLXXXIIIMMDCCLXXXIVMMDCCLXXXVMMDCCLXXX"
+            + "VIMMDCCLXXXVIIMMDCCLXXXVIIIMMDCCLXXXIXMMDCCXCMMDCCXCIMMDCCXCIIMM"
+            + "DCCXCIIIMMDCCXCIVMMDCCXCVMMDCCXCVIMMDCCXCVIIMMDCCXCVIIIMMDCCXCIX"
+            + "MMDCCCMMDCCCIMMDCCCIIMMDCCCIIIMMDCCCIVMMDCCCVMMDCCCVIMMDCCCVIIMM"
+            + "DCCCVIIIMMDCCCIXMMDCCCXMMDCCCXIMMDCCCXIIMMDCCCXIIIMMDCCCXIVMMDCC"
+            + "CXVMMDCCCXVIMMDCCCXVIIMMDCCCXVIIIMMDCCCXIXMMDCCCXXMMDCCCXXIMMDCC"
+            + "CXXIIMMDCCCXXIIIMMDCCCXXIVMMDCCCXXVMMDCCCXXVIMMDCCCXXVIIMMDCCCXX"
+            + "VIIIMMDCCCXXIXMMDCCCXXXMMDCCCXXXIMMDCCCXXXIIMMDCCCXXXIIIMMDCCCXX"
+            + "XIVMMDCCCXXXVMMDCCCXXXVIMMDCCCXXXVIIMMDCCCXXXVIIIMMDCCCXXXIXMMDC"
+            + "CCXLMMDCCCXLIMMDCCCXLIIMMDCCCXLIIIMMDCCCXLIVMMDCCCXLVMMDCCCXLVIM"
+            + "MDCCCXLVIIMMDCCCXLVIIIMMDCCCXLIXMMDCCCLMMDCCCLIMMDCCCLIIMMDCCCLI"
+            + "IIMMDCCCLIVMMDCCCLVMMDCCCLVIMMDCCCLVIIMMDCCCLVIIIMMDCCCLIXMMDCCC"
+            + "LXMMDCCCLXIMMDCCCLXIIMMDCCCLXIIIMMDCCCLXIVMMDCCCLXVMMDCCCLXVIMMD"
+            + "CCCLXVIIMMDCCCLXVIIIMMDCCCLXIXMMDCCCLXXMMDCCCLXXIMMDCCCLXXIIMMDC"
+            + "CCLXXIIIMMDCCCLXXIVMMDCCCLXXVMMDCCCLXXVIMMDCCCLXXVIIMMDCCCLXXVII"
+            + "IMMDCCCLXXIXMMDCCCLXXXMMDCCCLXXXIMMDCCCLXXXIIMMDCCCLXXXIIIMMDCCC"
+            + "LXXXIVMMDCCCLXXXVMMDCCCLXXXVIMMDCCCLXXXVIIMMDCCCLXXXVIIIMMDCCCLX"
+            + "XXIXMMDCCCXCMMDCCCXCIMMDCCCXCIIMMDCCCXCIIIMMDCCCXCIVMMDCCCXCVMMD"
+            + "CCCXCVIMMDCCCXCVIIMMDCCCXCVIIIMMDCCCXCIXMMCMMMCMIMMCMIIMMCMIIIMM"
+            + "CMIVMMCMVMMCMVIMMCMVIIMMCMVIIIMMCMIXMMCMXMMCMXIMMCMXIIMMCMXIIIMM"
+            + "CMXIVMMCMXVMMCMXVIMMCMXVIIMMCMXVIIIMMCMXIXMMCMXXMMCMXXIMMCMXXIIM"
+            + "MCMXXIIIMMCMXXIVMMCMXXVMMCMXXVIMMCMXXVIIMMCMXXVIIIMMCMXXIXMMCMXX"
+            + "XMMCMXXXIMMCMXXXIIMMCMXXXIIIMMCMXXXIVMMCMXXXVMMCMXXXVIMMCMXXXVII"
+            + "MMCMXXXVIIIMMCMXXXIXMMCMXLMMCMXLIMMCMXLIIMMCMXLIIIMMCMXLIVMMCMXL"
+            + "VMMCMXLVIMMCMXLVIIMMCMXLVIIIMMCMXLIXMMCMLMMCMLIMMCMLIIMMCMLIIIMM"
+            + "CMLIVMMCMLVMMCMLVIMMCMLVIIMMCMLVIIIMMCMLIXMMCMLXMMCMLXIMMCMLXIIM"
+            + "MCMLXIIIMMCMLXIVMMCMLXVMMCMLXVIMMCMLXVIIMMCMLXVIIIMMCMLXIXMMCMLX"
+            + "XMMCMLXXIMMCMLXXIIMMCMLXXIIIMMCMLXXIVMMCMLXXVMMCMLXXVIMMCMLXXVII"
+            + "MMCMLXXVIIIMMCMLXXIXMMCMLXXXMMCMLXXXIMMCMLXXXIIMMCMLXXXIIIMMCMLX"
+            + "XXIVMMCMLXXXVMMCMLXXXVIMMCMLXXXVIIMMCMLXXXVIIIMMCMLXXXIXMMCMXCMM"
+            + "CMXCIMMCMXCIIMMCMXCIIIMMCMXCIVMMCMXCVMMCMXCVIMMCMXCVIIMMCMXCVIII"
+            + "MMCMXCIXMMMMMMIMMMIIMMMIIIMMMIVMMMVMMMVIMMMVIIMMMVIIIMMMIXMMMXMM"
+            + "MXIMMMXIIMMMXIIIMMMXIVMMMXVMMMXVIMMMXVIIMMMXVIIIMMMXIXMMMXXMMMXX"
+            + "IMMMXXIIMMMXXIIIMMMXXIVMMMXXVMMMXXVIMMMXXVIIMMMXXVIIIMMMXXIXMMMX"
+            + "XXMMMXXXIMMMXXXIIMMMXXXIIIMMMXXXIVMMMXXXVMMMXXXVIMMMXXXVIIMMMXXX"
+            + "VIIIMMMXXXIXMMMXLMMMXLIMMMXLIIMMMXLIIIMMMXLIVMMMXLVMMMXLVIMMMXLV"
+            + "IIMMMXLVIIIMMMXLIXMMMLMMMLIMMMLIIMMMLIIIMMMLIVMMMLVMMMLVIMMMLVII"
+            + "MMMLVIIIMMMLIXMMMLXMMMLXIMMMLXIIMMMLXIIIMMMLXIVMMMLXVMMMLXVIMMML"
+            + "XVIIMMMLXVIIIMMMLXIXMMMLXXMMMLXXIMMMLXXIIMMMLXXIIIMMMLXXIVMMMLXX"
+            + "VMMMLXXVIMMMLXXVIIMMMLXXVIIIMMMLXXIXMMMLXXXMMMLXXXIMMMLXXXIIMMML"
+            + "XXXIIIMMMLXXXIVMMMLXXXVMMMLXXXVIMMMLXXXVIIMMMLXXXVIIIMMMLXXXIXMM"
+            + "MXCMMMXCIMMMXCIIMMMXCIIIMMMXCIVMMMXCVMMMXCVIMMMXCVIIMMMXCVIIIMMM"
+            + "XCIXMMMCMMMCIMMMCIIMMMCIIIMMMCIVMMMCVMMMCVIMMMCVIIMMMCVIIIMMMCIX"
+            + "MMMCXMMMCXIMMMCXIIMMMCXIIIMMMCXIVMMMCXVMMMCXVIMMMCXVIIMMMCXVIIIM"
+            + "MMCXIXMMMCXXMMMCXXIMMMCXXIIMMMCXXIIIMMMCXXIVMMMCXXVMMMCXXVIMMMCX"
+            + "XVIIMMMCXXVIIIMMMCXXIXMMMCXXXMMMCXXXIMMMCXXXIIMMMCXXXIIIMMMCXXXI"
+            + "VMMMCXXXVMMMCXXXVIMMMCXXXVIIMMMCXXXVIIIMMMCXXXIXMMMCXLMMMCXLIMMM"
+            + "CXLIIMMMCXLIIIMMMCXLIVMMMCXLVMMMCXLVIMMMCXLVIIMMMCXLVIIIMMMCXLIX"
+            + "MMMCLMMMCLIMMMCLIIMMMCLIIIMMMCLIVMMMCLVMMMCLVIMMMCLVIIMMMCLVIIIM"
+            + "MMCLIXMMMCLXMMMCLXIMMMCLXIIMMMCLXIIIMMMCLXIVMMMCLXVMMMCLXVIMMMCL"
+            + "XVIIMMMCLXVIIIMMMCLXIXMMMCLXXMMMCLXXIMMMCLXXIIMMMCLXXIIIMMMCLXXI"
+            + "VMMMCLXXVMMMCLXXVIMMMCLXXVIIMMMCLXXVIIIMMMCLXXIXMMMCLXXXMMMCLXXX"
+            + "IMMMCLXXXIIMMMCLXXXIIIMMMCLXXXIVMMMCLXXXVMMMCLXXXVIMMMCLXXXVIIMM"
+            + "MCLXXXVIIIMMMCLXXXIXMMMCXCMMMCXCIMMMCXCIIMMMCXCIIIMMMCXCIVMMMCXC"
+            + "VMMMCXCVIMMMCXCVIIMMMCXCVIIIMMMCXCIXMMMCCMMMCCIMMMCCIIMMMCCIIIMM"
+            + "MCCIVMMMCCVMMMCCVIMMMCCVIIMMMCCVIIIMMMCCIXMMMCCXMMMCCXIMMMCCXIIM"
+            + "MMCCXIIIMMMCCXIVMMMCCXVMMMCCXVIMMMCCXVIIMMMCCXVIIIMMMCCXIXMMMCCX"
+            + "XMMMCCXXIMMMCCXXIIMMMCCXXIIIMMMCCXXIVMMMCCXXVMMMCCXXVIMMMCCXXVII"
+            + "MMMCCXXVIIIMMMCCXXIXMMMCCXXXMMMCCXXXIMMMCCXXXIIMMMCCXXXIIIMMMCCX"
+            + "XXIVMMMCCXXXVMMMCCXXXVIMMMCCXXXVIIMMMCCXXXVIIIMMMCCXXXIXMMMCCXLM"
+            + "MMCCXLIMMMCCXLIIMMMCCXLIIIMMMCCXLIVMMMCCXLVMMMCCXLVIMMMCCXLVIIMM"
+            + "MCCXLVIIIMMMCCXLIXMMMCCLMMMCCLIMMMCCLIIMMMCCLIIIMMMCCLIVMMMCCLVM"
+            + "MMCCLVIMMMCCLVIIMMMCCLVIIIMMMCCLIXMMMCCLXMMMCCLXIMMMCCLXIIMMMCCL"
+            + "XIIIMMMCCLXIVMMMCCLXVMMMCCLXVIMMMCCLXVIIMMMCCLXVIIIMMMCCLXIXMMMC"
+            + "CLXXMMMCCLXXIMMMCCLXXIIMMMCCLXXIIIMMMCCLXXIVMMMCCLXXVMMMCCLXXVIM"
+            + "MMCCLXXVIIMMMCCLXXVIIIMMMCCLXXIXMMMCCLXXXMMMCCLXXXIMMMCCLXXXIIMM"
+            + "MCCLXXXIIIMMMCCLXXXIVMMMCCLXXXVMMMCCLXXXVIMMMCCLXXXVIIMMMCCLXXXV"
+            + "IIIMMMCCLXXXIXMMMCCXCMMMCCXCIMMMCCXCIIMMMCCXCIIIMMMCCXCIVMMMCCXC"
+            + "VMMMCCXCVIMMMCCXCVIIMMMCCXCVIIIMMMCCXCIXMMMCCCMMMCCCIMMMCCCIIMMM"
+            + "CCCIIIMMMCCCIVMMMCCCVMMMCCCVIMMMCCCVIIMMMCCCVIIIMMMCCCIXMMMCCCXM"
+            + "MMCCCXIMMMCCCXIIMMMCCCXIIIMMMCCCXIVMMMCCCXVMMMCCCXVIMMMCCCXVIIMM"
+            + "MCCCXVIIIMMMCCCXIXMMMCCCXXMMMCCCXXIMMMCCCXXIIMMMCCCXXIIIMMMCCCXX"
+            + "IVMMMCCCXXVMMMCCCXXVIMMMCCCXXVIIMMMCCCXXVIIIMMMCCCXXIXMMMCCCXXXM"
+            + "MMCCCXXXIMMMCCCXXXIIMMMCCCXXXIIIMMMCCCXXXIVMMMCCCXXXVMMMCCCXXXVI"
+            + "MMMCCCXXXVIIMMMCCCXXXVIIIMMMCCCXXXIXMMMCCCXLMMMCCCXLIMMMCCCXLIIM"
+            + "MMCCCXLIIIMMMCCCXLIVMMMCCCXLVMMMCCCXLVIMMMCCCXLVIIMMMCCCXLVIIIMM"
+            + "MCCCXLIXMMMCCCLMMMCCCLIMMMCCCLIIMMMCCCLIIIMMMCCCLIVMMMCCCLVMMMCC"
+            + "CLVIMMMCCCLVIIMMMCCCLVIIIMMMCCCLIXMMMCCCLXMMMCCCLXIMMMCCCLXIIMMM"
+            + "CCCLXIIIMMMCCCLXIVMMMCCCLXVMMMCCCLXVIMMMCCCLXVIIMMMCCCLXVIIIMMMC"
+            + "CCLXIXMMMCCCLXXMMMCCCLXXIMMMCCCLXXIIMMMCCCLXXIIIMMMCCCLXXIVMMMCC"
+            + "CLXXVMMMCCCLXXVIMMMCCCLXXVIIMMMCCCLXXVIIIMMMCCCLXXIXMMMCCCLXXXMM"
+            + "MCCCLXXXIMMMCCCLXXXIIMMMCCCLXXXIIIMMMCCCLXXXIVMMMCCCLXXXVMMMCCCL"
+            + "XXXVIMMMCCCLXXXVIIMMMCCCLXXXVIIIMMMCCCLXXXIXMMMCCCXCMMMCCCXCIMMM"
+            + "CCCXCIIMMMCCCXCIIIMMMCCCXCIVMMMCCCXCVMMMCCCXCVIMMMCCCXCVIIMMMCCC"
+            + "XCVIIIMMMCCCXCIXMMMCDMMMCDIMMMCDIIMMMCDIIIMMMCDIVMMMCDVMMMCDVIMM"
+            + "MCDVIIMMMCDVIIIMMMCDIXMMMCDXMMMCDXIMMMCDXIIMMMCDXIIIMMMCDXIVMMMC"
+            + "DXVMMMCDXVIMMMCDXVIIMMMCDXVIIIMMMCDXIXMMMCDXXMMMCDXXIMMMCDXXIIMM"
+            + "MCDXXIIIMMMCDXXIVMMMCDXXVMMMCDXXVIMMMCDXXVIIMMMCDXXVIIIMMMCDXXIX"
+            + "MMMCDXXXMMMCDXXXIMMMCDXXXIIMMMCDXXXIIIMMMCDXXXIVMMMCDXXXVMMMCDXX"
+            + "XVIMMMCDXXXVIIMMMCDXXXVIIIMMMCDXXXIXMMMCDXLMMMCDXLIMMMCDXLIIMMMC"
+            + "DXLIIIMMMCDXLIVMMMCDXLVMMMCDXLVIMMMCDXLVIIMMMCDXLVIIIMMMCDXLIXMM"
+            + "MCDLMMMCDLIMMMCDLIIMMMCDLIIIMMMCDLIVMMMCDLVMMMCDLVIMMMCDLVIIMMMC"
+            + "DLVIIIMMMCDLIXMMMCDLXMMMCDLXIMMMCDLXIIMMMCDLXIIIMMMCDLXIVMMMCDLX"
+            + "VMMMCDLXVIMMMCDLXVIIMMMCDLXVIIIMMMCDLXIXMMMCDLXXMMMCDLXXIMMMCDLX"
+            + "XIIMMMCDLXXIIIMMMCDLXXIVMMMCDLXXVMMMCDLXXVIMMMCDLXXVIIMMMCDLXXVI"
+            + "IIMMMCDLXXIXMMMCDLXXXMMMCDLXXXIMMMCDLXXXIIMMMCDLXXXIIIMMMCDLXXXI"
+            + "VMMMCDLXXXVMMMCDLXXXVIMMMCDLXXXVIIMMMCDLXXXVIIIMMMCDLXXXIXMMMCDX"
+            + "CMMMCDXCIMMMCDXCIIMMMCDXCIIIMMMCDXCIVMMMCDXCVMMMCDXCVIMMMCDXCVII"
+            + "MMMCDXCVIIIMMMCDXCIXMMMDMMMDIMMMDIIMMMDIIIMMMDIVMMMDVMMMDVIMMMDV"
+            + "IIMMMDVIIIMMMDIXMMMDXMMMDXIMMMDXIIMMMDXIIIMMMDXIVMMMDXVMMMDXVIMM"
+            + "MDXVIIMMMDXVIIIMMMDXIXMMMDXXMMMDXXIMMMDXXIIMMMDXXIIIMMMDXXIVMMMD"
+            + "XXVMMMDXXVIMMMDXXVIIMMMDXXVIIIMMMDXXIXMMMDXXXMMMDXXXIMMMDXXXIIMM"
+            + "MDXXXIIIMMMDXXXIVMMMDXXXVMMMDXXXVIMMMDXXXVIIMMMDXXXVIIIMMMDXXXIX"
+            + "MMMDXLMMMDXLIMMMDXLIIMMMDXLIIIMMMDXLIVMMMDXLVMMMDXLVIMMMDXLVIIMM"
+            + "MDXLVIIIMMMDXLIXMMMDLMMMDLIMMMDLIIMMMDLIIIMMMDLIVMMMDLVMMMDLVIMM"
+            + "MDLVIIMMMDLVIIIMMMDLIXMMMDLXMMMDLXIMMMDLXIIMMMDLXIIIMMMDLXIVMMMD"
+            + "LXVMMMDLXVIMMMDLXVIIMMMDLXVIIIMMMDLXIXMMMDLXXMMMDLXXIMMMDLXXIIMM"
+            + "MDLXXIIIMMMDLXXIVMMMDLXXVMMMDLXXVIMMMDLXXVIIMMMDLXXVIIIMMMDLXXIX"
+            + "MMMDLXXXMMMDLXXXIMMMDLXXXIIMMMDLXXXIIIMMMDLXXXIVMMMDLXXXVMMMDLXX"
+            + "XVIMMMDLXXXVIIMMMDLXXXVIIIMMMDLXXXIXMMMDXCMMMDXCIMMMDXCIIMMMDXCI"
+            + "IIMMMDXCIVMMMDXCVMMMDXCVIMMMDXCVIIMMMDXCVIIIMMMDXCIXMMMDCMMMDCIM"
+            + "MMDCIIMMMDCIIIMMMDCIVMMMDCVMMMDCVIMMMDCVIIMMMDCVIIIMMMDCIXMMMDCX"
+            + "MMMDCXIMMMDCXIIMMMDCXIIIMMMDCXIVMMMDCXVMMMDCXVIMMMDCXVIIMMMDCXVI"
+            + "IIMMMDCXIXMMMDCXXMMMDCXXIMMMDCXXIIMMMDCXXIIIMMMDCXXIVMMMDCXXVMMM"
+            + "DCXXVIMMMDCXXVIIMMMDCXXVIIIMMMDCXXIXMMMDCXXXMMMDCXXXIMMMDCXXXIIM"
+            + "MMDCXXXIIIMMMDCXXXIVMMMDCXXXVMMMDCXXXVIMMMDCXXXVIIMMMDCXXXVIIIMM"
+            + "MDCXXXIXMMMDCXLMMMDCXLIMMMDCXLIIMMMDCXLIIIMMMDCXLIVMMMDCXLVMMMDC"
+            + "XLVIMMMDCXLVIIMMMDCXLVIIIMMMDCXLIXMMMDCLMMMDCLIMMMDCLIIMMMDCLIII"
+            + "MMMDCLIVMMMDCLVMMMDCLVIMMMDCLVIIMMMDCLVIIIMMMDCLIXMMMDCLXMMMDCLX"
+            + "IMMMDCLXIIMMMDCLXIIIMMMDCLXIVMMMDCLXVMMMDCLXVIMMMDCLXVIIMMMDCLXV"
+            + "IIIMMMDCLXIXMMMDCLXXMMMDCLXXIMMMDCLXXIIMMMDCLXXIIIMMMDCLXXIVMMMD"
+            + "CLXXVMMMDCLXXVIMMMDCLXXVIIMMMDCLXXVIIIMMMDCLXXIXMMMDCLXXXMMMDCLX"
+            + "XXIMMMDCLXXXIIMMMDCLXXXIIIMMMDCLXXXIVMMMDCLXXXVMMMDCLXXXVIMMMDCL"
+            + "XXXVIIMMMDCLXXXVIIIMMMDCLXXXIXMMMDCXCMMMDCXCIMMMDCXCIIMMMDCXCIII"
+            + "MMMDCXCIVMMMDCXCVMMMDCXCVIMMMDCXCVIIMMMDCXCVIIIMMMDCXCIXMMMDCCMM"
+            + "MDCCIMMMDCCIIMMMDCCIIIMMMDCCIVMMMDCCVMMMDCCVIMMMDCCVIIMMMDCCVIII"
+            + "MMMDCCIXMMMDCCXMMMDCCXIMMMDCCXIIMMMDCCXIIIMMMDCCXIVMMMDCCXVMMMDC"
+            + "CXVIMMMDCCXVIIMMMDCCXVIIIMMMDCCXIXMMMDCCXXMMMDCCXXIMMMDCCXXIIMMM"
+            + "DCCXXIIIMMMDCCXXIVMMMDCCXXVMMMDCCXXVIMMMDCCXXVIIMMMDCCXXVIIIMMMD"
+            + "CCXXIXMMMDCCXXXMMMDCCXXXIMMMDCCXXXIIMMMDCCXXXIIIMMMDCCXXXIVMMMDC"
+            + "CXXXVMMMDCCXXXVIMMMDCCXXXVIIMMMDCCXXXVIIIMMMDCCXXXIXMMMDCCXLMMMD"
+            + "CCXLIMMMDCCXLIIMMMDCCXLIIIMMMDCCXLIVMMMDCCXLVMMMDCCXLVIMMMDCCXLV"
+            + "IIMMMDCCXLVIIIMMMDCCXLIXMMMDCCLMMMDCCLIMMMDCCLIIMMMDCCLIIIMMMDCC"
+            + "LIVMMMDCCLVMMMDCCLVIMMMDCCLVIIMMMDCCLVIIIMMMDCCLIXMMMDCCLXMMMDCC"
+            + "LXIMMMDCCLXIIMMMDCCLXIIIMMMDCCLXIVMMMDCCLXVMMMDCCLXVIMMMDCCLXVII"
+            + "MMMDCCLXVIIIMMMDCCLXIXMMMDCCLXXMMMDCCLXXIMMMDCCLXXIIMMMDCCLXXIII"
+            + "MMMDCCLXXIVMMMDCCLXXVMMMDCCLXXVIMMMDCCLXXVIIMMMDCCLXXVIIIMMMDCCL"
+            + "XXIXMMMDCCLXXXMMMDCCLXXXIMMMDCCLXXXIIMMMDCCLXXXIIIMMMDCCLXXXIVMM"
+            + "MDCCLXXXVMMMDCCLXXXVIMMMDCCLXXXVIIMMMDCCLXXXVIIIMMMDCCLXXXIXMMMD"
+            + "CCXCMMMDCCXCIMMMDCCXCIIMMMDCCXCIIIMMMDCCXCIVMMMDCCXCVMMMDCCXCVIM"
+            + "MMDCCXCVIIMMMDCCXCVIIIMMMDCCXCIXMMMDCCCMMMDCCCIMMMDCCCIIMMMDCCCI"
+            + "IIMMMDCCCIVMMMDCCCVMMMDCCCVIMMMDCCCVIIMMMDCCCVIIIMMMDCCCIXMMMDCC"
+            + "CXMMMDCCCXIMMMDCCCXIIMMMDCCCXIIIMMMDCCCXIVMMMDCCCXVMMMDCCCXVIMMM"
+            + "DCCCXVIIMMMDCCCXVIIIMMMDCCCXIXMMMDCCCXXMMMDCCCXXIMMMDCCCXXIIMMMD"
+            + "CCCXXIIIMMMDCCCXXIVMMMDCCCXXVMMMDCCCXXVIMMMDCCCXXVIIMMMDCCCXXVII"
+            + "IMMMDCCCXXIXMMMDCCCXXXMMMDCCCXXXIMMMDCCCXXXIIMMMDCCCXXXIIIMMMDCC"
+            + "CXXXIVMMMDCCCXXXVMMMDCCCXXXVIMMMDCCCXXXVIIMMMDCCCXXXVIIIMMMDCCCX"
+            + "XXIXMMMDCCCXLMMMDCCCXLIMMMDCCCXLIIMMMDCCCXLIIIMMMDCCCXLIVMMMDCCC"
+            + "XLVMMMDCCCXLVIMMMDCCCXLVIIMMMDCCCXLVIIIMMMDCCCXLIXMMMDCCCLMMMDCC"
+            + "CLIMMMDCCCLIIMMMDCCCLIIIMMMDCCCLIVMMMDCCCLVMMMDCCCLVIMMMDCCCLVII"
+            + "MMMDCCCLVIIIMMMDCCCLIXMMMDCCCLXMMMDCCCLXIMMMDCCCLXIIMMMDCCCLXIII"
+            + "MMMDCCCLXIVMMMDCCCLXVMMMDCCCLXVIMMMDCCCLXVIIMMMDCCCLXVIIIMMMDCCC"
+            + "LXIXMMMDCCCLXXMMMDCCCLXXIMMMDCCCLXXIIMMMDCCCLXXIIIMMMDCCCLXXIVMM"
+            + "MDCCCLXXVMMMDCCCLXXVIMMMDCCCLXXVIIMMMDCCCLXXVIIIMMMDCCCLXXIXMMMD"
+            + "CCCLXXXMMMDCCCLXXXIMMMDCCCLXXXIIMMMDCCCLXXXIIIMMMDCCCLXXXIVMMMDC"
+            + "CCLXXXVMMMDCCCLXXXVIMMMDCCCLXXXVIIMMMDCCCLXXXVIIIMMMDCCCLXXXIXMM"
+            + "MDCCCXCMMMDCCCXCIMMMDCCCXCIIMMMDCCCXCIIIMMMDCCCXCIVMMMDCCCXCVMMM"
+            + "DCCCXCVIMMMDCCCXCVIIMMMDCCCXCVIIIMMMDCCCXCIXMMMCMMMMCMIMMMCMIIMM"
+            + "MCMIIIMMMCMIVMMMCMVMMMCMVIMMMCMVIIMMMCMVIIIMMMCMIXMMMCMXMMMCMXIM"
+            + "MMCMXIIMMMCMXIIIMMMCMXIVMMMCMXVMMMCMXVIMMMCMXVIIMMMCMXVIIIMMMCMX"
+            + "IXMMMCMXXMMMCMXXIMMMCMXXIIMMMCMXXIIIMMMCMXXIVMMMCMXXVMMMCMXXVIMM"
+            + "MCMXXVIIMMMCMXXVIIIMMMCMXXIXMMMCMXXXMMMCMXXXIMMMCMXXXIIMMMCMXXXI"
+            + "IIMMMCMXXXIVMMMCMXXXVMMMCMXXXVIMMMCMXXXVIIMMMCMXXXVIIIMMMCMXXXIX"
+            + "MMMCMXLMMMCMXLIMMMCMXLIIMMMCMXLIIIMMMCMXLIVMMMCMXLVMMMCMXLVIMMMC"
+            + "MXLVIIMMMCMXLVIIIMMMCMXLIXMMMCMLMMMCMLIMMMCMLIIMMMCMLIIIMMMCMLIV"
+            + "MMMCMLVMMMCMLVIMMMCMLVIIMMMCMLVIIIMMMCMLIXMMMCMLXMMMCMLXIMMMCMLX"
+            + "IIMMMCMLXIIIMMMCMLXIVMMMCMLXVMMMCMLXVIMMMCMLXVIIMMMCMLXVIIIMMMCM"
+            + "LXIXMMMCMLXXMMMCMLXXIMMMCMLXXIIMMMCMLXXIIIMMMCMLXXIVMMMCMLXXVMMM"
+            + "CMLXXVIMMMCMLXXVIIMMMCMLXXVIIIMMMCMLXXIXMMMCMLXXXMMMCMLXXXIMMMCM"
+            + "LXXXIIMMMCMLXXXIIIMMMCMLXXXIVMMMCMLXXXVMMMCMLXXXVIMMMCMLXXXVIIMM"
+            + "MCMLXXXVIIIMMMCMLXXXIXMMMCMXCMMMCMXCIMMMCMXCIIMMMCMXCIIIMMMCMXCI"
+            + "VMMMCMXCVMMMCMXCVIMMMCMXCVIIMMMCMXCVIIIMMMCMXCIX";
+    /**
+     * The length of the symbols of every Roman numeral in standard form, in
+     * increasing order of value, as one hexadecimal digit each.
+     */
+    static final String LENGTHS = ""
+            + "1232123421234323453234543456434565456752345434564123432345323454"
+            + "3456434565456754567656786234543456412343234532345434564345654567"
+            + "5456765678634565456752345434564345654567545676567865678767897345"
+            + "6545675234543456434565456754567656786567876789745676567863456545"
+            + "6754567656786567876789767898789a84567656786345654567545676567865"
+            + "67876789767898789a856787678974567656786567876789767898789a8789a9"
+            + "89ab956787678972345434564345654567545676567865678767897456765678"
+            + "634565456754567656786567876789767898789a845676567861234323453234"
+            + "5434564345654567545676567863456545675234543456434565456754567656"
+            + "7865678767897345654567523454345643456545675456765678656787678974"
+            + "56765678634565456754567656786567876789767898789a8456765678634565"
+            + "456754567656786567876789767898789a856787678974567656786567876789"
+            + "767898789a8789a989ab956787678974567656786567876789767898789a8789"
+            + "a989ab967898789a8567876789767898789a8789a989ab989aba9abca6789878"
+            + "9a82345434564345654567545676567865678767897456765678634565456754"
+            + "567656786567876789767898789a845676567861234323453234543456434565"
+            + "4567545676567863456545675234543456434565456754567656786567876789"
+            + "7345654567523454345643456545675456765678656787678974567656786345"
+            + "65456754567656786567876789767898789a8456765678634565456754567656"
+            + "786567876789767898789a856787678974567656786567876789767898789a87"
+            + "89a989ab956787678974567656786567876789767898789a8789a989ab967898"
+            + "789a8567876789767898789a8789a989ab989aba9abca67898789a8345654567"
+            + "54567656786567876789767898789a8567876789745676567865678767897678"
+            + "98789a8789a989ab956787678972345434564345654567545676567865678767"
+            + "897456765678634565456754567656786567876789767898789a845676567863"
+            + "4565456754567656786567876789767898789a85678767897456765678656787"
+            + "6789767898789a8789a989ab956787678974567656786567876789767898789a"
+            + "8789a989ab967898789a8567876789767898789a8789a989ab989aba9abca678"
+            + "98789a8567876789767898789a8789a989ab989aba9abca789a989ab96789878"
+            + "9a8789a989ab989aba9abca9abcbabcdb789a989ab9345654567545676567865"
+            + "67876789767898789a856787678974567656786567876789767898789a8789a9"
+            + "89ab956787678972345434564345654567545676567865678767897456765678"
+            + "634565456754567656786567876789767898789a845676567863456545675456"
+            + "7656786567876789767898789a85678767897456765678656787678976789878"
+            + "9a8789a989ab956787678974567656786567876789767898789a8789a989ab96"
+            + "7898789a8567876789767898789a8789a989ab989aba9abca67898789a856787"
+            + "6789767898789a8789a989ab989aba9abca789a989ab967898789a8789a989ab"
+            + "989aba9abca9abcbabcdb789a989ab94567656786567876789767898789a8789"
+            + "a989ab967898789a8567876789767898789a8789a989ab989aba9abca6789878"
+            + "9a834565456754567656786567876789767898789a8567876789745676567865"
+            + "67876789767898789a8789a989ab956787678974567656786567876789767898"
+            + "789a8789a989ab967898789a8567876789767898789a8789a989ab989aba9abc"
+            + "a67898789a8567876789767898789a8789a989ab989aba9abca789a989ab9678"
+            + "98789a8789a989ab989aba9abca9abcbabcdb789a989ab967898789a8789a989"
+            + "ab989aba9abca9abcbabcdb89aba9abca789a989ab989aba9abca9abcbabcdba"
+            + "bcdcbcdec89aba9abca4567656786567876789767898789a8789a989ab967898"
+            + "789a8567876789767898789a8789a989ab989aba9abca67898789a8345654567"
+            + "54567656786567876789767898789a8567876789745676567865678767897678"
+            + "98789a8789a989ab956787678974567656786567876789767898789a8789a989"
+            + "ab967898789a8567876789767898789a8789a989ab989aba9abca67898789a85"
+            + "67876789767898789a8789a989ab989aba9abca789a989ab967898789a8789a9"
+            + "89ab989aba9abca9abcbabcdb789a989ab967898789a8789a989ab989aba9abc"
+            + "a9abcbabcdb89aba9abca789a989ab989aba9abca9abcbabcdbabcdcbcdec89a"
+            + "ba9abca567876789767898789a8789a989ab989aba9abca789a989ab96789878"
+            + "9a8789a989ab989aba9abca9abcbabcdb789a989ab9456765678656787678976"
+            + "7898789a8789a989ab967898789a8567876789767898789a8789a989ab989aba"
+            + "9abca67898789a8567876789767898789a8789a989ab989aba9abca789a989ab"
+            + "967898789a8789a989ab989aba9abca9abcbabcdb789a989ab967898789a8789"
+            + "a989ab989aba9abca9abcbabcdb89aba9abca789a989ab989aba9abca9abcbab"
+            + "cdbabcdcbcdec89aba9abca789a989ab989aba9abca9abcbabcdbabcdcbcdec9"
+            + "abcbabcdb89aba9abca9abcbabcdbabcdcbcdecbcdedcdefd9abcbabcdb56787"
+            + "6789767898789a8789a989ab989aba9abca789a989ab967898789a8789a989ab"
+            + "989aba9abca9abcbabcdb789a989ab9";
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralTables() {
+    }
+}
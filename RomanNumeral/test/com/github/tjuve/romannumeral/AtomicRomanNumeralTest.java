@@ -0,0 +1,137 @@
+/*
+ * AtomicRomanNumeralTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link AtomicRomanNumeral}.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class AtomicRomanNumeralTest {
+    public static final int NUM_THREADS
+            = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+    
+    @DisplayName("Updates return cached numerals")
+    @Test
+    public void updateTest() {
+        AtomicRomanNumeral numeral = new AtomicRomanNumeral();
+        assertSame(RomanNumeral.of(1), numeral.get());
+        assertSame(RomanNumeral.of(2), numeral.incrementAndGet());
+        assertSame(RomanNumeral.of(2), numeral.getAndIncrement());
+        assertSame(RomanNumeral.of(3), numeral.getAndDecrement());
+        assertSame(RomanNumeral.of(1), numeral.decrementAndGet());
+        assertSame(RomanNumeral.of(15), numeral.addAndGet(14));
+        assertSame(RomanNumeral.of(15), numeral.getAndAdd(-5));
+        assertEquals(10, numeral.intValue());
+        assertEquals("X", numeral.toString());
+        
+        assertSame(RomanNumeral.of(10), numeral.getAndUpdate(
+                n -> RomanNumeral.addExact(n, n)));
+        assertSame(RomanNumeral.of(40), numeral.updateAndGet(
+                n -> RomanNumeral.addExact(n, n)));
+        assertSame(RomanNumeral.of(40), numeral.getAndAccumulate(
+                RomanNumeral.of(4), RomanNumeral::divideExact));
+        assertSame(RomanNumeral.of(14), numeral.accumulateAndGet(
+                RomanNumeral.of(4), RomanNumeral::addExact));
+        
+        assertSame(RomanNumeral.of(14), numeral.getAndSet(RomanNumeral.of(9)));
+        assertFalse(numeral.compareAndSet(RomanNumeral.of(14),
+                                          RomanNumeral.of(1)));
+        assertTrue(numeral.compareAndSet(RomanNumeral.of(9),
+                                         RomanNumeral.of(1)));
+        numeral.set(RomanNumeral.of(RomanNumeral.MAX_VALUE));
+        assertSame(RomanNumeral.of(RomanNumeral.MAX_VALUE),
+                   new AtomicRomanNumeral(numeral.get()).get());
+    }
+    
+    @DisplayName("Updates out of range throw and leave the numeral")
+    @Test
+    public void overflowTest() {
+        AtomicRomanNumeral max = new AtomicRomanNumeral(
+                RomanNumeral.of(RomanNumeral.MAX_VALUE));
+        assertThrows(ArithmeticException.class, max::incrementAndGet);
+        assertThrows(ArithmeticException.class, max::getAndIncrement);
+        assertThrows(ArithmeticException.class,
+                     () -> max.addAndGet(Integer.MAX_VALUE));
+        assertThrows(ArithmeticException.class,
+                     () -> max.updateAndGet(
+                             n -> RomanNumeral.addExact(n, n)));
+        assertEquals(RomanNumeral.MAX_VALUE, max.intValue());
+        
+        AtomicRomanNumeral min = new AtomicRomanNumeral();
+        assertThrows(ArithmeticException.class, min::decrementAndGet);
+        assertThrows(ArithmeticException.class, min::getAndDecrement);
+        assertThrows(ArithmeticException.class,
+                     () -> min.getAndAdd(Integer.MIN_VALUE));
+        assertThrows(ArithmeticException.class,
+                     () -> min.getAndAccumulate(
+                             RomanNumeral.of(1),
+                             RomanNumeral::subtractExact​));
+        assertEquals(RomanNumeral.MIN_VALUE, min.intValue());
+    }
+    
+    @DisplayName("Threads incrementing together get every numeral once")
+    @Test
+    public void concurrentIncrementTest() throws Exception {
+        AtomicRomanNumeral numeral = new AtomicRomanNumeral();
+        CyclicBarrier barrier = new CyclicBarrier(NUM_THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+        try {
+            List<Future<List<RomanNumeral>>> futures
+                    = new ArrayList<Future<List<RomanNumeral>>>();
+            for (int i = 0; i < NUM_THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    List<RomanNumeral> numerals
+                            = new ArrayList<RomanNumeral>();
+                    barrier.await();
+                    try {
+                        while (true) {
+                            numerals.add(numeral.incrementAndGet());
+                        }
+                    } catch (ArithmeticException e) {
+                        return numerals;
+                    }
+                }));
+            }
+            
+            int[] counts = new int[RomanNumeral.MAX_VALUE + 1];
+            for (Future<List<RomanNumeral>> future : futures) {
+                int previous = 0;
+                for (RomanNumeral n : future.get()) {
+                    // each thread sees increasing numerals
+                    assertTrue(n.value > previous);
+                    previous = n.value;
+                    counts[n.value]++;
+                }
+            }
+            for (int value = RomanNumeral.MIN_VALUE + 1;
+                    value <= RomanNumeral.MAX_VALUE; value++) {
+                assertEquals(1, counts[value], "For value " + value);
+            }
+            assertEquals(RomanNumeral.MAX_VALUE, numeral.intValue());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * RomanNumeralCodecTest.java        1.0 10/18/2026
+ * 
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests {@link RomanNumeralCodec}.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralCodecTest {
+    @DisplayName("unpack(pack(int[]))")
+    @ParameterizedTest(name = "unpack(pack({0}))")
+    @MethodSource("columnsProvider")
+    public void packTest(String name, int[] values) {
+        byte[] packed = new byte[RomanNumeralCodec.packedLength(
+                values.length)];
+        assertEquals(packed.length, RomanNumeralCodec.pack(
+                values, 0, values.length, packed, 0));
+        
+        int[] unpacked = new int[values.length];
+        RomanNumeralCodec.unpack(packed, 0, unpacked, 0, values.length);
+        assertArrayEquals(values, unpacked);
+    }
+    
+    @DisplayName("decode(encode(int[]))")
+    @ParameterizedTest(name = "decode(encode({0}))")
+    @MethodSource("columnsProvider")
+    public void encodeTest(String name, int[] values) {
+        byte[] encoded = new byte[RomanNumeralCodec.maxEncodedLength(
+                values.length)];
+        int length = RomanNumeralCodec.encode(values, 0, values.length,
+                                              encoded, 0);
+        assertTrue(length <= encoded.length);
+        assertEquals(values.length,
+                     RomanNumeralCodec.decodedCount(encoded, 0));
+        
+        int[] decoded = new int[values.length];
+        assertEquals(values.length,
+                     RomanNumeralCodec.decode(encoded, 0, decoded, 0));
+        assertArrayEquals(values, decoded);
+    }
+    
+    @DisplayName("encode(sequential int[]) is smaller than packed")
+    @Test
+    public void encodeRunsTest() {
+        int[] values = new int[RomanNumeral.MAX_VALUE];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = RomanNumeral.MIN_VALUE + i;
+        }
+        
+        byte[] encoded = new byte[RomanNumeralCodec.maxEncodedLength(
+                values.length)];
+        assertTrue(16 > RomanNumeralCodec.encode(values, 0, values.length,
+                                                 encoded, 0));
+    }
+    
+    @DisplayName("encode(sorted int[]) is smaller than packed")
+    @Test
+    public void encodeDeltasTest() {
+        Random random = new Random(RomanNumeral.MAX_VALUE);
+        int[] values = new int[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = RomanNumeral.MIN_VALUE
+                        + random.nextInt(RomanNumeral.MAX_VALUE);
+        }
+        Arrays.sort(values);
+        
+        byte[] encoded = new byte[RomanNumeralCodec.maxEncodedLength(
+                values.length)];
+        int length = RomanNumeralCodec.encode(values, 0, values.length,
+                                              encoded, 0);
+        // gaps under 128 take one byte
+        assertTrue(length < values.length + 16);
+        
+        int[] decoded = new int[values.length];
+        RomanNumeralCodec.decode(encoded, 0, decoded, 0);
+        assertArrayEquals(values, decoded);
+    }
+    
+    @DisplayName("encode(invalid int[])")
+    @ParameterizedTest(name = "encode([{0}])")
+    @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                  + "#invalidValueTestArgsProvider()")
+    public void encodeInvalidTest(int invalidValue) {
+        int[] values = {RomanNumeral.MIN_VALUE, invalidValue};
+        
+        assertThrows(IllegalArgumentException.class,
+                     () -> RomanNumeralCodec.encode(
+                             values, 0, values.length,
+                             new byte[RomanNumeralCodec.maxEncodedLength(2)],
+                             0));
+    }
+    
+    @DisplayName("decode(corrupt block)")
+    @Test
+    public void decodeCorruptTest() {
+        int[] values = {RomanNumeral.MAX_VALUE, RomanNumeral.MAX_VALUE};
+        byte[] encoded = new byte[RomanNumeralCodec.maxEncodedLength(2)];
+        RomanNumeralCodec.encode(values, 0, values.length, encoded, 0);
+        // 0xFFF is larger than MAX_VALUE
+        encoded[2] = (byte) 0xFF;
+        encoded[3] = (byte) 0xFF;
+        
+        assertThrows(IllegalArgumentException.class,
+                     () -> RomanNumeralCodec.decode(encoded, 0, new int[2],
+                                                    0));
+    }
+    
+    /**
+     * A run whose last value wraps around to a valid value when computed as
+     * an {@code int}: 1, then 16384 added 262144 times.
+     */
+    @DisplayName("decode(run overflowing an int)")
+    @Test
+    public void decodeOverflowTest() {
+        // runs, 262145 values, 1 run, first 1, difference 16384, 262145 long
+        byte[] encoded = {1, (byte) 0x81, (byte) 0x80, 0x10, 1,
+                          0x00, 0x01, 0x40, 0x00,
+                          (byte) 0x81, (byte) 0x80, 0x10};
+        
+        assertThrows(IllegalArgumentException.class,
+                     () -> RomanNumeralCodec.decode(encoded, 0,
+                                                    new int[262_145], 0));
+    }
+    
+    @DisplayName("decode(truncated block)")
+    @ParameterizedTest(name = "decode({0})")
+    @MethodSource("columnsProvider")
+    public void decodeTruncatedTest(String name, int[] values) {
+        byte[] encoded = new byte[RomanNumeralCodec.maxEncodedLength(
+                values.length)];
+        int length = RomanNumeralCodec.encode(values, 0, values.length,
+                                              encoded, 0);
+        
+        for (int truncated = 1; truncated < length; truncated++) {
+            byte[] src = Arrays.copyOf(encoded, truncated);
+            assertThrows(IllegalArgumentException.class,
+                         () -> RomanNumeralCodec.decode(
+                                 src, 0, new int[values.length], 0));
+        }
+    }
+    
+    @SuppressWarnings("unused")
+    private static Stream<Arguments> columnsProvider() {
+        Random random = new Random(RomanNumeral.MAX_VALUE);
+        
+        int[] randomValues = new int[1_001];
+        for (int i = 0; i < randomValues.length; i++) {
+            randomValues[i] = RomanNumeral.MIN_VALUE
+                              + random.nextInt(RomanNumeral.MAX_VALUE);
+        }
+        
+        int[] pageNumbers = new int[1_000];
+        for (int i = 0; i < pageNumbers.length; i++) {
+            // front matter restarts numbering
+            pageNumbers[i] = RomanNumeral.MIN_VALUE + i % 300;
+        }
+        
+        int[] repeated = new int[999];
+        for (int i = 0; i < repeated.length; i++) {
+            repeated[i] = RomanNumeral.MIN_VALUE + i / 100 * 7;
+        }
+        
+        int[] sortedValues = randomValues.clone();
+        Arrays.sort(sortedValues);
+        
+        return Stream.of(
+                Arguments.of("empty", new int[0]),
+                Arguments.of("one", new int[] {RomanNumeral.MAX_VALUE}),
+                Arguments.of("random", randomValues),
+                Arguments.of("sorted", sortedValues),
+                Arguments.of("page numbers", pageNumbers),
+                Arguments.of("repeated", repeated));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * RomanNumeralColumnFileTest.java        1.0 10/18/2026
+ * 
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link RomanNumeralColumnFile}.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralColumnFileTest {
+    private static final int BLOCK_SIZE = 100;
+    
+    @DisplayName("Reader reads what Writer wrote")
+    @Test
+    public void readWriteTest() throws IOException {
+        int[] values = createColumn(1_050);
+        Path path = writeColumn(values);
+        
+        try (RomanNumeralColumnFile.Reader reader
+                = new RomanNumeralColumnFile.Reader(path)) {
+            assertEquals(values.length, reader.size());
+            
+            int[] read = new int[values.length];
+            reader.read(0, read, 0, read.length);
+            assertArrayEquals(values, read);
+            
+            // backwards, so every value is in a different block than the last
+            for (int i = values.length - 1; i >= 0; i -= 37) {
+                assertEquals(values[i], reader.get(i));
+            }
+            
+            RomanNumeral[] numerals = new RomanNumeral[values.length - 150];
+            reader.read(150, numerals, 0, numerals.length);
+            for (int i = 0; i < numerals.length; i++) {
+                assertTrue(RomanNumeral.of(values[150 + i]) == numerals[i]);
+            }
+            
+            assertThrows(IndexOutOfBoundsException.class,
+                         () -> reader.get(values.length));
+        } finally {
+            Files.delete(path);
+        }
+    }
+    
+    @DisplayName("Reader(truncated file)")
+    @Test
+    public void truncatedTest() throws IOException {
+        Path path = writeColumn(createColumn(500));
+        try {
+            byte[] bytes = Files.readAllBytes(path);
+            Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+            
+            assertThrows(IOException.class,
+                         () -> new RomanNumeralColumnFile.Reader(path));
+        } finally {
+            Files.delete(path);
+        }
+    }
+    
+    @DisplayName("Reader streams what Writer wrote, a batch at a time")
+    @Test
+    public void streamTest() throws IOException {
+        int[] values = createColumn(1_050);
+        Path path = writeColumn(values);
+        
+        try (RomanNumeralColumnFile.Reader reader
+                = new RomanNumeralColumnFile.Reader(path)) {
+            for (int batchSize : new int[] {1, 64, 100, 250, 2_000}) {
+                reader.position(0);
+                int[] read = new int[values.length];
+                for (int length = 0; length < read.length;) {
+                    int n = reader.read(read, length,
+                                        Math.min(batchSize,
+                                                 read.length - length));
+                    assertTrue(n > 0);
+                    length += n;
+                }
+                assertEquals(values.length, reader.position());
+                assertEquals(-1, reader.read(new int[1], 0, 1));
+                assertArrayEquals(values, read);
+            }
+            
+            reader.position(150);
+            RomanNumeral[] numerals = new RomanNumeral[64];
+            for (int from = 150; from < values.length; from += 64) {
+                int n = reader.read(numerals, 0, numerals.length);
+                assertEquals(Math.min(64, values.length - from), n);
+                for (int i = 0; i < n; i++) {
+                    assertTrue(RomanNumeral.of(values[from + i])
+                               == numerals[i]);
+                }
+            }
+            assertEquals(-1, reader.read(numerals, 0, numerals.length));
+            assertEquals(0, reader.read(numerals, 0, 0));
+            
+            assertThrows(IndexOutOfBoundsException.class,
+                         () -> reader.position(values.length + 1));
+            assertThrows(IndexOutOfBoundsException.class,
+                         () -> reader.read(new int[10], 5, 6));
+        } finally {
+            Files.delete(path);
+        }
+    }
+    
+    @DisplayName("Reader(file with a corrupt block size)")
+    @Test
+    public void corruptBlockSizeTest() throws IOException {
+        Path path = writeColumn(createColumn(500));
+        try {
+            byte[] bytes = Files.readAllBytes(path);
+            // the block size follows the magic number, big-endian
+            bytes[4] = 0x7F;
+            Files.write(path, bytes);
+            
+            assertThrows(IOException.class,
+                         () -> new RomanNumeralColumnFile.Reader(path));
+            assertThrows(IllegalArgumentException.class,
+                         () -> new RomanNumeralColumnFile.Writer(
+                                 path,
+                                 RomanNumeralColumnFile.MAX_BLOCK_SIZE + 1));
+        } finally {
+            Files.delete(path);
+        }
+    }
+    
+    private static int[] createColumn(int length) {
+        Random random = new Random(length);
+        int[] values = new int[length];
+        for (int i = 0; i < values.length; i++) {
+            if (i < length / 2) {
+                // sequential
+                values[i] = RomanNumeral.MIN_VALUE + i;
+            } else {
+                values[i] = RomanNumeral.MIN_VALUE
+                            + random.nextInt(RomanNumeral.MAX_VALUE);
+            }
+        }
+        return values;
+    }
+    
+    private static Path writeColumn(int[] values) throws IOException {
+        Path path = Files.createTempFile("RomanNumeralColumnFileTest", ".rnc");
+        try (RomanNumeralColumnFile.Writer writer
+                = new RomanNumeralColumnFile.Writer(path, BLOCK_SIZE)) {
+            writer.write(values[0]);
+            writer.write(values, 1, values.length);
+        }
+        return path;
+    }
+}
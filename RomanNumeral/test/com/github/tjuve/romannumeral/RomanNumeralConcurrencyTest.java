@@ -0,0 +1,310 @@
+/*
+ * RomanNumeralConcurrencyTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.TestAbortedException;
+
+/**
+ * Stress tests {@link RomanNumeral} from many threads at once.
+ * <p>
+ * The caches of {@code RomanNumeral} are static, so only the first call for
+ * each numeral races to create it. Each round loads a fresh copy of
+ * {@code RomanNumeral} in its own class loader, so every round starts with
+ * empty caches, then starts all threads together to call the methods under
+ * test for every value in a different order. Once the threads finish, every
+ * result is checked against the reference and against what the other
+ * threads got.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralConcurrencyTest {
+    public static final int NUM_THREADS
+            = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+    public static final int NUM_ROUNDS = 25;
+    
+    private static final String[] expectedSymbols = readExpectedSymbols();
+    
+    /**
+     * Loads its own copy of {@code RomanNumeral} and its nested classes,
+     * and delegates everything else.
+     */
+    private static final class IsolatingClassLoader extends ClassLoader {
+        private static final String NAME = RomanNumeral.class.getName();
+        
+        private IsolatingClassLoader() {
+            super(RomanNumeralConcurrencyTest.class.getClassLoader());
+        }
+        
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve)
+                throws ClassNotFoundException {
+            if (!name.equals(NAME) && !name.startsWith(NAME + "$")) {
+                return super.loadClass(name, resolve);
+            }
+            
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> c = findLoadedClass(name);
+                if (c == null) {
+                    byte[] bytes = readClassFile(name);
+                    c = defineClass(name, bytes, 0, bytes.length);
+                }
+                if (resolve) {
+                    resolveClass(c);
+                }
+                return c;
+            }
+        }
+        
+        private byte[] readClassFile(String name)
+                throws ClassNotFoundException {
+            try (InputStream in = getParent().getResourceAsStream(
+                    name.replace('.', '/') + ".class")) {
+                if (in == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8_192];
+                int n;
+                while ((n = in.read(buffer)) >= 0) {
+                    bytes.write(buffer, 0, n);
+                }
+                return bytes.toByteArray();
+            } catch (IOException ioEx) {
+                throw new ClassNotFoundException(name, ioEx);
+            }
+        }
+    }
+    
+    /**
+     * A freshly loaded copy of {@code RomanNumeral}.
+     */
+    private static final class Isolated {
+        private final Method of;
+        private final Method parse;
+        private final Method toString;
+        private final Field symbols;
+        private final Field value;
+        
+        private Isolated() throws ReflectiveOperationException {
+            Class<?> c = new IsolatingClassLoader().loadClass(
+                    RomanNumeral.class.getName());
+            assertTrue(c != RomanNumeral.class);
+            
+            of = c.getMethod("of", int.class);
+            parse = c.getMethod("parse", String.class);
+            toString = c.getMethod("toString", int.class);
+            symbols = c.getField("symbols");
+            value = c.getField("value");
+        }
+        
+        private Object of(int value) throws ReflectiveOperationException {
+            return invoke(of, value);
+        }
+        
+        private Object parse(String symbols)
+                throws ReflectiveOperationException {
+            return invoke(parse, symbols);
+        }
+        
+        private String toString(int value)
+                throws ReflectiveOperationException {
+            return (String) invoke(toString, value);
+        }
+        
+        private static Object invoke(Method method, Object arg)
+                throws ReflectiveOperationException {
+            try {
+                return method.invoke(null, arg);
+            } catch (InvocationTargetException invocationTargetEx) {
+                Throwable cause = invocationTargetEx.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw invocationTargetEx;
+            }
+        }
+    }
+    
+    /**
+     * What one thread does during a round. Returns the result for each
+     * value, indexed by value.
+     */
+    private interface Task {
+        Object[] run(Isolated isolated, int[] order)
+                throws ReflectiveOperationException;
+    }
+    
+    @DisplayName("of(int) from many threads")
+    @Test
+    public void ofTest() throws Exception {
+        stress((isolated, order) -> {
+            Object[] numerals = new Object[RomanNumeral.MAX_VALUE + 1];
+            for (int value : order) {
+                numerals[value] = isolated.of(value);
+            }
+            return numerals;
+        }, true);
+    }
+    
+    @DisplayName("parse(String) and of(int) from many threads")
+    @Test
+    public void parseTest() throws Exception {
+        stress((isolated, order) -> {
+            Object[] numerals = new Object[RomanNumeral.MAX_VALUE + 1];
+            for (int i = 0; i < order.length; i++) {
+                int value = order[i];
+                if (i % 2 == 0) {
+                    numerals[value] = isolated.parse(expectedSymbols[value]);
+                } else {
+                    numerals[value] = isolated.of(value);
+                }
+            }
+            return numerals;
+        }, true);
+    }
+    
+    @DisplayName("toString(int) and of(int) from many threads")
+    @Test
+    public void toStringTest() throws Exception {
+        stress((isolated, order) -> {
+            Object[] symbols = new Object[RomanNumeral.MAX_VALUE + 1];
+            for (int i = 0; i < order.length; i++) {
+                int value = order[i];
+                if (i % 3 == 0) {
+                    isolated.of(value);
+                }
+                symbols[value] = isolated.toString(value);
+            }
+            return symbols;
+        }, false);
+    }
+    
+    /**
+     * Runs the specified task from every thread at once, for each round.
+     *
+     * @param   task       the task.
+     * @param   numerals   whether the task returns {@code RomanNumeral}
+     *                     objects, or else {@code String} objects.
+     */
+    private void stress(Task task, boolean numerals) throws Exception {
+        Random random = new Random(NUM_ROUNDS);
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+        
+        try {
+            for (int round = 0; round < NUM_ROUNDS; round++) {
+                stressRound(task, numerals, round, random, executor);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private static void stressRound(Task task, boolean numerals, int round,
+                                    Random random, ExecutorService executor)
+            throws Exception {
+        Isolated isolated = new Isolated();
+        CyclicBarrier barrier = new CyclicBarrier(NUM_THREADS);
+        
+        List<Future<Object[]>> futures
+                = new ArrayList<Future<Object[]>>();
+        for (int thread = 0; thread < NUM_THREADS; thread++) {
+            int[] order = shuffledValues(random);
+            Callable<Object[]> callable = () -> {
+                barrier.await();
+                return task.run(isolated, order);
+            };
+            futures.add(executor.submit(callable));
+        }
+        
+        List<Object[]> results = new ArrayList<Object[]>();
+        for (Future<Object[]> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException executionEx) {
+                fail("Task failed", executionEx.getCause());
+            }
+        }
+        
+        for (int value = RomanNumeral.MIN_VALUE;
+                value <= RomanNumeral.MAX_VALUE; value++) {
+            Object first = results.get(0)[value];
+            for (Object[] result : results) {
+                if (numerals) {
+                    assertTrue(first == result[value],
+                               "Round " + round + ": more than one "
+                               + expectedSymbols[value]);
+                    assertEquals(expectedSymbols[value],
+                                 isolated.symbols.get(result[value]));
+                    assertEquals(value,
+                                 isolated.value.getInt(result[value]));
+                } else {
+                    assertEquals(expectedSymbols[value], result[value],
+                                 "Round " + round);
+                }
+            }
+        }
+    }
+    
+    private static String[] readExpectedSymbols() {
+        String[] symbols = new String[RomanNumeral.MAX_VALUE + 1];
+        try (BufferedReader referenceReader = Files.newBufferedReader(
+                Paths.get(RomanNumeralTest.REFERENCE_PATHNAME))) {
+            for (int value = RomanNumeral.MIN_VALUE;
+                    value <= RomanNumeral.MAX_VALUE; value++) {
+                symbols[value] = referenceReader.readLine();
+            }
+        } catch (IOException ioEx) {
+            TestAbortedException testAbortedEx
+                    = new TestAbortedException("Failed to read reference file");
+            testAbortedEx.initCause(ioEx);
+            throw testAbortedEx;
+        }
+        return symbols;
+    }
+    
+    private static int[] shuffledValues(Random random) {
+        int[] values = new int[RomanNumeral.MAX_VALUE];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = RomanNumeral.MIN_VALUE + i;
+        }
+        
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+}
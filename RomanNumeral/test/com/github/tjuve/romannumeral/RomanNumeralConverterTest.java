@@ -0,0 +1,224 @@
+/*
+ * RomanNumeralConverterTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.github.tjuve.romannumeral.RomanNumeralLines.Direction;
+
+/**
+ * Tests {@link RomanNumeralConverter}.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralConverterTest {
+    @DisplayName("Values and symbols are converted line by line")
+    @Test
+    public void convertTest() throws IOException {
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int value = RomanNumeral.MIN_VALUE;
+                value <= RomanNumeral.MAX_VALUE; value++) {
+            String symbols = RomanNumeral.toString(value);
+            input.append(value).append('\n')
+                 .append(symbols).append("\r\n")
+                 .append("0\n");
+            expected.append(symbols).append('\n')
+                    .append(value).append('\n')
+                    .append('\n');
+        }
+        input.append("XIV"); // no line terminator
+        expected.append("14\n");
+        
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long numInvalidLines = convert(input.toString(), output,
+                                       Direction.AUTO);
+        
+        assertEquals(expected.toString(), output.toString("US-ASCII"));
+        assertEquals(RomanNumeral.MAX_VALUE, numInvalidLines);
+    }
+    
+    @DisplayName("Only the given direction is converted")
+    @Test
+    public void directionTest() throws IOException {
+        String input = "14\nXIV\n";
+        
+        ByteArrayOutputStream toSymbols = new ByteArrayOutputStream();
+        assertEquals(1, convert(input, toSymbols, Direction.TO_SYMBOLS));
+        assertEquals("XIV\n\n", toSymbols.toString("US-ASCII"));
+        
+        ByteArrayOutputStream toValues = new ByteArrayOutputStream();
+        assertEquals(1, convert(input, toValues, Direction.TO_VALUES));
+        assertEquals("\n14\n", toValues.toString("US-ASCII"));
+    }
+    
+    @DisplayName("Empty input and empty lines")
+    @Test
+    public void emptyTest() throws IOException {
+        ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        assertEquals(0, convert("", empty, Direction.AUTO));
+        assertEquals("", empty.toString("US-ASCII"));
+        
+        ByteArrayOutputStream emptyLines = new ByteArrayOutputStream();
+        assertEquals(2, convert("\n\r\n", emptyLines, Direction.AUTO));
+        assertEquals("\n\n", emptyLines.toString("US-ASCII"));
+    }
+    
+    @DisplayName("Lines longer than the read buffer are invalid")
+    @Test
+    public void longLineTest() throws IOException {
+        char[] line = new char[3 * RomanNumeralConverter.READ_BUFFER_SIZE];
+        Arrays.fill(line, 'I');
+        
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long numInvalidLines = convert(new String(line) + "\n5\n", output,
+                                       Direction.AUTO);
+        
+        assertEquals("\nV\n", output.toString("US-ASCII"));
+        assertEquals(1, numInvalidLines);
+    }
+    
+    @DisplayName("A last line longer than the read buffer is invalid")
+    @Test
+    public void longLastLineTest() throws IOException {
+        for (int length : new int[] {RomanNumeralConverter.READ_BUFFER_SIZE - 2,
+                                     RomanNumeralConverter.READ_BUFFER_SIZE,
+                                     3 * RomanNumeralConverter.READ_BUFFER_SIZE
+                                     + 1}) {
+            char[] line = new char[length];
+            Arrays.fill(line, 'I');
+            
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            long numInvalidLines = convert("5\n" + new String(line), output,
+                                           Direction.AUTO);
+            
+            assertEquals("V\n\n", output.toString("US-ASCII"));
+            assertEquals(1, numInvalidLines);
+        }
+    }
+    
+    @DisplayName("Converting chunks in parallel preserves order")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 1_000, 100_000, 100_000_000})
+    public void parallelTest(int chunkSize) throws Exception {
+        Path file = Files.createTempFile(getClass().getSimpleName(), null);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            StringBuilder input = new StringBuilder();
+            for (int i = 0; i < 25; i++) {
+                for (int value = RomanNumeral.MIN_VALUE;
+                        value <= RomanNumeral.MAX_VALUE; value += 1 + i) {
+                    input.append(value).append('\n');
+                    input.append(RomanNumeral.toString(value)).append('\n');
+                    input.append("IIII\n");
+                }
+            }
+            Files.write(file,
+                        input.toString().getBytes(StandardCharsets.US_ASCII));
+            
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            long expectedNumInvalidLines
+                    = convert(input.toString(), expected, Direction.AUTO);
+            
+            ByteArrayOutputStream actual = new ByteArrayOutputStream();
+            long actualNumInvalidLines;
+            try (WritableByteChannel out = Channels.newChannel(actual)) {
+                actualNumInvalidLines = RomanNumeralConverter.convert(
+                        file, out, Direction.AUTO, executor, 8, chunkSize);
+            }
+            
+            assertEquals(expected.toString("US-ASCII"),
+                         actual.toString("US-ASCII"));
+            assertEquals(expectedNumInvalidLines, actualNumInvalidLines);
+        } finally {
+            executor.shutdownNow();
+            Files.delete(file);
+        }
+    }
+    
+    @DisplayName("Files and standard input are converted in order")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    public void runTest(int numThreads) throws IOException {
+        Path first = Files.createTempFile(getClass().getSimpleName(), null);
+        Path second = Files.createTempFile(getClass().getSimpleName(), null);
+        try {
+            Files.write(first, "1\n2\n".getBytes(StandardCharsets.US_ASCII));
+            Files.write(second, "IV\n".getBytes(StandardCharsets.US_ASCII));
+            
+            ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+            ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+            int status = run(new String[] {"-j", Integer.toString(numThreads),
+                                           first.toString(), "-",
+                                           second.toString()},
+                             "III\nIIII\n", stdout, stderr);
+            
+            assertEquals("I\nII\n3\n\n4\n", stdout.toString("US-ASCII"));
+            assertEquals(1, status);
+        } finally {
+            Files.delete(first);
+            Files.delete(second);
+        }
+    }
+    
+    @DisplayName("Options")
+    @Test
+    public void optionsTest() throws IOException {
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+        
+        assertEquals(0, run(new String[] {"--to-numerals"}, "14\n", stdout,
+                            stderr));
+        assertEquals(1, run(new String[] {"-n"}, "XIV\n", stdout, stderr));
+        assertEquals(0, run(new String[] {"--to-values", "--"}, "XIV\n",
+                            stdout, stderr));
+        assertEquals(1, run(new String[] {"-v"}, "14\n", stdout, stderr));
+        assertEquals("XIV\n\n14\n\n", stdout.toString("US-ASCII"));
+        
+        assertEquals(0, run(new String[] {"--help"}, "", stdout, stderr));
+        assertEquals(2, run(new String[] {"-x"}, "", stdout, stderr));
+        assertEquals(2, run(new String[] {"-j", "0"}, "", stdout, stderr));
+        assertEquals(2, run(new String[] {"-j"}, "", stdout, stderr));
+    }
+    
+    private static long convert(String input, ByteArrayOutputStream output,
+                                Direction direction) throws IOException {
+        return RomanNumeralConverter.convert(
+                Channels.newChannel(new ByteArrayInputStream(
+                        input.getBytes(StandardCharsets.US_ASCII))),
+                Long.MAX_VALUE, Channels.newChannel(output), direction);
+    }
+    
+    private static int run(String[] args, String stdin,
+                           ByteArrayOutputStream stdout,
+                           ByteArrayOutputStream stderr) throws IOException {
+        return RomanNumeralConverter.run(
+                args,
+                Channels.newChannel(new ByteArrayInputStream(
+                        stdin.getBytes(StandardCharsets.US_ASCII))),
+                Channels.newChannel(stdout), new PrintStream(stderr, true));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * RomanNumeralCounterTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests {@link RomanNumeralCounter} against {@link RomanNumeral}.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralCounterTest {
+    @DisplayName("increment() and decrement() through every value")
+    @Test
+    public void incrementDecrementTest() {
+        RomanNumeralCounter counter = new RomanNumeralCounter();
+        for (int value = RomanNumeral.MIN_VALUE;
+                value < RomanNumeral.MAX_VALUE; value++) {
+            assertSymbols(value, counter);
+            counter.increment();
+        }
+        assertSymbols(RomanNumeral.MAX_VALUE, counter);
+        assertThrows(ArithmeticException.class, counter::increment);
+        assertSymbols(RomanNumeral.MAX_VALUE, counter);
+        
+        for (int value = RomanNumeral.MAX_VALUE;
+                value > RomanNumeral.MIN_VALUE; value--) {
+            assertSymbols(value, counter);
+            counter.decrement();
+        }
+        assertSymbols(RomanNumeral.MIN_VALUE, counter);
+        assertThrows(ArithmeticException.class, counter::decrement);
+        assertSymbols(RomanNumeral.MIN_VALUE, counter);
+    }
+    
+    @DisplayName("setValue(valid int)")
+    @ParameterizedTest(name = "setValue({1})")
+    @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                  + "#expectedSymbolsValuePairsProvider()")
+    public void setValueTest(String expectedSymbols, int value) {
+        RomanNumeralCounter counter = new RomanNumeralCounter(
+                RomanNumeral.MAX_VALUE);
+        counter.setValue(value);
+        assertEquals(expectedSymbols, new StringBuilder(counter).toString());
+        assertEquals(RomanNumeral.of(value), counter.toNumeral());
+    }
+    
+    @DisplayName("setValue(invalid int)")
+    @ParameterizedTest(name = "setValue({0})")
+    @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                  + "#invalidValueTestArgsProvider()")
+    public void setValueInvalidTest(int invalidValue) {
+        RomanNumeralCounter counter = new RomanNumeralCounter(14);
+        assertThrows(IllegalArgumentException.class,
+                     () -> counter.setValue(invalidValue));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new RomanNumeralCounter(invalidValue));
+        assertSymbols(14, counter);
+    }
+    
+    @DisplayName("CharSequence and byte views")
+    @Test
+    public void viewsTest() throws IOException {
+        RomanNumeralCounter counter = new RomanNumeralCounter(1_944);
+        
+        assertEquals(7, counter.length());
+        assertEquals('M', counter.charAt(0));
+        assertEquals('V', counter.charAt(6));
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> counter.charAt(7));
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> counter.charAt(-1));
+        assertEquals("CMXL", counter.subSequence(1, 5));
+        
+        byte[] bytes = new byte[8];
+        assertEquals(7, counter.getSymbols(bytes, 1));
+        assertEquals("MCMXLIV", new String(bytes, 1, 7,
+                                           StandardCharsets.US_ASCII));
+        
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        counter.writeTo(out);
+        assertEquals("MCMXLIV", out.toString("US-ASCII"));
+        
+        ByteBuffer buffer = counter.asByteBuffer();
+        assertEquals(0, buffer.position());
+        assertEquals(7, buffer.remaining());
+        assertEquals('M', buffer.get(0));
+        byte[] viewed = new byte[7];
+        buffer.get(viewed);
+        assertArrayEquals("MCMXLIV".getBytes(StandardCharsets.US_ASCII),
+                          viewed);
+    }
+    
+    private static void assertSymbols(int value,
+                                      RomanNumeralCounter counter) {
+        assertEquals(value, counter.getValue());
+        assertEquals(RomanNumeral.toString(value), counter.toString());
+        String symbols = RomanNumeral.toString(value);
+        assertEquals(symbols.length(), counter.length());
+        for (int i = 0; i < symbols.length(); i++) {
+            assertEquals(symbols.charAt(i), counter.charAt(i));
+        }
+    }
+}
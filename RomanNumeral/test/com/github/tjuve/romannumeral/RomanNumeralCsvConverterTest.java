@@ -0,0 +1,225 @@
+/*
+ * RomanNumeralCsvConverterTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.github.tjuve.romannumeral.RomanNumeralCsvConverter.Conversion;
+
+/**
+ * Tests {@link RomanNumeralCsvConverter}.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralCsvConverterTest {
+    public static final String CSV
+            = "name,regnal year,note,volume\r\n"
+              + "Henry,VIII,\"tudor, english\",IV\r\n"
+              + "\"Louis \"\"the Sun\"\"\",XIV,\"line\nbreak\",\"XII\"\r\n"
+              + "Ramesses,II,,IIII\r\n"
+              + "Anon,,\"\",MMMCMXCIX";
+    public static final String EXPECTED_CSV
+            = "name,regnal year,note,volume\r\n"
+              + "Henry,8,\"tudor, english\",4\r\n"
+              + "\"Louis \"\"the Sun\"\"\",14,\"line\nbreak\",12\r\n"
+              + "Ramesses,2,,IIII\r\n"
+              + "Anon,,\"\",3999";
+    public static final String[] NOTES
+            = {",\"a,\"\"\nb\"\n", ",c\r\n", ",12\" ruler\n", ",c\r",
+               ",\"\"\"\"\r\n", ",x\"y\r"};
+    
+    /**
+     * An invalid cell as reported to the handler.
+     */
+    private static final class InvalidCell {
+        private final long record;
+        private final int column;
+        private final String cell;
+        
+        private InvalidCell(long record, int column, String cell) {
+            this.record = record;
+            this.column = column;
+            this.cell = cell;
+        }
+        
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof InvalidCell)) {
+                return false;
+            }
+            InvalidCell other = (InvalidCell) obj;
+            return record == other.record && column == other.column
+                   && cell.equals(other.cell);
+        }
+        
+        @Override
+        public int hashCode() {
+            return cell.hashCode();
+        }
+        
+        @Override
+        public String toString() {
+            return record + ":" + column + ":" + cell;
+        }
+    }
+    
+    @DisplayName("Chosen columns are converted to values")
+    @Test
+    public void toValuesTest() throws IOException {
+        List<InvalidCell> invalidCells = new ArrayList<InvalidCell>();
+        RomanNumeralCsvConverter converter = new RomanNumeralCsvConverter(
+                new int[] {1, 3}, Conversion.TO_VALUES, true,
+                (record, column, cell, cause) -> invalidCells.add(
+                        new InvalidCell(record, column, cell)));
+        
+        StringWriter out = new StringWriter();
+        long numRecords = converter.convert(new StringReader(CSV), out);
+        
+        assertEquals(EXPECTED_CSV, out.toString());
+        assertEquals(5, numRecords);
+        assertEquals(Arrays.asList(new InvalidCell(4, 3, "IIII"),
+                                   new InvalidCell(5, 1, "")),
+                     invalidCells);
+    }
+    
+    @DisplayName("Chosen columns are converted to numerals")
+    @Test
+    public void toNumeralsTest() throws IOException {
+        List<InvalidCell> invalidCells = new ArrayList<InvalidCell>();
+        RomanNumeralCsvConverter converter = new RomanNumeralCsvConverter(
+                new int[] {0, 2}, Conversion.TO_NUMERALS, false,
+                (record, column, cell, cause) -> invalidCells.add(
+                        new InvalidCell(record, column, cell)));
+        
+        StringWriter out = new StringWriter();
+        converter.convert(new StringReader("1,2,3\n\"14\",x,0\n4000,,3999\n"),
+                          out);
+        
+        assertEquals("I,2,III\nXIV,x,0\n4000,,MMMCMXCIX\n", out.toString());
+        assertEquals(Arrays.asList(new InvalidCell(2, 2, "0"),
+                                   new InvalidCell(3, 0, "4000")),
+                     invalidCells);
+    }
+    
+    @DisplayName("Records separated by carriage returns, and empty input")
+    @Test
+    public void separatorsTest() throws IOException {
+        RomanNumeralCsvConverter converter = new RomanNumeralCsvConverter(
+                new int[] {0}, Conversion.TO_VALUES, false,
+                (record, column, cell, cause) -> { });
+        
+        StringWriter out = new StringWriter();
+        assertEquals(3, converter.convert(new StringReader("I\rII\r\nIII\r"),
+                                          out));
+        assertEquals("1\r2\r\n3\r", out.toString());
+        
+        StringWriter empty = new StringWriter();
+        assertEquals(0, converter.convert(new StringReader(""), empty));
+        assertEquals("", empty.toString());
+    }
+    
+    @DisplayName("Cells longer than MAX_CELL_LENGTH are copied through")
+    @Test
+    public void longCellTest() throws IOException {
+        char[] chars = new char[10 * RomanNumeralCsvConverter.MAX_CELL_LENGTH];
+        Arrays.fill(chars, 'I');
+        String longCell = new String(chars);
+        
+        List<InvalidCell> invalidCells = new ArrayList<InvalidCell>();
+        RomanNumeralCsvConverter converter = new RomanNumeralCsvConverter(
+                new int[] {0}, Conversion.TO_VALUES, false,
+                (record, column, cell, cause) -> invalidCells.add(
+                        new InvalidCell(record, column, cell)));
+        
+        StringWriter out = new StringWriter();
+        converter.convert(new StringReader("\"" + longCell + "\",a\nV,b\n"),
+                          out);
+        
+        assertEquals("\"" + longCell + "\",a\n5,b\n", out.toString());
+        assertEquals(1, invalidCells.size());
+        assertEquals(RomanNumeralCsvConverter.MAX_CELL_LENGTH,
+                     invalidCells.get(0).cell.length());
+    }
+    
+    @DisplayName("Negative column indexes")
+    @Test
+    public void negativeColumnTest() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new RomanNumeralCsvConverter(
+                             new int[] {0, -1}, Conversion.TO_VALUES, false,
+                             (record, column, cell, cause) -> { }));
+    }
+    
+    @DisplayName("Converting chunks in parallel preserves order")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000, 1_000_000_000})
+    public void parallelTest(int chunkSize) throws IOException {
+        StringBuilder csv = new StringBuilder("value,symbols,note\n");
+        for (int value = RomanNumeral.MIN_VALUE;
+                value <= RomanNumeral.MAX_VALUE; value++) {
+            csv.append(value).append(',')
+               .append(value % 7 == 0 ? "IIII" : RomanNumeral.toString(value))
+               .append(NOTES[value % NOTES.length]);
+        }
+        
+        Path in = Files.createTempFile(getClass().getSimpleName(), null);
+        Path out = Files.createTempFile(getClass().getSimpleName(), null);
+        try {
+            Files.write(in, csv.toString().getBytes(StandardCharsets.UTF_8));
+            
+            List<InvalidCell> expectedInvalidCells
+                    = new ArrayList<InvalidCell>();
+            StringWriter expected = new StringWriter();
+            long expectedNumRecords = new RomanNumeralCsvConverter(
+                    new int[] {1}, Conversion.TO_VALUES, true,
+                    (record, column, cell, cause) -> expectedInvalidCells.add(
+                            new InvalidCell(record, column, cell)))
+                    .convert(new StringReader(csv.toString()), expected);
+            
+            List<InvalidCell> actualInvalidCells = Collections.synchronizedList(
+                    new ArrayList<InvalidCell>());
+            long actualNumRecords = new RomanNumeralCsvConverter(
+                    new int[] {1}, Conversion.TO_VALUES, true,
+                    (record, column, cell, cause) -> actualInvalidCells.add(
+                            new InvalidCell(record, column, cell)))
+                    .convert(in, out, StandardCharsets.UTF_8, 4, chunkSize);
+            
+            assertEquals(expected.toString(),
+                         new String(Files.readAllBytes(out),
+                                    StandardCharsets.UTF_8));
+            assertEquals(expectedNumRecords, actualNumRecords);
+            assertEquals(expectedInvalidCells.size(),
+                         actualInvalidCells.size());
+            assertEquals(
+                    expectedInvalidCells.stream().mapToLong(c -> c.record)
+                                        .sum(),
+                    actualInvalidCells.stream().mapToLong(c -> c.record)
+                                      .sum());
+        } finally {
+            Files.delete(in);
+            Files.delete(out);
+        }
+    }
+}
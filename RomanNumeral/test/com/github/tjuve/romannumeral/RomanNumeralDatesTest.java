@@ -0,0 +1,109 @@
+/*
+ * RomanNumeralDatesTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests {@link RomanNumeralDates}.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralDatesTest {
+    @DisplayName("DAY_MONTH_YEAR formats and parses dates")
+    @Test
+    public void dayMonthYearTest() {
+        LocalDate date = LocalDate.of(2026, 10, 16);
+        assertEquals("XVI.X.MMXXVI",
+                     RomanNumeralDates.DAY_MONTH_YEAR.format(date));
+        assertEquals(date, LocalDate.parse("XVI.X.MMXXVI",
+                                           RomanNumeralDates.DAY_MONTH_YEAR));
+        
+        // every day of a leap year
+        for (LocalDate day = LocalDate.of(2024, 1, 1);
+                day.getYear() == 2024; day = day.plusDays(1)) {
+            String text = RomanNumeralDates.DAY_MONTH_YEAR.format(day);
+            assertEquals(RomanNumeral.toString(day.getDayOfMonth()) + "."
+                         + RomanNumeral.toString(day.getMonthValue()) + "."
+                         + "MMXXIV",
+                         text);
+            assertEquals(day, LocalDate.parse(
+                    text, RomanNumeralDates.DAY_MONTH_YEAR));
+        }
+    }
+    
+    @DisplayName("YEAR formats and parses years")
+    @ParameterizedTest(name = "{0} = {1}")
+    @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                  + "#expectedSymbolsValuePairsProvider()")
+    public void yearTest(String expectedSymbols, int value) {
+        assertEquals(expectedSymbols,
+                     RomanNumeralDates.YEAR.format(Year.of(value)));
+        assertEquals(Year.of(value),
+                     Year.parse(expectedSymbols, RomanNumeralDates.YEAR));
+    }
+    
+    @DisplayName("Invalid text isn't parsed")
+    @Test
+    public void parseInvalidTest() {
+        for (String text : new String[] {"XXXII.I.MMXXVI", "I.XIII.MMXXVI",
+                                         "XXX.II.MMXXVI", "I.I.MMMM",
+                                         "i.i.mmxxvi"}) {
+            assertThrows(DateTimeParseException.class,
+                         () -> LocalDate.parse(
+                                 text, RomanNumeralDates.DAY_MONTH_YEAR),
+                         text);
+        }
+    }
+    
+    @DisplayName("Values without a Roman numeral are printed in digits")
+    @Test
+    public void digitsTest() {
+        DateTimeFormatter time = RomanNumeralDates.appendRomanNumeral(
+                new DateTimeFormatterBuilder(), ChronoField.HOUR_OF_DAY)
+                .appendLiteral(':')
+                .appendValue(ChronoField.MINUTE_OF_HOUR, 2)
+                .toFormatter();
+        
+        assertEquals("XXIII:05", time.format(LocalTime.of(23, 5)));
+        assertEquals("0:05", time.format(LocalTime.of(0, 5)));
+        assertThrows(DateTimeParseException.class,
+                     () -> LocalTime.parse("0:05", time));
+        assertEquals(LocalTime.of(0, 5),
+                     LocalTime.parse("0:05", new DateTimeFormatterBuilder()
+                             .parseLenient().append(time).toFormatter()));
+        assertEquals("4000", RomanNumeralDates.YEAR.format(Year.of(4000)));
+    }
+    
+    @DisplayName("Formatters are shared by many threads")
+    @Test
+    public void concurrencyTest() {
+        LocalDate epoch = LocalDate.of(1, 1, 1);
+        IntStream.range(0, 1_000_000).parallel().forEach(days -> {
+            LocalDate date = epoch.plusDays(days);
+            assertEquals(date, LocalDate.parse(
+                    RomanNumeralDates.DAY_MONTH_YEAR.format(date),
+                    RomanNumeralDates.DAY_MONTH_YEAR));
+        });
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * RomanNumeralFlowTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.github.tjuve.romannumeral.RomanNumeralFlow.ConversionProcessor;
+import com.github.tjuve.romannumeral.RomanNumeralFlow.InvalidItem;
+import com.github.tjuve.romannumeral.RomanNumeralFlow.Publisher;
+import com.github.tjuve.romannumeral.RomanNumeralFlow.Subscriber;
+import com.github.tjuve.romannumeral.RomanNumeralFlow.Subscription;
+
+/**
+ * Tests {@link RomanNumeralFlow}.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralFlowTest {
+    public static final int BATCH_SIZE = 16;
+    public static final long TIMEOUT_SECONDS = 30;
+    
+    private static ExecutorService executor;
+    
+    /**
+     * Publishes the items of a list on the thread that requests them, and
+     * then completes, or fails with an error.
+     */
+    private static final class ListPublisher<T> implements Publisher<T> {
+        private final List<T> items;
+        private final Throwable error;
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean cancelled;
+        
+        private ListPublisher(List<T> items, Throwable error) {
+            this.items = items;
+            this.error = error;
+        }
+        
+        @Override
+        public void subscribe(Subscriber<? super T> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                private int index;
+                
+                @Override
+                public void request(long n) {
+                    requested.addAndGet(n);
+                    for (; n > 0 && index < items.size() && !cancelled; n--) {
+                        subscriber.onNext(items.get(index++));
+                    }
+                    if (index == items.size() && !cancelled) {
+                        index++;
+                        if (error == null) {
+                            subscriber.onComplete();
+                        } else {
+                            subscriber.onError(error);
+                        }
+                    }
+                }
+                
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+    
+    /**
+     * Collects the items it receives, requesting a fixed number at a time.
+     */
+    private static final class CollectingSubscriber<T>
+            implements Subscriber<T> {
+        private final long requestSize;
+        private final long limit;
+        private final List<T> items
+                = Collections.synchronizedList(new ArrayList<T>());
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private final Thread testThread = Thread.currentThread();
+        private volatile Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean completed;
+        private volatile boolean onTestThread;
+        
+        private CollectingSubscriber(long requestSize, long limit) {
+            this.requestSize = requestSize;
+            this.limit = limit;
+        }
+        
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(Math.min(requestSize, limit));
+        }
+        
+        @Override
+        public void onNext(T item) {
+            onTestThread |= Thread.currentThread() == testThread;
+            items.add(item);
+            if (items.size() % requestSize == 0 && items.size() < limit) {
+                subscription.request(
+                        Math.min(requestSize, limit - items.size()));
+            }
+        }
+        
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+        
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+        
+        private void await() throws InterruptedException {
+            assertTrue(terminated.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+    }
+    
+    @BeforeAll
+    public static void startExecutor() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+    
+    @AfterAll
+    public static void stopExecutor() {
+        executor.shutdownNow();
+    }
+    
+    @DisplayName("Symbols are converted to values, invalid symbols aside")
+    @ParameterizedTest
+    @ValueSource(longs = {1, 7, BATCH_SIZE, Long.MAX_VALUE})
+    public void toValuesTest(long requestSize) throws InterruptedException {
+        List<String> symbols = new ArrayList<String>();
+        List<Integer> expectedValues = new ArrayList<Integer>();
+        List<String> expectedInvalidSymbols = new ArrayList<String>();
+        for (int value = RomanNumeral.MIN_VALUE;
+                value <= RomanNumeral.MAX_VALUE; value++) {
+            symbols.add(RomanNumeral.toString(value));
+            expectedValues.add(value);
+            if (value % 100 == 0) {
+                symbols.add("IIII" + value);
+                expectedInvalidSymbols.add("IIII" + value);
+            }
+        }
+        
+        ConversionProcessor<String, Integer> processor
+                = RomanNumeralFlow.toValues(executor, BATCH_SIZE);
+        CollectingSubscriber<Integer> values
+                = new CollectingSubscriber<Integer>(requestSize,
+                                                    Long.MAX_VALUE);
+        CollectingSubscriber<InvalidItem<String>> invalidItems
+                = new CollectingSubscriber<InvalidItem<String>>(
+                        requestSize, Long.MAX_VALUE);
+        processor.subscribe(values);
+        processor.invalidItems().subscribe(invalidItems);
+        new ListPublisher<String>(symbols, null).subscribe(processor);
+        values.await();
+        invalidItems.await();
+        
+        assertTrue(values.completed);
+        assertTrue(invalidItems.completed);
+        assertFalse(values.onTestThread);
+        assertEquals(expectedValues, values.items);
+        assertEquals(expectedInvalidSymbols,
+                     invalidItems.items.stream().map(InvalidItem::getItem)
+                                       .collect(Collectors.toList()));
+        assertTrue(invalidItems.items.get(0).getCause()
+                   instanceof NumberFormatException);
+    }
+    
+    @DisplayName("ASCII symbols in buffers are converted to values")
+    @Test
+    public void bytesToValuesTest() throws InterruptedException {
+        List<ByteBuffer> buffers = new ArrayList<ByteBuffer>();
+        for (String symbols : Arrays.asList("XIV", "", "MMMCMXCIX", "IC")) {
+            ByteBuffer buffer = ByteBuffer.wrap(
+                    (" " + symbols + " ").getBytes(StandardCharsets.US_ASCII));
+            buffer.position(1).limit(buffer.limit() - 1);
+            buffers.add(buffer);
+        }
+        
+        ConversionProcessor<ByteBuffer, Integer> processor
+                = RomanNumeralFlow.bytesToValues(executor, BATCH_SIZE);
+        CollectingSubscriber<Integer> values
+                = new CollectingSubscriber<Integer>(1, Long.MAX_VALUE);
+        CollectingSubscriber<InvalidItem<ByteBuffer>> invalidItems
+                = new CollectingSubscriber<InvalidItem<ByteBuffer>>(
+                        1, Long.MAX_VALUE);
+        processor.subscribe(values);
+        processor.invalidItems().subscribe(invalidItems);
+        new ListPublisher<ByteBuffer>(buffers, null).subscribe(processor);
+        values.await();
+        invalidItems.await();
+        
+        assertEquals(Arrays.asList(14, 3999), values.items);
+        assertEquals(2, invalidItems.items.size());
+        assertEquals("For input String: \"IC\"",
+                     invalidItems.items.get(1).getCause().getMessage());
+        assertEquals(1, buffers.get(3).position());
+    }
+    
+    @DisplayName("Values are converted to symbols, invalid values aside")
+    @Test
+    public void toSymbolsTest() throws InterruptedException {
+        ConversionProcessor<Integer, String> processor
+                = RomanNumeralFlow.toSymbols(executor, BATCH_SIZE);
+        CollectingSubscriber<String> symbols
+                = new CollectingSubscriber<String>(2, Long.MAX_VALUE);
+        CollectingSubscriber<InvalidItem<Integer>> invalidItems
+                = new CollectingSubscriber<InvalidItem<Integer>>(
+                        2, Long.MAX_VALUE);
+        processor.subscribe(symbols);
+        processor.invalidItems().subscribe(invalidItems);
+        new ListPublisher<Integer>(Arrays.asList(0, 1, 4000, 14, -1), null)
+                .subscribe(processor);
+        symbols.await();
+        invalidItems.await();
+        
+        assertEquals(Arrays.asList("I", "XIV"), symbols.items);
+        assertEquals(Arrays.asList(0, 4000, -1),
+                     invalidItems.items.stream().map(InvalidItem::getItem)
+                                       .collect(Collectors.toList()));
+    }
+    
+    @DisplayName("Items are requested in batches as the subscriber demands")
+    @Test
+    public void backpressureTest() throws InterruptedException {
+        List<Integer> values = new ArrayList<Integer>();
+        for (int value = 1; value <= 1000; value++) {
+            values.add(value);
+        }
+        ListPublisher<Integer> publisher
+                = new ListPublisher<Integer>(values, null);
+        
+        ConversionProcessor<Integer, String> processor
+                = RomanNumeralFlow.toSymbols(executor, BATCH_SIZE);
+        CollectingSubscriber<String> symbols
+                = new CollectingSubscriber<String>(5, 5);
+        processor.subscribe(symbols);
+        publisher.subscribe(processor);
+        
+        Thread.sleep(200);
+        assertEquals(Arrays.asList("I", "II", "III", "IV", "V"),
+                     symbols.items);
+        assertEquals(BATCH_SIZE, publisher.requested.get());
+        assertFalse(symbols.completed);
+        
+        symbols.subscription.cancel();
+        Thread.sleep(200);
+        assertTrue(publisher.cancelled);
+        assertEquals(5, symbols.items.size());
+    }
+    
+    @DisplayName("Upstream errors terminate both subscribers")
+    @Test
+    public void errorTest() throws InterruptedException {
+        IllegalStateException error = new IllegalStateException();
+        ConversionProcessor<String, Integer> processor
+                = RomanNumeralFlow.toValues(executor, BATCH_SIZE);
+        CollectingSubscriber<Integer> values
+                = new CollectingSubscriber<Integer>(1, Long.MAX_VALUE);
+        CollectingSubscriber<InvalidItem<String>> invalidItems
+                = new CollectingSubscriber<InvalidItem<String>>(
+                        1, Long.MAX_VALUE);
+        processor.subscribe(values);
+        processor.invalidItems().subscribe(invalidItems);
+        new ListPublisher<String>(Arrays.asList("I", "IIII"), error)
+                .subscribe(processor);
+        values.await();
+        invalidItems.await();
+        
+        assertEquals(error, values.error);
+        assertEquals(error, invalidItems.error);
+        assertFalse(values.completed);
+    }
+    
+    @DisplayName("Non-positive requests and second subscribers fail")
+    @Test
+    public void illegalUseTest() throws InterruptedException {
+        ConversionProcessor<String, Integer> processor
+                = RomanNumeralFlow.toValues(executor, BATCH_SIZE);
+        CollectingSubscriber<Integer> values
+                = new CollectingSubscriber<Integer>(0, Long.MAX_VALUE);
+        CollectingSubscriber<Integer> second
+                = new CollectingSubscriber<Integer>(1, Long.MAX_VALUE);
+        processor.subscribe(values);
+        processor.subscribe(second);
+        second.await();
+        assertTrue(second.error instanceof IllegalStateException);
+        
+        ListPublisher<String> publisher
+                = new ListPublisher<String>(Arrays.asList("I"), null);
+        publisher.subscribe(processor);
+        values.await();
+        
+        assertTrue(values.error instanceof IllegalArgumentException);
+        assertTrue(publisher.cancelled);
+        assertTrue(values.items.isEmpty());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * RomanNumeralFormatTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.FieldPosition;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests {@link RomanNumeralFormat}.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralFormatTest {
+    private static final RomanNumeralFormat FORMAT
+            = RomanNumeralFormat.getInstance();
+    
+    @DisplayName("format(Number/RomanNumeral) and parseObject(String)")
+    @ParameterizedTest(name = "format({1})")
+    @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                  + "#expectedSymbolsValuePairsProvider()")
+    public void formatParseTest(String expectedSymbols, int value) {
+        assertEquals(expectedSymbols, FORMAT.format(value));
+        assertEquals(expectedSymbols, FORMAT.format((long) value));
+        assertEquals(expectedSymbols, FORMAT.format(RomanNumeral.of(value)));
+        
+        ParsePosition pos = new ParsePosition(2);
+        assertSame(RomanNumeral.of(value),
+                   FORMAT.parseObject("p." + expectedSymbols + ".", pos));
+        assertEquals(2 + expectedSymbols.length(), pos.getIndex());
+    }
+    
+    @DisplayName("format(invalid Object)")
+    @Test
+    public void formatInvalidTest() {
+        for (Object obj : new Object[] {0, 4000, -1L, 14.5, Double.NaN,
+                                        new BigDecimal("14.01"),
+                                        BigInteger.ONE.shiftLeft(64).add(
+                                                BigInteger.ONE),
+                                        "XIV", null}) {
+            assertThrows(IllegalArgumentException.class,
+                         () -> FORMAT.format(obj), String.valueOf(obj));
+        }
+        
+        assertEquals("XIV", FORMAT.format(14.0));
+        assertEquals("XIV", FORMAT.format(new BigDecimal("14.00")));
+        assertEquals("XIV", FORMAT.format(BigInteger.valueOf(14)));
+    }
+    
+    @DisplayName("parseObject(String, ParsePosition) of the longest numeral")
+    @Test
+    public void parseLongestTest() throws ParseException {
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(RomanNumeral.of(3), FORMAT.parseObject("IIII", pos));
+        assertEquals(3, pos.getIndex());
+        
+        pos = new ParsePosition(0);
+        assertEquals(RomanNumeral.of(1994),
+                     FORMAT.parseObject("MCMXCIVX", pos));
+        assertEquals(7, pos.getIndex());
+        
+        pos = new ParsePosition(1);
+        assertNull(FORMAT.parseObject("XIV", new ParsePosition(3)));
+        assertNull(FORMAT.parseObject("Xiv", pos));
+        assertEquals(1, pos.getIndex());
+        assertEquals(1, pos.getErrorIndex());
+        
+        assertThrows(ParseException.class, () -> FORMAT.parseObject("A"));
+    }
+    
+    @DisplayName("MessageFormat with a RomanNumeralFormat")
+    @Test
+    public void messageFormatTest() throws ParseException {
+        MessageFormat format = new MessageFormat("Chapter {0}, page {1}");
+        format.setFormatByArgumentIndex(0, FORMAT);
+        
+        assertEquals("Chapter XIV, page 3",
+                     format.format(new Object[] {14, 3}));
+        assertEquals(RomanNumeral.of(9),
+                     format.parse("Chapter IX, page 3")[0]);
+    }
+    
+    @DisplayName("The symbols are the integer field")
+    @Test
+    public void fieldPositionTest() {
+        FieldPosition pos = new FieldPosition(NumberFormat.INTEGER_FIELD);
+        StringBuffer buffer = new StringBuffer("Year ");
+        FORMAT.format(2026, buffer, pos);
+        
+        assertEquals("Year MMXXVI", buffer.toString());
+        assertEquals(5, pos.getBeginIndex());
+        assertEquals(11, pos.getEndIndex());
+    }
+    
+    @DisplayName("A shared instance formats and parses on many threads")
+    @Test
+    public void concurrencyTest() {
+        for (int i = 0; i < 10; i++) {
+            IntStream.rangeClosed(RomanNumeral.MIN_VALUE,
+                                  RomanNumeral.MAX_VALUE)
+                     .parallel()
+                     .forEach(value -> {
+                         String symbols = FORMAT.format(value);
+                         assertEquals(RomanNumeral.toString(value), symbols);
+                         assertEquals(value,
+                                      FORMAT.parseObject(
+                                              symbols,
+                                              new ParsePosition(0)).value);
+                     });
+        }
+    }
+    
+    @DisplayName("Deserialization returns the shared instance")
+    @Test
+    public void serializationTest() throws IOException,
+                                           ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(FORMAT);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertSame(FORMAT, in.readObject());
+        }
+        assertEquals(FORMAT, FORMAT.clone());
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * RomanNumeralHistogramTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link RomanNumeralHistogram}.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralHistogramTest {
+    public static final int NUM_THREADS
+            = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+    public static final int NUM_ADDS_PER_THREAD = 200_000;
+    public static final int NUM_SNAPSHOTS = 200;
+    
+    @DisplayName("add, count, counts, snapshot and total")
+    @Test
+    public void addTest() {
+        RomanNumeralHistogram histogram = new RomanNumeralHistogram();
+        histogram.add(RomanNumeral.of(14));
+        histogram.add("XIV");
+        histogram.add(new StringBuilder("MMXXVI"));
+        
+        assertEquals(2, histogram.count(14));
+        assertEquals(1, histogram.count(2_026));
+        assertEquals(0, histogram.count(1));
+        assertEquals(3, histogram.total());
+        
+        long[] expected = new long[RomanNumeral.MAX_VALUE + 1];
+        expected[14] = 2;
+        expected[2_026] = 1;
+        assertArrayEquals(expected, histogram.counts());
+        assertArrayEquals(expected, histogram.snapshot());
+        
+        histogram.add("XIV");
+        assertEquals(3, histogram.count(14));
+    }
+    
+    @DisplayName("Invalid symbols and values")
+    @Test
+    public void invalidTest() {
+        RomanNumeralHistogram histogram = new RomanNumeralHistogram(1);
+        for (String symbols : new String[] {"", "IIII", "xiv", null}) {
+            NumberFormatException e = assertThrows(
+                    NumberFormatException.class,
+                    () -> histogram.add(symbols));
+            assertEquals(assertThrows(NumberFormatException.class,
+                                      () -> RomanNumeral.valueOf(symbols))
+                                 .getMessage(),
+                         e.getMessage());
+        }
+        assertEquals(0, histogram.total());
+        
+        assertThrows(IllegalArgumentException.class,
+                     () -> histogram.count(0));
+        assertThrows(IllegalArgumentException.class,
+                     () -> histogram.topK(-1));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new RomanNumeralHistogram(0));
+    }
+    
+    @DisplayName("topK(int)")
+    @Test
+    public void topKTest() {
+        RomanNumeralHistogram histogram = new RomanNumeralHistogram();
+        int[] counts = {0, 3, 5, 3, 1, 5};
+        for (int value = 1; value < counts.length; value++) {
+            for (int i = 0; i < counts[value]; i++) {
+                histogram.add(RomanNumeral.of(value));
+            }
+        }
+        
+        assertArrayEquals(new RomanNumeral[] {RomanNumeral.of(2),
+                                              RomanNumeral.of(5),
+                                              RomanNumeral.of(1)},
+                          histogram.topK(3));
+        assertEquals(5, histogram.topK(100).length);
+        assertEquals(0, histogram.topK(0).length);
+        assertEquals(0, new RomanNumeralHistogram().topK(3).length);
+    }
+    
+    @DisplayName("merge(RomanNumeralHistogram)")
+    @Test
+    public void mergeTest() {
+        RomanNumeralHistogram a = new RomanNumeralHistogram();
+        RomanNumeralHistogram b = new RomanNumeralHistogram(2);
+        a.add("I");
+        b.add("I");
+        b.add("MMMCMXCIX");
+        
+        a.merge(b);
+        assertEquals(2, a.count(1));
+        assertEquals(1, a.count(RomanNumeral.MAX_VALUE));
+        assertEquals(2, b.total());
+        
+        a.merge(a);
+        assertEquals(6, a.total());
+    }
+    
+    @DisplayName("Threads adding together lose no occurrences")
+    @Test
+    public void concurrentAddTest() throws Exception {
+        RomanNumeralHistogram histogram = new RomanNumeralHistogram();
+        CyclicBarrier barrier = new CyclicBarrier(NUM_THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < NUM_THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    for (int i = 0; i < NUM_ADDS_PER_THREAD; i++) {
+                        int value = (thread + i) % RomanNumeral.MAX_VALUE
+                                    + RomanNumeral.MIN_VALUE;
+                        if (i % 2 == 0) {
+                            histogram.add(RomanNumeral.of(value));
+                        } else {
+                            histogram.add(RomanNumeral.toString(value));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        long[] expected = new long[RomanNumeral.MAX_VALUE + 1];
+        for (int thread = 0; thread < NUM_THREADS; thread++) {
+            for (int i = 0; i < NUM_ADDS_PER_THREAD; i++) {
+                expected[(thread + i) % RomanNumeral.MAX_VALUE
+                         + RomanNumeral.MIN_VALUE]++;
+            }
+        }
+        assertArrayEquals(expected, histogram.counts());
+        assertEquals((long) NUM_THREADS * NUM_ADDS_PER_THREAD,
+                     histogram.total());
+    }
+    
+    /**
+     * Each thread adds I, then MMMCMXCIX, over and over, so at any instant
+     * there are at least as many I as MMMCMXCIX, and at most one more per
+     * thread. Reading the counters one at a time, I's before MMMCMXCIX's in
+     * each stripe, would often see more MMMCMXCIX.
+     */
+    @DisplayName("Snapshots are consistent while threads add")
+    @Test
+    public void concurrentSnapshotTest() throws Exception {
+        RomanNumeralHistogram histogram = new RomanNumeralHistogram();
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < NUM_THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    while (!done.get()) {
+                        histogram.add(RomanNumeral.of(RomanNumeral.MIN_VALUE));
+                        histogram.add(RomanNumeral.of(RomanNumeral.MAX_VALUE));
+                    }
+                    return null;
+                }));
+            }
+            
+            for (int i = 0; i < NUM_SNAPSHOTS; i++) {
+                long[] snapshot = histogram.snapshot();
+                long difference = snapshot[RomanNumeral.MIN_VALUE]
+                                  - snapshot[RomanNumeral.MAX_VALUE];
+                assertTrue(difference >= 0 && difference <= NUM_THREADS,
+                           "I - MMMCMXCIX: " + difference);
+            }
+            
+            done.set(true);
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            done.set(true);
+            executor.shutdownNow();
+        }
+        
+        long[] counts = histogram.counts();
+        assertEquals(counts[RomanNumeral.MIN_VALUE],
+                     counts[RomanNumeral.MAX_VALUE]);
+    }
+}
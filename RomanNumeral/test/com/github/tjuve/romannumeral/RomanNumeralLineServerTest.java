@@ -0,0 +1,294 @@
+/*
+ * RomanNumeralLineServerTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link RomanNumeralLineServer} over loopback.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralLineServerTest {
+    public static final int NUM_CLIENTS = 64;
+    
+    private static RomanNumeralLineServer server;
+    
+    /**
+     * A blocking client connection.
+     */
+    private static final class Client implements AutoCloseable {
+        private final Socket socket;
+        private final OutputStream out;
+        private final BufferedReader in;
+        
+        private Client() throws IOException {
+            socket = new Socket();
+            socket.setTcpNoDelay(true);
+            socket.connect(server.getAddress());
+            out = new BufferedOutputStream(socket.getOutputStream());
+            in = new BufferedReader(new InputStreamReader(
+                    socket.getInputStream(), StandardCharsets.US_ASCII));
+        }
+        
+        private void send(String lines) throws IOException {
+            out.write(lines.getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+        
+        private String request(String line) throws IOException {
+            send(line + "\n");
+            return in.readLine();
+        }
+        
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+    
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = RomanNumeralLineServer.start(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+    
+    @AfterAll
+    public static void stopServer() {
+        server.close();
+    }
+    
+    @DisplayName("Values are answered with symbols, and symbols with values")
+    @Test
+    public void requestTest() throws IOException {
+        try (Client client = new Client()) {
+            for (int value = RomanNumeral.MIN_VALUE;
+                    value <= RomanNumeral.MAX_VALUE; value++) {
+                String symbols = RomanNumeral.toString(value);
+                assertEquals(symbols, client.request(Integer.toString(value)));
+                assertEquals(Integer.toString(value), client.request(symbols));
+            }
+        }
+    }
+    
+    @DisplayName("Invalid requests are answered with ERR")
+    @ParameterizedTest
+    @ValueSource(strings = {"", "0", "4000", "12345", "00001", "-1", "IIII",
+                            "iv", "XIV ", " XIV", "1X", "ERR",
+                            "MMMDCCCLXXXVIIII"})
+    public void invalidRequestTest(String line) throws IOException {
+        try (Client client = new Client()) {
+            assertEquals("ERR", client.request(line));
+            assertEquals("XIV", client.request("14"));
+        }
+    }
+    
+    @DisplayName("Pipelined requests are answered in order")
+    @Test
+    public void pipelineTest() throws IOException {
+        StringBuilder requests = new StringBuilder();
+        List<String> expected = new ArrayList<String>();
+        for (int value = RomanNumeral.MIN_VALUE;
+                value <= RomanNumeral.MAX_VALUE; value++) {
+            String symbols = RomanNumeral.toString(value);
+            requests.append(value).append("\r\n");
+            requests.append(symbols).append('\n');
+            requests.append("IIII\n");
+            expected.add(symbols);
+            expected.add(Integer.toString(value));
+            expected.add("ERR");
+        }
+        
+        try (Client client = new Client()) {
+            client.send(requests.toString());
+            for (String expectedLine : expected) {
+                assertEquals(expectedLine, client.in.readLine());
+            }
+        }
+    }
+    
+    @DisplayName("Requests split across writes")
+    @Test
+    public void splitRequestTest() throws Exception {
+        try (Client client = new Client()) {
+            client.send("MMC");
+            Thread.sleep(20);
+            client.send("DX");
+            Thread.sleep(20);
+            client.send("IV\n10");
+            Thread.sleep(20);
+            client.send("\r");
+            Thread.sleep(20);
+            client.send("\n");
+            
+            assertEquals("2414", client.in.readLine());
+            assertEquals("X", client.in.readLine());
+        }
+    }
+    
+    @DisplayName("Lines longer than the read buffer are answered with ERR")
+    @Test
+    public void longLineTest() throws IOException {
+        char[] line = new char[100_000];
+        Arrays.fill(line, 'I');
+        
+        try (Client client = new Client()) {
+            client.send(new String(line) + "\nV\n");
+            assertEquals("ERR", client.in.readLine());
+            assertEquals("5", client.in.readLine());
+        }
+    }
+    
+    @DisplayName("The last line is answered when the client shuts down")
+    @Test
+    public void endOfInputTest() throws IOException {
+        try (Client client = new Client()) {
+            client.send("1\nXIV");
+            client.socket.shutdownOutput();
+            
+            assertEquals("I", client.in.readLine());
+            assertEquals("14", client.in.readLine());
+            assertNull(client.in.readLine());
+        }
+    }
+    
+    /**
+     * Sends far more requests than fit in the server's buffers before
+     * reading any responses.
+     */
+    @DisplayName("Clients that read slowly are not dropped")
+    @Test
+    public void backpressureTest() throws Exception {
+        int numRepeats = 100;
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try (Client client = new Client()) {
+            Future<?> writing = writer.submit(() -> {
+                StringBuilder requests = new StringBuilder();
+                for (int value = RomanNumeral.MIN_VALUE;
+                        value <= RomanNumeral.MAX_VALUE; value++) {
+                    requests.append(value).append('\n');
+                }
+                for (int i = 0; i < numRepeats; i++) {
+                    client.send(requests.toString());
+                }
+                return null;
+            });
+            
+            Thread.sleep(200);
+            for (int i = 0; i < numRepeats; i++) {
+                for (int value = RomanNumeral.MIN_VALUE;
+                        value <= RomanNumeral.MAX_VALUE; value++) {
+                    assertEquals(RomanNumeral.toString(value),
+                                 client.in.readLine());
+                }
+            }
+            writing.get();
+        } finally {
+            writer.shutdownNow();
+        }
+    }
+    
+    @DisplayName("Concurrent clients")
+    @Test
+    public void concurrentClientsTest() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(NUM_CLIENTS);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < NUM_CLIENTS; i++) {
+                int offset = i;
+                futures.add(clients.submit(() -> {
+                    try (Client client = new Client()) {
+                        for (int j = 0; j < 500; j++) {
+                            int value = RomanNumeral.MIN_VALUE
+                                        + (offset * 500 + j)
+                                          % RomanNumeral.MAX_VALUE;
+                            String symbols = RomanNumeral.toString(value);
+                            assertEquals(Integer.toString(value),
+                                         client.request(symbols));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException executionEx) {
+                    throw (Exception) executionEx.getCause();
+                }
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+    
+    /**
+     * Resets connections as soon as they are made, so that some of them are
+     * reset before the server accepts or sets them up.
+     */
+    @DisplayName("Connections reset by clients don't stop the server")
+    @Test
+    public void resetConnectionsTest() throws IOException {
+        for (int i = 0; i < NUM_CLIENTS; i++) {
+            Socket socket = new Socket();
+            socket.setSoLinger(true, 0);
+            socket.connect(server.getAddress());
+            socket.close();
+        }
+        
+        try (Client client = new Client()) {
+            assertEquals("XIV", client.request("14"));
+        }
+    }
+    
+    @DisplayName("RomanNumeral.indexOf(ByteBuffer, int, int)")
+    @ParameterizedTest
+    @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                  + "#expectedSymbolsValuePairsProvider()")
+    public void indexOfTest(String symbols, int expectedValue) {
+        ByteBuffer buffer = ByteBuffer.wrap(
+                (" " + symbols + "I").getBytes(StandardCharsets.US_ASCII));
+        buffer.position(3);
+        
+        assertEquals(expectedValue,
+                     RomanNumeral.indexOf(buffer, 1, 1 + symbols.length()));
+        assertEquals(3, buffer.position());
+        if (!RomanNumeral.isValid(symbols + "I")) {
+            assertEquals(0, RomanNumeral.indexOf(buffer, 1,
+                                                 2 + symbols.length()));
+        }
+    }
+}
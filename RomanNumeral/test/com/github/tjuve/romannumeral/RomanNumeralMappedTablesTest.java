@@ -0,0 +1,204 @@
+/*
+ * RomanNumeralMappedTablesTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests {@link RomanNumeralMappedTables} against {@link RomanNumeral}.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralMappedTablesTest {
+    private static Path directory;
+    private static Path tablesFile;
+    private static RomanNumeralMappedTables tables;
+    
+    @BeforeAll
+    public static void mapTables() throws IOException {
+        directory = Files.createTempDirectory(
+                RomanNumeralMappedTablesTest.class.getSimpleName());
+        tablesFile = directory.resolve("roman-numerals.tables");
+        RomanNumeralMappedTables.write(tablesFile);
+        tables = RomanNumeralMappedTables.map(tablesFile);
+    }
+    
+    @AfterAll
+    public static void deleteTables() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+    
+    @DisplayName("toString(int) and valueOf(CharSequence)")
+    @ParameterizedTest(name = "{0} = {1}")
+    @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                  + "#expectedSymbolsValuePairsProvider()")
+    public void validTest(String expectedSymbols, int value) {
+        assertEquals(expectedSymbols, tables.toString(value));
+        assertEquals(value, tables.valueOf(expectedSymbols));
+        assertEquals(value,
+                     tables.valueOf(new StringBuilder(expectedSymbols)));
+        assertTrue(tables.isValid(expectedSymbols));
+        
+        byte[] bytes = new byte[expectedSymbols.length() + 1];
+        assertEquals(expectedSymbols.length(),
+                     tables.getSymbols(value, bytes, 1));
+    }
+    
+    @DisplayName("Invalid values and symbols")
+    @Test
+    public void invalidTest() {
+        for (int value : new int[] {0, -1, 4000, Integer.MIN_VALUE}) {
+            assertThrows(IllegalArgumentException.class,
+                         () -> tables.toString(value));
+        }
+        for (String symbols : Arrays.asList("", "IIII", "IC", "xiv",
+                                            "MMMDCCCLXXXVIIII", null)) {
+            assertFalse(tables.isValid(symbols));
+            NumberFormatException e = assertThrows(
+                    NumberFormatException.class,
+                    () -> tables.valueOf(symbols));
+            assertEquals(
+                    assertThrows(NumberFormatException.class,
+                                 () -> RomanNumeral.valueOf(symbols))
+                            .getMessage(),
+                    e.getMessage());
+        }
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> tables.getSymbols(8, new byte[4], 1));
+    }
+    
+    /**
+     * Loads the package's classes again in a class loader that records
+     * them, and checks that reading the tables never loads, so never
+     * initializes, {@code RomanNumeral}.
+     */
+    @DisplayName("Reading doesn't initialize RomanNumeral")
+    @Test
+    public void isolatedTest() throws Exception {
+        String packagePrefix = RomanNumeral.class.getPackage().getName() + ".";
+        List<String> loaded = new ArrayList<String>();
+        ClassLoader loader = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve)
+                    throws ClassNotFoundException {
+                if (!name.startsWith(packagePrefix)) {
+                    return super.loadClass(name, resolve);
+                }
+                synchronized (getClassLoadingLock(name)) {
+                    Class<?> c = findLoadedClass(name);
+                    if (c == null) {
+                        loaded.add(name);
+                        byte[] bytes = readClass(getParent(), name);
+                        c = defineClass(name, bytes, 0, bytes.length);
+                    }
+                    return c;
+                }
+            }
+        };
+        
+        Class<?> isolated
+                = loader.loadClass(RomanNumeralMappedTables.class.getName());
+        Object isolatedTables = isolated.getMethod("map", Path.class)
+                                        .invoke(null, tablesFile);
+        assertEquals("XIV", isolated.getMethod("toString", int.class)
+                                    .invoke(isolatedTables, 14));
+        assertEquals(14, isolated.getMethod("valueOf", CharSequence.class)
+                                 .invoke(isolatedTables, "XIV"));
+        assertEquals(false, isolated.getMethod("isValid", CharSequence.class)
+                                    .invoke(isolatedTables, "IIII"));
+        
+        assertEquals(Arrays.asList(RomanNumeralMappedTables.class.getName()),
+                     loaded);
+    }
+    
+    @DisplayName("Rewriting replaces the file, and mappings share it")
+    @Test
+    public void rewriteTest() throws IOException {
+        Path file = directory.resolve("rewritten.tables");
+        RomanNumeralMappedTables.write(file);
+        RomanNumeralMappedTables first = RomanNumeralMappedTables.map(file);
+        RomanNumeralMappedTables.write(file);
+        RomanNumeralMappedTables second = RomanNumeralMappedTables.map(file);
+        
+        assertEquals("MMXXVI", first.toString(2026));
+        assertEquals("MMXXVI", second.toString(2026));
+        try (Stream<Path> files = Files.list(directory)) {
+            // no temporary file is left behind
+            assertEquals(1, files.filter(f -> f.getFileName().toString()
+                                               .startsWith("rewritten"))
+                                 .count());
+        }
+    }
+    
+    @DisplayName("Corrupt files aren't mapped")
+    @Test
+    public void corruptTest() throws IOException {
+        Path file = directory.resolve("corrupt.tables");
+        RomanNumeralMappedTables.write(file);
+        byte[] bytes = Files.readAllBytes(file);
+        
+        byte[] flipped = bytes.clone();
+        flipped[flipped.length - 1] ^= 1;
+        Files.write(file, flipped);
+        assertThrows(IOException.class,
+                     () -> RomanNumeralMappedTables.map(file));
+        
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class,
+                     () -> RomanNumeralMappedTables.map(file));
+        
+        Files.write(file, new byte[0]);
+        assertThrows(IOException.class,
+                     () -> RomanNumeralMappedTables.map(file));
+        Files.delete(file);
+    }
+    
+    private static byte[] readClass(ClassLoader loader, String name)
+            throws ClassNotFoundException {
+        try (InputStream in = loader.getResourceAsStream(
+                name.replace('.', '/') + ".class")) {
+            if (in == null) {
+                throw new ClassNotFoundException(name);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8_192];
+            int n;
+            while ((n = in.read(buffer)) >= 0) {
+                bytes.write(buffer, 0, n);
+            }
+            return bytes.toByteArray();
+        } catch (IOException ioEx) {
+            throw new ClassNotFoundException(name, ioEx);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * RomanNumeralMatcherTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.github.tjuve.romannumeral.RomanNumeralMatcher.Match;
+
+/**
+ * Tests {@link RomanNumeralMatcher}.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralMatcherTest {
+    public static final int NUM_RANDOM_QUERIES = 2_000;
+    public static final String NOISE = "IVXLCDMivxlcdm1|0O( ?";
+    
+    @ParameterizedTest(name = "\"{0}\" matches itself")
+    @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                  + "#expectedSymbolsValuePairsProvider()")
+    public void exactMatchTest(String symbols, int value) {
+        assertSame(RomanNumeral.of(value),
+                   RomanNumeralMatcher.closest(symbols, 0));
+        assertEquals(0, RomanNumeralMatcher.distance(symbols, value));
+    }
+    
+    @DisplayName("Common misreadings")
+    @Test
+    public void misreadingTest() {
+        assertClosest("XIV", 1, "XlV");
+        assertClosest("IV", 1, "1V");
+        assertClosest("MMXXVI", 1, "MMXXV|");
+        assertClosest("MDC", 1, "M0C");
+        assertClosest("XIII", 2, "XIIII");
+        assertClosest("XIV", 3, "xiv");
+        assertClosest("MCM", 2, "MCM?");
+        assertEquals(RomanNumeralMatcher.EDIT_COST * 3,
+                     RomanNumeralMatcher.distance("\u2163\u2164", 14));
+    }
+    
+    @DisplayName("Matches are ranked by distance, then value")
+    @Test
+    public void rankTest() {
+        Match[] matches = RomanNumeralMatcher.match("XlV", 2);
+        assertEquals("XIV (1)", matches[0].toString());
+        assertEquals("XLV (1)", matches[1].toString());
+        for (int i = 1; i < matches.length; i++) {
+            Match a = matches[i - 1];
+            Match b = matches[i];
+            assertEquals(true, a.getDistance() < b.getDistance()
+                               || a.getDistance() == b.getDistance()
+                                  && a.getNumeral().value
+                                     < b.getNumeral().value);
+        }
+        
+        assertEquals(0, RomanNumeralMatcher.match("?????", 4).length);
+        assertNull(RomanNumeralMatcher.closest("?????", 4));
+    }
+    
+    @DisplayName("Matches equal a search of every numeral")
+    @Test
+    public void randomMatchTest() {
+        Random random = new Random(18);
+        for (int q = 0; q < NUM_RANDOM_QUERIES; q++) {
+            String query = randomQuery(random);
+            int maxDistance = random.nextInt(6);
+            
+            List<String> expected = new ArrayList<String>();
+            for (int distance = 0; distance <= maxDistance; distance++) {
+                for (int value = RomanNumeral.MIN_VALUE;
+                        value <= RomanNumeral.MAX_VALUE; value++) {
+                    if (RomanNumeralMatcher.distance(query, value)
+                            == distance) {
+                        expected.add(RomanNumeral.toString(value)
+                                     + " (" + distance + ")");
+                    }
+                }
+            }
+            
+            List<String> actual = new ArrayList<String>();
+            for (Match match : RomanNumeralMatcher.match(query, maxDistance)) {
+                actual.add(match.toString());
+            }
+            assertEquals(expected, actual,
+                         "For query \"" + query + "\" within " + maxDistance);
+        }
+    }
+    
+    @DisplayName("Invalid arguments")
+    @Test
+    public void invalidTest() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> RomanNumeralMatcher.match("X", -1));
+        assertThrows(IllegalArgumentException.class,
+                     () -> RomanNumeralMatcher.distance("X", 0));
+        assertThrows(IllegalArgumentException.class,
+                     () -> RomanNumeralMatcher.distance("X", 4_000));
+    }
+    
+    private static void assertClosest(String expected, int expectedDistance,
+                                      String symbols) {
+        Match[] matches = RomanNumeralMatcher.match(symbols, expectedDistance);
+        assertEquals(expected, matches[0].getNumeral().toString(), symbols);
+        assertEquals(expectedDistance, matches[0].getDistance(), symbols);
+    }
+    
+    /**
+     * Returns the symbols of a random numeral with up to two random edits.
+     */
+    private static String randomQuery(Random random) {
+        StringBuilder query = new StringBuilder(RomanNumeral.toString(
+                random.nextInt(RomanNumeral.MAX_VALUE)
+                + RomanNumeral.MIN_VALUE));
+        for (int edits = random.nextInt(3); edits > 0; edits--) {
+            int i = random.nextInt(query.length() + 1);
+            char c = NOISE.charAt(random.nextInt(NOISE.length()));
+            switch (random.nextInt(3)) {
+                case 0:
+                    query.insert(i, c);
+                    break;
+                case 1:
+                    if (i < query.length()) {
+                        query.deleteCharAt(i);
+                    }
+                    break;
+                default:
+                    if (i < query.length()) {
+                        query.setCharAt(i, c);
+                    }
+            }
+        }
+        return query.toString();
+    }
+}
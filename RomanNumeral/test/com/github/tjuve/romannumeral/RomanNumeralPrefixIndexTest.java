@@ -0,0 +1,112 @@
+/*
+ * RomanNumeralPrefixIndexTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link RomanNumeralPrefixIndex}.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralPrefixIndexTest {
+    @DisplayName("Completions of \"MC\"")
+    @Test
+    public void exampleTest() {
+        assertTrue(RomanNumeralPrefixIndex.isPrefix("MC"));
+        assertEquals(500, RomanNumeralPrefixIndex.countCompletions("MC"));
+        assertEquals(1_100, RomanNumeralPrefixIndex.minCompletion("MC"));
+        assertEquals(1_999, RomanNumeralPrefixIndex.maxCompletion("MC"));
+        assertEquals(RomanNumeral.lexicographicRank(1_100),
+                     RomanNumeralPrefixIndex.firstCompletionRank("MC"));
+        
+        List<Integer> values = new ArrayList<Integer>();
+        RomanNumeralPrefixIndex.forEachCompletion("MC", values::add);
+        assertEquals(Arrays.asList(1_100, 1_200, 1_300),
+                     values.subList(0, 3));
+    }
+    
+    @DisplayName("Every prefix matches a search of every numeral")
+    @Test
+    public void everyPrefixTest() {
+        String[] sorted = new String[RomanNumeral.MAX_VALUE];
+        for (int value = RomanNumeral.MIN_VALUE;
+                value <= RomanNumeral.MAX_VALUE; value++) {
+            sorted[value - RomanNumeral.MIN_VALUE]
+                    = RomanNumeral.toString(value);
+        }
+        Arrays.sort(sorted);
+        
+        Set<String> prefixes = new LinkedHashSet<String>();
+        for (String symbols : sorted) {
+            for (int end = 0; end <= symbols.length(); end++) {
+                prefixes.add(symbols.substring(0, end));
+            }
+        }
+        assertEquals(RomanNumeral.MAX_VALUE + 1, prefixes.size());
+        
+        for (String prefix : prefixes) {
+            List<Integer> expected = new ArrayList<Integer>();
+            int first = -1;
+            for (int rank = 0; rank < sorted.length; rank++) {
+                if (sorted[rank].startsWith(prefix)) {
+                    expected.add(RomanNumeral.indexOf(sorted[rank]));
+                    first = first < 0 ? rank : first;
+                }
+            }
+            
+            assertTrue(RomanNumeralPrefixIndex.isPrefix(prefix), prefix);
+            assertEquals(expected.size(),
+                         RomanNumeralPrefixIndex.countCompletions(prefix),
+                         prefix);
+            assertEquals(first,
+                         RomanNumeralPrefixIndex.firstCompletionRank(prefix),
+                         prefix);
+            assertEquals((int) Collections.min(expected),
+                         RomanNumeralPrefixIndex.minCompletion(prefix),
+                         prefix);
+            assertEquals((int) Collections.max(expected),
+                         RomanNumeralPrefixIndex.maxCompletion(prefix),
+                         prefix);
+            
+            List<Integer> actual = new ArrayList<Integer>();
+            RomanNumeralPrefixIndex.forEachCompletion(prefix, actual::add);
+            assertEquals(expected, actual, prefix);
+        }
+    }
+    
+    @DisplayName("Prefixes of no numeral")
+    @Test
+    public void invalidPrefixTest() {
+        for (String prefix : new String[] {"IIII", "IM", "VV", "MMMM", "i",
+                                           "MC ", "XLX"}) {
+            assertFalse(RomanNumeralPrefixIndex.isPrefix(prefix), prefix);
+            assertEquals(0, RomanNumeralPrefixIndex.countCompletions(prefix));
+            assertEquals(0, RomanNumeralPrefixIndex.minCompletion(prefix));
+            assertEquals(0, RomanNumeralPrefixIndex.maxCompletion(prefix));
+            assertEquals(-1,
+                         RomanNumeralPrefixIndex.firstCompletionRank(prefix));
+            
+            List<Integer> actual = new ArrayList<Integer>();
+            RomanNumeralPrefixIndex.forEachCompletion(prefix, actual::add);
+            assertTrue(actual.isEmpty(), prefix);
+        }
+    }
+}
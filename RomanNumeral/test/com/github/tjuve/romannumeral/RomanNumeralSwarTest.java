@@ -0,0 +1,125 @@
+/*
+ * RomanNumeralSwarTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests {@link RomanNumeralSwar} against {@link RomanNumeral#parse(String)}.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralSwarTest {
+    /**
+     * Bytes that are symbols, look like symbols, or pad symbols.
+     */
+    private static final byte[] ADVERSARIAL_BYTES
+            = "IVXLCDMivx\0 É".getBytes(StandardCharsets.ISO_8859_1);
+    
+    @DisplayName("indexOf(byte[], int, int) of valid symbols")
+    @ParameterizedTest(name = "indexOf({0})")
+    @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                  + "#expectedSymbolsValuePairsProvider()")
+    public void indexOfValidTest(String symbols, int expectedValue) {
+        byte[] bytes = symbols.getBytes(StandardCharsets.US_ASCII);
+        
+        // at the start, in the middle and at the end of arrays
+        for (int padding = 0; padding <= 16; padding++) {
+            byte[] padded = new byte[bytes.length + padding];
+            System.arraycopy(bytes, 0, padded, padding / 2, bytes.length);
+            assertEquals(expectedValue,
+                         RomanNumeralSwar.indexOf(
+                                 padded, padding / 2,
+                                 padding / 2 + bytes.length));
+        }
+    }
+    
+    @DisplayName("indexOf(byte[], int, int) of altered valid symbols")
+    @ParameterizedTest(name = "indexOf({0} altered)")
+    @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                  + "#expectedSymbolsValuePairsProvider()")
+    public void indexOfAlteredTest(String symbols, int value) {
+        List<String> altered = new ArrayList<String>();
+        for (byte b : ADVERSARIAL_BYTES) {
+            String c = new String(new byte[] {b}, StandardCharsets.ISO_8859_1);
+            for (int i = 0; i <= symbols.length(); i++) {
+                altered.add(symbols.substring(0, i) + c
+                            + symbols.substring(i));
+                if (i < symbols.length()) {
+                    altered.add(symbols.substring(0, i) + c
+                                + symbols.substring(i + 1));
+                }
+            }
+        }
+        for (int i = 0; i < symbols.length(); i++) {
+            altered.add(symbols.substring(0, i) + symbols.substring(i + 1));
+        }
+        
+        for (String s : altered) {
+            assertCrossChecks(s);
+        }
+    }
+    
+    @DisplayName("indexOf(byte[], int, int) of every short sequence")
+    @Test
+    public void indexOfShortTest() {
+        byte[] bytes = new byte[5];
+        int radix = ADVERSARIAL_BYTES.length;
+        for (int length = 1; length <= bytes.length; length++) {
+            int numSequences = (int) Math.pow(radix, length);
+            for (int n = 0; n < numSequences; n++) {
+                for (int i = 0, digits = n; i < length; i++, digits /= radix) {
+                    bytes[i] = ADVERSARIAL_BYTES[digits % radix];
+                }
+                assertCrossChecks(new String(bytes, 0, length,
+                                             StandardCharsets.ISO_8859_1));
+            }
+        }
+    }
+    
+    @DisplayName("indexOf(byte[], int, int) of long and empty ranges")
+    @Test
+    public void indexOfLengthTest() {
+        byte[] bytes = "MMMDCCCLXXXVIIII".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(3888, RomanNumeralSwar.indexOf(bytes, 0, 15));
+        assertEquals(0, RomanNumeralSwar.indexOf(bytes, 0, 16));
+        assertEquals(0, RomanNumeralSwar.indexOf(bytes, 3, 3));
+        assertEquals(0, RomanNumeralSwar.indexOf(bytes, 3, 2));
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> RomanNumeralSwar.indexOf(bytes, 10, 17));
+    }
+    
+    /**
+     * Compares the SWAR path, the scalar path and the constructor, through
+     * {@link RomanNumeral#isValid(String)} and
+     * {@link RomanNumeral#valueOf(String)}.
+     */
+    private static void assertCrossChecks(String symbols) {
+        byte[] bytes = symbols.getBytes(StandardCharsets.ISO_8859_1);
+        int expectedValue = RomanNumeral.isValid(symbols)
+                            ? RomanNumeral.valueOf(symbols) : 0;
+        assertEquals(expectedValue,
+                     RomanNumeralSwar.indexOf(bytes, 0, bytes.length),
+                     symbols);
+        assertEquals(expectedValue,
+                     RomanNumeral.indexOf(ByteBuffer.wrap(bytes), 0,
+                                          bytes.length),
+                     symbols);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * RomanNumeralTablesGeneratorTest.java        1.0 10/18/2026
+ * 
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link RomanNumeralTablesGenerator}.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralTablesGeneratorTest {
+    /*
+     * Pathname is relative to project root
+     */
+    public static final String TABLES_PATHNAME = "src/com/github/tjuve/"
+            + "romannumeral/RomanNumeralTables.java";
+    
+    @DisplayName("RomanNumeralTables.java is up to date")
+    @Test
+    public void upToDateTest() throws IOException {
+        String tables = new String(
+                Files.readAllBytes(Paths.get(TABLES_PATHNAME)),
+                StandardCharsets.US_ASCII);
+        
+        assertEquals(RomanNumeralTablesGenerator.generate(), tables,
+                     "Run RomanNumeralTablesGenerator");
+    }
+}
@@ -6,6 +6,7 @@
 
 package com.github.tjuve.romannumeral;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -16,20 +17,37 @@ import static org.junit.jupiter.api.Assumptions.assumeFalse;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Random;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.IntBinaryOperator;
 import java.util.function.IntUnaryOperator;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.Stream.Builder;
 
@@ -42,8 +60,10 @@ import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.opentest4j.TestAbortedException;
 
+import com.github.tjuve.romannumeral.RomanNumeral.Style;
 import com.github.tjuve.romannumeral.RomanNumeral.Symbol;
 
 /**
@@ -1446,6 +1466,729 @@ public class RomanNumeralTest {
         }
     }
     
+    @Nested
+    public class EncodedLengthTests {
+        @DisplayName("encodedLength(valid int)")
+        @ParameterizedTest(name = "encodedLength({1})")
+        @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                      + "#expectedSymbolsValuePairsProvider()")
+        public void encodedLengthTest(String expectedSymbols, int value) {
+            assertEquals(expectedSymbols.length(), assertDoesNotThrow(
+                    () -> RomanNumeral.encodedLength(value)));
+        }
+        
+        @DisplayName("encodedLength(invalid int)")
+        @ParameterizedTest(name = "encodedLength({0})")
+        @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                      + "#invalidValueTestArgsProvider()")
+        public void encodedLengthInvalidTest(int invalidValue) {
+            assertThrows(IllegalArgumentException.class,
+                         () -> RomanNumeral.encodedLength(invalidValue));
+        }
+        
+        @DisplayName("getSymbols(valid int, byte[]/char[], int)")
+        @ParameterizedTest(name = "getSymbols({1}, byte[]/char[], 1)")
+        @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                      + "#expectedSymbolsValuePairsProvider()")
+        public void getSymbolsTest(String expectedSymbols, int value) {
+            byte[] bytes = new byte[expectedSymbols.length() + 1];
+            assertEquals(expectedSymbols.length(),
+                         RomanNumeral.getSymbols(value, bytes, 1));
+            assertEquals(expectedSymbols,
+                         new String(bytes, 1, expectedSymbols.length(),
+                                    StandardCharsets.US_ASCII));
+            
+            char[] chars = new char[expectedSymbols.length() + 1];
+            assertEquals(expectedSymbols.length(),
+                         RomanNumeral.getSymbols(value, chars, 1));
+            assertEquals(expectedSymbols,
+                         new String(chars, 1, expectedSymbols.length()));
+        }
+        
+        @DisplayName("encodedOffsets(int[], int, int)")
+        @Test
+        public void encodedOffsetsTest() {
+            int[] values = {RomanNumeral.MAX_VALUE, 1, 4, 8,
+                            RomanNumeral.MAX_VALUE};
+            
+            // MMMCMXCIX, I, IV, VIII
+            assertArrayEquals(new int[] {0, 1, 3, 7},
+                              RomanNumeral.encodedOffsets(values, 1, 4));
+            assertEquals(7L, RomanNumeral.encodedLength(values, 1, 4));
+            assertEquals(25L, RomanNumeral.encodedLength(values, 0, 5));
+            assertArrayEquals(new int[] {0},
+                              RomanNumeral.encodedOffsets(values, 5, 5));
+        }
+        
+        @DisplayName("encodedOffsets(int[], invalid range)")
+        @Test
+        public void encodedOffsetsInvalidTest() {
+            int[] values = {1, 2, 3, 4, 5};
+            int[][] ranges = {{-1, 2}, {0, 6}, {3, 2}, {6, 6}};
+            
+            for (int[] range : ranges) {
+                assertThrows(IndexOutOfBoundsException.class,
+                             () -> RomanNumeral.encodedOffsets(
+                                     values, range[0], range[1]));
+                assertThrows(IndexOutOfBoundsException.class,
+                             () -> RomanNumeral.encodedLength(
+                                     values, range[0], range[1]));
+            }
+        }
+    }
+    
+    @Nested
+    public class StyleTests {
+        @DisplayName("toString(valid int, Style)")
+        @ParameterizedTest(name = "toString({1}, Style)")
+        @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                      + "#expectedSymbolsValuePairsProvider()")
+        public void toStringStyleTest(String expectedSymbols, int value) {
+            for (Style style : Style.values()) {
+                String styled = styled(expectedSymbols, style);
+                String symbols = RomanNumeral.toString(value, style);
+                assertEquals(styled, symbols);
+                // cached
+                assertTrue(symbols == RomanNumeral.toString(value, style));
+                
+                char[] chars = new char[styled.length() + 1];
+                assertEquals(styled.length(),
+                             RomanNumeral.getSymbols(value, style, chars, 1));
+                assertEquals(styled, new String(chars, 1, styled.length()));
+            }
+        }
+        
+        @DisplayName("toString(invalid int, Style)")
+        @ParameterizedTest(name = "toString({0}, Style)")
+        @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                      + "#invalidValueTestArgsProvider()")
+        public void toStringStyleInvalidTest(int invalidValue) {
+            for (Style style : Style.values()) {
+                assertThrows(IllegalArgumentException.class,
+                             () -> RomanNumeral.toString(invalidValue, style));
+                assertThrows(IllegalArgumentException.class,
+                             () -> RomanNumeral.getSymbols(
+                                     invalidValue, style, new char[16], 0));
+            }
+        }
+        
+        @DisplayName("getSymbols(int, int, Style, char[], int, int[])")
+        @Test
+        public void getSymbolsRangeTest() {
+            int[] ends = new int[RomanNumeral.MAX_VALUE];
+            char[] chars = new char[(int) RomanNumeral.encodedLength(
+                    IntStream.rangeClosed(RomanNumeral.MIN_VALUE,
+                                          RomanNumeral.MAX_VALUE)
+                             .toArray(),
+                    0, RomanNumeral.MAX_VALUE) + 2];
+            
+            for (Style style : Style.values()) {
+                assertEquals(chars.length - 2,
+                             RomanNumeral.getSymbols(
+                                     RomanNumeral.MIN_VALUE,
+                                     RomanNumeral.MAX_VALUE + 1, style, chars,
+                                     2, ends));
+                int start = 2;
+                for (int value = RomanNumeral.MIN_VALUE;
+                        value <= RomanNumeral.MAX_VALUE; value++) {
+                    int end = ends[value - RomanNumeral.MIN_VALUE];
+                    assertEquals(RomanNumeral.toString(value, style),
+                                 new String(chars, start, end - start));
+                    start = end;
+                }
+            }
+            
+            // i, ii, iii, iv
+            char[] labels = new char[8];
+            assertEquals(8, RomanNumeral.getSymbols(1, 5, Style.LOWERCASE,
+                                                    labels, 0, ends));
+            assertEquals("iiiiiiiv", new String(labels));
+            assertArrayEquals(new int[] {1, 3, 6, 8},
+                              Arrays.copyOf(ends, 4));
+            assertEquals(0, RomanNumeral.getSymbols(7, 7, Style.LOWERCASE,
+                                                    labels, 9, ends));
+        }
+        
+        @DisplayName("getSymbols(invalid range, Style, char[], int, int[])")
+        @Test
+        public void getSymbolsRangeInvalidTest() {
+            char[] chars = new char[8];
+            int[] ends = new int[4];
+            
+            assertThrows(IllegalArgumentException.class,
+                         () -> RomanNumeral.getSymbols(5, 1, Style.LOWERCASE,
+                                                       chars, 0, ends));
+            assertThrows(IllegalArgumentException.class,
+                         () -> RomanNumeral.getSymbols(0, 4, Style.LOWERCASE,
+                                                       chars, 0, ends));
+            assertThrows(IllegalArgumentException.class,
+                         () -> RomanNumeral.getSymbols(
+                                 RomanNumeral.MAX_VALUE,
+                                 RomanNumeral.MAX_VALUE + 2, Style.LOWERCASE,
+                                 chars, 0, ends));
+            assertThrows(IndexOutOfBoundsException.class,
+                         () -> RomanNumeral.getSymbols(1, 6, Style.LOWERCASE,
+                                                       chars, 0, ends));
+            assertThrows(IndexOutOfBoundsException.class,
+                         () -> RomanNumeral.getSymbols(1, 5, Style.LOWERCASE,
+                                                       chars, 1, ends));
+            // nothing copied
+            assertArrayEquals(new char[8], chars);
+            assertArrayEquals(new int[4], ends);
+        }
+        
+        /**
+         * Returns the specified uppercase symbols written in the specified
+         * style.
+         */
+        private String styled(String symbols, Style style) {
+            String forms;
+            switch (style) {
+                case UPPERCASE: return symbols;
+                case LOWERCASE: return symbols.toLowerCase(Locale.ROOT);
+                case NUMBER_FORMS: forms = "\u2160\u2164\u2169\u216C"
+                                           + "\u216D\u216E\u216F";
+                                   break;
+                default: forms = "\u2170\u2174\u2179\u217C"
+                                 + "\u217D\u217E\u217F";
+            }
+            
+            StringBuilder styled = new StringBuilder(symbols.length());
+            for (int i = 0; i < symbols.length(); i++) {
+                styled.append(forms.charAt(
+                        Symbol.valueOf(symbols.charAt(i)).ordinal()));
+            }
+            return styled.toString();
+        }
+    }
+    
+    @Nested
+    @TestInstance(Lifecycle.PER_CLASS)
+    public class SymbolsOrderTests {
+        private String[] sortedSymbols;
+        
+        @DisplayName("lexicographicRank(valid int)")
+        @ParameterizedTest(name = "lexicographicRank({1})")
+        @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                      + "#expectedSymbolsValuePairsProvider()")
+        public void lexicographicRankTest(String symbols, int value) {
+            assertEquals(Arrays.binarySearch(getSortedSymbols(), symbols),
+                         assertDoesNotThrow(
+                                 () -> RomanNumeral.lexicographicRank(value)));
+        }
+        
+        @DisplayName("lexicographicRank(invalid int)")
+        @ParameterizedTest(name = "lexicographicRank({0})")
+        @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                      + "#invalidValueTestArgsProvider()")
+        public void lexicographicRankInvalidTest(int invalidValue) {
+            assertThrows(IllegalArgumentException.class,
+                         () -> RomanNumeral.lexicographicRank(invalidValue));
+        }
+        
+        @DisplayName("ofLexicographicRank(lexicographicRank(int))")
+        @ParameterizedTest(name = "ofLexicographicRank(lexicographicRank({1}))")
+        @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                      + "#expectedSymbolsValuePairsProvider()")
+        public void ofLexicographicRankTest(String symbols, int value) {
+            RomanNumeral numeral = assertDoesNotThrow(
+                    () -> RomanNumeral.ofLexicographicRank(
+                            RomanNumeral.lexicographicRank(value)));
+            assertEquals(symbols, numeral.symbols);
+        }
+        
+        @DisplayName("SYMBOLS_ORDER ?= String.compareTo")
+        @ParameterizedTest(name = "SYMBOLS_ORDER.compare({0}, {1})")
+        @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                      + "#unequivalentTestArgsProvider()")
+        public void symbolsOrderTest(TestNumeral testNumeral,
+                                     RomanNumeral unequivalent,
+                                     boolean notFound) {
+            assumeFalse(notFound,
+                        "Failed to construct unequivalent Roman Numeral");
+            
+            RomanNumeral numeral = getActualNumeral(testNumeral);
+            assertEquals(
+                    Integer.signum(numeral.symbols.compareTo(
+                            unequivalent.symbols)),
+                    Integer.signum(RomanNumeral.SYMBOLS_ORDER.compare(
+                            numeral, unequivalent)));
+        }
+        
+        @DisplayName("sortBySymbols(RomanNumeral[])")
+        @Test
+        public void sortBySymbolsNumeralsTest() {
+            RomanNumeral[] numerals = new RomanNumeral[RomanNumeral.MAX_VALUE];
+            for (int i = 0; i < numerals.length; i++) {
+                // reverse value order
+                numerals[i] = RomanNumeral.of(RomanNumeral.MAX_VALUE - i);
+            }
+            
+            RomanNumeral.sortBySymbols(numerals);
+            
+            String[] sorted = getSortedSymbols();
+            for (int i = 0; i < numerals.length; i++) {
+                assertEquals(sorted[i], numerals[i].symbols);
+            }
+        }
+        
+        @DisplayName("sortBySymbols(int[])")
+        @Test
+        public void sortBySymbolsValuesTest() {
+            int[] values = {3, 1_000, 301, 200, 4, 100, 300};
+            
+            RomanNumeral.sortBySymbols(values);
+            
+            assertArrayEquals(new int[] {100, 200, 300, 301, 3, 4, 1_000},
+                              values);
+        }
+        
+        @DisplayName("sortBySymbols(int[] containing invalid int)")
+        @ParameterizedTest(name = "sortBySymbols([I, {0}])")
+        @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                      + "#invalidValueTestArgsProvider()")
+        public void sortBySymbolsInvalidTest(int invalidValue) {
+            int[] values = {RomanNumeral.MIN_VALUE, invalidValue};
+            
+            assertThrows(IllegalArgumentException.class,
+                         () -> RomanNumeral.sortBySymbols(values));
+            assertArrayEquals(new int[] {RomanNumeral.MIN_VALUE, invalidValue},
+                              values);
+        }
+        
+        private String[] getSortedSymbols() {
+            if (sortedSymbols == null) {
+                initTestNumerals();
+                
+                sortedSymbols = new String[testNumerals.size()];
+                for (int i = 0; i < sortedSymbols.length; i++) {
+                    sortedSymbols[i] = testNumerals.get(i).expectedSymbols;
+                }
+                Arrays.sort(sortedSymbols);
+            }
+            return sortedSymbols;
+        }
+    }
+    
+    @Nested
+    public class SortTests {
+        @DisplayName("sort(int[]) and parallelSort(int[])")
+        @ParameterizedTest(name = "length: {0}")
+        @ValueSource(ints = {0, 1, 2, 256, 257, 1_000, 100_000})
+        public void sortValuesTest(int length) {
+            int[] values = randomValues(length);
+            int[] expected = values.clone();
+            Arrays.sort(expected);
+            
+            int[] sorted = values.clone();
+            RomanNumeral.sort(sorted);
+            assertArrayEquals(expected, sorted);
+            
+            sorted = values.clone();
+            RomanNumeral.parallelSort(sorted);
+            assertArrayEquals(expected, sorted);
+        }
+        
+        @DisplayName("sort(RomanNumeral[]) and parallelSort(RomanNumeral[])")
+        @ParameterizedTest(name = "length: {0}")
+        @ValueSource(ints = {0, 1, 2, 256, 257, 1_000, 100_000})
+        public void sortNumeralsTest(int length) {
+            int[] values = randomValues(length);
+            RomanNumeral[] numerals = new RomanNumeral[length];
+            for (int i = 0; i < length; i++) {
+                numerals[i] = RomanNumeral.of(values[i]);
+            }
+            RomanNumeral[] expected = numerals.clone();
+            Arrays.sort(expected);
+            
+            RomanNumeral[] sorted = numerals.clone();
+            RomanNumeral.sort(sorted);
+            assertArrayEquals(expected, sorted);
+            
+            sorted = numerals.clone();
+            RomanNumeral.parallelSort(sorted);
+            assertArrayEquals(expected, sorted);
+        }
+        
+        @DisplayName("sortByValue(String[]) and parallelSortByValue(String[])")
+        @ParameterizedTest(name = "length: {0}")
+        @ValueSource(ints = {0, 1, 2, 256, 257, 1_000, 100_000})
+        public void sortByValueTest(int length) {
+            int[] values = randomValues(length);
+            String[] symbols = new String[length];
+            for (int i = 0; i < length; i++) {
+                // equal but distinct, to check that the sort is stable
+                symbols[i] = new String(RomanNumeral.toString(values[i]));
+            }
+            String[] expected = symbols.clone();
+            // stable
+            Arrays.sort(expected, (a, b) -> RomanNumeral.valueOf(a)
+                                            - RomanNumeral.valueOf(b));
+            
+            String[] sorted = symbols.clone();
+            RomanNumeral.sortByValue(sorted);
+            assertSameElements(expected, sorted);
+            
+            sorted = symbols.clone();
+            RomanNumeral.parallelSortByValue(sorted);
+            assertSameElements(expected, sorted);
+        }
+        
+        @DisplayName("Sorting arrays with invalid elements")
+        @Test
+        public void sortInvalidTest() {
+            int[] values = {3, 1, 0, 2};
+            assertThrows(IllegalArgumentException.class,
+                         () -> RomanNumeral.sort(values));
+            assertThrows(IllegalArgumentException.class,
+                         () -> RomanNumeral.parallelSort(values));
+            assertArrayEquals(new int[] {3, 1, 0, 2}, values);
+            
+            RomanNumeral[] numerals = {RomanNumeral.of(3), RomanNumeral.of(1),
+                                       null};
+            assertThrows(NullPointerException.class,
+                         () -> RomanNumeral.sort(numerals));
+            assertArrayEquals(new RomanNumeral[] {RomanNumeral.of(3),
+                                                  RomanNumeral.of(1), null},
+                              numerals);
+            
+            String[] symbols = {"III", "I", "IIII", "II"};
+            assertThrows(NumberFormatException.class,
+                         () -> RomanNumeral.sortByValue(symbols));
+            assertThrows(NumberFormatException.class,
+                         () -> RomanNumeral.parallelSortByValue(symbols));
+            assertArrayEquals(new String[] {"III", "I", "IIII", "II"},
+                              symbols);
+        }
+        
+        private int[] randomValues(int length) {
+            Random random = new Random(length);
+            int[] values = new int[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = RomanNumeral.MIN_VALUE
+                            + random.nextInt(RomanNumeral.MAX_VALUE);
+            }
+            return values;
+        }
+        
+        private void assertSameElements(Object[] expected, Object[] actual) {
+            assertEquals(expected.length, actual.length);
+            for (int i = 0; i < expected.length; i++) {
+                assertTrue(expected[i] == actual[i], "At index " + i);
+            }
+        }
+    }
+    
+    @Nested
+    public class StreamTests {
+        @DisplayName("parseAll(Stream) and toStrings(IntStream)")
+        @ParameterizedTest(name = "parallel: {0}")
+        @ValueSource(booleans = {false, true})
+        public void roundTripTest(boolean parallel) {
+            List<String> symbols = new ArrayList<String>();
+            for (int value = RomanNumeral.MIN_VALUE;
+                    value <= RomanNumeral.MAX_VALUE; value++) {
+                symbols.add(RomanNumeral.toString(value));
+            }
+            
+            Stream<String> stream = symbols.stream();
+            int[] values = RomanNumeral.parseAll(
+                    parallel ? stream.parallel() : stream).toArray();
+            assertArrayEquals(IntStream.rangeClosed(RomanNumeral.MIN_VALUE,
+                                                    RomanNumeral.MAX_VALUE)
+                                       .toArray(),
+                              values);
+            
+            IntStream valueStream = Arrays.stream(values);
+            assertEquals(symbols,
+                         RomanNumeral.toStrings(parallel
+                                                ? valueStream.parallel()
+                                                : valueStream)
+                                     .collect(Collectors.toList()));
+        }
+        
+        @DisplayName("parseAll(Stream) of invalid symbols")
+        @Test
+        public void parseAllInvalidTest() {
+            List<Integer> values = new ArrayList<Integer>();
+            NumberFormatException e = assertThrows(
+                    NumberFormatException.class,
+                    () -> RomanNumeral.parseAll(
+                            Stream.of("I", "IV", "IIII", "V"))
+                                      .forEach(values::add));
+            assertEquals("For input String: \"IIII\"", e.getMessage());
+            assertEquals(Arrays.asList(1, 4), values);
+            
+            assertThrows(NumberFormatException.class,
+                         () -> RomanNumeral.parseAll(Stream.of("I", null))
+                                           .sum());
+        }
+        
+        @DisplayName("parseAll(Stream, Consumer) skips invalid symbols")
+        @Test
+        public void parseAllSkipTest() {
+            List<CharSequence> invalid = new ArrayList<CharSequence>();
+            int[] values = RomanNumeral.parseAll(
+                    Stream.of("XIV", "", new StringBuilder("MMXX"), "IC",
+                              null),
+                    invalid::add).toArray();
+            
+            assertArrayEquals(new int[] {14, 2020}, values);
+            assertEquals(Arrays.asList("", "IC", null), invalid);
+        }
+        
+        @DisplayName("toStrings(IntStream) of invalid values")
+        @Test
+        public void toStringsInvalidTest() {
+            List<String> symbols = new ArrayList<String>();
+            assertThrows(IllegalArgumentException.class,
+                         () -> RomanNumeral.toStrings(IntStream.of(1, 0, 2))
+                                           .forEach(symbols::add));
+            assertEquals(Arrays.asList("I"), symbols);
+            
+            List<Integer> invalid = new ArrayList<Integer>();
+            assertEquals(Arrays.asList("I", "II"),
+                         RomanNumeral.toStrings(IntStream.of(1, 0, 2, 4000),
+                                                invalid::add)
+                                     .collect(Collectors.toList()));
+            assertEquals(Arrays.asList(0, 4000), invalid);
+        }
+        
+        @DisplayName("Only invalid elements the stream reaches are passed on")
+        @Test
+        public void shortCircuitTest() {
+            List<CharSequence> invalidSymbols = new ArrayList<CharSequence>();
+            assertArrayEquals(new int[] {1, 2, 3},
+                              RomanNumeral.parseAll(
+                                      Stream.of("I", "II", "IIII", "III",
+                                                "V", "bad"),
+                                      invalidSymbols::add)
+                                          .limit(3).toArray());
+            assertEquals(Arrays.asList("IIII"), invalidSymbols);
+            
+            List<Integer> invalidValues = new ArrayList<Integer>();
+            assertEquals(Arrays.asList("I", "II"),
+                         RomanNumeral.toStrings(IntStream.of(1, 0, 2, 3, -1),
+                                                invalidValues::add)
+                                     .limit(2).collect(Collectors.toList()));
+            assertEquals(Arrays.asList(0), invalidValues);
+            
+            assertEquals(1, RomanNumeral.parseAll(Stream.of("I", "bad"))
+                                        .findFirst().getAsInt());
+        }
+        
+        @DisplayName("Closing the stream closes its source")
+        @Test
+        public void closeTest() {
+            boolean[] closed = new boolean[2];
+            RomanNumeral.parseAll(Stream.of("I")
+                                        .onClose(() -> closed[0] = true))
+                        .close();
+            RomanNumeral.toStrings(IntStream.of(1)
+                                            .onClose(() -> closed[1] = true))
+                        .close();
+            assertArrayEquals(new boolean[] {true, true}, closed);
+        }
+    }
+    
+    @Nested
+    public class SerializationTests {
+        @DisplayName("deserialize(serialize(RomanNumeral))")
+        @ParameterizedTest(name = "deserialize(serialize({0}))")
+        @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                      + "#testNumeralsProvider()")
+        public void serializationTest(TestNumeral testNumeral)
+                throws IOException, ClassNotFoundException {
+            RomanNumeral numeral = getActualNumeral(testNumeral);
+            
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(numeral);
+            }
+            
+            try (ObjectInputStream in = new ObjectInputStream(
+                    new ByteArrayInputStream(bytes.toByteArray()))) {
+                assertTrue(numeral == in.readObject());
+            }
+        }
+        
+        @DisplayName("readNumerals(writeNumerals(RomanNumeral[]))")
+        @Test
+        public void bulkSerializationTest() throws IOException {
+            initTestNumerals();
+            
+            RomanNumeral[] numerals = new RomanNumeral[testNumerals.size()];
+            for (int i = 0; i < numerals.length; i++) {
+                numerals[i] = getActualNumeral(testNumerals.get(i));
+            }
+            
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            RomanNumeral.writeNumerals(new DataOutputStream(bytes), numerals);
+            assertEquals(Integer.BYTES + 2 * numerals.length, bytes.size());
+            
+            RomanNumeral[] read = RomanNumeral.readNumerals(
+                    new DataInputStream(
+                            new ByteArrayInputStream(bytes.toByteArray())));
+            assertEquals(numerals.length, read.length);
+            for (int i = 0; i < numerals.length; i++) {
+                assertTrue(numerals[i] == read[i]);
+            }
+        }
+        
+        @DisplayName("readNumerals(writeNumerals(RomanNumeral[])) in chunks")
+        @Test
+        public void bulkSerializationChunksTest() throws IOException {
+            RomanNumeral[] numerals = new RomanNumeral[20_000];
+            for (int i = 0; i < numerals.length; i++) {
+                numerals[i] = RomanNumeral.of(
+                        RomanNumeral.MIN_VALUE + i % RomanNumeral.MAX_VALUE);
+            }
+            
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            RomanNumeral.writeNumerals(new DataOutputStream(bytes), numerals);
+            assertEquals(Integer.BYTES + 2 * numerals.length, bytes.size());
+            
+            RomanNumeral[] read = RomanNumeral.readNumerals(
+                    new DataInputStream(
+                            new ByteArrayInputStream(bytes.toByteArray())));
+            assertArrayEquals(numerals, read);
+        }
+        
+        @DisplayName("readNumerals(truncated input)")
+        @ParameterizedTest(name = "readNumerals(length: {0})")
+        @ValueSource(ints = {2, 20_000, Integer.MAX_VALUE})
+        public void bulkSerializationTruncatedTest(int length)
+                throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(length);
+            out.writeShort(RomanNumeral.MIN_VALUE);
+            
+            assertThrows(EOFException.class,
+                         () -> RomanNumeral.readNumerals(new DataInputStream(
+                                 new ByteArrayInputStream(
+                                         bytes.toByteArray()))));
+        }
+        
+        @DisplayName("readNumerals(invalid value)")
+        @ParameterizedTest(name = "readNumerals([{0}])")
+        @MethodSource("com.github.tjuve.romannumeral.RomanNumeralTest"
+                      + "#invalidValueTestArgsProvider()")
+        public void bulkSerializationInvalidTest(int invalidValue)
+                throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(1);
+            out.writeShort(invalidValue);
+            
+            assertThrows(InvalidObjectException.class,
+                         () -> RomanNumeral.readNumerals(new DataInputStream(
+                                 new ByteArrayInputStream(
+                                         bytes.toByteArray()))));
+        }
+    }
+    
+    @Nested
+    public class PreloadTests {
+        @DisplayName("preload()")
+        @Test
+        public void preloadTest() {
+            RomanNumeral.preload();
+            
+            for (int value = RomanNumeral.MIN_VALUE;
+                    value <= RomanNumeral.MAX_VALUE; value++) {
+                RomanNumeral numeral = RomanNumeral.of(value);
+                assertEquals(numeral.symbols, RomanNumeral.toString(value));
+                assertEquals(value, RomanNumeral.valueOf(numeral.symbols));
+            }
+        }
+    }
+    
+    @Nested
+    public class FootprintTests {
+        /*
+         * Enough copies of the tables that the heap they take dwarfs what
+         * anything else allocates while they are measured
+         */
+        private static final int NUM_COPIES = 256;
+        private static final int NUM_ATTEMPTS = 5;
+        /*
+         * A HashMap<String, Integer> holding every numeral needs about 220KB
+         * for its table, nodes and boxed values alone
+         */
+        private static final int MAX_PACKED_TABLES_FOOTPRINT = 64 * 1_024;
+        
+        /*
+         * Holds the copies while the heap is measured
+         */
+        private Object[][] copies;
+        
+        @DisplayName("Packed symbol tables footprint")
+        @Test
+        public void packedTablesFootprintTest()
+                throws ReflectiveOperationException {
+            Object[] tables = {table("packedSymbols"), table("symbolsOffsets"),
+                               table("symbolsIndex")};
+            
+            // the median of several measurements, as anything else allocated
+            // or freed meanwhile skews a measurement either way
+            long[] footprints = new long[NUM_ATTEMPTS];
+            for (int attempt = 0; attempt < NUM_ATTEMPTS; attempt++) {
+                footprints[attempt] = measureFootprint(tables);
+            }
+            Arrays.sort(footprints);
+            long footprint = footprints[NUM_ATTEMPTS / 2];
+            
+            assertTrue(footprint < MAX_PACKED_TABLES_FOOTPRINT,
+                       "Packed symbol tables use " + footprint + " bytes");
+        }
+        
+        private Object table(String fieldName)
+                throws ReflectiveOperationException {
+            Field field = RomanNumeral.class.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            Object table = field.get(null);
+            Class<?> componentType = table.getClass().getComponentType();
+            if (componentType != byte.class && componentType != short.class) {
+                throw new TestAbortedException("Unexpected table type: "
+                                               + componentType);
+            }
+            return table;
+        }
+        
+        /**
+         * Returns the heap taken by a copy of the specified tables, and the
+         * small array holding it, measured as the growth of the heap used
+         * after collecting garbage when {@code NUM_COPIES} copies are made.
+         */
+        private long measureFootprint(Object[] tables) {
+            copies = null;
+            long before = usedHeap();
+            copies = new Object[NUM_COPIES][];
+            for (int i = 0; i < NUM_COPIES; i++) {
+                copies[i] = new Object[tables.length];
+                for (int j = 0; j < tables.length; j++) {
+                    int length = Array.getLength(tables[j]);
+                    copies[i][j] = Array.newInstance(
+                            tables[j].getClass().getComponentType(), length);
+                    System.arraycopy(tables[j], 0, copies[i][j], 0, length);
+                }
+            }
+            long after = usedHeap();
+            
+            copies = null;
+            return (after - before) / NUM_COPIES;
+        }
+        
+        private long usedHeap() {
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            for (int i = 0; i < 3; i++) {
+                System.gc();
+            }
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+    
     @SuppressWarnings("unused")
     private static Stream<Arguments> expectedSymbolsValuePairsProvider() {
         initExpectedSymbolsValuePairs();
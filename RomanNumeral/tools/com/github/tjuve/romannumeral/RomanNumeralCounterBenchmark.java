@@ -0,0 +1,89 @@
+/*
+ * RomanNumeralCounterBenchmark.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+/**
+ * Compares the time to number every value with
+ * {@code RomanNumeralCounter.increment()} and with
+ * {@code RomanNumeral.incrementExact​(RomanNumeral)}, copying each
+ * numeral's symbols into an output buffer, and prints the time per numeral
+ * of each.
+ * <p>
+ * Run from the project root after changing the counter:
+ * <pre>
+ * java -cp bin com.github.tjuve.romannumeral.RomanNumeralCounterBenchmark
+ * </pre>
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+public final class RomanNumeralCounterBenchmark {
+    /**
+     * A constant holding the number of measured rounds over every value.
+     */
+    private static final int NUM_BENCHMARK_ROUNDS = 2_000;
+    /**
+     * A constant holding the number of rounds run before measuring.
+     */
+    private static final int NUM_WARMUP_ROUNDS = 500;
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralCounterBenchmark() {
+    }
+    
+    /**
+     * Counts from the minimum to the maximum value both ways and prints the
+     * time per numeral.
+     *
+     * @param   args   ignored.
+     * @throws  IllegalStateException   if the symbols differ in length.
+     */
+    public static void main(String[] args) {
+        byte[] out = new byte[RomanNumeral.MAX_SYMBOLS_LENGTH];
+        long counterNanos = 0;
+        long exactNanos = 0;
+        long sum = 0;
+        RomanNumeralCounter counter = new RomanNumeralCounter();
+        for (int round = -NUM_WARMUP_ROUNDS; round < NUM_BENCHMARK_ROUNDS;
+                round++) {
+            long start = System.nanoTime();
+            counter.setValue(RomanNumeral.MIN_VALUE);
+            for (int value = RomanNumeral.MIN_VALUE;
+                    value < RomanNumeral.MAX_VALUE; value++) {
+                sum += counter.getSymbols(out, 0);
+                counter.increment();
+            }
+            long middle = System.nanoTime();
+            RomanNumeral numeral = RomanNumeral.of(RomanNumeral.MIN_VALUE);
+            for (int value = RomanNumeral.MIN_VALUE;
+                    value < RomanNumeral.MAX_VALUE; value++) {
+                sum -= RomanNumeral.getSymbols(numeral.value, out, 0);
+                numeral = RomanNumeral.incrementExact​(numeral);
+            }
+            long end = System.nanoTime();
+            
+            if (round >= 0) {
+                counterNanos += middle - start;
+                exactNanos += end - middle;
+            }
+        }
+        
+        if (sum != 0) {
+            throw new IllegalStateException("The symbols differ in length");
+        }
+        double numIncrements = (double) NUM_BENCHMARK_ROUNDS
+                               * (RomanNumeral.MAX_VALUE - 1);
+        System.out.printf("%s: increment() %.1f ns, incrementExact %.1f ns"
+                          + " per numeral%n",
+                          RomanNumeralCounter.class.getSimpleName(),
+                          counterNanos / numIncrements,
+                          exactNanos / numIncrements);
+    }
+}
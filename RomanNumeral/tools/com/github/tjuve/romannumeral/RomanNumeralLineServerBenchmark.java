@@ -0,0 +1,114 @@
+/*
+ * RomanNumeralLineServerBenchmark.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Measures the round-trip latency of {@code RomanNumeralLineServer}, one
+ * request at a time over loopback, and prints its p50, p99 and p999.
+ * <p>
+ * Run from the project root after changing the server or the parsing it
+ * relies on:
+ * <pre>
+ * java -cp bin com.github.tjuve.romannumeral.RomanNumeralLineServerBenchmark
+ * </pre>
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+public final class RomanNumeralLineServerBenchmark {
+    /**
+     * A constant holding the number of measured requests.
+     */
+    private static final int NUM_BENCHMARK_REQUESTS = 200_000;
+    /**
+     * A constant holding the number of requests sent before measuring.
+     */
+    private static final int NUM_WARMUP_REQUESTS = 50_000;
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralLineServerBenchmark() {
+    }
+    
+    /**
+     * Starts a server on an ephemeral loopback port, sends it every value
+     * in turn over one connection and prints the latency percentiles.
+     *
+     * @param   args   ignored.
+     * @throws  IOException   if an I/O error occurs.
+     * @throws  IllegalStateException   if a response is wrong.
+     */
+    public static void main(String[] args) throws IOException {
+        long[] latencies = new long[NUM_BENCHMARK_REQUESTS];
+        try (RomanNumeralLineServer server = RomanNumeralLineServer.start(
+                     new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                                           0));
+             Socket socket = new Socket()) {
+            socket.setTcpNoDelay(true);
+            socket.connect(server.getAddress());
+            OutputStream out = new BufferedOutputStream(
+                    socket.getOutputStream());
+            BufferedReader in = new BufferedReader(new InputStreamReader(
+                    socket.getInputStream(), StandardCharsets.US_ASCII));
+            
+            for (int i = -NUM_WARMUP_REQUESTS; i < latencies.length; i++) {
+                int value = RomanNumeral.MIN_VALUE
+                            + Math.floorMod(i, RomanNumeral.MAX_VALUE);
+                byte[] request = (value + "\n").getBytes(
+                        StandardCharsets.US_ASCII);
+                
+                long start = System.nanoTime();
+                out.write(request);
+                out.flush();
+                String response = in.readLine();
+                long latency = System.nanoTime() - start;
+                
+                if (!RomanNumeral.toString(value).equals(response)) {
+                    throw new IllegalStateException("For input int: " + value
+                                                    + ", response: "
+                                                    + response);
+                }
+                if (i >= 0) {
+                    latencies[i] = latency;
+                }
+            }
+        }
+        
+        Arrays.sort(latencies);
+        System.out.printf("%s: p50 %.1f us, p99 %.1f us, p999 %.1f us%n",
+                          RomanNumeralLineServer.class.getSimpleName(),
+                          percentile(latencies, 0.50) / 1e3,
+                          percentile(latencies, 0.99) / 1e3,
+                          percentile(latencies, 0.999) / 1e3);
+    }
+    
+    /**
+     * Returns the smallest element at or above the specified fraction of the
+     * sorted latencies.
+     *
+     * @param   sorted   the latencies, in ascending order.
+     * @param   p        the fraction, greater than 0 and at most 1.
+     * @return  the latency at that percentile.
+     */
+    private static long percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1,
+                                     Math.ceil(p * sorted.length) - 1)];
+    }
+}
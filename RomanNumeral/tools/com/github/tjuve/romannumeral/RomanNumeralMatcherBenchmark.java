@@ -0,0 +1,135 @@
+/*
+ * RomanNumeralMatcherBenchmark.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.util.Random;
+
+/**
+ * Compares the time to match misread numerals with the index of
+ * {@code RomanNumeralMatcher} and by measuring the distance to every
+ * numeral, and prints the time per query of each.
+ * <p>
+ * Run from the project root after changing the matcher:
+ * <pre>
+ * java -cp bin com.github.tjuve.romannumeral.RomanNumeralMatcherBenchmark
+ * </pre>
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+public final class RomanNumeralMatcherBenchmark {
+    /**
+     * A constant holding the number of measured rounds over every query.
+     */
+    private static final int NUM_BENCHMARK_ROUNDS = 20;
+    /**
+     * A constant holding the number of rounds run before measuring.
+     */
+    private static final int NUM_WARMUP_ROUNDS = 5;
+    /**
+     * A constant holding the number of queries.
+     */
+    private static final int NUM_QUERIES = 2_000;
+    /**
+     * A constant holding the maximum distance of a match.
+     */
+    private static final int MAX_DISTANCE = 2;
+    /**
+     * The characters inserted into or replaced in a query.
+     */
+    private static final String NOISE = "IVXLCDMivxlcdm1|0O( ?";
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralMatcherBenchmark() {
+    }
+    
+    /**
+     * Matches random numerals with up to two edits both ways and prints the
+     * time per query.
+     *
+     * @param   args   ignored.
+     * @throws  IllegalStateException   if the matches differ in number.
+     */
+    public static void main(String[] args) {
+        Random random = new Random(18);
+        String[] queries = new String[NUM_QUERIES];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = randomQuery(random);
+        }
+        
+        long indexNanos = 0;
+        long scanNanos = 0;
+        long sum = 0;
+        for (int round = -NUM_WARMUP_ROUNDS; round < NUM_BENCHMARK_ROUNDS;
+                round++) {
+            long start = System.nanoTime();
+            for (String query : queries) {
+                sum += RomanNumeralMatcher.match(query, MAX_DISTANCE).length;
+            }
+            long middle = System.nanoTime();
+            for (String query : queries) {
+                for (int value = RomanNumeral.MIN_VALUE;
+                        value <= RomanNumeral.MAX_VALUE; value++) {
+                    if (RomanNumeralMatcher.distance(query, value)
+                            <= MAX_DISTANCE) {
+                        sum--;
+                    }
+                }
+            }
+            long end = System.nanoTime();
+            
+            if (round >= 0) {
+                indexNanos += middle - start;
+                scanNanos += end - middle;
+            }
+        }
+        
+        if (sum != 0) {
+            throw new IllegalStateException("The matches differ in number");
+        }
+        double numQueries = (double) NUM_BENCHMARK_ROUNDS * queries.length;
+        System.out.printf("%s: match %.1f us, scan %.1f us per query%n",
+                          RomanNumeralMatcher.class.getSimpleName(),
+                          indexNanos / numQueries / 1_000,
+                          scanNanos / numQueries / 1_000);
+    }
+    
+    /**
+     * Returns the symbols of a random value with up to two random
+     * insertions, deletions or replacements.
+     *
+     * @param   random   the source of randomness.
+     * @return  a random query.
+     */
+    private static String randomQuery(Random random) {
+        StringBuilder query = new StringBuilder(RomanNumeral.toString(
+                random.nextInt(RomanNumeral.MAX_VALUE)
+                + RomanNumeral.MIN_VALUE));
+        for (int edits = random.nextInt(3); edits > 0; edits--) {
+            int i = random.nextInt(query.length() + 1);
+            char c = NOISE.charAt(random.nextInt(NOISE.length()));
+            switch (random.nextInt(3)) {
+                case 0:
+                    query.insert(i, c);
+                    break;
+                case 1:
+                    if (i < query.length()) {
+                        query.deleteCharAt(i);
+                    }
+                    break;
+                default:
+                    if (i < query.length()) {
+                        query.setCharAt(i, c);
+                    }
+            }
+        }
+        return query.toString();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * RomanNumeralSortBenchmark.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Compares the time to sort symbols by value with
+ * {@code RomanNumeral.sortByValue(String[])} and with {@code Arrays.sort}
+ * parsing in the comparator, and prints the time per sort of each.
+ * <p>
+ * Run from the project root after changing the counting sorts:
+ * <pre>
+ * java -cp bin com.github.tjuve.romannumeral.RomanNumeralSortBenchmark
+ * </pre>
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+public final class RomanNumeralSortBenchmark {
+    /**
+     * A constant holding the number of measured sorts.
+     */
+    private static final int NUM_BENCHMARK_ROUNDS = 50;
+    /**
+     * A constant holding the number of sorts run before measuring.
+     */
+    private static final int NUM_WARMUP_ROUNDS = 10;
+    /**
+     * A constant holding the number of symbols sorted.
+     */
+    private static final int NUM_SYMBOLS = 1_000_000;
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralSortBenchmark() {
+    }
+    
+    /**
+     * Sorts the symbols of random values both ways and prints the time per
+     * sort.
+     *
+     * @param   args   ignored.
+     * @throws  IllegalStateException   if the sorted arrays differ.
+     */
+    public static void main(String[] args) {
+        Random random = new Random(NUM_SYMBOLS);
+        String[] symbols = new String[NUM_SYMBOLS];
+        for (int i = 0; i < symbols.length; i++) {
+            symbols[i] = RomanNumeral.toString(
+                    RomanNumeral.MIN_VALUE
+                    + random.nextInt(RomanNumeral.MAX_VALUE));
+        }
+        
+        long countingNanos = 0;
+        long comparingNanos = 0;
+        for (int round = -NUM_WARMUP_ROUNDS; round < NUM_BENCHMARK_ROUNDS;
+                round++) {
+            String[] counting = symbols.clone();
+            String[] comparing = symbols.clone();
+            
+            long start = System.nanoTime();
+            RomanNumeral.sortByValue(counting);
+            long middle = System.nanoTime();
+            Arrays.sort(comparing, (a, b) -> RomanNumeral.valueOf(a)
+                                             - RomanNumeral.valueOf(b));
+            long end = System.nanoTime();
+            
+            if (!Arrays.equals(comparing, counting)) {
+                throw new IllegalStateException("The sorted arrays differ");
+            }
+            if (round >= 0) {
+                countingNanos += middle - start;
+                comparingNanos += end - middle;
+            }
+        }
+        
+        System.out.printf("sortByValue: %.1f ms, Arrays.sort: %.1f ms"
+                          + " per %d symbols%n",
+                          countingNanos / 1e6 / NUM_BENCHMARK_ROUNDS,
+                          comparingNanos / 1e6 / NUM_BENCHMARK_ROUNDS,
+                          symbols.length);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * RomanNumeralSwarBenchmark.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compares the time to parse the symbols of every value with
+ * {@code RomanNumeralSwar} and with the scalar lookup in
+ * {@code RomanNumeral}, and prints the time per numeral of each.
+ * <p>
+ * Run from the project root after changing either parser:
+ * <pre>
+ * java -cp bin com.github.tjuve.romannumeral.RomanNumeralSwarBenchmark
+ * </pre>
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+public final class RomanNumeralSwarBenchmark {
+    /**
+     * A constant holding the number of measured rounds over every value.
+     */
+    private static final int NUM_BENCHMARK_ROUNDS = 2_000;
+    /**
+     * A constant holding the number of rounds run before measuring.
+     */
+    private static final int NUM_WARMUP_ROUNDS = 500;
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralSwarBenchmark() {
+    }
+    
+    /**
+     * Packs the symbols of every value into one array, parses each of them
+     * with both parsers and prints the time per numeral.
+     *
+     * @param   args   ignored.
+     * @throws  IllegalStateException   if the parsers disagree.
+     */
+    public static void main(String[] args) {
+        int[] values = new int[RomanNumeral.MAX_VALUE];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = RomanNumeral.MIN_VALUE + i;
+        }
+        byte[] bytes = new byte[(int) RomanNumeral.encodedLength(
+                values, 0, values.length)];
+        int[] offsets = new int[RomanNumeral.MAX_VALUE + 1];
+        for (int value = RomanNumeral.MIN_VALUE;
+                value <= RomanNumeral.MAX_VALUE; value++) {
+            offsets[value] = offsets[value - 1]
+                             + RomanNumeral.getSymbols(value, bytes,
+                                                       offsets[value - 1]);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        
+        long swarNanos = 0;
+        long scalarNanos = 0;
+        long sum = 0;
+        for (int round = -NUM_WARMUP_ROUNDS; round < NUM_BENCHMARK_ROUNDS;
+                round++) {
+            long start = System.nanoTime();
+            for (int value = RomanNumeral.MIN_VALUE;
+                    value <= RomanNumeral.MAX_VALUE; value++) {
+                sum += RomanNumeralSwar.indexOf(bytes, offsets[value - 1],
+                                                offsets[value]);
+            }
+            long middle = System.nanoTime();
+            for (int value = RomanNumeral.MIN_VALUE;
+                    value <= RomanNumeral.MAX_VALUE; value++) {
+                sum -= RomanNumeral.indexOf(buffer, offsets[value - 1],
+                                            offsets[value]);
+            }
+            long end = System.nanoTime();
+            
+            if (round >= 0) {
+                swarNanos += middle - start;
+                scalarNanos += end - middle;
+            }
+        }
+        
+        if (sum != 0) {
+            throw new IllegalStateException("The parsers disagree");
+        }
+        double numParsed = (double) NUM_BENCHMARK_ROUNDS
+                           * RomanNumeral.MAX_VALUE;
+        System.out.printf("%s: SWAR %.1f ns, scalar %.1f ns per numeral%n",
+                          RomanNumeralSwar.class.getSimpleName(),
+                          swarNanos / numParsed, scalarNanos / numParsed);
+    }
+}
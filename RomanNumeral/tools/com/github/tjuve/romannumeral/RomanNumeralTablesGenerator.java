@@ -0,0 +1,212 @@
+/*
+ * RomanNumeralTablesGenerator.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Generates {@code RomanNumeralTables.java}, which holds the symbols of every
+ * Roman numeral in standard form as {@code String} constants.
+ * <p>
+ * Run from the project root after changing how Roman numerals are
+ * represented, and commit the result:
+ * <pre>
+ * java -cp bin com.github.tjuve.romannumeral.RomanNumeralTablesGenerator src
+ * </pre>
+ * <p>
+ * This class doesn't depend on {@code RomanNumeral}, because
+ * {@code RomanNumeral} can't be compiled without the generated tables.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+public final class RomanNumeralTablesGenerator {
+    /**
+     * A constant holding the name of the generated class.
+     */
+    static final String CLASS_NAME = "RomanNumeralTables";
+    /**
+     * A constant holding the maximum value of a Roman numeral in standard
+     * form, 3999.
+     */
+    private static final int MAX_VALUE = 3_999;
+    /**
+     * A constant holding the maximum length of a line of generated
+     * {@code String} literals, including indentation.
+     */
+    private static final int MAX_LINE_LENGTH = 80;
+    /**
+     * A constant holding the indentation of a line of generated
+     * {@code String} literals.
+     */
+    private static final String INDENT = "            + \"";
+    /**
+     * The line separator of the generated source.
+     */
+    private static final String EOL = "\r\n";
+    
+    /**
+     * All possible symbols for representing the thousandths place of an
+     * {@code int} (up to 3).
+     *
+     * @implNote The element at index {@code i} is the representation of
+     * {@code i * 1000}; An empty {@code String} is at index 0 because there
+     * is no representation for 0.
+     */
+    private static final String[] thousands = {"", "M", "MM", "MMM"};
+    /**
+     * All possible symbols for representing the hundredths place of an
+     * {@code int}.
+     *
+     * @implNote The element at index {@code i} is the representation of
+     * {@code i * 100}; An empty {@code String} is at index 0 because there
+     * is no representation for 0.
+     */
+    private static final String[] hundreds =
+            {"", "C", "CC", "CCC", "CD", "D", "DC", "DCC", "DCCC", "CM"};
+    /**
+     * All possible symbols for representing the tens place of an {@code int}.
+     *
+     * @implNote The element at index {@code i} is the representation of
+     * {@code i * 10}; An empty {@code String} is at index 0 because there
+     * is no representation for 0.
+     */
+    private static final String[] tens =
+            {"", "X", "XX", "XXX", "XL", "L", "LX", "LXX", "LXXX", "XC"};
+    /**
+     * All possible symbols for representing the ones place of an
+     * {@code int}.
+     *
+     * @implNote The element at index {@code i} is the representation of
+     * {@code i}; An empty {@code String} is at index 0 because there
+     * is no representation for 0.
+     */
+    private static final String[] ones =
+            {"", "I", "II", "III", "IV", "V", "VI", "VII", "VIII", "IX"};
+    
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralTablesGenerator() {
+    }
+    
+    /**
+     * Writes {@code RomanNumeralTables.java} to the package directory under
+     * the specified source directory.
+     *
+     * @param   args   the source directory, {@code src} if omitted.
+     * @throws  IOException   if an I/O error occurs.
+     */
+    public static void main(String[] args) throws IOException {
+        Path sourceDirectory = Paths.get(args.length > 0 ? args[0] : "src");
+        Path file = sourceDirectory.resolve(
+                RomanNumeralTablesGenerator.class.getPackage().getName()
+                        .replace('.', '/'))
+                .resolve(CLASS_NAME + ".java");
+        
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(
+                file, StandardCharsets.US_ASCII)) {
+            writer.write(generate());
+        }
+    }
+    
+    /**
+     * Returns the source of {@code RomanNumeralTables.java}.
+     *
+     * @return  the source of {@code RomanNumeralTables.java}.
+     */
+    static String generate() {
+        StringBuilder symbols = new StringBuilder();
+        StringBuilder lengths = new StringBuilder();
+        for (int value = 1; value <= MAX_VALUE; value++) {
+            String numeral = thousands[value / 1000]
+                             + hundreds[value / 100 % 10]
+                             + tens[value / 10 % 10]
+                             + ones[value % 10];
+            symbols.append(numeral);
+            lengths.append(Character.forDigit(numeral.length(), 16));
+        }
+        
+        StringBuilder source = new StringBuilder();
+        source.append("/*").append(EOL)
+              .append(" * ").append(CLASS_NAME).append(".java").append(EOL)
+              .append(" *").append(EOL)
+              .append(" * No copyright").append(EOL)
+              .append(" *").append(EOL)
+              .append(" * Generated by ")
+              .append(RomanNumeralTablesGenerator.class.getSimpleName())
+              .append(", do not edit.").append(EOL)
+              .append(" */").append(EOL)
+              .append(EOL)
+              .append("package ")
+              .append(RomanNumeralTablesGenerator.class.getPackage()
+                                                      .getName())
+              .append(";").append(EOL)
+              .append(EOL)
+              .append("/**").append(EOL)
+              .append(" * The symbols of every Roman numeral in standard "
+                      + "form, as {@code String}").append(EOL)
+              .append(" * constants, so they are loaded from the constant "
+                      + "pool instead of being").append(EOL)
+              .append(" * built at run time.").append(EOL)
+              .append(" *").append(EOL)
+              .append(" * @see RomanNumeralTablesGenerator").append(EOL)
+              .append(" */").append(EOL)
+              .append("final class ").append(CLASS_NAME).append(" {")
+              .append(EOL)
+              .append("    /**").append(EOL)
+              .append("     * The symbols of every Roman numeral in "
+                      + "standard form, in increasing").append(EOL)
+              .append("     * order of value, without separators.")
+              .append(EOL)
+              .append("     */").append(EOL)
+              .append("    static final String SYMBOLS = \"\"");
+        appendLiteral(source, symbols);
+        source.append(";").append(EOL)
+              .append("    /**").append(EOL)
+              .append("     * The length of the symbols of every Roman "
+                      + "numeral in standard form, in").append(EOL)
+              .append("     * increasing order of value, as one "
+                      + "hexadecimal digit each.").append(EOL)
+              .append("     */").append(EOL)
+              .append("    static final String LENGTHS = \"\"");
+        appendLiteral(source, lengths);
+        source.append(";").append(EOL)
+              .append("    ").append(EOL)
+              .append("    /**").append(EOL)
+              .append("     * Don't let anyone instantiate this class.")
+              .append(EOL)
+              .append("     */").append(EOL)
+              .append("    private ").append(CLASS_NAME).append("() {")
+              .append(EOL)
+              .append("    }").append(EOL)
+              .append("}").append(EOL);
+        return source.toString();
+    }
+    
+    /**
+     * Appends the specified characters as concatenated {@code String}
+     * literals, one line each.
+     */
+    private static void appendLiteral(StringBuilder source,
+                                      CharSequence chars) {
+        int lineLength = MAX_LINE_LENGTH - INDENT.length() - 1;
+        for (int i = 0; i < chars.length(); i += lineLength) {
+            source.append(EOL)
+                  .append(INDENT)
+                  .append(chars, i, Math.min(i + lineLength, chars.length()))
+                  .append('"');
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * RomanNumeralFlowAdapters.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral.flow;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+import com.github.tjuve.romannumeral.RomanNumeralFlow;
+
+/**
+ * Adapters between the interfaces of {@link RomanNumeralFlow} and those of
+ * {@link Flow}, so that its processors can be used in pipelines of
+ * {@code java.util.concurrent.Flow} components:
+ * <blockquote><pre>
+ * SubmissionPublisher&lt;String&gt; symbols
+ *         = new SubmissionPublisher&lt;&gt;();
+ * Flow.Processor&lt;String, Integer&gt; toValues
+ *         = RomanNumeralFlowAdapters.toFlowProcessor(
+ *                 RomanNumeralFlow.toValues());
+ * symbols.subscribe(toValues);
+ * toValues.subscribe(valueSubscriber);
+ * </pre></blockquote>
+ * <p>
+ * Each adapter forwards every call to the component it adapts, unchanged,
+ * wrapping the subscribers and subscriptions passed along the way, so the
+ * adapted component keeps its contract, including its backpressure.
+ * Adapting an adapter returns the component it adapts.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+public final class RomanNumeralFlowAdapters {
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private RomanNumeralFlowAdapters() {
+    }
+    
+    /**
+     * Returns a {@code Flow.Publisher} that subscribes its subscribers to
+     * the specified publisher.
+     *
+     * @param   <T>         the type of the published items.
+     * @param   publisher   the publisher to adapt.
+     * @return  a {@code Flow.Publisher} adapting {@code publisher}.
+     * @throws  NullPointerException   if {@code publisher} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Flow.Publisher<T> toFlowPublisher(
+            RomanNumeralFlow.Publisher<? extends T> publisher) {
+        Objects.requireNonNull(publisher);
+        if (publisher instanceof FromFlowPublisher) {
+            return (Flow.Publisher<T>)
+                   ((FromFlowPublisher<? extends T>) publisher).publisher;
+        }
+        return new FlowPublisher<T>(publisher);
+    }
+    
+    /**
+     * Returns a {@code RomanNumeralFlow.Publisher} that subscribes its
+     * subscribers to the specified {@code Flow.Publisher}.
+     *
+     * @param   <T>         the type of the published items.
+     * @param   publisher   the {@code Flow.Publisher} to adapt.
+     * @return  a publisher adapting {@code publisher}.
+     * @throws  NullPointerException   if {@code publisher} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RomanNumeralFlow.Publisher<T> fromFlowPublisher(
+            Flow.Publisher<? extends T> publisher) {
+        Objects.requireNonNull(publisher);
+        if (publisher instanceof FlowPublisher) {
+            return (RomanNumeralFlow.Publisher<T>)
+                   ((FlowPublisher<? extends T>) publisher).publisher;
+        }
+        return new FromFlowPublisher<T>(publisher);
+    }
+    
+    /**
+     * Returns a {@code Flow.Subscriber} that forwards what it receives to
+     * the specified subscriber.
+     *
+     * @param   <T>          the type of the received items.
+     * @param   subscriber   the subscriber to adapt.
+     * @return  a {@code Flow.Subscriber} adapting {@code subscriber}.
+     * @throws  NullPointerException   if {@code subscriber} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Flow.Subscriber<T> toFlowSubscriber(
+            RomanNumeralFlow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (subscriber instanceof FromFlowSubscriber) {
+            return (Flow.Subscriber<T>)
+                   ((FromFlowSubscriber<? super T>) subscriber).subscriber;
+        }
+        return new FlowSubscriber<T>(subscriber);
+    }
+    
+    /**
+     * Returns a {@code RomanNumeralFlow.Subscriber} that forwards what it
+     * receives to the specified {@code Flow.Subscriber}.
+     *
+     * @param   <T>          the type of the received items.
+     * @param   subscriber   the {@code Flow.Subscriber} to adapt.
+     * @return  a subscriber adapting {@code subscriber}.
+     * @throws  NullPointerException   if {@code subscriber} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RomanNumeralFlow.Subscriber<T> fromFlowSubscriber(
+            Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (subscriber instanceof FlowSubscriber) {
+            return (RomanNumeralFlow.Subscriber<T>)
+                   ((FlowSubscriber<? super T>) subscriber).subscriber;
+        }
+        return new FromFlowSubscriber<T>(subscriber);
+    }
+    
+    /**
+     * Returns a {@code Flow.Processor} that forwards what it receives to the
+     * specified processor, and subscribes its subscribers to it, such as a
+     * {@link RomanNumeralFlow.ConversionProcessor}.
+     *
+     * @param   <T>         the type of the received items.
+     * @param   <R>         the type of the published items.
+     * @param   processor   the processor to adapt.
+     * @return  a {@code Flow.Processor} adapting {@code processor}.
+     * @throws  NullPointerException   if {@code processor} is {@code null}.
+     */
+    public static <T, R> Flow.Processor<T, R> toFlowProcessor(
+            RomanNumeralFlow.Processor<T, R> processor) {
+        return new FlowProcessor<T, R>(Objects.requireNonNull(processor));
+    }
+    
+    private static final class FlowPublisher<T>
+            implements Flow.Publisher<T> {
+        private final RomanNumeralFlow.Publisher<? extends T> publisher;
+        
+        private FlowPublisher(
+                RomanNumeralFlow.Publisher<? extends T> publisher) {
+            this.publisher = publisher;
+        }
+        
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            publisher.subscribe(fromFlowSubscriber(subscriber));
+        }
+    }
+    
+    private static final class FromFlowPublisher<T>
+            implements RomanNumeralFlow.Publisher<T> {
+        private final Flow.Publisher<? extends T> publisher;
+        
+        private FromFlowPublisher(Flow.Publisher<? extends T> publisher) {
+            this.publisher = publisher;
+        }
+        
+        @Override
+        public void subscribe(
+                RomanNumeralFlow.Subscriber<? super T> subscriber) {
+            publisher.subscribe(toFlowSubscriber(subscriber));
+        }
+    }
+    
+    private static class FlowSubscriber<T> implements Flow.Subscriber<T> {
+        private final RomanNumeralFlow.Subscriber<? super T> subscriber;
+        
+        private FlowSubscriber(
+                RomanNumeralFlow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+        
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            Objects.requireNonNull(subscription);
+            subscriber.onSubscribe(new RomanNumeralFlow.Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+                
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                }
+            });
+        }
+        
+        @Override
+        public void onNext(T item) {
+            subscriber.onNext(item);
+        }
+        
+        @Override
+        public void onError(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+        
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+    }
+    
+    private static final class FromFlowSubscriber<T>
+            implements RomanNumeralFlow.Subscriber<T> {
+        private final Flow.Subscriber<? super T> subscriber;
+        
+        private FromFlowSubscriber(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+        
+        @Override
+        public void onSubscribe(RomanNumeralFlow.Subscription subscription) {
+            Objects.requireNonNull(subscription);
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+                
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                }
+            });
+        }
+        
+        @Override
+        public void onNext(T item) {
+            subscriber.onNext(item);
+        }
+        
+        @Override
+        public void onError(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+        
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+    }
+    
+    private static final class FlowProcessor<T, R> extends FlowSubscriber<T>
+            implements Flow.Processor<T, R> {
+        private final RomanNumeralFlow.Processor<T, R> processor;
+        
+        private FlowProcessor(RomanNumeralFlow.Processor<T, R> processor) {
+            super(processor);
+            this.processor = processor;
+        }
+        
+        @Override
+        public void subscribe(Flow.Subscriber<? super R> subscriber) {
+            processor.subscribe(fromFlowSubscriber(subscriber));
+        }
+    }
+}
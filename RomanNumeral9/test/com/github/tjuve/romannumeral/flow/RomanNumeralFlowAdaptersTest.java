@@ -0,0 +1,222 @@
+/*
+ * RomanNumeralFlowAdaptersTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral.flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.tjuve.romannumeral.RomanNumeral;
+import com.github.tjuve.romannumeral.RomanNumeralFlow;
+import com.github.tjuve.romannumeral.RomanNumeralFlow.ConversionProcessor;
+import com.github.tjuve.romannumeral.RomanNumeralFlow.InvalidItem;
+
+/**
+ * Tests {@link RomanNumeralFlowAdapters} with the components of
+ * {@link Flow}.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralFlowAdaptersTest {
+    public static final int BATCH_SIZE = 16;
+    public static final long TIMEOUT_SECONDS = 30;
+    
+    private static ExecutorService executor;
+    
+    /**
+     * A {@code Flow.Subscriber} that collects the items it receives,
+     * requesting a fixed number at a time.
+     */
+    private static final class CollectingSubscriber<T>
+            implements Flow.Subscriber<T> {
+        private final long requestSize;
+        private final List<T> items
+                = Collections.synchronizedList(new ArrayList<T>());
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean completed;
+        
+        private CollectingSubscriber(long requestSize) {
+            this.requestSize = requestSize;
+        }
+        
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(requestSize);
+        }
+        
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+            if (items.size() % requestSize == 0) {
+                subscription.request(requestSize);
+            }
+        }
+        
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+        
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+        
+        private void await() throws InterruptedException {
+            assertTrue(terminated.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+    }
+    
+    @BeforeAll
+    public static void startExecutor() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+    
+    @AfterAll
+    public static void stopExecutor() {
+        executor.shutdownNow();
+    }
+    
+    @DisplayName("A SubmissionPublisher feeds a processor as a Flow.Processor")
+    @Test
+    public void toFlowProcessorTest() throws InterruptedException {
+        ConversionProcessor<String, Integer> processor
+                = RomanNumeralFlow.toValues(executor, BATCH_SIZE);
+        Flow.Processor<String, Integer> toValues
+                = RomanNumeralFlowAdapters.toFlowProcessor(processor);
+        CollectingSubscriber<Integer> values
+                = new CollectingSubscriber<Integer>(7);
+        CollectingSubscriber<InvalidItem<String>> invalidItems
+                = new CollectingSubscriber<InvalidItem<String>>(1);
+        toValues.subscribe(values);
+        RomanNumeralFlowAdapters.toFlowPublisher(processor.invalidItems())
+                                .subscribe(invalidItems);
+        
+        List<Integer> expectedValues = new ArrayList<Integer>();
+        // a buffer smaller than the batch size, so the publisher blocks
+        try (SubmissionPublisher<String> symbols
+                = new SubmissionPublisher<String>(executor, 4)) {
+            symbols.subscribe(toValues);
+            for (int value = RomanNumeral.MIN_VALUE;
+                    value <= RomanNumeral.MAX_VALUE; value++) {
+                symbols.submit(RomanNumeral.toString(value));
+                expectedValues.add(value);
+                if (value == 2_026) {
+                    symbols.submit("MMXXVII I");
+                }
+            }
+        }
+        values.await();
+        invalidItems.await();
+        
+        assertTrue(values.completed);
+        assertEquals(expectedValues, values.items);
+        assertTrue(invalidItems.completed);
+        assertEquals(1, invalidItems.items.size());
+        assertEquals("MMXXVII I", invalidItems.items.get(0).getItem());
+    }
+    
+    @DisplayName("A processor connects a SubmissionPublisher and a Subscriber")
+    @Test
+    public void fromFlowPublisherTest() throws InterruptedException {
+        ConversionProcessor<Integer, String> processor
+                = RomanNumeralFlow.toSymbols(executor, BATCH_SIZE);
+        CollectingSubscriber<String> symbols
+                = new CollectingSubscriber<String>(1);
+        processor.subscribe(
+                RomanNumeralFlowAdapters.fromFlowSubscriber(symbols));
+        
+        try (SubmissionPublisher<Integer> values
+                = new SubmissionPublisher<Integer>(executor, 4)) {
+            RomanNumeralFlowAdapters.<Integer>fromFlowPublisher(values)
+                                    .subscribe(processor);
+            for (int value : Arrays.asList(1, 4, 0, 14)) {
+                values.submit(value);
+            }
+        }
+        symbols.await();
+        
+        assertTrue(symbols.completed);
+        assertEquals(Arrays.asList("I", "IV", "XIV"), symbols.items);
+    }
+    
+    @DisplayName("Cancelling through the adapters cancels the publisher")
+    @Test
+    public void cancelTest() throws InterruptedException {
+        ConversionProcessor<Integer, String> processor
+                = RomanNumeralFlow.toSymbols(executor, BATCH_SIZE);
+        Flow.Processor<Integer, String> toSymbols
+                = RomanNumeralFlowAdapters.toFlowProcessor(processor);
+        CollectingSubscriber<String> symbols
+                = new CollectingSubscriber<String>(2);
+        toSymbols.subscribe(symbols);
+        
+        try (SubmissionPublisher<Integer> values
+                = new SubmissionPublisher<Integer>(executor, 4)) {
+            values.subscribe(toSymbols);
+            values.submit(1);
+            values.submit(2);
+            long deadline = System.nanoTime()
+                            + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            while (symbols.items.size() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(Arrays.asList("I", "II"), symbols.items);
+            
+            symbols.subscription.cancel();
+            while (values.hasSubscribers()
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertFalse(values.hasSubscribers());
+        }
+        assertNull(symbols.error);
+    }
+    
+    @DisplayName("Adapting an adapter returns the adapted component")
+    @Test
+    public void unwrapTest() {
+        ConversionProcessor<String, Integer> processor
+                = RomanNumeralFlow.toValues(executor, BATCH_SIZE);
+        assertSame(processor, RomanNumeralFlowAdapters.fromFlowSubscriber(
+                RomanNumeralFlowAdapters.toFlowSubscriber(processor)));
+        RomanNumeralFlow.Publisher<InvalidItem<String>> invalidItems
+                = processor.invalidItems();
+        assertSame(invalidItems, RomanNumeralFlowAdapters.fromFlowPublisher(
+                RomanNumeralFlowAdapters.toFlowPublisher(invalidItems)));
+        
+        SubmissionPublisher<String> publisher
+                = new SubmissionPublisher<String>();
+        assertSame(publisher, RomanNumeralFlowAdapters.toFlowPublisher(
+                RomanNumeralFlowAdapters.fromFlowPublisher(publisher)));
+        publisher.close();
+    }
+}
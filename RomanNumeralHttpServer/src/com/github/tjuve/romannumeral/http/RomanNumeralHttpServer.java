@@ -0,0 +1,540 @@
+/*
+ * RomanNumeralHttpServer.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral.http;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.github.tjuve.romannumeral.RomanNumeral;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * An embeddable HTTP server that converts between Roman numerals in standard
+ * form and their values.
+ * <p>
+ * <table>
+ *   <tbody>
+ *     <tr>
+ *       <th>Request</th>
+ *       <th>Response</th>
+ *     </tr>
+ *     <tr>
+ *       <td>{@code GET /of?value=14}</td>
+ *       <td>{@code XIV}</td>
+ *     </tr>
+ *     <tr>
+ *       <td>{@code GET /parse?symbols=XIV}</td>
+ *       <td>{@code 14}</td>
+ *     </tr>
+ *     <tr>
+ *       <td>{@code GET /isValid?value=14}, or
+ *           {@code GET /isValid?symbols=XIV}</td>
+ *       <td>{@code true}</td>
+ *     </tr>
+ *   </tbody>
+ * </table>
+ * <p>
+ * An input that can't be converted gets a {@code 400 Bad Request} response
+ * with the message of the exception {@link RomanNumeral} threw.
+ * <p>
+ * A {@code POST} to the same paths converts a batch of inputs. The request
+ * body has one input per line, or, if its {@code Content-Type} is
+ * {@code application/json}, is a JSON array of numbers and strings. The
+ * response body has one result per input, in the same order and format as
+ * the request. An input that can't be converted gets an empty line, or
+ * {@code null}. Responses are streamed while the request body is read, so a
+ * batch of any size takes constant memory.
+ * <p>
+ * Each request is handled on its own virtual thread when the runtime supports
+ * them (Java 21 and later), and on a cached thread pool otherwise. Idle
+ * keep-alive connections don't hold a thread either way, because the server
+ * waits on all of them with one selector. The number of open connections is
+ * still limited by the JDK's server, which keeps at most
+ * {@code sun.net.httpserver.maxIdleConnections} connections, 200 by
+ * default, idle: once that many are idle, a connection is closed as soon as
+ * its response is sent, and its client has to reconnect for its next
+ * request. Connections idle for longer than
+ * {@code sun.net.httpserver.idleInterval} seconds, 30 by default, are
+ * closed too. Raise these for many long-lived clients.
+ * <p>
+ * The headers and body of a response are written separately, so with
+ * Nagle's algorithm each small response on a keep-alive connection can wait
+ * for the client's delayed ACK of its headers, which takes up to tens of
+ * milliseconds. Run the JVM with {@code -Dsun.net.httpserver.nodelay=true}
+ * to disable it. The property is read once, when the first
+ * {@code HttpServer} in the JVM is created, and applies to all of them, so
+ * this class leaves it to the operator.
+ * <p>
+ * The server is built apart from the library, because it needs the JDK's
+ * {@code jdk.httpserver} module, which not every runtime has. Run it with
+ * both on the class path:
+ * <blockquote><pre>
+ * java -cp RomanNumeral.jar:RomanNumeralHttpServer.jar \
+ *      com.github.tjuve.romannumeral.http.RomanNumeralHttpServer 8080
+ * </pre></blockquote>
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+public final class RomanNumeralHttpServer implements AutoCloseable {
+    /**
+     * A constant holding the port {@link #main} listens on when none is
+     * specified, 8080.
+     */
+    public static final int DEFAULT_PORT = 8_080;
+    /**
+     * A constant holding the maximum number of incoming connections queued
+     * before they are refused, 4096.
+     */
+    public static final int DEFAULT_BACKLOG = 4_096;
+    
+    private static final String TEXT_PLAIN = "text/plain; charset=UTF-8";
+    private static final String APPLICATION_JSON = "application/json";
+    private static final int BUFFER_SIZE = 8_192;
+    
+    /**
+     * The conversion served at each path.
+     */
+    private enum Operation {
+        OF("/of", true, "value") {
+            @Override
+            String apply(String input) {
+                return RomanNumeral.of(Integer.parseInt(input)).symbols;
+            }
+        },
+        PARSE("/parse", false, "symbols") {
+            @Override
+            String apply(String input) {
+                return Integer.toString(RomanNumeral.parse(input).value);
+            }
+        },
+        IS_VALID("/isValid", false, "value", "symbols") {
+            @Override
+            String apply(String input) {
+                boolean valid;
+                if (!input.isEmpty() && (Character.isDigit(input.charAt(0))
+                                         || input.charAt(0) == '-'
+                                         || input.charAt(0) == '+')) {
+                    try {
+                        valid = RomanNumeral.isValid(Integer.parseInt(input));
+                    } catch (NumberFormatException numberFormatEx) {
+                        // out of the range of an int, or not a number
+                        valid = false;
+                    }
+                } else {
+                    valid = RomanNumeral.isValid(input);
+                }
+                return Boolean.toString(valid);
+            }
+        };
+        
+        private final String path;
+        /**
+         * Whether results are strings, rather than numbers or booleans, in
+         * JSON.
+         */
+        private final boolean quoted;
+        /**
+         * The names of the query parameters the input is read from, in
+         * order of preference.
+         */
+        private final String[] parameters;
+        
+        private Operation(String path, boolean quoted, String... parameters) {
+            this.path = path;
+            this.quoted = quoted;
+            this.parameters = parameters;
+        }
+        
+        /**
+         * Returns the result for the specified input.
+         *
+         * @throws  IllegalArgumentException    if the input can't be
+         *                                      converted.
+         */
+        abstract String apply(String input);
+    }
+    
+    /**
+     * Reads the inputs of a batch, one at a time.
+     */
+    private interface BatchReader {
+        /**
+         * Returns the next input, or {@code null} after the last one.
+         */
+        String next() throws IOException;
+    }
+    
+    private final HttpServer server;
+    private final ExecutorService executor;
+    
+    private RomanNumeralHttpServer(HttpServer server,
+                                   ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+    
+    /**
+     * Starts a server listening on the specified address.
+     *
+     * @param   address   the address to listen on, with port 0 for any free
+     *                    port.
+     * @return  the started server.
+     * @throws  IOException   if the server can't bind to the address.
+     */
+    public static RomanNumeralHttpServer start(InetSocketAddress address)
+            throws IOException {
+        return start(address, DEFAULT_BACKLOG);
+    }
+    
+    /**
+     * Starts a server listening on the specified address.
+     *
+     * @param   address   the address to listen on, with port 0 for any free
+     *                    port.
+     * @param   backlog   the maximum number of incoming connections queued
+     *                    before they are refused.
+     * @return  the started server.
+     * @throws  IOException   if the server can't bind to the address.
+     */
+    public static RomanNumeralHttpServer start(InetSocketAddress address,
+                                               int backlog)
+            throws IOException {
+        HttpServer server = HttpServer.create(address, backlog);
+        for (Operation operation : Operation.values()) {
+            server.createContext(operation.path,
+                                 exchange -> handle(operation, exchange));
+        }
+        
+        ExecutorService executor = newPerRequestExecutor();
+        server.setExecutor(executor);
+        server.start();
+        return new RomanNumeralHttpServer(server, executor);
+    }
+    
+    /**
+     * Starts a server listening on the port given as the first argument, or
+     * {@link #DEFAULT_PORT} if omitted.
+     *
+     * @param   args   the port.
+     * @throws  IOException   if the server can't bind to the port.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        start(new InetSocketAddress(port));
+    }
+    
+    /**
+     * Returns the address this server is listening on.
+     *
+     * @return  the address this server is listening on.
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+    
+    /**
+     * Stops this server, closing all connections without waiting for
+     * requests being handled to finish.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+    
+    private static void handle(Operation operation, HttpExchange exchange)
+            throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!exchange.getRequestURI().getPath().equals(operation.path)) {
+                send(exchange, 404, "Not found");
+            } else if (method.equals("GET")) {
+                handleSingle(operation, exchange);
+            } else if (method.equals("POST")) {
+                handleBatch(operation, exchange);
+            } else {
+                exchange.getResponseHeaders().set("Allow", "GET, POST");
+                send(exchange, 405, "Method not allowed");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    private static void handleSingle(Operation operation,
+                                     HttpExchange exchange)
+            throws IOException {
+        String result;
+        try {
+            String input = queryParameter(
+                    exchange.getRequestURI().getRawQuery(),
+                    operation.parameters);
+            if (input == null) {
+                send(exchange, 400,
+                     "Missing parameter: " + operation.parameters[0]);
+                return;
+            }
+            result = operation.apply(input);
+        } catch (IllegalArgumentException illegalArgumentEx) {
+            send(exchange, 400, illegalArgumentEx.getMessage());
+            return;
+        }
+        send(exchange, 200, result);
+    }
+    
+    private static void handleBatch(Operation operation,
+                                    HttpExchange exchange)
+            throws IOException {
+        String contentType
+                = exchange.getRequestHeaders().getFirst("Content-Type");
+        boolean json = contentType != null
+                       && contentType.startsWith(APPLICATION_JSON);
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(exchange.getRequestBody(),
+                                      StandardCharsets.UTF_8),
+                BUFFER_SIZE);
+        
+        BatchReader batch;
+        if (json) {
+            JsonArrayReader jsonArrayReader = new JsonArrayReader(reader);
+            if (!jsonArrayReader.begin()) {
+                send(exchange, 400, "Expected a JSON array");
+                return;
+            }
+            batch = jsonArrayReader;
+        } else {
+            batch = reader::readLine;
+        }
+        
+        exchange.getResponseHeaders().set(
+                "Content-Type", json ? APPLICATION_JSON : TEXT_PLAIN);
+        exchange.sendResponseHeaders(200, 0); // chunked
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(exchange.getResponseBody(),
+                                       StandardCharsets.UTF_8),
+                BUFFER_SIZE);
+        
+        if (json) {
+            writer.write('[');
+        }
+        String input;
+        for (int i = 0; (input = batch.next()) != null; i++) {
+            String result;
+            try {
+                result = operation.apply(input);
+            } catch (IllegalArgumentException illegalArgumentEx) {
+                result = null;
+            }
+            
+            if (!json) {
+                if (result != null) {
+                    writer.write(result);
+                }
+                writer.write('\n');
+            } else {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (result == null) {
+                    writer.write("null");
+                } else if (operation.quoted) {
+                    writer.write('"');
+                    writer.write(result);
+                    writer.write('"');
+                } else {
+                    writer.write(result);
+                }
+            }
+        }
+        if (json) {
+            writer.write(']');
+        }
+        writer.flush();
+    }
+    
+    /**
+     * Returns the value of the first of the specified query parameters
+     * present, or {@code null} if there is none.
+     *
+     * @throws  IllegalArgumentException    if the query isn't properly
+     *                                      encoded.
+     */
+    private static String queryParameter(String rawQuery, String[] names)
+            throws UnsupportedEncodingException {
+        if (rawQuery == null) {
+            return null;
+        }
+        
+        String[] pairs = rawQuery.split("&");
+        for (String name : names) {
+            for (String pair : pairs) {
+                int equals = pair.indexOf('=');
+                if (equals >= 0 && URLDecoder.decode(pair.substring(0, equals),
+                                                     "UTF-8").equals(name)) {
+                    return URLDecoder.decode(pair.substring(equals + 1),
+                                             "UTF-8");
+                }
+            }
+        }
+        return null;
+    }
+    
+    private static void send(HttpExchange exchange, int status, String body)
+            throws IOException {
+        byte[] bytes = (body + "\n").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", TEXT_PLAIN);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+    
+    /**
+     * Returns an executor that runs each task on its own virtual thread if
+     * the runtime supports them, or on a cached thread pool otherwise.
+     */
+    private static ExecutorService newPerRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException reflectiveOperationEx) {
+            // virtual threads need Java 21
+            return Executors.newCachedThreadPool();
+        }
+    }
+    
+    /**
+     * Reads the elements of a JSON array of numbers and strings, as the
+     * number or the contents of the string, with its escapes decoded.
+     */
+    private static final class JsonArrayReader implements BatchReader {
+        private final Reader reader;
+        /**
+         * The character after the last one consumed, or -1 at the end of
+         * the stream.
+         */
+        private int c;
+        private boolean end;
+        
+        private JsonArrayReader(Reader reader) {
+            this.reader = reader;
+        }
+        
+        /**
+         * Reads the start of the array.
+         *
+         * @return  {@code false} if the body doesn't start with an array.
+         */
+        private boolean begin() throws IOException {
+            c = skipWhitespace(reader.read());
+            if (c != '[') {
+                return false;
+            }
+            c = skipWhitespace(reader.read());
+            end = c == ']';
+            return true;
+        }
+        
+        @Override
+        public String next() throws IOException {
+            if (end) {
+                return null;
+            }
+            
+            StringBuilder element = new StringBuilder();
+            if (c == '"') {
+                while ((c = reader.read()) != '"') {
+                    if (c == '\\') {
+                        c = unescape(reader.read());
+                    }
+                    if (c < 0) {
+                        throw new IOException("Malformed JSON array");
+                    }
+                    element.append((char) c);
+                }
+                c = reader.read();
+            } else {
+                while (c >= 0 && c != ',' && c != ']'
+                       && !Character.isWhitespace(c)) {
+                    element.append((char) c);
+                    c = reader.read();
+                }
+            }
+            
+            c = skipWhitespace(c);
+            if (c == ']') {
+                end = true;
+            } else if (c == ',') {
+                c = skipWhitespace(reader.read());
+            } else {
+                // the response is cut short
+                throw new IOException("Malformed JSON array");
+            }
+            return element.toString();
+        }
+        
+        /**
+         * Returns the character escaped by a backslash and the specified
+         * character, reading the four hexadecimal digits that follow a
+         * {@code u}, or -1 if the escape is invalid.
+         */
+        private int unescape(int c) throws IOException {
+            switch (c) {
+                case '"':
+                case '\\':
+                case '/':
+                    return c;
+                case 'b':
+                    return '\b';
+                case 'f':
+                    return '\f';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 't':
+                    return '\t';
+                case 'u':
+                    int unicode = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int hex = reader.read();
+                        int digit = hex < 0x80 ? Character.digit(hex, 16) : -1;
+                        if (digit < 0) {
+                            return -1;
+                        }
+                        unicode = unicode << 4 | digit;
+                    }
+                    return unicode;
+                default:
+                    return -1;
+            }
+        }
+        
+        private int skipWhitespace(int c) throws IOException {
+            while (c >= 0 && Character.isWhitespace(c)) {
+                c = reader.read();
+            }
+            return c;
+        }
+    }
+}
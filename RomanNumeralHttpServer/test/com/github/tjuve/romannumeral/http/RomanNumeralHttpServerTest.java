@@ -0,0 +1,434 @@
+/*
+ * RomanNumeralHttpServerTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.github.tjuve.romannumeral.RomanNumeral;
+
+/**
+ * Tests {@link RomanNumeralHttpServer} over loopback.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralHttpServerTest {
+    public static final int NUM_CLIENTS = 32;
+    public static final int NUM_REQUESTS_PER_CLIENT = 250;
+    public static final int NUM_CONNECTIONS = 2_000;
+    
+    private static RomanNumeralHttpServer server;
+    private static String nodelay;
+    
+    /**
+     * A response's status and body.
+     */
+    private static final class Response {
+        private final int status;
+        private final String body;
+        
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+    
+    @BeforeAll
+    public static void startServer() throws IOException {
+        // as an operator would, see the class documentation of the server
+        nodelay = System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = RomanNumeralHttpServer.start(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+    
+    @AfterAll
+    public static void stopServer() {
+        server.close();
+        if (nodelay == null) {
+            System.clearProperty("sun.net.httpserver.nodelay");
+        } else {
+            System.setProperty("sun.net.httpserver.nodelay", nodelay);
+        }
+    }
+    
+    @DisplayName("GET /of")
+    @ParameterizedTest
+    @MethodSource("symbolsValuePairsProvider")
+    public void ofTest(String expectedSymbols, int value) throws IOException {
+        Response response = request("GET", "/of?value=" + value, null, null);
+        
+        assertEquals(200, response.status);
+        assertEquals(expectedSymbols + "\n", response.body);
+    }
+    
+    @DisplayName("GET /parse")
+    @ParameterizedTest
+    @MethodSource("symbolsValuePairsProvider")
+    public void parseTest(String symbols, int expectedValue)
+            throws IOException {
+        Response response
+                = request("GET", "/parse?symbols=" + symbols, null, null);
+        
+        assertEquals(200, response.status);
+        assertEquals(expectedValue + "\n", response.body);
+    }
+    
+    @DisplayName("GET /isValid")
+    @Test
+    public void isValidTest() throws IOException {
+        assertEquals("true\n",
+                     request("GET", "/isValid?value=14", null, null).body);
+        assertEquals("false\n",
+                     request("GET", "/isValid?value=0", null, null).body);
+        assertEquals("true\n",
+                     request("GET", "/isValid?symbols=XIV", null, null).body);
+        assertEquals("false\n",
+                     request("GET", "/isValid?symbols=IIII", null, null).body);
+        assertEquals("false\n",
+                     request("GET", "/isValid?value=99999999999", null, null)
+                             .body);
+        assertEquals("false\n",
+                     request("GET", "/isValid?value=-1x", null, null).body);
+    }
+    
+    @DisplayName("GET with invalid input is a bad request")
+    @ParameterizedTest
+    @ValueSource(strings = {"/of?value=0", "/of?value=4000", "/of?value=X",
+                            "/of", "/parse?symbols=IIII", "/parse?symbols=",
+                            "/parse?value=4"})
+    public void badRequestTest(String pathAndQuery) throws IOException {
+        assertEquals(400, request("GET", pathAndQuery, null, null).status);
+    }
+    
+    @DisplayName("Unknown paths and methods")
+    @Test
+    public void notFoundTest() throws IOException {
+        assertEquals(404, request("GET", "/valueOf", null, null).status);
+        assertEquals(404, request("GET", "/of/14", null, null).status);
+        assertEquals(405, request("PUT", "/of?value=1", null, null).status);
+    }
+    
+    @DisplayName("POST newline batches")
+    @Test
+    public void lineBatchTest() throws IOException {
+        Response of = request("POST", "/of", "text/plain",
+                              "1\n14\r\n0\nX\n3999");
+        assertEquals(200, of.status);
+        assertEquals("I\nXIV\n\n\nMMMCMXCIX\n", of.body);
+        
+        Response parse = request("POST", "/parse", "text/plain",
+                                 "I\nXIV\nIIII\n\nMMMCMXCIX\n");
+        assertEquals("1\n14\n\n\n3999\n", parse.body);
+        
+        Response isValid = request("POST", "/isValid", "text/plain",
+                                   "XIV\n14\n0\nIIII\n99999999999\n");
+        assertEquals("true\ntrue\nfalse\nfalse\nfalse\n", isValid.body);
+    }
+    
+    @DisplayName("POST JSON array batches")
+    @Test
+    public void jsonBatchTest() throws IOException {
+        Response of = request("POST", "/of", "application/json",
+                              " [1, 14,0 ,\"X\", 3999] ");
+        assertEquals(200, of.status);
+        assertEquals("[\"I\",\"XIV\",null,null,\"MMMCMXCIX\"]", of.body);
+        
+        Response parse = request("POST", "/parse",
+                                 "application/json; charset=UTF-8",
+                                 "[\"I\",\"XIV\",\"IIII\",4]");
+        assertEquals("[1,14,null,null]", parse.body);
+        
+        Response isValid = request("POST", "/isValid", "application/json",
+                                   "[\"XIV\", 14, 0]");
+        assertEquals("[true,true,false]", isValid.body);
+        
+        Response escaped = request("POST", "/parse", "application/json",
+                                   "[\"X\\u0049V\", \"\\u004d\\u004D\","
+                                   + " \"XIV\\n\", \"XIV\\\\\"]");
+        assertEquals("[14,2000,null,null]", escaped.body);
+        assertEquals("[\"XIV\"]", request("POST", "/of", "application/json",
+                                         "[\"\\u0031\\u0034\"]").body);
+        
+        assertEquals("[]",
+                     request("POST", "/of", "application/json", "[ ]").body);
+        assertEquals(400,
+                     request("POST", "/of", "application/json", "1").status);
+    }
+    
+    @DisplayName("POST large batches are streamed")
+    @Test
+    public void largeBatchTest() throws IOException {
+        int numRepeats = 50;
+        StringBuilder requestBody = new StringBuilder();
+        StringBuilder expectedBody = new StringBuilder();
+        for (int i = 0; i < numRepeats; i++) {
+            for (int value = RomanNumeral.MIN_VALUE;
+                    value <= RomanNumeral.MAX_VALUE; value++) {
+                requestBody.append(value).append('\n');
+                expectedBody.append(RomanNumeral.toString(value)).append('\n');
+            }
+        }
+        
+        Response response = request("POST", "/of", "text/plain",
+                                    requestBody.toString());
+        
+        assertEquals(expectedBody.toString(), response.body);
+    }
+    
+    /**
+     * Generates load from many concurrent keep-alive clients, each sending a
+     * mix of single and batch requests.
+     */
+    @DisplayName("Load from concurrent clients")
+    @Test
+    public void loadTest() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(NUM_CLIENTS);
+        try {
+            List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+            for (int client = 0; client < NUM_CLIENTS; client++) {
+                int seed = client;
+                futures.add(clients.submit(() -> {
+                    int numOk = 0;
+                    for (int i = 0; i < NUM_REQUESTS_PER_CLIENT; i++) {
+                        int value = RomanNumeral.MIN_VALUE
+                                    + (seed * NUM_REQUESTS_PER_CLIENT + i)
+                                      % RomanNumeral.MAX_VALUE;
+                        String symbols = RomanNumeral.toString(value);
+                        
+                        Response response;
+                        String expectedBody;
+                        switch (i % 3) {
+                            case 0:
+                                response = request("GET", "/of?value=" + value,
+                                                   null, null);
+                                expectedBody = symbols + "\n";
+                                break;
+                            case 1:
+                                response = request("GET",
+                                                   "/parse?symbols=" + symbols,
+                                                   null, null);
+                                expectedBody = value + "\n";
+                                break;
+                            default:
+                                response = request("POST", "/parse",
+                                                   "text/plain",
+                                                   symbols + "\n" + symbols);
+                                expectedBody = value + "\n" + value + "\n";
+                                break;
+                        }
+                        
+                        if (response.status == 200
+                                && response.body.equals(expectedBody)) {
+                            numOk++;
+                        }
+                    }
+                    return numOk;
+                }));
+            }
+            
+            for (Future<Integer> future : futures) {
+                try {
+                    assertEquals(NUM_REQUESTS_PER_CLIENT, future.get());
+                } catch (ExecutionException executionEx) {
+                    throw (Exception) executionEx.getCause();
+                }
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+    
+    /**
+     * Opens far more keep-alive connections than the server keeps idle, and
+     * sends two requests on each, reconnecting the connections the server
+     * closed in between. How many are closed depends on the JDK's
+     * {@code sun.net.httpserver.maxIdleConnections}, 200 by default, so only
+     * the responses are checked.
+     */
+    @DisplayName("Many open connections")
+    @Test
+    public void manyConnectionsTest() throws IOException {
+        List<Socket> sockets = new ArrayList<Socket>();
+        try {
+            for (int i = 0; i < NUM_CONNECTIONS; i++) {
+                sockets.add(connect());
+            }
+            for (int i = 0; i < NUM_CONNECTIONS; i++) {
+                send(sockets.get(i), i);
+            }
+            for (int i = 0; i < NUM_CONNECTIONS; i++) {
+                assertEquals(expectedBody(i), receive(sockets.get(i)));
+            }
+            
+            for (int i = 0; i < NUM_CONNECTIONS; i++) {
+                String body;
+                try {
+                    send(sockets.get(i), i);
+                    body = receive(sockets.get(i));
+                } catch (IOException ioEx) {
+                    // reset by the server
+                    body = null;
+                }
+                
+                if (body == null) {
+                    sockets.get(i).close();
+                    sockets.set(i, connect());
+                    send(sockets.get(i), i);
+                    body = receive(sockets.get(i));
+                }
+                assertEquals(expectedBody(i), body);
+            }
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+    
+    /**
+     * Returns the symbols and value of every numeral, as converted by the
+     * library, which {@code RomanNumeralTest} checks against its reference.
+     */
+    @SuppressWarnings("unused")
+    private static Stream<Arguments> symbolsValuePairsProvider() {
+        return IntStream.rangeClosed(RomanNumeral.MIN_VALUE,
+                                     RomanNumeral.MAX_VALUE)
+                        .mapToObj(value -> Arguments.of(
+                                RomanNumeral.toString(value), value));
+    }
+    
+    private static Socket connect() throws IOException {
+        Socket socket = new Socket();
+        socket.setTcpNoDelay(true);
+        socket.connect(server.getAddress());
+        return socket;
+    }
+    
+    /**
+     * Sends a {@code GET /of} request for a value depending on the
+     * specified index.
+     */
+    private static void send(Socket socket, int i) throws IOException {
+        int value = RomanNumeral.MIN_VALUE + i % RomanNumeral.MAX_VALUE;
+        String request = "GET /of?value=" + value + " HTTP/1.1\r\n"
+                         + "Host: localhost\r\n\r\n";
+        socket.getOutputStream()
+              .write(request.getBytes(StandardCharsets.US_ASCII));
+    }
+    
+    private static String expectedBody(int i) {
+        return RomanNumeral.toString(RomanNumeral.MIN_VALUE
+                                     + i % RomanNumeral.MAX_VALUE) + "\n";
+    }
+    
+    /**
+     * Reads a response with a {@code Content-Length}, and returns its body,
+     * or {@code null} if the server closed the connection instead.
+     */
+    private static String receive(Socket socket) throws IOException {
+        InputStream in = socket.getInputStream();
+        StringBuilder headers = new StringBuilder();
+        while (headers.length() < 4
+               || !headers.substring(headers.length() - 4).equals("\r\n\r\n")) {
+            int c = in.read();
+            if (c < 0) {
+                if (headers.length() == 0) {
+                    return null;
+                }
+                throw new IOException("Truncated response");
+            }
+            headers.append((char) c);
+        }
+        
+        int contentLength = -1;
+        for (String header : headers.toString().split("\r\n")) {
+            int colon = header.indexOf(':');
+            if (colon > 0 && header.substring(0, colon).trim()
+                                   .equalsIgnoreCase("Content-Length")) {
+                contentLength = Integer.parseInt(
+                        header.substring(colon + 1).trim());
+            }
+        }
+        byte[] body = new byte[contentLength];
+        for (int n = 0; n < body.length; ) {
+            int read = in.read(body, n, body.length - n);
+            if (read < 0) {
+                throw new IOException("Truncated response");
+            }
+            n += read;
+        }
+        return new String(body, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Sends a request to the server, reusing a pooled keep-alive connection
+     * when one is available.
+     */
+    private static Response request(String method, String pathAndQuery,
+                                    String contentType, String body)
+            throws IOException {
+        InetSocketAddress address = server.getAddress();
+        URL url = new URL("http", address.getHostString(), address.getPort(),
+                          pathAndQuery);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", contentType);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        
+        int status = connection.getResponseCode();
+        InputStream in = status < 400 ? connection.getInputStream()
+                                      : connection.getErrorStream();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (in != null) {
+            try {
+                byte[] buffer = new byte[8_192];
+                int n;
+                while ((n = in.read(buffer)) >= 0) {
+                    bytes.write(buffer, 0, n);
+                }
+            } finally {
+                in.close();
+            }
+        }
+        return new Response(status,
+                            new String(bytes.toByteArray(),
+                                       StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * RomanNumeralCallChecker.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral.processor;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+import com.github.tjuve.romannumeral.RomanNumeral;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+import com.sun.source.util.Trees;
+
+/**
+ * Reports {@code String} literals passed to {@code RomanNumeral.parse} and
+ * {@code RomanNumeral.valueOf} that are not a Roman numeral in standard
+ * form, as compile errors on the literals.
+ * <p>
+ * Method bodies are only visible through the tree API of {@code javac}, so
+ * this class is kept apart from {@link RomanNumeralConstantsProcessor},
+ * which only loads it when the compiler is {@code javac}. Each class is
+ * scanned after {@code javac} has attributed it, when every call is
+ * resolved to the method it invokes.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+final class RomanNumeralCallChecker implements TaskListener {
+    /**
+     * The names of the methods of {@code RomanNumeral} whose literal
+     * arguments are checked.
+     */
+    private static final Set<String> CHECKED_METHODS
+            = new HashSet<String>(Arrays.asList("parse", "valueOf"));
+    
+    private final Trees trees;
+    
+    private RomanNumeralCallChecker(Trees trees) {
+        this.trees = trees;
+    }
+    
+    /**
+     * Checks the calls in every class the specified environment's compiler
+     * compiles from now on.
+     *
+     * @throws  IllegalArgumentException    if the compiler isn't
+     *                                      {@code javac}.
+     */
+    static void register(ProcessingEnvironment processingEnv) {
+        Trees trees = Trees.instance(processingEnv);
+        JavacTask.instance(processingEnv)
+                 .addTaskListener(new RomanNumeralCallChecker(trees));
+    }
+    
+    @Override
+    public void started(TaskEvent event) {
+    }
+    
+    @Override
+    public void finished(TaskEvent event) {
+        if (event.getKind() != TaskEvent.Kind.ANALYZE) {
+            return;
+        }
+        
+        CompilationUnitTree unit = event.getCompilationUnit();
+        new TreePathScanner<Void, Void>() {
+            @Override
+            public Void visitMethodInvocation(MethodInvocationTree invocation,
+                                              Void p) {
+                check(getCurrentPath(), unit);
+                return super.visitMethodInvocation(invocation, p);
+            }
+        }.scan(trees.getPath(event.getTypeElement()), null);
+    }
+    
+    /**
+     * Reports the argument of the specified method invocation if it is a
+     * literal that {@code RomanNumeral} would reject.
+     */
+    private void check(TreePath path, CompilationUnitTree unit) {
+        Element method = trees.getElement(path);
+        if (method == null || method.getKind() != ElementKind.METHOD
+                || !CHECKED_METHODS.contains(
+                        method.getSimpleName().toString())
+                || !((TypeElement) method.getEnclosingElement())
+                        .getQualifiedName().contentEquals(
+                                RomanNumeral.class.getCanonicalName())) {
+            return;
+        }
+        
+        List<? extends ExpressionTree> arguments
+                = ((MethodInvocationTree) path.getLeaf()).getArguments();
+        if (arguments.size() != 1
+                || arguments.get(0).getKind() != Tree.Kind.STRING_LITERAL) {
+            return;
+        }
+        String symbols = (String) ((LiteralTree) arguments.get(0)).getValue();
+        if (!RomanNumeral.isValid(symbols)) {
+            trees.printMessage(Diagnostic.Kind.ERROR,
+                               "Not a Roman numeral in standard form: \""
+                               + symbols + "\"",
+                               arguments.get(0), unit);
+        }
+    }
+}
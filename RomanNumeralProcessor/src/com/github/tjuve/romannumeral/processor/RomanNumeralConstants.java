@@ -0,0 +1,49 @@
+/*
+ * RomanNumeralConstants.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the symbols of Roman numerals in standard form that the
+ * annotated type uses as constants, so that they are checked when it is
+ * compiled, instead of parsed when it runs.
+ * <p>
+ * {@link RomanNumeralConstantsProcessor} reports symbols that are not a
+ * Roman numeral in standard form as compile errors, and generates a class
+ * named after the annotated type followed by {@code Numerals}, with two
+ * constants for each of the symbols, to use instead of parsing them:
+ * <blockquote><pre>
+ * &#64;RomanNumeralConstants({"XIV", "MCM"})
+ * class Calendar {
+ *     RomanNumeral day = CalendarNumerals.XIV;  // RomanNumeral.parse("XIV")
+ *     int year = CalendarNumerals.MCM_VALUE;    // RomanNumeral.valueOf("MCM")
+ * }
+ * </pre></blockquote>
+ * The {@code int} constants are compile-time constants, which the compiler
+ * folds into their uses, and can be the labels of a {@code switch}.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface RomanNumeralConstants {
+    /**
+     * Returns the symbols of the Roman numerals in standard form to generate
+     * constants for.
+     *
+     * @return  the symbols of the constants.
+     */
+    String[] value();
+}
@@ -0,0 +1,229 @@
+/*
+ * RomanNumeralConstantsProcessor.java        1.0.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+import com.github.tjuve.romannumeral.RomanNumeral;
+
+/**
+ * Checks the symbols of {@link RomanNumeralConstants} annotations, and the
+ * {@code String} literals passed to {@code RomanNumeral.parse} and
+ * {@code RomanNumeral.valueOf}, when they are compiled, and generates the
+ * constants of the annotations.
+ * <p>
+ * The processor and its annotation are built apart from the library, so
+ * that having the library on the class path never runs a processor. The
+ * processor is registered as a service, for compilers to find on the
+ * processor path:
+ * <blockquote><pre>
+ * javac -cp RomanNumeral.jar:RomanNumeralProcessor.jar \
+ *       -processorpath RomanNumeral.jar:RomanNumeralProcessor.jar ...
+ * </pre></blockquote>
+ * Before JDK 23, {@code javac} also runs processors it finds on the class
+ * path when no processor path is given. Since JDK 23, it doesn't unless
+ * {@code -proc:full} is given, so a processor path, or naming the processor
+ * with {@code -processor}, is needed. The annotation is only kept in
+ * sources, so only the library is needed when the compiled classes run.
+ * <p>
+ * Symbols that are not a Roman numeral in standard form are reported as
+ * errors on the annotation value that holds them, and no class is generated
+ * for their type. Otherwise, the class generated for each annotated type
+ * has, for each distinct numeral, in increasing order of value:
+ * <ul>
+ * <li>an {@code int} compile-time constant named after the symbols followed
+ * by {@code _VALUE}, such as {@code XIV_VALUE = 14};
+ * <li>a {@code RomanNumeral} constant named after the symbols, such as
+ * {@code XIV}, initialized from the cache of
+ * {@link RomanNumeral#of(int)}, without parsing.
+ * </ul>
+ * <p>
+ * With {@code javac}, calls such as {@code RomanNumeral.parse("IIII")}
+ * anywhere in the compiled sources are reported as errors on the literal
+ * too, so the processor runs for every compilation, whether or not it has
+ * annotations, and claims none of them. Other compilers, such as Eclipse's,
+ * don't expose method bodies to processors, so with them only the
+ * annotations are checked.
+ *
+ * @since   10-18-2026
+ * @version 1.0.0
+ * @author  Taylor Juve
+ */
+public class RomanNumeralConstantsProcessor extends AbstractProcessor {
+    /**
+     * A constant holding what is appended to the name of an annotated type
+     * to name the class generated for it.
+     */
+    public static final String SUFFIX = "Numerals";
+    
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        try {
+            RomanNumeralCallChecker.register(processingEnv);
+        } catch (IllegalArgumentException | LinkageError e) {
+            // not javac, or no tree API: check the annotations only
+        }
+    }
+    
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // every compilation, for the calls, even without annotations
+        return Collections.singleton("*");
+    }
+    
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+    
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations,
+                           RoundEnvironment roundEnv) {
+        for (Element element
+                : roundEnv.getElementsAnnotatedWith(
+                        RomanNumeralConstants.class)) {
+            TypeElement type = (TypeElement) element;
+            Map<Integer, String> constants = checkConstants(type);
+            if (constants != null) {
+                generateConstants(type, constants);
+            }
+        }
+        // other processors may handle any annotation
+        return false;
+    }
+    
+    /**
+     * Returns the symbols of the constants of the specified annotated type
+     * by their values, or {@code null} if any are not a Roman numeral in
+     * standard form, after reporting them.
+     */
+    private Map<Integer, String> checkConstants(TypeElement type) {
+        Map<Integer, String> constants = new TreeMap<Integer, String>();
+        boolean valid = true;
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            if (!((TypeElement) annotation.getAnnotationType().asElement())
+                    .getQualifiedName().contentEquals(
+                            RomanNumeralConstants.class.getCanonicalName())) {
+                continue;
+            }
+            
+            for (Map.Entry<? extends ExecutableElement,
+                           ? extends AnnotationValue> entry
+                    : annotation.getElementValues().entrySet()) {
+                @SuppressWarnings("unchecked")
+                List<? extends AnnotationValue> values
+                        = (List<? extends AnnotationValue>)
+                          entry.getValue().getValue();
+                for (AnnotationValue value : values) {
+                    String symbols = (String) value.getValue();
+                    if (RomanNumeral.isValid(symbols)) {
+                        constants.put(RomanNumeral.valueOf(symbols),
+                                      symbols);
+                    } else {
+                        processingEnv.getMessager().printMessage(
+                                Diagnostic.Kind.ERROR,
+                                "Not a Roman numeral in standard form: \""
+                                + symbols + "\"",
+                                type, annotation, value);
+                        valid = false;
+                    }
+                }
+            }
+        }
+        return valid ? constants : null;
+    }
+    
+    /**
+     * Generates the class of the constants of the specified annotated type,
+     * in its package.
+     */
+    private void generateConstants(TypeElement type,
+                                   Map<Integer, String> constants) {
+        String packageName = processingEnv.getElementUtils()
+                .getPackageOf(type).getQualifiedName().toString();
+        String simpleName = generatedName(type);
+        String name = packageName.isEmpty()
+                      ? simpleName : packageName + "." + simpleName;
+        
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(name, type).openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("import " + RomanNumeral.class.getName() + ";");
+            out.println();
+            out.println("/**");
+            out.println(" * The Roman numeral constants of {@link "
+                        + type.getQualifiedName() + "}.");
+            out.println(" * <p>");
+            out.println(" * Generated by {@link "
+                        + getClass().getName() + "}.");
+            out.println(" */");
+            out.println("public final class " + simpleName + " {");
+            for (Map.Entry<Integer, String> constant : constants.entrySet()) {
+                String symbols = constant.getValue();
+                out.println("    /**");
+                out.println("     * The value of {@code " + symbols + "}, "
+                            + constant.getKey() + ".");
+                out.println("     */");
+                out.println("    public static final int " + symbols
+                            + "_VALUE = " + constant.getKey() + ";");
+                out.println("    /**");
+                out.println("     * The Roman numeral {@code " + symbols
+                            + "}.");
+                out.println("     */");
+                out.println("    public static final RomanNumeral " + symbols
+                            + " = RomanNumeral.of(" + symbols
+                            + "_VALUE);");
+            }
+            out.println();
+            out.println("    private " + simpleName + "() {");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Could not generate " + name + ": " + e.getMessage(),
+                    type);
+        }
+    }
+    
+    /**
+     * Returns the simple name of the class generated for the specified
+     * type: its simple name, after those of the types it is nested in,
+     * joined by {@code '_'}, followed by {@link #SUFFIX}.
+     */
+    private static String generatedName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element enclosing = type.getEnclosingElement();
+                !(enclosing instanceof PackageElement);
+                enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+        }
+        return name.append(SUFFIX).toString();
+    }
+}
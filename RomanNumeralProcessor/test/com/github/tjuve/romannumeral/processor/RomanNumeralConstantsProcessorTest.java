@@ -0,0 +1,211 @@
+/*
+ * RomanNumeralConstantsProcessorTest.java        1.0 10/18/2026
+ *
+ * No copyright
+ */
+
+package com.github.tjuve.romannumeral.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.tjuve.romannumeral.RomanNumeral;
+
+/**
+ * Tests {@link RomanNumeralConstantsProcessor} by compiling sources with it.
+ *
+ * @version 1.0 18 Oct 2026
+ * @author Taylor Juve
+ */
+public class RomanNumeralConstantsProcessorTest {
+    @DisplayName("Valid symbols generate constants")
+    @Test
+    public void generateTest() throws Exception {
+        Path out = Files.createTempDirectory("numerals");
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(
+                out, "Calendar",
+                "package calendar;",
+                "import com.github.tjuve.romannumeral.RomanNumeral;",
+                "import com.github.tjuve.romannumeral.processor"
+                + ".RomanNumeralConstants;",
+                "@RomanNumeralConstants({\"MCM\", \"XIV\", \"XIV\"})",
+                "public class Calendar {",
+                "    public static final RomanNumeral DAY"
+                + " = CalendarNumerals.XIV;",
+                "    public static int season(int year) {",
+                "        switch (year) {",
+                "            case CalendarNumerals.MCM_VALUE: return 1;",
+                "            default: return 0;",
+                "        }",
+                "    }",
+                "}");
+        assertEquals(Collections.emptyList(), diagnostics.getDiagnostics());
+        
+        try (URLClassLoader loader = new URLClassLoader(
+                new URL[] {out.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> numerals = loader.loadClass("calendar.CalendarNumerals");
+            assertTrue(Modifier.isFinal(numerals.getModifiers()));
+            List<String> names = new ArrayList<String>();
+            for (Field field : numerals.getFields()) {
+                names.add(field.getName());
+            }
+            Collections.sort(names);
+            assertEquals(Arrays.asList("MCM", "MCM_VALUE", "XIV", "XIV_VALUE"),
+                         names);
+            assertEquals(1_900, numerals.getField("MCM_VALUE").getInt(null));
+            assertSame(RomanNumeral.of(14),
+                       numerals.getField("XIV").get(null));
+            
+            Class<?> calendar = loader.loadClass("calendar.Calendar");
+            assertSame(RomanNumeral.of(14), calendar.getField("DAY").get(null));
+            assertEquals(1, calendar.getMethod("season", int.class)
+                                    .invoke(null, 1_900));
+        }
+    }
+    
+    @DisplayName("Nested types generate constants named after outer types")
+    @Test
+    public void nestedTest() throws Exception {
+        Path out = Files.createTempDirectory("numerals");
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(
+                out, "Outer",
+                "public class Outer {",
+                "    @com.github.tjuve.romannumeral.processor"
+                + ".RomanNumeralConstants(\"MMMCMXCIX\")",
+                "    static class Inner {",
+                "        int max = Outer_InnerNumerals.MMMCMXCIX_VALUE;",
+                "    }",
+                "}");
+        assertEquals(Collections.emptyList(), diagnostics.getDiagnostics());
+        assertTrue(Files.exists(out.resolve("Outer_InnerNumerals.class")));
+    }
+    
+    @DisplayName("Invalid symbols are compile errors")
+    @Test
+    public void invalidTest() throws Exception {
+        Path out = Files.createTempDirectory("numerals");
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(
+                out, "Calendar",
+                "package calendar;",
+                "@com.github.tjuve.romannumeral.processor"
+                + ".RomanNumeralConstants({\"XIV\", \"IIII\", \"\", \"xiv\"})",
+                "public class Calendar {",
+                "}");
+        
+        assertEquals(Arrays.asList(
+                "Not a Roman numeral in standard form: \"IIII\"",
+                "Not a Roman numeral in standard form: \"\"",
+                "Not a Roman numeral in standard form: \"xiv\""),
+                errors(diagnostics));
+        assertFalse(Files.exists(out.resolve("calendar")
+                                    .resolve("CalendarNumerals.java")));
+    }
+    
+    @DisplayName("Invalid literal arguments to parse and valueOf are compile"
+                 + " errors")
+    @Test
+    public void callTest() throws Exception {
+        Path out = Files.createTempDirectory("numerals");
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(
+                out, "Calendar",
+                "package calendar;",
+                "import com.github.tjuve.romannumeral.RomanNumeral;",
+                "public class Calendar {",
+                "    RomanNumeral day = RomanNumeral.parse(\"XIV\");",
+                "    RomanNumeral bad = RomanNumeral.parse(\"IIII\");",
+                "    int year() {",
+                "        return RomanNumeral.valueOf(\"MCMC\");",
+                "    }",
+                "    String symbols = \"IIII\";",
+                "    RomanNumeral unchecked = RomanNumeral.parse(symbols);",
+                "    Integer other = Integer.valueOf(\"12\");",
+                "}");
+        
+        assertEquals(Arrays.asList(
+                "Not a Roman numeral in standard form: \"IIII\"",
+                "Not a Roman numeral in standard form: \"MCMC\""),
+                errors(diagnostics));
+        List<Long> lines = new ArrayList<Long>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic
+                : diagnostics.getDiagnostics()) {
+            lines.add(diagnostic.getLineNumber());
+        }
+        assertEquals(Arrays.asList(5L, 7L), lines);
+        assertFalse(Files.exists(out.resolve("calendar")
+                                    .resolve("Calendar.class")));
+    }
+    
+    /**
+     * Returns the messages of the errors in the specified diagnostics.
+     */
+    private static List<String> errors(
+            DiagnosticCollector<JavaFileObject> diagnostics) {
+        List<String> errors = new ArrayList<String>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic
+                : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic.getMessage(null));
+            }
+        }
+        return errors;
+    }
+    
+    /**
+     * Compiles the source of the specified top-level class, with the
+     * specified lines, into the specified directory, with the processor, and
+     * returns the diagnostics.
+     */
+    private static DiagnosticCollector<JavaFileObject> compile(
+            Path out, String name, String... lines) throws IOException {
+        String source = String.join("\n", lines);
+        JavaFileObject file = new SimpleJavaFileObject(
+                URI.create("string:///" + name + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics
+                = new DiagnosticCollector<JavaFileObject>();
+        JavaCompiler.CompilationTask task = compiler.getTask(
+                null, null, diagnostics,
+                Arrays.asList("-d", out.toString(),
+                              "-s", out.toString(),
+                              "-classpath",
+                              System.getProperty("java.class.path")),
+                null, Collections.singletonList(file));
+        task.setProcessors(Collections.singletonList(
+                new RomanNumeralConstantsProcessor()));
+        task.call();
+        return diagnostics;
+    }
+}